@@ -0,0 +1,178 @@
+package com.auctionflow.analytics;
+
+import com.auctionflow.analytics.entities.AuditTrail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Inserts audit entries into audit_trail off the request thread. Entries go into a bounded ring and a single
+ * writer thread inserts whatever has accumulated as one JDBC batch in one transaction, so a burst of audited
+ * requests costs a few commits rather than a round trip each.
+ *
+ * Ordinary entries are lost if the process dies before their batch is written. Critical entries are
+ * acknowledged: {@link #appendCritical} holds the caller's transaction at commit, or the caller itself
+ * outside a transaction, until the batch holding the entry is committed, and fails if it is not within the
+ * flush timeout. When the ring is full the entry is written on the caller's thread and counted as an
+ * overflow, so entries are never dropped for lack of space. An entry the database refuses outright is
+ * logged in full and counted, and a critical one fails its caller.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_AUDIT_ENTRY = "INSERT INTO audit_trail "
+            + "(user_id, action, timestamp, ip_address, endpoint, details, entity_type, entity_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditRingBuffer ring;
+    private final long flushTimeoutNanos;
+    private final Counter writtenEntries;
+    private final Counter overflowedEntries;
+    private final Counter failedBatches;
+    private final Counter rejectedEntries;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${auction.audit.ring-size:8192}") int ringSize,
+                          @Value("${auction.audit.max-batch:500}") int maxBatch,
+                          @Value("${auction.audit.flush-timeout:PT5S}") Duration flushTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Never joins the audited request's transaction, which may still roll back
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ring = new AuditRingBuffer("audit-writer", ringSize, maxBatch, this::write, this::reject);
+        this.flushTimeoutNanos = flushTimeout.toNanos();
+        this.writtenEntries = Counter.builder("audit_entries_written_total")
+                .description("Audit entries inserted into audit_trail")
+                .register(meterRegistry);
+        this.overflowedEntries = Counter.builder("audit_entries_overflow_total")
+                .description("Audit entries written on the caller's thread because the ring was full")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("audit_batches_failed_total")
+                .description("Audit batch inserts that failed")
+                .register(meterRegistry);
+        this.rejectedEntries = Counter.builder("audit_entries_rejected_total")
+                .description("Audit entries dropped because the database refused them")
+                .register(meterRegistry);
+        Gauge.builder("audit_entries_pending", ring, AuditRingBuffer::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        ring.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        ring.shutdown(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Queues the entry and returns without waiting for it to be written.
+     */
+    public void append(AuditTrail entry) {
+        if (!ring.tryPublish(entry, null)) {
+            overflowedEntries.increment();
+            write(List.of(entry));
+        }
+    }
+
+    /**
+     * Queues the entry and makes sure it is written before the caller's transaction commits, or before
+     * returning when there is no transaction. Throws if it is not written within the flush timeout, which
+     * rolls the caller's transaction back.
+     */
+    public void appendCritical(AuditTrail entry) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        if (!ring.tryPublish(entry, written)) {
+            overflowedEntries.increment();
+            write(List.of(entry));
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    awaitWritten(written);
+                }
+            });
+        } else {
+            awaitWritten(written);
+        }
+    }
+
+    /**
+     * Number of entries queued but not yet written.
+     */
+    public int getPendingCount() {
+        return ring.size();
+    }
+
+    private void awaitWritten(CompletableFuture<Void> written) {
+        try {
+            written.get(flushTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a critical audit entry to be written", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Critical audit entry was not written", e);
+        }
+    }
+
+    private void write(List<AuditTrail> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_AUDIT_ENTRY, batch, batch.size(), (ps, entry) -> {
+                        ps.setObject(1, entry.getUserId(), Types.BIGINT);
+                        ps.setString(2, entry.getAction());
+                        ps.setTimestamp(3, entry.getTimestamp() == null ? null : Timestamp.valueOf(entry.getTimestamp()));
+                        ps.setString(4, entry.getIpAddress());
+                        ps.setString(5, entry.getEndpoint());
+                        ps.setString(6, entry.getDetails());
+                        ps.setString(7, entry.getEntityType());
+                        ps.setObject(8, entry.getEntityId(), Types.BIGINT);
+                    }));
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            throw e;
+        }
+        writtenEntries.increment(batch.size());
+    }
+
+    private void reject(AuditTrail entry, RuntimeException cause) {
+        rejectedEntries.increment();
+        // The log is the only record left of the entry, so all of it goes there
+        logger.error("Dropped audit entry the database refused: userId={}, action={}, timestamp={}, ipAddress={}, "
+                        + "endpoint={}, entityType={}, entityId={}, details={}", entry.getUserId(), entry.getAction(),
+                entry.getTimestamp(), entry.getIpAddress(), entry.getEndpoint(), entry.getEntityType(),
+                entry.getEntityId(), entry.getDetails(), cause);
+    }
+}
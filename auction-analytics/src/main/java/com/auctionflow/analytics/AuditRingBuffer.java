@@ -0,0 +1,233 @@
+package com.auctionflow.analytics;
+
+import com.auctionflow.analytics.entities.AuditTrail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.NonTransientDataAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring of audit entries, laid out like the command bus ring: producers
+ * claim a sequence with a CAS and publish the slot by writing its sequence number, and the writer thread
+ * drains contiguous published slots into one batch. Slots are released only once their batch is written, so
+ * while the database is slow or down the ring fills and producers are told so instead of entries piling up.
+ *
+ * An entry may carry a future, completed once the batch holding it is committed, or completed exceptionally
+ * if the writer stops before it could be written.
+ *
+ * A failed batch is retried with backoff, unless the database refused the rows themselves, such as a value
+ * breaking a constraint, which no retry will change. The batch is then written one entry at a time, and each
+ * entry refused on its own is handed to the rejection handler and dropped, its future completed
+ * exceptionally, so one bad entry neither blocks the ring nor takes the rest of its batch with it.
+ */
+final class AuditRingBuffer implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditRingBuffer.class);
+    private static final int SPIN_TRIES = 200;
+    private static final long MAX_RETRY_DELAY_MILLIS = 1000;
+
+    interface BatchWriter {
+        void write(List<AuditTrail> batch);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final int maxBatch;
+    private final AuditTrail[] entries;
+    private final CompletableFuture<Void>[] acknowledgements;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final BatchWriter writer;
+    private final BiConsumer<AuditTrail, RuntimeException> rejected;
+    private final Thread consumer;
+    private volatile boolean consumerWaiting;
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    AuditRingBuffer(String name, int capacity, int maxBatch, BatchWriter writer,
+                    BiConsumer<AuditTrail, RuntimeException> rejected) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.maxBatch = maxBatch;
+        this.entries = new AuditTrail[capacity];
+        this.acknowledgements = new CompletableFuture[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.writer = writer;
+        this.rejected = rejected;
+        this.consumer = new Thread(this, name);
+        this.consumer.setDaemon(true);
+    }
+
+    void start() {
+        consumer.start();
+    }
+
+    /**
+     * Publishes an entry, or returns false without blocking if the ring is full or stopped. A non-null
+     * written future is completed on the writer thread once the entry is committed.
+     */
+    boolean tryPublish(AuditTrail entry, CompletableFuture<Void> written) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= capacity || !running) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        int index = (int) (sequence & mask);
+        entries[index] = entry;
+        acknowledgements[index] = written;
+        published.set(index, sequence);
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    int size() {
+        return (int) (claimed.get() - consumed.get());
+    }
+
+    @Override
+    public void run() {
+        List<AuditTrail> batch = new ArrayList<>(maxBatch);
+        // Aligned with batch, null for entries nobody waits on
+        List<CompletableFuture<Void>> waiting = new ArrayList<>(maxBatch);
+        long next = 0;
+        int idleSpins = 0;
+        while (running || next < claimed.get()) {
+            while (batch.size() < maxBatch) {
+                int index = (int) (next & mask);
+                if (published.get(index) != next) {
+                    break;
+                }
+                batch.add(entries[index]);
+                waiting.add(acknowledgements[index]);
+                entries[index] = null;
+                acknowledgements[index] = null;
+                next++;
+            }
+            if (!batch.isEmpty()) {
+                write(batch, waiting);
+                batch.clear();
+                waiting.clear();
+                // Release the whole batch to producers at once, and only now that it is written
+                consumed.lazySet(next);
+                idleSpins = 0;
+            } else if (idleSpins++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                consumerWaiting = true;
+                if (published.get((int) (next & mask)) != next && running) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+                }
+                consumerWaiting = false;
+            }
+        }
+        consumed.set(next);
+    }
+
+    /**
+     * Stops accepting entries and waits for the writer to drain what was already published.
+     */
+    void shutdown(long timeoutMillis) throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(timeoutMillis);
+    }
+
+    private void write(List<AuditTrail> batch, List<CompletableFuture<Void>> waiting) {
+        try {
+            settle(waiting, 0, writeUntilStopped(batch));
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("Database refused a batch of {} audit entries, writing them one at a time", batch.size(), e);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<Void> written = waiting.get(i);
+            try {
+                if (!writeUntilStopped(List.of(batch.get(i)))) {
+                    settle(waiting, i, false);
+                    return;
+                }
+                if (written != null) {
+                    written.complete(null);
+                }
+            } catch (RuntimeException e) {
+                rejected.accept(batch.get(i), e);
+                if (written != null) {
+                    written.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private static void settle(List<CompletableFuture<Void>> waiting, int from, boolean written) {
+        IllegalStateException lost = written ? null
+                : new IllegalStateException("Audit writer stopped before the entry was written");
+        for (int i = from; i < waiting.size(); i++) {
+            CompletableFuture<Void> future = waiting.get(i);
+            if (future == null) {
+                continue;
+            }
+            if (written) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(lost);
+            }
+        }
+    }
+
+    /**
+     * Writes the batch, retrying with backoff for as long as the ring is running. False if the ring was
+     * stopped while the batch still could not be written; throws at once if the database refused it.
+     */
+    private boolean writeUntilStopped(List<AuditTrail> batch) {
+        long delayMillis = 10;
+        while (true) {
+            try {
+                writer.write(batch);
+                return true;
+            } catch (RuntimeException e) {
+                if (isRefusal(e)) {
+                    throw e;
+                }
+                if (!running) {
+                    logger.error("Audit writer stopped, {} audit entries were not written", batch.size(), e);
+                    return false;
+                }
+                logger.warn("Could not write {} audit entries, retrying in {} ms", batch.size(), delayMillis, e);
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(delayMillis));
+                delayMillis = Math.min(delayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Whether the failure is down to the rows, such as a constraint or an out of range value. Lost
+     * connections and timeouts are transient, and a missing table or column fails every row alike, so those
+     * are retried rather than dropping entries one by one.
+     */
+    private static boolean isRefusal(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException
+                && !(e instanceof DataAccessResourceFailureException)
+                && !(e instanceof InvalidDataAccessResourceUsageException);
+    }
+}
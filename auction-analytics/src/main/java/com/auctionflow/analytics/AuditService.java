@@ -1,19 +1,30 @@
 package com.auctionflow.analytics;
 
 import com.auctionflow.analytics.entities.AuditTrail;
-import com.auctionflow.analytics.repositories.AuditTrailRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-
+import java.util.Set;
+
+/**
+ * Writes the audit trail through {@link AuditLogWriter}, so auditing does not add a database round trip to the
+ * audited request. Actions listed in auction.audit.critical-actions are written before the caller's
+ * transaction commits; the rest are written in the background. Old entries are not deleted here:
+ * audit_trail is partitioned by day and expired partitions are dropped by the API service's
+ * TimePartitionManager.
+ */
 @Service
 public class AuditService {
 
-    @Autowired
-    private AuditTrailRepository auditTrailRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final Set<String> criticalActions;
+
+    public AuditService(AuditLogWriter auditLogWriter,
+                        @Value("${auction.audit.critical-actions:ADMIN_ACTION,STATE_CHANGE}") Set<String> criticalActions) {
+        this.auditLogWriter = auditLogWriter;
+        this.criticalActions = Set.copyOf(criticalActions);
+    }
 
     public void logEvent(Long userId, String action, String ipAddress, String endpoint, String details, String entityType, Long entityId) {
         AuditTrail auditTrail = new AuditTrail();
@@ -26,7 +37,11 @@ public class AuditService {
         auditTrail.setEntityType(entityType);
         auditTrail.setEntityId(entityId);
 
-        auditTrailRepository.save(auditTrail);
+        if (criticalActions.contains(action)) {
+            auditLogWriter.appendCritical(auditTrail);
+        } else {
+            auditLogWriter.append(auditTrail);
+        }
     }
 
     public void logApiRequest(Long userId, String endpoint, String ipAddress, String details) {
@@ -44,11 +59,4 @@ public class AuditService {
     public void logDataAccess(Long userId, String action, String entityType, Long entityId, String ipAddress, String endpoint) {
         logEvent(userId, action, ipAddress, endpoint, "Data access", entityType, entityId);
     }
-
-    @Scheduled(cron = "0 0 2 * * ?") // Daily at 2 AM
-    @Transactional
-    public void cleanupOldAuditLogs() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(90);
-        auditTrailRepository.deleteOldEntries(cutoffDate);
-    }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.auctionflow.analytics.repositories;
 
 import com.auctionflow.analytics.entities.AuditTrail;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,8 +18,4 @@ public interface AuditTrailRepository extends JpaRepository<AuditTrail, Long> {
 
     @Query("SELECT a FROM AuditTrail a WHERE a.timestamp < :cutoffDate")
     List<AuditTrail> findOldEntries(@Param("cutoffDate") LocalDateTime cutoffDate);
-
-    @Modifying
-    @Query("DELETE FROM AuditTrail a WHERE a.timestamp < :cutoffDate")
-    void deleteOldEntries(@Param("cutoffDate") LocalDateTime cutoffDate);
 }
\ No newline at end of file
@@ -6,6 +6,10 @@ import com.auctionflow.api.entities.ArchivedEvent;
 import com.auctionflow.api.repositories.ArchivedAuctionRepository;
 import com.auctionflow.api.repositories.ArchivedBidRepository;
 import com.auctionflow.api.repositories.ArchivedEventRepository;
+import com.auctionflow.api.services.ArchiveSegmentStore;
+import com.auctionflow.api.services.ArchiveSegmentStore.ArchivedAuctionBlock;
+import com.auctionflow.api.services.ArchiveSegmentStore.ArchivedEventRecord;
+import com.auctionflow.events.persistence.StoredEventType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
@@ -18,11 +22,18 @@ import java.util.List;
 import java.util.Optional;
 import java.util.zip.GZIPInputStream;
 
+/**
+ * Archived auctions, read from the segment archive through its index. Auctions archived to the archived_*
+ * tables before the segment archive existed are still served from there.
+ */
 @RestController
 @RequestMapping("/api/v1/archive")
 @Profile("!ui-only")
 public class ArchiveController {
 
+    @Autowired
+    private ArchiveSegmentStore archiveSegmentStore;
+
     @Autowired
     private ArchivedAuctionRepository archivedAuctionRepository;
 
@@ -34,23 +45,43 @@ public class ArchiveController {
 
     @GetMapping("/auctions/{id}")
     public ResponseEntity<ArchivedAuction> getArchivedAuction(@PathVariable String id) {
-        Optional<ArchivedAuction> auction = archivedAuctionRepository.findById(id);
+        Optional<ArchivedAuction> auction = archiveSegmentStore.read(id).map(ArchivedAuctionBlock::auction)
+                .or(() -> archivedAuctionRepository.findById(id));
         return auction.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/auctions/{id}/bids")
     public ResponseEntity<List<ArchivedBid>> getArchivedBids(@PathVariable String id) {
-        List<ArchivedBid> bids = archivedBidRepository.findByAuctionId(id);
+        List<ArchivedBid> bids = archiveSegmentStore.read(id).map(ArchivedAuctionBlock::bids)
+                .orElseGet(() -> archivedBidRepository.findByAuctionId(id));
         return ResponseEntity.ok(bids);
     }
 
     @GetMapping("/auctions/{id}/events")
     public ResponseEntity<List<ArchivedEventDTO>> getArchivedEvents(@PathVariable String id) {
+        Optional<ArchivedAuctionBlock> block = archiveSegmentStore.read(id);
+        if (block.isPresent()) {
+            ArchivedAuction auction = block.get().auction();
+            return ResponseEntity.ok(block.get().events().stream().map(event -> mapToDTO(auction, event)).toList());
+        }
         List<ArchivedEvent> events = archivedEventRepository.findByAggregateId(id);
         List<ArchivedEventDTO> dtos = events.stream().map(this::mapToDTO).toList();
         return ResponseEntity.ok(dtos);
     }
 
+    private ArchivedEventDTO mapToDTO(ArchivedAuction auction, ArchivedEventRecord event) {
+        ArchivedEventDTO dto = new ArchivedEventDTO();
+        dto.setAggregateId(auction.getId());
+        dto.setAggregateType("auction");
+        dto.setEventType(StoredEventType.fromCode(event.eventType()).eventClass().getSimpleName());
+        dto.setEventData(event.eventData());
+        dto.setEventMetadata(event.eventMetadata());
+        dto.setSequenceNumber(event.sequenceNumber());
+        dto.setTimestamp(event.timestamp());
+        dto.setArchivedAt(auction.getArchivedAt());
+        return dto;
+    }
+
     private ArchivedEventDTO mapToDTO(ArchivedEvent event) {
         ArchivedEventDTO dto = new ArchivedEventDTO();
         dto.setId(event.getId());
@@ -2,6 +2,7 @@ package com.auctionflow.api;
 
 import com.auctionflow.api.dtos.*;
 import com.auctionflow.api.entities.Item;
+import java.time.Duration;
 import java.time.Instant;
 import com.auctionflow.api.entities.User;
 import com.auctionflow.api.queryhandlers.GetAuctionDetailsQueryHandler;
@@ -13,10 +14,12 @@ import com.auctionflow.api.queries.GetBidHistoryQuery;
 import com.auctionflow.api.queries.GetOffersQuery;
 import com.auctionflow.api.queries.ListActiveAuctionsQuery;
 import com.auctionflow.api.repositories.ItemRepository;
+import com.auctionflow.api.services.BidAdmissionService;
 import com.auctionflow.api.services.ItemValidationService;
 import com.auctionflow.api.services.ProxyBidService;
 import com.auctionflow.api.services.SuspiciousActivityService;
 import com.auctionflow.api.services.UserService;
+import com.auctionflow.common.exceptions.CommandRejectedException;
 import com.auctionflow.common.service.FeatureFlagService;
 import com.auctionflow.common.service.SequenceService;
 
@@ -45,11 +48,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 // import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -81,6 +86,7 @@ public class AuctionController {
     private final ItemRepository itemRepository;
     private final Optional<FeatureFlagService> featureFlagService;
     private final RateLimiterRegistry rateLimiterRegistry;
+    private final BidAdmissionService bidAdmissionService;
 
     public AuctionController(SequenceService sequenceService,
                                CommandBus commandBus,
@@ -94,7 +100,8 @@ public class AuctionController {
                                 ItemValidationService itemValidationService,
                                  ItemRepository itemRepository,
                                  Optional<FeatureFlagService> featureFlagService,
-                                 RateLimiterRegistry rateLimiterRegistry) {
+                                 RateLimiterRegistry rateLimiterRegistry,
+                                 BidAdmissionService bidAdmissionService) {
         this.sequenceService = sequenceService;
         this.commandBus = commandBus;
         this.listHandler = listHandler;
@@ -108,6 +115,7 @@ public class AuctionController {
         this.itemRepository = itemRepository;
         this.featureFlagService = featureFlagService;
         this.rateLimiterRegistry = rateLimiterRegistry;
+        this.bidAdmissionService = bidAdmissionService;
     }
 
     @PostMapping
@@ -224,7 +232,7 @@ public class AuctionController {
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<Void> updateAuction(@PathVariable String id, @RequestBody UpdateAuctionRequest request) {
         // Assume UpdateAuctionCommand exists
-        UpdateAuctionCommand cmd = new UpdateAuctionCommand(new AuctionId(id), request.getTitle(), request.getDescription());
+        UpdateAuctionCommand cmd = new UpdateAuctionCommand(parseAuctionId(id), request.getTitle(), request.getDescription());
         commandBus.send(cmd);
         return ResponseEntity.ok().build();
     }
@@ -241,7 +249,7 @@ public class AuctionController {
     })
     @org.springframework.cache.annotation.Cacheable(value = "auctionDetails", key = "#id")
     public ResponseEntity<AuctionDetailsDTO> getAuction(@PathVariable String id) {
-        GetAuctionDetailsQuery query = new GetAuctionDetailsQuery(id);
+        GetAuctionDetailsQuery query = new GetAuctionDetailsQuery(parseAuctionId(id).value());
         Optional<AuctionDetailsDTO> dto = detailsHandler.handle(query);
 
         // A/B testing: get UI variant
@@ -271,7 +279,8 @@ public class AuctionController {
         @ApiResponse(responseCode = "400", description = "Invalid bid amount or auction not active", content = @Content),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
         @ApiResponse(responseCode = "404", description = "Auction not found", content = @Content),
-        @ApiResponse(responseCode = "429", description = "Rate limit exceeded", content = @Content)
+        @ApiResponse(responseCode = "429", description = "Too many bids in flight on this auction; retry after the Retry-After header", content = @Content),
+        @ApiResponse(responseCode = "503", description = "Bidding is overloaded or disabled; retry after the Retry-After header", content = @Content)
     })
     @SecurityRequirement(name = "bearerAuth")
     @org.springframework.cache.annotation.CacheEvict(value = "auctionDetails", key = "#id")
@@ -296,7 +305,7 @@ public class AuctionController {
         @Valid @RequestBody PlaceBidRequest request,
         HttpServletRequest httpRequest,
         HttpServletResponse response) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         String bidderId = ((UUID) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).toString();
         String clientIp = getClientIp(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
@@ -316,34 +325,28 @@ public class AuctionController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build(); // Feature not enabled for this user
         }
 
-        // Check for suspicious activity
-        suspiciousActivityService.checkForSuspiciousActivity(bidderId.toString(), clientIp, userAgent, "BID_PLACEMENT");
-
-        // Check rate limits
-        io.github.resilience4j.ratelimiter.RateLimiter perUserLimiter = rateLimiterRegistry.rateLimiter("perUser");
-        io.github.resilience4j.ratelimiter.RateLimiter perIpLimiter = rateLimiterRegistry.rateLimiter("perIp");
-        io.github.resilience4j.ratelimiter.RateLimiter perAuctionLimiter = rateLimiterRegistry.rateLimiter("perAuction");
-
-        if (!perUserLimiter.acquirePermission(bidderId.toString().hashCode())) {
-            addRateLimitHeaders(response, perUserLimiter, bidderId.toString());
-            return ResponseEntity.status(429).build();
-        }
-        if (!perIpLimiter.acquirePermission(clientIp.hashCode())) {
-            addRateLimitHeaders(response, perIpLimiter, clientIp);
-            return ResponseEntity.status(429).build();
-        }
-        if (!perAuctionLimiter.acquirePermission(id.hashCode())) {
-            addRateLimitHeaders(response, perAuctionLimiter, id);
-            return ResponseEntity.status(429).build();
+        // Check for suspicious activity, refusing bidding far beyond the alert threshold
+        if (suspiciousActivityService.checkForSuspiciousActivity(bidderId.toString(), clientIp, userAgent, "BID_PLACEMENT")) {
+            return rejectBid(response, HttpStatus.TOO_MANY_REQUESTS, suspiciousActivityService.getRetryAfter());
         }
 
-        // Add headers for successful requests
-        addRateLimitHeaders(response, perUserLimiter, bidderId.toString());
-        addRateLimitHeaders(response, perIpLimiter, clientIp);
-        addRateLimitHeaders(response, perAuctionLimiter, id);
+        // Adaptive admission: the limit follows how quickly the auction's command lane is handling bids
+        BidAdmissionService.Ticket ticket = bidAdmissionService.tryAdmit(auctionId);
+        if (!ticket.isAdmitted()) {
+            HttpStatus status = ticket.getDecision() == BidAdmissionService.Decision.AUCTION_TOO_HOT
+                    ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+            return rejectBid(response, status, ticket.getRetryAfter());
+        }
 
-        Instant serverTs = Instant.now();
-        long seqNo = sequenceService.nextSequence(auctionId);
+        Instant serverTs;
+        long seqNo;
+        try {
+            serverTs = Instant.now();
+            seqNo = sequenceService.nextSequence(auctionId);
+        } catch (RuntimeException e) {
+            ticket.abandon();
+            throw e;
+        }
 
         // For asynchronous processing, return immediately with optimistic acceptance
         // The actual validation and processing happens asynchronously
@@ -352,14 +355,28 @@ public class AuctionController {
         bidResponse.setServerTimestamp(serverTs);
         bidResponse.setSequenceNumber(seqNo);
 
-        // Send command asynchronously
-        PlaceBidCommand cmd = new PlaceBidCommand(auctionId, bidderId, amount, idempotencyKey, serverTs, seqNo);
-        // Use async executor for command processing
-        commandBus.sendAsync(cmd);
+        // Send command asynchronously; the admission permit is returned once the lane is done with it, after any retries
+        PlaceBidCommand cmd = new PlaceBidCommand(auctionId, bidderId, amount, idempotencyKey, serverTs, seqNo, clientIp);
+        try {
+            commandBus.sendAsync(cmd, ticket::complete);
+        } catch (RuntimeException e) {
+            ticket.abandon();
+            if (e instanceof CommandRejectedException rejected) {
+                return rejectBid(response, HttpStatus.SERVICE_UNAVAILABLE, rejected.getRetryAfter());
+            }
+            throw e;
+        }
 
         return ResponseEntity.ok(bidResponse);
     }
 
+    private ResponseEntity<BidResponse> rejectBid(HttpServletResponse response, HttpStatus status, Duration retryAfter) {
+        // Retry-After only has whole seconds, so the precise hint goes in its own header
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        response.setHeader("X-Retry-After-Ms", String.valueOf(Math.max(1, retryAfter.toMillis())));
+        return ResponseEntity.status(status).build();
+    }
+
     @PostMapping("/{id}/proxy-bid")
     @PreAuthorize("@auctionSecurityService.canBid(#id, authentication.principal)")
     @Operation(
@@ -391,7 +408,7 @@ public class AuctionController {
             )
         )
         @Valid @RequestBody PlaceBidRequest request) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         Long userId = (Long) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Money maxBid = Money.usd(request.getAmount());
         proxyBidService.setProxyBid(userId, auctionId, maxBid, null, null);
@@ -418,7 +435,7 @@ public class AuctionController {
         @Valid @RequestBody List<PlaceBidRequest> requests,
         HttpServletRequest httpRequest,
         HttpServletResponse response) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         String bidderId = ((UUID) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).toString();
         String clientIp = getClientIp(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
@@ -458,7 +475,7 @@ public class AuctionController {
             bidResponse.setSequenceNumber(seqNo);
             responses.add(bidResponse);
 
-            PlaceBidCommand cmd = new PlaceBidCommand(auctionId, bidderId, amount, idempotencyKey, serverTs, seqNo);
+            PlaceBidCommand cmd = new PlaceBidCommand(auctionId, bidderId, amount, idempotencyKey, serverTs, seqNo, clientIp);
             commandBus.sendAsync(cmd);
         }
 
@@ -485,14 +502,16 @@ public class AuctionController {
         @Valid @RequestBody CommitBidRequest request,
         HttpServletRequest httpRequest,
         HttpServletResponse response) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         String bidderId = ((UUID) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).toString();
 
         String clientIp = getClientIp(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
 
         // Check for suspicious activity
-        suspiciousActivityService.checkForSuspiciousActivity(bidderId.toString(), clientIp, userAgent, "BID_COMMIT");
+        if (suspiciousActivityService.checkForSuspiciousActivity(bidderId.toString(), clientIp, userAgent, "BID_COMMIT")) {
+            return ResponseEntity.status(429).build();
+        }
 
         // Rate limits similar to placeBid
         io.github.resilience4j.ratelimiter.RateLimiter perUserLimiter = rateLimiterRegistry.rateLimiter("perUser");
@@ -541,14 +560,16 @@ public class AuctionController {
         @Valid @RequestBody RevealBidRequest request,
         HttpServletRequest httpRequest,
         HttpServletResponse response) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         String bidderId = ((UUID) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).toString();
 
         String clientIp = getClientIp(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
 
         // Check for suspicious activity
-        suspiciousActivityService.checkForSuspiciousActivity(bidderId.toString(), clientIp, userAgent, "BID_REVEAL");
+        if (suspiciousActivityService.checkForSuspiciousActivity(bidderId.toString(), clientIp, userAgent, "BID_REVEAL")) {
+            return ResponseEntity.status(429).build();
+        }
 
         // Rate limits
         io.github.resilience4j.ratelimiter.RateLimiter perUserLimiter = rateLimiterRegistry.rateLimiter("perUser");
@@ -591,7 +612,7 @@ public class AuctionController {
     public ResponseEntity<BidHistoryDTO> getBidHistory(@PathVariable String id,
                                                         @RequestParam(defaultValue = "0") int page,
                                                         @RequestParam(defaultValue = "10") int size) {
-        GetBidHistoryQuery query = new GetBidHistoryQuery(id, page, size);
+        GetBidHistoryQuery query = new GetBidHistoryQuery(parseAuctionId(id).value(), page, size);
         BidHistoryDTO dto = bidHistoryHandler.handle(query);
         return ResponseEntity.ok().header("Cache-Control", "no-cache").body(dto);
     }
@@ -627,7 +648,7 @@ public class AuctionController {
             )
         )
         @Valid @RequestBody BuyNowRequest request) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         String buyerId = request.getUserId();
         BuyNowCommand cmd = new BuyNowCommand(auctionId, buyerId);
         commandBus.send(cmd);
@@ -650,10 +671,10 @@ public class AuctionController {
     public ResponseEntity<Void> makeOffer(
         @PathVariable String id,
         @Valid @RequestBody MakeOfferRequest request) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         String buyerId = ((UUID) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).toString();
         // Get sellerId from auction aggregate
-        GetAuctionDetailsQuery query = new GetAuctionDetailsQuery(id);
+        GetAuctionDetailsQuery query = new GetAuctionDetailsQuery(auctionId.value());
         Optional<AuctionDetailsDTO> dtoOpt = detailsHandler.handle(query);
         if (dtoOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -701,7 +722,7 @@ public class AuctionController {
             )
         )
         @Valid @RequestBody WatchRequest request) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         UUID userId = UUID.fromString(request.getUserId());
         WatchCommand cmd = new WatchCommand(auctionId, userId.toString());
         commandBus.send(cmd);
@@ -722,7 +743,7 @@ public class AuctionController {
     })
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<Void> closeAuction(@PathVariable String id) {
-        CloseAuctionCommand cmd = new CloseAuctionCommand(new AuctionId(id));
+        CloseAuctionCommand cmd = new CloseAuctionCommand(parseAuctionId(id));
         commandBus.send(cmd);
         return ResponseEntity.ok().build();
     }
@@ -758,13 +779,25 @@ public class AuctionController {
             )
         )
         @Valid @RequestBody WatchRequest request) {
-        AuctionId auctionId = new AuctionId(id);
+        AuctionId auctionId = parseAuctionId(id);
         String userId = request.getUserId();
         UnwatchCommand cmd = new UnwatchCommand(auctionId, userId);
         commandBus.send(cmd);
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Auction ids are UUIDs in the event store; anything else is a client error, not a 500 from deep in
+     * the persistence layer.
+     */
+    private static AuctionId parseAuctionId(String id) {
+        try {
+            return new AuctionId(UUID.fromString(id).toString());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid auction id: " + id);
+        }
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
@@ -789,7 +822,7 @@ public class AuctionController {
     })
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<List<OfferResponse>> getOffers(@PathVariable String id) {
-        GetOffersQuery query = new GetOffersQuery(id);
+        GetOffersQuery query = new GetOffersQuery(parseAuctionId(id).value());
         List<OfferResponse> offers = offersHandler.handle(query);
         return ResponseEntity.ok(offers);
     }
@@ -103,10 +103,10 @@ public class AuctionTemplateController {
     @PostMapping("/{id}/bulk-create")
     @Operation(summary = "Bulk create auctions from template")
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<List<Auction>> bulkCreateAuctions(@PathVariable String id, @RequestParam String sellerId, @RequestParam int count) {
+    public ResponseEntity<AuctionTemplateService.BulkCreationResult> bulkCreateAuctions(@PathVariable String id, @RequestParam String sellerId, @RequestParam int count) {
         try {
-            List<Auction> auctions = templateService.bulkCreateAuctions(id, sellerId, count);
-            return ResponseEntity.ok(auctions);
+            AuctionTemplateService.BulkCreationResult result = templateService.bulkCreateAuctions(id, sellerId, count);
+            return ResponseEntity.ok(result);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -102,7 +102,7 @@ public class AuthController {
             String userAgent = request.getHeader("User-Agent");
             String username = loginRequest.getEmail() != null ? loginRequest.getEmail() : loginRequest.getUsername();
             FailedLoginEvent failedEvent = new FailedLoginEvent(
-                java.util.UUID.randomUUID(),
+                com.auctionflow.core.domain.utils.TimeOrderedUuid.next(),
                 java.time.Instant.now(),
                 ipAddress,
                 userAgent,
@@ -6,6 +6,7 @@ import com.auctionflow.api.entities.User;
 import com.auctionflow.api.repositories.ItemRepository;
 import com.auctionflow.api.services.ItemValidationService;
 import com.auctionflow.api.services.UserService;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,7 +16,6 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @RestController
@@ -42,7 +42,7 @@ public class ItemController {
         Long sellerId = user.getId();
 
         Item item = new Item();
-        item.setId(UUID.randomUUID().toString());
+        item.setId(TimeOrderedUuid.nextString());
         item.setSellerId(sellerId);
         item.setTitle(request.getTitle());
         item.setDescription(request.getDescription());
@@ -1,10 +1,13 @@
 package com.auctionflow.api;
 
+import com.auctionflow.core.domain.IncrementLadders;
+import com.auctionflow.core.domain.valueobjects.IncrementLadder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -38,12 +41,15 @@ public class ReferenceController {
 
     @GetMapping("/bid-increments")
     public ResponseEntity<List<Map<String, Object>>> getBidIncrements() {
-        // Placeholder bid increments
-        List<Map<String, Object>> increments = Arrays.asList(
-            Map.of("minAmount", 0.0, "increment", 1.0),
-            Map.of("minAmount", 100.0, "increment", 5.0),
-            Map.of("minAmount", 1000.0, "increment", 10.0)
-        );
+        // Ladders as compiled from the bid_increments table and used on the bid path
+        List<Map<String, Object>> increments = new ArrayList<>();
+        IncrementLadders.snapshot().forEach((name, ladder) -> {
+            for (IncrementLadder.Step step : ladder.getSteps()) {
+                increments.add(Map.of("strategyName", name,
+                        "minAmount", step.fromCents() / 100.0,
+                        "increment", step.incrementCents() / 100.0));
+            }
+        });
         return ResponseEntity.ok(increments);
     }
 
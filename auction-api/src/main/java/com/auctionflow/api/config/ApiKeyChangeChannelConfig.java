@@ -0,0 +1,38 @@
+package com.auctionflow.api.config;
+
+import com.auctionflow.api.services.ApiKeyChangeChannel;
+import com.auctionflow.api.services.LocalApiKeyChangeChannel;
+import com.auctionflow.api.services.RedisApiKeyChangeChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class ApiKeyChangeChannelConfig {
+
+    @Bean
+    @ConditionalOnBean(RedisConnectionFactory.class)
+    public RedisMessageListenerContainer apiKeyChangeListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnBean(RedisConnectionFactory.class)
+    public ApiKeyChangeChannel redisApiKeyChangeChannel(RedisConnectionFactory redisConnectionFactory,
+                                                        RedisMessageListenerContainer apiKeyChangeListenerContainer) {
+        return new RedisApiKeyChangeChannel(new StringRedisTemplate(redisConnectionFactory), apiKeyChangeListenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ApiKeyChangeChannel.class)
+    public ApiKeyChangeChannel localApiKeyChangeChannel() {
+        // Single instance without Redis
+        return new LocalApiKeyChangeChannel();
+    }
+}
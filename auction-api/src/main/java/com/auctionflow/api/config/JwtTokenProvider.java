@@ -62,6 +62,23 @@ public class JwtTokenProvider {
         return claims.getSubject();
     }
 
+    /**
+     * Verifies the token and returns its claims, or null if it is invalid or expired; one parse where
+     * validateToken followed by getUsernameFromJwtToken takes two.
+     */
+    public Claims getValidClaims(String authToken) {
+        try {
+            return Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(authToken)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            // Invalid, expired or wrongly signed token
+            return null;
+        }
+    }
+
     public boolean validateToken(String authToken) {
         try {
             Jwts.parserBuilder()
@@ -1,33 +1,43 @@
 package com.auctionflow.api.config;
 
 import com.auctionflow.events.publisher.KafkaEventPublisher;
+import com.auctionflow.api.services.TokenBucketRateLimiter;
 import com.auctionflow.core.domain.events.RateLimitExceededEvent;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import java.time.Duration;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Limits requests per client IP with token buckets held in a fixed-size table, so a flood of distinct or
+ * spoofed addresses evicts idle clients rather than growing the heap. Limits are per node.
+ */
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final RateLimiterRegistry rateLimiterRegistry;
+    private final TokenBucketRateLimiter ipRateLimiter;
     private final KafkaEventPublisher eventPublisher;
-    private final Map<String, RateLimiter> ipRateLimiters = new ConcurrentHashMap<>();
 
     @Autowired
-    public RateLimitFilter(RateLimiterRegistry rateLimiterRegistry, KafkaEventPublisher eventPublisher) {
-        this.rateLimiterRegistry = rateLimiterRegistry;
+    public RateLimitFilter(KafkaEventPublisher eventPublisher,
+                           @Value("${auction.rate-limit.ip.permits-per-second:20}") double permitsPerSecond,
+                           @Value("${auction.rate-limit.ip.burst:20}") int burst,
+                           @Value("${auction.rate-limit.ip.max-clients:1048576}") int maxClients,
+                           @Value("${auction.rate-limit.ip.idle-expiry:PT10M}") Duration idleExpiry) {
+        this(new TokenBucketRateLimiter("ip", maxClients, permitsPerSecond, burst, idleExpiry, false), eventPublisher);
+    }
+
+    public RateLimitFilter(TokenBucketRateLimiter ipRateLimiter, KafkaEventPublisher eventPublisher) {
+        this.ipRateLimiter = ipRateLimiter;
         this.eventPublisher = eventPublisher;
     }
 
@@ -55,32 +65,26 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String ipAddress = getClientIpAddress(request);
         String endpoint = requestURI;
 
-        // Create or get rate limiter for this IP
-        RateLimiter rateLimiter = ipRateLimiters.computeIfAbsent(ipAddress, this::createRateLimiterForIp);
-
-        if (rateLimiter.acquirePermission()) {
+        if (ipRateLimiter.tryAcquire(ipAddress)) {
             filterChain.doFilter(request, response);
         } else {
             // Rate limit exceeded
             publishRateLimitEvent(request, ipAddress, endpoint);
+            long retryAfterSeconds = Math.max(1, (ipRateLimiter.timeToNextPermit(ipAddress).toMillis() + 999) / 1000);
             response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
             response.getWriter().write("Too many requests");
         }
     }
 
-    private RateLimiter createRateLimiterForIp(String ip) {
-        RateLimiterConfig defaultConfig = RateLimiterConfig.custom()
-                .limitForPeriod(20)
-                .limitRefreshPeriod(Duration.ofSeconds(1))
-                .timeoutDuration(Duration.ofMillis(100))
-                .build();
-        return RateLimiter.of(ip, rateLimiterRegistry.getConfiguration("ipRateLimiter").orElse(defaultConfig));
+    public TokenBucketRateLimiter getIpRateLimiter() {
+        return ipRateLimiter;
     }
 
     private void publishRateLimitEvent(HttpServletRequest request, String ipAddress, String endpoint) {
         String userAgent = request.getHeader("User-Agent");
         RateLimitExceededEvent event = new RateLimitExceededEvent(
-            java.util.UUID.randomUUID(),
+            com.auctionflow.core.domain.utils.TimeOrderedUuid.next(),
             java.time.Instant.now(),
             ipAddress,
             userAgent,
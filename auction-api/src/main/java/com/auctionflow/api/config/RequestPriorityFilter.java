@@ -0,0 +1,116 @@
+package com.auctionflow.api.config;
+
+import com.auctionflow.api.projections.AuctionEndTimeProjection;
+import com.auctionflow.api.services.PriorityLoadShedder;
+import com.auctionflow.api.services.PriorityLoadShedder.Priority;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Classifies every request by how much it matters during a close-time spike and sheds the least important
+ * first once the service saturates, before any authentication or database work is spent on it.
+ *
+ * Critical: bids on auctions ending within the critical window. Normal: other bids and all other writes,
+ * including GraphQL POSTs, which may carry the placeBid mutation. Sheddable: reads (auction listings and
+ * details, GraphQL GETs, mobile listings, reference data). Requests turned away get 503 with a Retry-After
+ * hint.
+ *
+ * Unless auction.load-shedding.capacity is set, the capacity is derived from the pools that actually bound
+ * the service: {@value #REQUESTS_PER_CONNECTION} requests per database connection in the Hikari pool, and
+ * never more than the Tomcat request threads.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestPriorityFilter extends OncePerRequestFilter {
+
+    private static final String AUCTIONS_PATH = "/api/v1/auctions/";
+    private static final Set<String> BID_ACTIONS = Set.of("bids", "bulk-bids", "commits", "reveals", "proxy-bid", "buy-now");
+    // Requests spend part of their time off the database (validation, serialization, the command bus)
+    static final int REQUESTS_PER_CONNECTION = 4;
+
+    private final PriorityLoadShedder loadShedder;
+    private final AuctionEndTimeProjection auctionEndTimes;
+    private final Duration criticalWindow;
+
+    @Autowired
+    public RequestPriorityFilter(AuctionEndTimeProjection auctionEndTimes,
+                                 @Value("${auction.load-shedding.capacity:0}") int capacity,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int databaseConnections,
+                                 @Value("${server.tomcat.threads.max:200}") int serverThreads,
+                                 @Value("${auction.load-shedding.normal-share:0.8}") double normalShare,
+                                 @Value("${auction.load-shedding.sheddable-share:0.5}") double sheddableShare,
+                                 @Value("${auction.load-shedding.critical-window:PT5M}") Duration criticalWindow) {
+        this(new PriorityLoadShedder(capacity > 0 ? capacity : derivedCapacity(databaseConnections, serverThreads),
+                normalShare, sheddableShare), auctionEndTimes, criticalWindow);
+    }
+
+    public RequestPriorityFilter(PriorityLoadShedder loadShedder, AuctionEndTimeProjection auctionEndTimes,
+                                 Duration criticalWindow) {
+        this.loadShedder = loadShedder;
+        this.auctionEndTimes = auctionEndTimes;
+        this.criticalWindow = criticalWindow;
+    }
+
+    /**
+     * Capacity for a server with the given pools: the Spring Boot defaults (10 connections, 200 threads) give 40.
+     */
+    public static int derivedCapacity(int databaseConnections, int serverThreads) {
+        return Math.max(1, Math.min(serverThreads, databaseConnections * REQUESTS_PER_CONNECTION));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health checks must answer even when the service is saturated
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = classify(request);
+        if (!loadShedder.tryEnter(priority)) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.getWriter().write("Service busy, retry later");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadShedder.exit();
+        }
+    }
+
+    Priority classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if ("POST".equals(request.getMethod()) && uri.startsWith(AUCTIONS_PATH)) {
+            // /api/v1/auctions/{id}/{action}
+            int slash = uri.indexOf('/', AUCTIONS_PATH.length());
+            if (slash > AUCTIONS_PATH.length() && BID_ACTIONS.contains(uri.substring(slash + 1))) {
+                String auctionId = uri.substring(AUCTIONS_PATH.length(), slash);
+                return auctionEndTimes.endsWithin(auctionId, criticalWindow) ? Priority.CRITICAL : Priority.NORMAL;
+            }
+        }
+        if ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())) {
+            return Priority.SHEDDABLE;
+        }
+        return Priority.NORMAL;
+    }
+
+    public PriorityLoadShedder getLoadShedder() {
+        return loadShedder;
+    }
+}
@@ -0,0 +1,74 @@
+package com.auctionflow.api.config;
+
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerPartitionAssignor;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.TopicPartition;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns every partition to one member of the group, leaving the others idle as standbys.
+ *
+ * For consumers that keep state across all of a topic's records, such as counts per bidder over bids on every
+ * auction, which would be split and undercounted if partitions were spread over instances. The member that
+ * owned the partitions keeps them across rebalances, so an instance joining does not reset the state; when the
+ * owner leaves, the member with the lowest id takes over.
+ */
+public class SingleOwnerAssignor implements ConsumerPartitionAssignor {
+
+    private volatile boolean owner;
+
+    @Override
+    public String name() {
+        return "single-owner";
+    }
+
+    @Override
+    public ByteBuffer subscriptionUserData(Set<String> topics) {
+        return ByteBuffer.wrap(new byte[]{(byte) (owner ? 1 : 0)});
+    }
+
+    @Override
+    public void onAssignment(Assignment assignment, ConsumerGroupMetadata metadata) {
+        owner = !assignment.partitions().isEmpty();
+    }
+
+    @Override
+    public GroupAssignment assign(Cluster metadata, GroupSubscription groupSubscription) {
+        Map<String, Subscription> subscriptions = groupSubscription.groupSubscription();
+        String chosen = null;
+        for (Map.Entry<String, Subscription> member : subscriptions.entrySet()) {
+            if (wasOwner(member.getValue())) {
+                chosen = member.getKey();
+                break;
+            }
+        }
+        if (chosen == null) {
+            chosen = Collections.min(subscriptions.keySet());
+        }
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (String topic : subscriptions.get(chosen).topics()) {
+            Integer partitionCount = metadata.partitionCountForTopic(topic);
+            for (int partition = 0; partitionCount != null && partition < partitionCount; partition++) {
+                partitions.add(new TopicPartition(topic, partition));
+            }
+        }
+        Map<String, Assignment> assignments = new HashMap<>();
+        for (String memberId : subscriptions.keySet()) {
+            assignments.put(memberId, new Assignment(memberId.equals(chosen) ? partitions : List.of()));
+        }
+        return new GroupAssignment(assignments);
+    }
+
+    private static boolean wasOwner(Subscription subscription) {
+        ByteBuffer userData = subscription.userData();
+        return userData != null && userData.remaining() > 0 && userData.get(userData.position()) == 1;
+    }
+}
@@ -0,0 +1,114 @@
+package com.auctionflow.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Principals resolved from JWTs whose signature has already been verified, keyed by a SHA-256 digest of the
+ * token, so a repeat request with the same token skips signature verification and the user lookup.
+ *
+ * An entry lives until its token expires or for the max age, whichever is sooner. Role changes and account
+ * deletions made on this instance invalidate the user's entries at once; those made on other instances take
+ * effect here within the max age. A max of zero entries disables the cache.
+ */
+@Component
+public class VerifiedPrincipalCache {
+
+    private final Cache<TokenDigest, Entry> principals;
+
+    @Autowired
+    public VerifiedPrincipalCache(@Value("${auction.security.principal-cache.max-entries:100000}") long maxEntries,
+                                  @Value("${auction.security.principal-cache.max-age:PT30S}") Duration maxAge) {
+        this(maxEntries, maxAge, System::nanoTime);
+    }
+
+    public VerifiedPrincipalCache(long maxEntries, Duration maxAge, LongSupplier nanoTime) {
+        long maxAgeNanos = maxAge.toNanos();
+        this.principals = maxEntries <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<TokenDigest, Entry>() {
+                    @Override
+                    public long expireAfterCreate(TokenDigest key, Entry entry, long currentTime) {
+                        return Math.min(entry.tokenValidNanos(), maxAgeNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenDigest key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenDigest key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(nanoTime::getAsLong)
+                .build();
+    }
+
+    /**
+     * The principal cached for the token, or null if the token still has to be verified.
+     */
+    public UserDetails get(String token) {
+        if (principals == null) {
+            return null;
+        }
+        Entry entry = principals.getIfPresent(TokenDigest.of(token));
+        return entry == null ? null : entry.userDetails();
+    }
+
+    /**
+     * Caches the principal for a verified token that remains valid for {@code tokenValidFor}.
+     */
+    public void put(String token, UserDetails userDetails, Duration tokenValidFor) {
+        if (principals == null || tokenValidFor.isNegative() || tokenValidFor.isZero()) {
+            return;
+        }
+        principals.put(TokenDigest.of(token), new Entry(userDetails, tokenValidFor.toNanos()));
+    }
+
+    /**
+     * Drops every cached token of the user, whose next request is then verified and looked up again.
+     */
+    public void invalidateUser(String username) {
+        if (principals != null) {
+            principals.asMap().values().removeIf(entry -> entry.userDetails().getUsername().equals(username));
+        }
+    }
+
+    public long size() {
+        if (principals == null) {
+            return 0;
+        }
+        principals.cleanUp();
+        return principals.estimatedSize();
+    }
+
+    private record Entry(UserDetails userDetails, long tokenValidNanos) {
+    }
+
+    private record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class ApiKey {
     private Instant createdAt;
     private Instant revokedAt;
     private Instant lastUsedAt;
+    private long usageCount;
 
     // getters and setters
     public Long getId() { return id; }
@@ -33,4 +34,7 @@ public class ApiKey {
 
     public Instant getLastUsedAt() { return lastUsedAt; }
     public void setLastUsedAt(Instant lastUsedAt) { this.lastUsedAt = lastUsedAt; }
+
+    public long getUsageCount() { return usageCount; }
+    public void setUsageCount(long usageCount) { this.usageCount = usageCount; }
 }
\ No newline at end of file
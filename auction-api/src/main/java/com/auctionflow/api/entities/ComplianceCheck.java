@@ -12,9 +12,12 @@ public class ComplianceCheck {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    // Null for a check against a bidder known only by the bid API's UUID, held in bidderId
     private Long userId;
 
+    @Column(length = 64)
+    private String bidderId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private CheckType checkType;
@@ -67,6 +70,14 @@ public class ComplianceCheck {
         this.userId = userId;
     }
 
+    public String getBidderId() {
+        return bidderId;
+    }
+
+    public void setBidderId(String bidderId) {
+        this.bidderId = bidderId;
+    }
+
     public CheckType getCheckType() {
         return checkType;
     }
@@ -117,7 +128,10 @@ public class ComplianceCheck {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = Instant.now();
+        // Checks written behind keep the time they were raised
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
         updatedAt = Instant.now();
     }
 
@@ -0,0 +1,104 @@
+package com.auctionflow.api.projections;
+
+import com.auctionflow.api.entities.Auction;
+import com.auctionflow.api.repositories.AuctionRepository;
+import com.auctionflow.core.domain.events.AuctionClosedEvent;
+import com.auctionflow.core.domain.events.AuctionCreatedEvent;
+import com.auctionflow.core.domain.events.AuctionExtendedEvent;
+import com.auctionflow.core.domain.events.EventHandler;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory end times of the auctions closing soon, so request classification can tell whether a bid is on an
+ * auction about to end without a database read. Only auctions ending within the lookahead are held: they are
+ * loaded from the auctions table periodically and kept current from auction events in between.
+ */
+@Component
+public class AuctionEndTimeProjection {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionEndTimeProjection.class);
+    // Ended auctions are kept a little longer, for bids that raced the close
+    private static final Duration GRACE = Duration.ofMinutes(1);
+
+    private final AuctionRepository auctionRepository;
+    private final Duration lookahead;
+    private final Clock clock;
+    private final Map<String, Instant> endTimes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AuctionEndTimeProjection(AuctionRepository auctionRepository,
+                                    @Value("${auction.load-shedding.end-time-lookahead:PT10M}") Duration lookahead) {
+        this(auctionRepository, lookahead, Clock.systemUTC());
+    }
+
+    public AuctionEndTimeProjection(AuctionRepository auctionRepository, Duration lookahead, Clock clock) {
+        this.auctionRepository = auctionRepository;
+        this.lookahead = lookahead;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelay = 30000) // Pick up auctions moving into the lookahead
+    public void refresh() {
+        Instant now = clock.instant();
+        try {
+            for (Auction auction : auctionRepository.findByEndTsBetween(now.minus(GRACE), now.plus(lookahead))) {
+                if (!"CLOSED".equals(auction.getStatus())) {
+                    endTimes.put(auction.getId(), auction.getEndTs());
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not load auction end times, keeping the current ones", e);
+        }
+        endTimes.values().removeIf(endTime -> endTime.isBefore(now.minus(GRACE)));
+    }
+
+    @EventHandler
+    public void on(AuctionCreatedEvent event) {
+        track(event.getAggregateId().toString(), event.getEndTime());
+    }
+
+    @EventHandler
+    public void on(AuctionExtendedEvent event) {
+        track(event.getAggregateId().toString(), event.getNewEndTime());
+    }
+
+    @EventHandler
+    public void on(AuctionClosedEvent event) {
+        endTimes.remove(event.getAggregateId().toString());
+    }
+
+    /**
+     * Whether the auction is known to end within the window from now. Auctions ending beyond the lookahead
+     * are not tracked and report false.
+     */
+    public boolean endsWithin(String auctionId, Duration window) {
+        Instant endTime = endTimes.get(auctionId);
+        return endTime != null && endTime.isBefore(clock.instant().plus(window));
+    }
+
+    public int size() {
+        return endTimes.size();
+    }
+
+    private void track(String auctionId, Instant endTime) {
+        if (endTime.isBefore(clock.instant().plus(lookahead))) {
+            endTimes.put(auctionId, endTime);
+        } else {
+            // An extension can only push the end out, so a tracked auction that moved beyond the lookahead goes
+            endTimes.remove(auctionId);
+        }
+    }
+}
@@ -2,12 +2,27 @@ package com.auctionflow.api.repositories;
 
 import com.auctionflow.api.entities.ApiKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
     Optional<ApiKey> findByServiceNameAndRevokedAtIsNull(String serviceName);
     Optional<ApiKey> findByHashedKeyAndRevokedAtIsNull(String hashedKey);
+    List<ApiKey> findByRevokedAtIsNull();
+
+    // Other instances flush usage of the same key too, so keep the latest time and add to the count
+    @Modifying
+    @Transactional
+    @Query("UPDATE ApiKey k SET k.usageCount = k.usageCount + :uses, k.lastUsedAt = CASE "
+            + "WHEN k.lastUsedAt IS NULL OR k.lastUsedAt < :lastUsedAt THEN :lastUsedAt ELSE k.lastUsedAt END "
+            + "WHERE k.id = :id")
+    int recordUsage(@Param("id") Long id, @Param("lastUsedAt") Instant lastUsedAt, @Param("uses") long uses);
 }
\ No newline at end of file
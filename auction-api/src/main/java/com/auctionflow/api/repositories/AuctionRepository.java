@@ -8,4 +8,6 @@ import java.util.List;
 
 public interface AuctionRepository extends JpaRepository<Auction, String> {
     List<Auction> findByStatusAndEndTsBefore(String status, Instant endTs);
+
+    List<Auction> findByEndTsBetween(Instant from, Instant to);
 }
\ No newline at end of file
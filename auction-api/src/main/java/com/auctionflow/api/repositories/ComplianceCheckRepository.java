@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ComplianceCheckRepository extends JpaRepository<ComplianceCheck, Long> {
@@ -12,4 +13,19 @@ public interface ComplianceCheckRepository extends JpaRepository<ComplianceCheck
     List<ComplianceCheck> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     List<ComplianceCheck> findByUserIdAndCheckType(Long userId, ComplianceCheck.CheckType checkType);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndStatus(Long userId, ComplianceCheck.CheckStatus status);
+
+    long countByUserIdAndCheckTypeNot(Long userId, ComplianceCheck.CheckType checkType);
+
+    long countByUserIdAndStatusAndCheckTypeNot(Long userId, ComplianceCheck.CheckStatus status,
+                                               ComplianceCheck.CheckType checkType);
+
+    long countByUserIdAndCheckTypeAndStatus(Long userId, ComplianceCheck.CheckType checkType,
+                                            ComplianceCheck.CheckStatus status);
+
+    Optional<ComplianceCheck> findFirstByUserIdAndCheckTypeOrderByCreatedAtDesc(Long userId,
+                                                                               ComplianceCheck.CheckType checkType);
 }
\ No newline at end of file
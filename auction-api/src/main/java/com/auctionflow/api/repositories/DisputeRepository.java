@@ -16,6 +16,8 @@ public interface DisputeRepository extends JpaRepository<Dispute, Long> {
 
     List<Dispute> findByInitiatorId(String initiatorId);
 
+    long countByInitiatorId(String initiatorId);
+
     List<Dispute> findByStatus(String status);
 
     @Query("SELECT d FROM Dispute d WHERE d.auctionId = :auctionId AND d.status != 'CLOSED'")
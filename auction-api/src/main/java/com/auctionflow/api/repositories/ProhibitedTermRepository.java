@@ -0,0 +1,12 @@
+package com.auctionflow.api.repositories;
+
+import com.auctionflow.api.entities.ProhibitedTerm;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProhibitedTermRepository extends JpaRepository<ProhibitedTerm, Long> {
+    List<ProhibitedTerm> findByActiveTrueOrderByIdAsc();
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.auctionflow.api.services;
+
+import java.util.function.Consumer;
+
+/**
+ * Tells every API instance that the set of active API keys changed, so each can refresh its in-memory key
+ * index without waiting for the periodic reload.
+ */
+public interface ApiKeyChangeChannel {
+
+    /**
+     * Announces a change to the keys of the given service, including to this instance's own subscribers.
+     */
+    void publish(String serviceName);
+
+    void subscribe(Consumer<String> listener);
+}
@@ -2,9 +2,12 @@ package com.auctionflow.api.services;
 
 import com.auctionflow.api.entities.ApiKey;
 import com.auctionflow.api.repositories.ApiKeyRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -13,23 +16,65 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Issues, validates and revokes service API keys.
+ *
+ * Validation runs against an in-memory index of the active keys, so a partner request costs a hash and a map
+ * lookup rather than a query and a write. The index is rebuilt from the database on start, whenever any
+ * instance announces a change over the {@link ApiKeyChangeChannel}, and periodically as a backstop. Usage
+ * is counted in memory and written back periodically, one update per key used; a key whose update fails
+ * keeps its counts for the next flush.
+ */
 @Service
 @Profile("!min & !ui-only")
 public class ApiKeyService {
 
-    @Autowired
-    private ApiKeyRepository apiKeyRepository;
-
-    @Autowired(required = false)
-    private RedisTemplate<String, String> redisTemplate;
+    private static final Logger logger = LoggerFactory.getLogger(ApiKeyService.class);
 
     private static final String ALGORITHM = "SHA-256";
     private static final int KEY_LENGTH = 32; // 256 bits
-    private static final int RATE_LIMIT_REQUESTS = 100; // per minute
     private static final Duration RATE_LIMIT_WINDOW = Duration.ofMinutes(1);
+    private static final int MAX_TRACKED_KEYS = 1 << 14;
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyChangeChannel changeChannel;
+    private final RateLimitReconciler rateLimitReconciler;
+    // Enforced locally per request and reconciled across the cluster through Redis in the background
+    private final TokenBucketRateLimiter rateLimiter;
+
+    // Replaced whole on every change; readers never lock
+    private volatile Map<String, ActiveKey> activeKeys = Map.of();
+    // Keys dropped from the index with usage not yet flushed
+    private final Queue<ActiveKey> retiredKeys = new ConcurrentLinkedQueue<>();
+
+    public ApiKeyService(ApiKeyRepository apiKeyRepository, ApiKeyChangeChannel changeChannel,
+                         RateLimitReconciler rateLimitReconciler,
+                         @Value("${auction.api-key.requests-per-minute:100}") int requestsPerMinute) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.changeChannel = changeChannel;
+        this.rateLimitReconciler = rateLimitReconciler;
+        this.rateLimiter = new TokenBucketRateLimiter("api_key", MAX_TRACKED_KEYS,
+                requestsPerMinute / (double) RATE_LIMIT_WINDOW.toSeconds(), requestsPerMinute,
+                Duration.ofMinutes(10), true);
+    }
+
+    @PostConstruct
+    public void init() {
+        rateLimitReconciler.register(rateLimiter);
+        changeChannel.subscribe(serviceName -> refreshIndex());
+        refreshIndex();
+    }
 
     public String generateKey(String serviceName) {
         String rawKey = generateRandomKey();
@@ -40,6 +85,7 @@ public class ApiKeyService {
         apiKey.setHashedKey(hashedKey);
         apiKey.setCreatedAt(Instant.now());
         apiKeyRepository.save(apiKey);
+        keysChanged(serviceName);
 
         return rawKey; // Return the raw key to the caller
     }
@@ -50,38 +96,108 @@ public class ApiKeyService {
             ApiKey apiKey = apiKeyOpt.get();
             apiKey.setRevokedAt(Instant.now());
             apiKeyRepository.save(apiKey);
+            keysChanged(serviceName);
         }
     }
 
     public boolean validateKey(String rawKey) {
         String hashedKey = hashKey(rawKey);
-        Optional<ApiKey> apiKeyOpt = apiKeyRepository.findByHashedKeyAndRevokedAtIsNull(hashedKey);
-        if (apiKeyOpt.isPresent()) {
-            if (isRateLimitExceeded(hashedKey)) {
-                return false;
+        ActiveKey activeKey = activeKeys.get(hashedKey);
+        if (activeKey == null || isRateLimitExceeded(hashedKey)) {
+            return false;
+        }
+        activeKey.recordUse(System.currentTimeMillis());
+        return true;
+    }
+
+    private boolean isRateLimitExceeded(String hashedKey) {
+        return !rateLimiter.tryAcquire(hashedKey);
+    }
+
+    private void keysChanged(String serviceName) {
+        // Apply here before telling the others, as the broadcast may reach this instance only later
+        reloadIndex();
+        changeChannel.publish(serviceName);
+    }
+
+    /**
+     * Rebuilds the index of active keys from the database, carrying over usage not yet flushed.
+     */
+    public synchronized void reloadIndex() {
+        Map<String, ActiveKey> current = activeKeys;
+        Map<String, ActiveKey> reloaded = new HashMap<>();
+        for (ApiKey apiKey : apiKeyRepository.findByRevokedAtIsNull()) {
+            ActiveKey existing = current.get(apiKey.getHashedKey());
+            reloaded.put(apiKey.getHashedKey(), existing != null ? existing : new ActiveKey(apiKey.getId()));
+        }
+        for (Map.Entry<String, ActiveKey> entry : current.entrySet()) {
+            if (!reloaded.containsKey(entry.getKey())) {
+                retiredKeys.add(entry.getValue());
             }
-            trackUsage(apiKeyOpt.get());
-            return true;
         }
-        return false;
+        activeKeys = Map.copyOf(reloaded);
     }
 
-    public void trackUsage(ApiKey apiKey) {
-        apiKey.setLastUsedAt(Instant.now());
-        apiKeyRepository.save(apiKey);
+    @Scheduled(fixedDelay = 60000) // Backstop for missed change notifications
+    public void refreshIndex() {
+        try {
+            reloadIndex();
+        } catch (RuntimeException e) {
+            logger.warn("Could not reload API keys, keeping the current index", e);
+        }
     }
 
-    private boolean isRateLimitExceeded(String hashedKey) {
-        if (redisTemplate == null) {
-            return false; // No rate limiting if Redis is not available
+    /**
+     * Writes the usage counted since the last flush, one update per key used, each in its own transaction so
+     * that one failing key does not lose the counts of the others.
+     */
+    @Scheduled(fixedDelay = 30000) // Write back aggregated key usage
+    public void flushUsage() {
+        List<ActiveKey> keys = new ArrayList<>(activeKeys.values());
+        int active = keys.size();
+        ActiveKey retired;
+        while ((retired = retiredKeys.poll()) != null) {
+            keys.add(retired);
         }
-        String redisKey = "rate_limit:" + hashedKey;
-        Long currentCount = redisTemplate.opsForValue().increment(redisKey);
-        if (currentCount == 1) {
-            // Set expiry on first increment
-            redisTemplate.expire(redisKey, RATE_LIMIT_WINDOW);
+        int failed = 0;
+        RuntimeException lastFailure = null;
+        for (int i = 0; i < keys.size(); i++) {
+            ActiveKey key = keys.get(i);
+            // The two counters are not read atomically with recordUse, which counts the use before its time
+            long uses = key.uses.sumThenReset();
+            long lastUsedMillis = key.lastUsedMillis.getThenReset();
+            if (uses == 0 && lastUsedMillis == 0) {
+                continue;
+            }
+            if (lastUsedMillis == 0) {
+                // Counted uses whose time is still being recorded; flush them with it next time
+                key.restore(uses, 0);
+                continue;
+            }
+            // A time with no uses belongs to a use counted by the previous flush, and is still written
+            try {
+                apiKeyRepository.recordUsage(key.id, Instant.ofEpochMilli(lastUsedMillis), uses);
+            } catch (RuntimeException e) {
+                key.restore(uses, lastUsedMillis);
+                if (i >= active) {
+                    retiredKeys.add(key);
+                }
+                failed++;
+                lastFailure = e;
+            }
+        }
+        if (failed > 0) {
+            logger.warn("Could not flush usage of {} API keys, keeping it for the next flush", failed, lastFailure);
+        }
+    }
+
+    @PreDestroy
+    public void flushUsageOnShutdown() {
+        try {
+            flushUsage();
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush API key usage on shutdown", e);
         }
-        return currentCount > RATE_LIMIT_REQUESTS;
     }
 
     // Rotate keys older than 90 days
@@ -97,6 +213,7 @@ public class ApiKeyService {
             .forEach(key -> {
                 key.setRevokedAt(Instant.now());
                 apiKeyRepository.save(key);
+                keysChanged(key.getServiceName());
             });
     }
 
@@ -116,4 +233,25 @@ public class ApiKeyService {
             throw new RuntimeException("Hashing algorithm not found", e);
         }
     }
-}
\ No newline at end of file
+
+    private static final class ActiveKey {
+        final Long id;
+        // Striped, so concurrent requests on one key do not contend on a single counter
+        final LongAdder uses = new LongAdder();
+        final LongAccumulator lastUsedMillis = new LongAccumulator(Math::max, 0);
+
+        ActiveKey(Long id) {
+            this.id = id;
+        }
+
+        void recordUse(long nowMillis) {
+            uses.increment();
+            lastUsedMillis.accumulate(nowMillis);
+        }
+
+        void restore(long unflushedUses, long unflushedLastUsedMillis) {
+            uses.add(unflushedUses);
+            lastUsedMillis.accumulate(unflushedLastUsedMillis);
+        }
+    }
+}
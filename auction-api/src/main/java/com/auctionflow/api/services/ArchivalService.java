@@ -1,125 +1,271 @@
 package com.auctionflow.api.services;
 
-import com.auctionflow.api.entities.*;
-import com.auctionflow.api.repositories.*;
-import com.auctionflow.events.persistence.EventEntity;
-import com.auctionflow.events.persistence.EventRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.auctionflow.api.entities.ArchivedAuction;
+import com.auctionflow.api.entities.ArchivedBid;
+import com.auctionflow.api.services.ArchiveSegmentStore.ArchivedEventRecord;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.events.AggregateCheckpointIndex;
+import com.auctionflow.events.persistence.JdbcEventCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
+import java.util.stream.Stream;
 
+/**
+ * Moves closed auctions past the retention period out of the live tables and into {@link ArchiveSegmentStore}.
+ *
+ * Auctions are taken {@code auction.archive.chunk-size} at a time. A chunk's bids and events are streamed
+ * through server-side cursors, ordered by auction, and merged into one archive block per auction as they
+ * arrive, so memory is bounded by the chunk size rather than by the length of any auction's history. Once the
+ * chunk is synced to disk its rows are deleted, events and bids first and the auctions last. Each chunk is
+ * committed on its own: a run that stops part way leaves the remaining auctions in place, and an auction that
+ * was archived but not yet deleted is found in the archive on the next run and only deleted. Deleted auctions'
+ * point-in-time checkpoints are dropped from {@link AggregateCheckpointIndex} on this node.
+ *
+ * Every instance schedules the run, and the archive is shared, so a run holds a Postgres advisory lock for its
+ * whole length and the instances that do not get it skip theirs. A block that fails part way is aborted, so the
+ * store is left ready for the next chunk or run.
+ */
 @Service
 public class ArchivalService {
 
-    @Autowired
-    private AuctionRepository auctionRepository;
+    private static final Logger logger = LoggerFactory.getLogger(ArchivalService.class);
 
-    @Autowired
-    private BidRepository bidRepository;
+    private static final String SELECT_CLOSED_AUCTIONS =
+            "SELECT id, item_id, status, start_ts, end_ts, encrypted_reserve_price, buy_now_price, hidden_reserve "
+                    + "FROM auctions WHERE status = 'CLOSED' AND end_ts < ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_BIDS =
+            "SELECT auction_id, id, bidder_id, amount, server_ts, seq_no, accepted FROM bids "
+                    + "WHERE auction_id = ANY (CAST(? AS varchar[])) ORDER BY auction_id COLLATE \"C\", seq_no, id";
+    // uuid sorts bytewise, which for the lowercase text form is the same order as String.compareTo
+    private static final String SELECT_EVENTS =
+            "SELECT aggregate_id, sequence_number, event_type, timestamp, event_data::text, event_metadata::text "
+                    + "FROM event_store WHERE aggregate_id = ANY (CAST(? AS uuid[])) "
+                    + "ORDER BY aggregate_id, sequence_number";
+    private static final String DELETE_EVENTS = "DELETE FROM event_store WHERE aggregate_id = ANY (CAST(? AS uuid[]))";
+    private static final String DELETE_BIDS = "DELETE FROM bids WHERE auction_id = ANY (CAST(? AS varchar[]))";
+    private static final String DELETE_AUCTIONS = "DELETE FROM auctions WHERE id = ANY (CAST(? AS varchar[]))";
+    // Session level, so it is held on the one connection for the run and released if that connection dies
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('auction-archival'))";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('auction-archival'))";
 
-    @Autowired
-    private EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcEventCursor cursor;
+    private final ArchiveSegmentStore archive;
+    private final AggregateCheckpointIndex checkpointIndex;
+    private final int chunkSize;
+    private final Duration retention;
 
-    @Autowired
-    private ArchivedAuctionRepository archivedAuctionRepository;
+    public ArchivalService(JdbcTemplate jdbcTemplate, JdbcEventCursor cursor, ArchiveSegmentStore archive,
+                           AggregateCheckpointIndex checkpointIndex,
+                           @Value("${auction.archive.chunk-size:500}") int chunkSize,
+                           @Value("${auction.archive.retention:365d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cursor = cursor;
+        this.archive = archive;
+        this.checkpointIndex = checkpointIndex;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    public record ArchiveRun(long auctions, long bids, long events, long compressedBytes, Duration elapsed) {
+    }
 
-    @Autowired
-    private ArchivedBidRepository archivedBidRepository;
+    private record BidRow(String auctionId, ArchivedBid bid) {
+    }
 
-    @Autowired
-    private ArchivedEventRepository archivedEventRepository;
+    private record EventRow(String aggregateId, ArchivedEventRecord event) {
+    }
 
     @Scheduled(fixedRate = 86400000) // Run daily
-    @Transactional
     public void archiveOldAuctions() {
-        Instant cutoff = Instant.now().minusSeconds(365L * 24 * 60 * 60); // 365 days ago
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!advisoryLock(connection, TRY_LOCK)) {
+                logger.info("Archival is already running on another instance, skipping");
+                return null;
+            }
+            try {
+                archiveClosedBefore(Instant.now().minus(retention));
+            } finally {
+                advisoryLock(connection, UNLOCK);
+            }
+            return null;
+        });
+    }
 
-        List<Auction> oldAuctions = auctionRepository.findByStatusAndEndTsBefore("CLOSED", cutoff);
+    /**
+     * Archives every auction that closed before {@code cutoff}. The caller must make sure no other instance is
+     * archiving at the same time.
+     */
+    public ArchiveRun archiveClosedBefore(Instant cutoff) {
+        long start = System.nanoTime();
+        long[] totals = new long[4]; // Auctions, bids, events, compressed bytes
+        try {
+            archiveAll(cutoff, totals);
+        } finally {
+            // Let another instance write to the newest segment on its run
+            archive.finishWriting();
+        }
+        ArchiveRun run = new ArchiveRun(totals[0], totals[1], totals[2], totals[3],
+                Duration.ofNanos(System.nanoTime() - start));
+        logger.info("Archived {} auctions with {} bids and {} events ({} bytes compressed) in {} ms",
+                run.auctions(), run.bids(), run.events(), run.compressedBytes(), run.elapsed().toMillis());
+        return run;
+    }
 
-        for (Auction auction : oldAuctions) {
-            // Move to archived_auctions
-            ArchivedAuction archivedAuction = mapToArchivedAuction(auction);
-            archivedAuctionRepository.save(archivedAuction);
+    private void archiveAll(Instant cutoff, long[] totals) {
+        String after = "";
+        while (true) {
+            List<ArchivedAuction> chunk = jdbcTemplate.query(SELECT_CLOSED_AUCTIONS,
+                    (rs, rowNum) -> mapAuction(rs), Timestamp.from(cutoff), after, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            // Keyset on the database's ordering of ids, merge on the cursors' ordering
+            after = chunk.get(chunk.size() - 1).getId();
+            chunk.sort(Comparator.comparing(ArchivedAuction::getId));
+            archiveChunk(chunk, totals);
+        }
+    }
 
-            // Move bids
-            List<Bid> bids = bidRepository.findByAuctionId(auction.getId());
-            for (Bid bid : bids) {
-                ArchivedBid archivedBid = mapToArchivedBid(bid);
-                archivedBidRepository.save(archivedBid);
+    private void archiveChunk(List<ArchivedAuction> chunk, long[] totals) {
+        Instant archivedAt = Instant.now();
+        String allIds = arrayLiteral(chunk);
+        List<ArchivedAuction> toWrite = chunk.stream().filter(auction -> !archive.contains(auction.getId())).toList();
+        if (!toWrite.isEmpty()) {
+            String ids = arrayLiteral(toWrite);
+            try (Stream<BidRow> bidRows = cursor.query(SELECT_BIDS, (rs, rowNum) -> mapBid(rs, archivedAt), ids);
+                 Stream<EventRow> eventRows = cursor.query(SELECT_EVENTS, (rs, rowNum) -> mapEvent(rs), ids)) {
+                PeekingIterator<BidRow> bids = new PeekingIterator<>(bidRows.iterator());
+                PeekingIterator<EventRow> events = new PeekingIterator<>(eventRows.iterator());
+                for (ArchivedAuction auction : toWrite) {
+                    String id = auction.getId();
+                    auction.setArchivedAt(archivedAt);
+                    ArchiveSegmentStore.BlockWriter block = archive.startBlock(auction);
+                    try {
+                        while (bids.hasNext() && bids.peek().auctionId().compareTo(id) <= 0) {
+                            BidRow row = bids.next();
+                            if (row.auctionId().equals(id)) {
+                                block.writeBid(row.bid());
+                                totals[1]++;
+                            }
+                        }
+                        while (events.hasNext() && events.peek().aggregateId().compareTo(id) <= 0) {
+                            EventRow row = events.next();
+                            if (row.aggregateId().equals(id)) {
+                                block.writeEvent(row.event());
+                                totals[2]++;
+                            }
+                        }
+                        totals[3] += block.finish();
+                    } catch (RuntimeException e) {
+                        // A cursor or write failure leaves the block open; nothing of the chunk is deleted
+                        block.abort();
+                        throw e;
+                    }
+                    totals[0]++;
+                }
             }
+            archive.sync();
+        }
+        jdbcTemplate.update(DELETE_EVENTS, allIds);
+        jdbcTemplate.update(DELETE_BIDS, allIds);
+        jdbcTemplate.update(DELETE_AUCTIONS, allIds);
+        // Point-in-time checkpoints were built from the events just deleted
+        checkpointIndex.invalidate(chunk.stream().map(auction -> new AuctionId(auction.getId())).toList());
+    }
 
-            // Move events
-            // List<EventEntity> events = eventRepository.findByAggregateId(auction.getId());
-            // for (EventEntity event : events) {
-            //     ArchivedEvent archivedEvent = mapToArchivedEvent(event);
-            //     archivedEventRepository.save(archivedEvent);
-            // }
-
-            // Delete from main tables
-            eventRepository.deleteByAggregateId(auction.getId());
-            bidRepository.deleteByAuctionId(auction.getId());
-            auctionRepository.delete(auction);
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            return rs.next() && rs.getBoolean(1);
         }
     }
 
-    private ArchivedAuction mapToArchivedAuction(Auction auction) {
-        ArchivedAuction archived = new ArchivedAuction();
-        archived.setId(auction.getId());
-        archived.setItemId(auction.getItemId());
-        archived.setStatus(auction.getStatus());
-        archived.setStartTs(auction.getStartTs());
-        archived.setEndTs(auction.getEndTs());
-        archived.setEncryptedReservePrice(auction.getEncryptedReservePrice());
-        archived.setBuyNowPrice(auction.getBuyNowPrice());
-        archived.setHiddenReserve(auction.isHiddenReserve());
-        archived.setArchivedAt(Instant.now());
-        return archived;
+    private static ArchivedAuction mapAuction(ResultSet rs) throws SQLException {
+        ArchivedAuction auction = new ArchivedAuction();
+        auction.setId(rs.getString(1));
+        auction.setItemId(rs.getString(2));
+        auction.setStatus(rs.getString(3));
+        auction.setStartTs(toInstant(rs.getTimestamp(4)));
+        auction.setEndTs(toInstant(rs.getTimestamp(5)));
+        auction.setEncryptedReservePrice(rs.getString(6));
+        auction.setBuyNowPrice(rs.getBigDecimal(7));
+        auction.setHiddenReserve(rs.getBoolean(8));
+        return auction;
     }
 
-    private ArchivedBid mapToArchivedBid(Bid bid) {
-        ArchivedBid archived = new ArchivedBid();
-        archived.setAuctionId(bid.getAuctionId());
-        archived.setBidderId(bid.getBidderId());
-        archived.setAmount(bid.getAmount());
-        archived.setServerTs(bid.getServerTs());
-        archived.setSeqNo(bid.getSeqNo());
-        archived.setAccepted(bid.getAccepted());
-        archived.setArchivedAt(Instant.now());
-        return archived;
+    private static BidRow mapBid(ResultSet rs, Instant archivedAt) throws SQLException {
+        ArchivedBid bid = new ArchivedBid();
+        bid.setAuctionId(rs.getString(1));
+        bid.setId(rs.getLong(2));
+        bid.setBidderId(rs.getString(3));
+        bid.setAmount(rs.getBigDecimal(4));
+        bid.setServerTs(toInstant(rs.getTimestamp(5)));
+        bid.setSeqNo(rs.getObject(6) == null ? null : rs.getLong(6));
+        bid.setAccepted(rs.getObject(7) == null ? null : rs.getBoolean(7));
+        bid.setArchivedAt(archivedAt);
+        return new BidRow(bid.getAuctionId(), bid);
     }
 
-    private ArchivedEvent mapToArchivedEvent(EventEntity event) {
-        ArchivedEvent archived = new ArchivedEvent();
-        archived.setAggregateId(event.getAggregateId());
-        archived.setAggregateType(event.getAggregateType());
-        archived.setEventType(event.getEventType());
-        try {
-            archived.setCompressedEventData(compress(event.getEventData()));
-            if (event.getEventMetadata() != null) {
-                archived.setCompressedEventMetadata(compress(event.getEventMetadata()));
+    private static EventRow mapEvent(ResultSet rs) throws SQLException {
+        return new EventRow(rs.getString(1), new ArchivedEventRecord(rs.getLong(2), rs.getShort(3),
+                toInstant(rs.getTimestamp(4)), rs.getString(5), rs.getString(6)));
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static String arrayLiteral(List<ArchivedAuction> auctions) {
+        StringBuilder literal = new StringBuilder(auctions.size() * 39 + 2).append('{');
+        for (ArchivedAuction auction : auctions) {
+            if (literal.length() > 1) {
+                literal.append(',');
             }
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to compress event data", e);
+            literal.append('"').append(auction.getId()).append('"');
         }
-        archived.setSequenceNumber(event.getSequenceNumber());
-        archived.setTimestamp(event.getTimestamp());
-        archived.setArchivedAt(Instant.now());
-        return archived;
+        return literal.append('}').toString();
     }
 
-    private byte[] compress(String data) throws IOException {
-        if (data == null) return null;
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (GZIPOutputStream gzos = new GZIPOutputStream(baos)) {
-            gzos.write(data.getBytes("UTF-8"));
+    private static final class PeekingIterator<T> {
+        private final Iterator<T> iterator;
+        private T next;
+
+        PeekingIterator(Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        boolean hasNext() {
+            return next != null || iterator.hasNext();
+        }
+
+        T peek() {
+            if (next == null) {
+                next = iterator.next();
+            }
+            return next;
+        }
+
+        T next() {
+            T value = peek();
+            next = null;
+            return value;
         }
-        return baos.toByteArray();
     }
-}
\ No newline at end of file
+}
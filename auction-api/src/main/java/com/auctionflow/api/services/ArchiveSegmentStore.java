@@ -0,0 +1,778 @@
+package com.auctionflow.api.services;
+
+import com.auctionflow.api.entities.ArchivedAuction;
+import com.auctionflow.api.entities.ArchivedBid;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Archived auctions in append-only segment files, on a persistent volume shared by every instance.
+ *
+ * Each auction is one block: its row, its bids and its events, deflated together, so reading an auction back
+ * decompresses only that auction. Blocks are appended to {@code segment-NNNNNNNN.dat}, and for every block a
+ * fixed-size entry (auction id, offset, length) is appended to the segment's {@code .idx} file. A new segment
+ * is started once the current one passes {@code auction.archive.segment-bytes}.
+ *
+ * Blocks are written as the caller streams rows in and become durable and readable at {@link #sync()}, which
+ * forces the data, then the index entries, to disk. The index is the commit record: when an instance starts
+ * writing, anything in the newest data file past its last indexed block is a torn write and is truncated away.
+ * One instance writes at a time, between its first {@link #startBlock} and {@link #finishWriting()}, and the
+ * caller is expected to hold a cluster-wide lock for that span. Other instances pick up the new blocks by
+ * reading the index files forward when a lookup misses. Segments keep the index they were opened with in
+ * memory as sorted primitive arrays, 28 bytes an auction; entries found since use a map.
+ */
+@Component
+public class ArchiveSegmentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveSegmentStore.class);
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{8})\\.dat");
+    private static final int ENTRY_BYTES = 28; // Id high and low bits, offset, length
+    private static final long REFRESH_INTERVAL_NANOS = 1_000_000_000L;
+
+    private static final int END = 0;
+    private static final int BID = 1;
+    private static final int EVENT = 2;
+
+    private final Path directory;
+    private final long segmentBytes;
+
+    // Newest last; replaced, never modified, so readers can iterate without locking
+    private volatile List<Segment> segments = List.of();
+    // Earliest System.nanoTime() at which a lookup miss reads the indexes forward again
+    private volatile long nextRefreshNanos;
+
+    // Writer state, guarded by this; current is null while another instance may be writing
+    private Segment current;
+    private FileChannel dataChannel;
+    private CountingOutputStream dataOut;
+    private FileChannel indexChannel;
+    private final List<PendingEntry> pending = new ArrayList<>();
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private BlockWriter openBlock;
+
+    public ArchiveSegmentStore(@Value("${auction.archive.directory:}") String directory,
+                               @Value("${auction.archive.segment-bytes:268435456}") long segmentBytes) {
+        this.directory = directory == null || directory.isBlank() ? null : Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * An archived auction as it was when archived.
+     */
+    public record ArchivedAuctionBlock(ArchivedAuction auction, List<ArchivedBid> bids, List<ArchivedEventRecord> events) {
+    }
+
+    /**
+     * An event as it was in event_store; {@code eventType} is its StoredEventType code.
+     */
+    public record ArchivedEventRecord(long sequenceNumber, short eventType, Instant timestamp,
+                                      String eventData, String eventMetadata) {
+    }
+
+    private record PendingEntry(UUID auctionId, long offset, int length) {
+    }
+
+    private record Location(long offset, int length) {
+    }
+
+    private record Located(Segment segment, Location location) {
+    }
+
+    /**
+     * Loads the segment indexes. Refuses to start without a configured directory, as archived rows are deleted
+     * from the database and a directory on the container's own disk would lose them with the container.
+     */
+    @PostConstruct
+    public synchronized void open() {
+        if (directory == null) {
+            throw new IllegalStateException("auction.archive.directory is not set; it must name a persistent "
+                    + "volume shared by every instance");
+        }
+        try {
+            Files.createDirectories(directory);
+            List<Segment> loaded = loadSegmentsAfter(0);
+            long auctions = 0;
+            for (Segment segment : loaded) {
+                auctions += segment.sealed.size();
+            }
+            segments = List.copyOf(loaded);
+            nextRefreshNanos = System.nanoTime();
+            logger.info("Opened archive at {}: {} segments, {} auctions", directory, loaded.size(), auctions);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open archive at " + directory, e);
+        }
+    }
+
+    /**
+     * Starts the block for an auction. Bids, then events, are written to the returned writer, which must be
+     * finished or aborted before the next block is started. The first block after {@link #finishWriting()}
+     * catches up with what other instances wrote and resumes the newest segment.
+     */
+    public synchronized BlockWriter startBlock(ArchivedAuction auction) {
+        if (openBlock != null) {
+            throw new IllegalStateException("Block for auction " + openBlock.auctionId + " was not finished");
+        }
+        try {
+            if (current == null) {
+                resumeWriting();
+            }
+            openBlock = new BlockWriter(UUID.fromString(auction.getId()), dataOut.count());
+            DataOutputStream out = openBlock.out;
+            writeString(out, auction.getId());
+            writeString(out, auction.getItemId());
+            writeString(out, auction.getStatus());
+            writeInstant(out, auction.getStartTs());
+            writeInstant(out, auction.getEndTs());
+            writeString(out, auction.getEncryptedReservePrice());
+            writeString(out, auction.getBuyNowPrice() == null ? null : auction.getBuyNowPrice().toPlainString());
+            out.writeBoolean(auction.isHiddenReserve());
+            writeInstant(out, auction.getArchivedAt());
+            return openBlock;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive block", e);
+        }
+    }
+
+    /**
+     * Makes every finished block durable and readable, then starts a new segment if this one is full.
+     */
+    public synchronized void sync() {
+        if (openBlock != null) {
+            throw new IllegalStateException("Block for auction " + openBlock.auctionId + " was not finished");
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            dataOut.flush();
+            dataChannel.force(false);
+            ByteBuffer entries = ByteBuffer.allocate(pending.size() * ENTRY_BYTES);
+            for (PendingEntry entry : pending) {
+                entries.putLong(entry.auctionId.getMostSignificantBits())
+                        .putLong(entry.auctionId.getLeastSignificantBits())
+                        .putLong(entry.offset)
+                        .putInt(entry.length);
+            }
+            entries.flip();
+            while (entries.hasRemaining()) {
+                indexChannel.write(entries);
+            }
+            indexChannel.force(false);
+            for (PendingEntry entry : pending) {
+                current.recent.put(entry.auctionId, new Location(entry.offset, entry.length));
+            }
+            current.indexedBytes += (long) pending.size() * ENTRY_BYTES;
+            current.indexedEnd = dataOut.count();
+            pending.clear();
+            if (dataOut.count() >= segmentBytes) {
+                roll();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync archive segment " + current.number, e);
+        }
+    }
+
+    /**
+     * Syncs what has been written and lets go of the newest segment, so that another instance can write to it.
+     */
+    public synchronized void finishWriting() {
+        if (openBlock != null) {
+            openBlock.abort();
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            sync();
+        } finally {
+            closeWriter();
+        }
+    }
+
+    /**
+     * Whether the auction has been archived and synced, by any instance.
+     */
+    public boolean contains(String auctionId) {
+        UUID id = parse(auctionId);
+        return id != null && find(id) != null;
+    }
+
+    public Optional<ArchivedAuctionBlock> read(String auctionId) {
+        UUID id = parse(auctionId);
+        Located located = id == null ? null : find(id);
+        if (located == null) {
+            return Optional.empty();
+        }
+        byte[] compressed = new byte[located.location.length];
+        Inflater inflater = new Inflater();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(compressed);
+            while (buffer.hasRemaining()) {
+                if (located.segment.reader.read(buffer, located.location.offset + buffer.position()) < 0) {
+                    throw new IOException("Archive segment " + located.segment.number + " is truncated");
+                }
+            }
+            DataInputStream in = new DataInputStream(
+                    new InflaterInputStream(new ByteArrayInputStream(compressed), inflater));
+            return Optional.of(readBlock(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archived auction " + auctionId, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            finishWriting();
+            for (Segment segment : segments) {
+                segment.reader.close();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Could not close archive at {}", directory, e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Streams one auction into the current segment.
+     */
+    public final class BlockWriter {
+        private final UUID auctionId;
+        private final long offset;
+        private final DeflaterOutputStream deflated;
+        private final DataOutputStream out;
+
+        private BlockWriter(UUID auctionId, long offset) {
+            this.auctionId = auctionId;
+            this.offset = offset;
+            deflater.reset();
+            // Finished, never closed: closing would close the segment
+            this.deflated = new DeflaterOutputStream(dataOut, deflater, 8192);
+            // Buffered so the deflater sees a few large writes rather than one per field
+            this.out = new DataOutputStream(new BufferedOutputStream(deflated, 8192));
+        }
+
+        public void writeBid(ArchivedBid bid) {
+            try {
+                out.writeByte(BID);
+                out.writeLong(bid.getId() == null ? -1 : bid.getId());
+                writeString(out, bid.getBidderId());
+                writeString(out, bid.getAmount() == null ? null : bid.getAmount().toPlainString());
+                writeInstant(out, bid.getServerTs());
+                out.writeLong(bid.getSeqNo() == null ? -1 : bid.getSeqNo());
+                out.writeByte(bid.getAccepted() == null ? -1 : bid.getAccepted() ? 1 : 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write archive block", e);
+            }
+        }
+
+        public void writeEvent(ArchivedEventRecord event) {
+            try {
+                out.writeByte(EVENT);
+                out.writeLong(event.sequenceNumber());
+                out.writeShort(event.eventType());
+                writeInstant(out, event.timestamp());
+                writeString(out, event.eventData());
+                writeString(out, event.eventMetadata());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write archive block", e);
+            }
+        }
+
+        /**
+         * Ends the block and returns its compressed size. It is not durable until {@link #sync()}. If this
+         * fails the block is still open and must be aborted.
+         */
+        public int finish() {
+            synchronized (ArchiveSegmentStore.this) {
+                try {
+                    out.writeByte(END);
+                    out.flush();
+                    deflated.finish();
+                    int length = Math.toIntExact(dataOut.count() - offset);
+                    pending.add(new PendingEntry(auctionId, offset, length));
+                    openBlock = null;
+                    return length;
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write archive block", e);
+                }
+            }
+        }
+
+        /**
+         * Drops the block, cutting the data file back to where it began, so the next block can be started.
+         * Blocks finished before it are kept. If the file cannot be cut, the writer is closed instead and
+         * everything since the last sync is dropped; the next block then starts from the last synced end.
+         */
+        public void abort() {
+            synchronized (ArchiveSegmentStore.this) {
+                if (openBlock != this) {
+                    return;
+                }
+                openBlock = null;
+                try {
+                    // What is still in the deflater and the block's buffer is dropped with it
+                    dataOut.flush();
+                    dataChannel.truncate(offset);
+                    dataOut.reset(offset);
+                } catch (IOException e) {
+                    logger.warn("Could not cut archive segment {} back to {}, dropping {} unsynced blocks",
+                            current.number, offset, pending.size(), e);
+                    pending.clear();
+                    closeWriter();
+                }
+            }
+        }
+    }
+
+    /**
+     * Locates the auction, reading the indexes forward if it is not found and that was not done in the last
+     * second, so a burst of lookups for unknown ids does not list the directory on every one.
+     */
+    private Located find(UUID id) {
+        Located located = locate(id);
+        long now = System.nanoTime();
+        if (located == null && now - nextRefreshNanos >= 0) {
+            nextRefreshNanos = now + REFRESH_INTERVAL_NANOS;
+            refresh();
+            located = locate(id);
+        }
+        return located;
+    }
+
+    private Located locate(UUID id) {
+        List<Segment> snapshot = segments;
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            Segment segment = snapshot.get(i);
+            Map<UUID, Location> recent = segment.recent;
+            Location location = recent == null ? null : recent.get(id);
+            if (location == null) {
+                location = segment.sealed.find(id);
+            }
+            if (location != null) {
+                return new Located(segment, location);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads index entries other instances have synced since the last look, and any segments they started.
+     * Does nothing while this instance is the writer, as nothing else is writing then.
+     */
+    private synchronized void refresh() {
+        if (current != null) {
+            return;
+        }
+        try {
+            List<Segment> known = segments;
+            Segment newest = known.isEmpty() ? null : known.get(known.size() - 1);
+            if (newest != null) {
+                List<PendingEntry> entries = readIndex(newest);
+                if (!entries.isEmpty()) {
+                    Map<UUID, Location> recent = newest.recent != null ? newest.recent : new ConcurrentHashMap<>();
+                    for (PendingEntry entry : entries) {
+                        recent.put(entry.auctionId, new Location(entry.offset, entry.length));
+                    }
+                    newest.recent = recent;
+                }
+            }
+            List<Segment> added = loadSegmentsAfter(newest == null ? 0 : newest.number);
+            if (!added.isEmpty()) {
+                List<Segment> updated = new ArrayList<>(known);
+                updated.addAll(added);
+                segments = List.copyOf(updated);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to refresh archive at " + directory, e);
+        }
+    }
+
+    /**
+     * Catches up, then opens the newest segment for writing, truncating any torn write off it first, or
+     * starts a new one if it is full.
+     */
+    private void resumeWriting() throws IOException {
+        refresh();
+        List<Segment> known = segments;
+        Segment last = known.isEmpty() ? null : known.get(known.size() - 1);
+        if (last != null) {
+            truncateUnindexed(last);
+        }
+        if (last != null && Files.size(last.dataPath) < segmentBytes) {
+            startWriting(last);
+            return;
+        }
+        Segment next = newSegment(last == null ? 1 : last.number + 1);
+        List<Segment> updated = new ArrayList<>(known);
+        updated.add(next);
+        segments = List.copyOf(updated);
+        startWriting(next);
+    }
+
+    private List<Segment> loadSegmentsAfter(int after) throws IOException {
+        List<Integer> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches() && Integer.parseInt(matcher.group(1)) > after) {
+                    numbers.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        }
+        numbers.sort(null);
+        List<Segment> loaded = new ArrayList<>(numbers.size());
+        for (int number : numbers) {
+            loaded.add(load(number));
+        }
+        return loaded;
+    }
+
+    private Segment load(int number) throws IOException {
+        Segment segment = new Segment(number, directory);
+        List<PendingEntry> entries = readIndex(segment);
+        if (Files.size(segment.dataPath) < segment.indexedEnd) {
+            throw new IllegalStateException("Archive segment " + number + " is shorter than its index");
+        }
+        segment.sealed = SortedIndex.of(entries);
+        segment.reader = FileChannel.open(segment.dataPath, StandardOpenOption.READ);
+        return segment;
+    }
+
+    /**
+     * Reads the whole entries in the segment's index past those already read, leaving a partial one for later.
+     */
+    private static List<PendingEntry> readIndex(Segment segment) throws IOException {
+        List<PendingEntry> entries = new ArrayList<>();
+        if (!Files.exists(segment.indexPath)) {
+            return entries;
+        }
+        try (FileChannel index = FileChannel.open(segment.indexPath, StandardOpenOption.READ)) {
+            long complete = index.size() / ENTRY_BYTES * ENTRY_BYTES;
+            ByteBuffer buffer = ByteBuffer.allocate(64 * ENTRY_BYTES);
+            long position = segment.indexedBytes;
+            while (position < complete) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), complete - position));
+                while (buffer.hasRemaining()) {
+                    index.read(buffer, position + buffer.position());
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    PendingEntry entry = new PendingEntry(new UUID(buffer.getLong(), buffer.getLong()),
+                            buffer.getLong(), buffer.getInt());
+                    entries.add(entry);
+                    segment.indexedEnd = Math.max(segment.indexedEnd, entry.offset + entry.length);
+                }
+                position += buffer.limit();
+            }
+            segment.indexedBytes = Math.max(segment.indexedBytes, complete);
+        }
+        return entries;
+    }
+
+    /**
+     * Cuts a partial index entry and any data past the last indexed block off the segment. Only safe while
+     * no other instance is writing.
+     */
+    private void truncateUnindexed(Segment segment) throws IOException {
+        if (Files.exists(segment.indexPath) && Files.size(segment.indexPath) > segment.indexedBytes) {
+            logger.warn("Truncating partial index entry in archive segment {}", segment.number);
+            try (FileChannel index = FileChannel.open(segment.indexPath, StandardOpenOption.WRITE)) {
+                index.truncate(segment.indexedBytes);
+                index.force(false);
+            }
+        }
+        long dataSize = Files.size(segment.dataPath);
+        if (dataSize > segment.indexedEnd) {
+            logger.warn("Truncating {} unindexed bytes from archive segment {}", dataSize - segment.indexedEnd,
+                    segment.number);
+            try (FileChannel data = FileChannel.open(segment.dataPath, StandardOpenOption.WRITE)) {
+                data.truncate(segment.indexedEnd);
+                data.force(false);
+            }
+        }
+    }
+
+    private Segment newSegment(int number) throws IOException {
+        Segment segment = new Segment(number, directory);
+        Files.createFile(segment.dataPath);
+        segment.sealed = SortedIndex.of(List.of());
+        segment.reader = FileChannel.open(segment.dataPath, StandardOpenOption.READ);
+        return segment;
+    }
+
+    private void startWriting(Segment segment) throws IOException {
+        if (segment.recent == null) {
+            segment.recent = new ConcurrentHashMap<>();
+        }
+        dataChannel = FileChannel.open(segment.dataPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        dataOut = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(dataChannel), 1 << 16),
+                dataChannel.size());
+        indexChannel = FileChannel.open(segment.indexPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        current = segment;
+    }
+
+    private void closeWriter() {
+        try {
+            dataOut.close();
+            indexChannel.close();
+        } catch (IOException e) {
+            logger.warn("Could not close archive segment {}", current.number, e);
+        } finally {
+            current = null;
+            dataChannel = null;
+            dataOut = null;
+            indexChannel = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        dataOut.close();
+        indexChannel.close();
+        Segment sealed = current;
+        List<PendingEntry> entries = new ArrayList<>(sealed.sealed.size() + sealed.recent.size());
+        sealed.sealed.forEach(entries::add);
+        sealed.recent.forEach((id, location) -> entries.add(new PendingEntry(id, location.offset, location.length)));
+        Segment next = newSegment(sealed.number + 1);
+        // Readers see the sorted index before the map goes away
+        sealed.sealed = SortedIndex.of(entries);
+        sealed.recent = null;
+        List<Segment> updated = new ArrayList<>(segments);
+        updated.add(next);
+        segments = List.copyOf(updated);
+        startWriting(next);
+        logger.info("Sealed archive segment {} with {} auctions", sealed.number, entries.size());
+    }
+
+    private static ArchivedAuctionBlock readBlock(DataInputStream in) throws IOException {
+        ArchivedAuction auction = new ArchivedAuction();
+        auction.setId(readString(in));
+        auction.setItemId(readString(in));
+        auction.setStatus(readString(in));
+        auction.setStartTs(readInstant(in));
+        auction.setEndTs(readInstant(in));
+        auction.setEncryptedReservePrice(readString(in));
+        String buyNowPrice = readString(in);
+        auction.setBuyNowPrice(buyNowPrice == null ? null : new BigDecimal(buyNowPrice));
+        auction.setHiddenReserve(in.readBoolean());
+        auction.setArchivedAt(readInstant(in));
+
+        List<ArchivedBid> bids = new ArrayList<>();
+        List<ArchivedEventRecord> events = new ArrayList<>();
+        for (int tag = in.readByte(); tag != END; tag = in.readByte()) {
+            if (tag == BID) {
+                ArchivedBid bid = new ArchivedBid();
+                long id = in.readLong();
+                bid.setId(id < 0 ? null : id);
+                bid.setAuctionId(auction.getId());
+                bid.setBidderId(readString(in));
+                String amount = readString(in);
+                bid.setAmount(amount == null ? null : new BigDecimal(amount));
+                bid.setServerTs(readInstant(in));
+                long seqNo = in.readLong();
+                bid.setSeqNo(seqNo < 0 ? null : seqNo);
+                byte accepted = in.readByte();
+                bid.setAccepted(accepted < 0 ? null : accepted == 1);
+                bid.setArchivedAt(auction.getArchivedAt());
+                bids.add(bid);
+            } else if (tag == EVENT) {
+                events.add(new ArchivedEventRecord(in.readLong(), in.readShort(), readInstant(in),
+                        readString(in), readString(in)));
+            } else {
+                throw new IOException("Unknown record " + tag + " in archived auction " + auction.getId());
+            }
+        }
+        return new ArchivedAuctionBlock(auction, bids, events);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+    }
+
+    private static UUID parse(String auctionId) {
+        try {
+            return UUID.fromString(auctionId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Segment {
+        final int number;
+        final Path dataPath;
+        final Path indexPath;
+        FileChannel reader;
+        // Bytes of the index read or written so far, and the end of the last block they cover; guarded by the store
+        long indexedBytes;
+        long indexedEnd;
+        volatile SortedIndex sealed;
+        // Entries synced since the segment was opened for writing; null once sealed
+        volatile Map<UUID, Location> recent;
+
+        Segment(int number, Path directory) {
+            this.number = number;
+            this.dataPath = directory.resolve(String.format("segment-%08d.dat", number));
+            this.indexPath = directory.resolve(String.format("segment-%08d.idx", number));
+        }
+    }
+
+    /**
+     * Index entries sorted by auction id, searched by bisection.
+     */
+    private static final class SortedIndex {
+        private final long[] high;
+        private final long[] low;
+        private final long[] offsets;
+        private final int[] lengths;
+
+        private SortedIndex(int size) {
+            high = new long[size];
+            low = new long[size];
+            offsets = new long[size];
+            lengths = new int[size];
+        }
+
+        static SortedIndex of(List<PendingEntry> entries) {
+            PendingEntry[] sorted = entries.toArray(new PendingEntry[0]);
+            Arrays.sort(sorted, Comparator.comparing(PendingEntry::auctionId));
+            SortedIndex index = new SortedIndex(sorted.length);
+            for (int i = 0; i < sorted.length; i++) {
+                index.high[i] = sorted[i].auctionId.getMostSignificantBits();
+                index.low[i] = sorted[i].auctionId.getLeastSignificantBits();
+                index.offsets[i] = sorted[i].offset;
+                index.lengths[i] = sorted[i].length;
+            }
+            return index;
+        }
+
+        int size() {
+            return high.length;
+        }
+
+        Location find(UUID id) {
+            long idHigh = id.getMostSignificantBits();
+            long idLow = id.getLeastSignificantBits();
+            int from = 0;
+            int to = high.length - 1;
+            while (from <= to) {
+                int mid = (from + to) >>> 1;
+                // Same order as UUID.compareTo, which the entries were sorted by
+                int compare = high[mid] != idHigh ? Long.compare(high[mid], idHigh) : Long.compare(low[mid], idLow);
+                if (compare < 0) {
+                    from = mid + 1;
+                } else if (compare > 0) {
+                    to = mid - 1;
+                } else {
+                    return new Location(offsets[mid], lengths[mid]);
+                }
+            }
+            return null;
+        }
+
+        void forEach(Consumer<PendingEntry> action) {
+            for (int i = 0; i < high.length; i++) {
+                action.accept(new PendingEntry(new UUID(high[i], low[i]), offsets[i], lengths[i]));
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out, long count) {
+            super(out);
+            this.count = count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+
+        void reset(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -2,28 +2,34 @@ package com.auctionflow.api.services;
 
 import com.auctionflow.api.entities.Auction;
 import com.auctionflow.api.entities.AuctionTemplate;
-import com.auctionflow.api.entities.Item;
 import com.auctionflow.api.repositories.AuctionTemplateRepository;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import com.auctionflow.events.command.BulkAuctionCreator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class AuctionTemplateService {
 
-    @Autowired
-    private AuctionTemplateRepository templateRepository;
-
-    @Autowired
-    private ObjectMapper objectMapper;
+    private final AuctionTemplateRepository templateRepository;
+    private final ObjectMapper objectMapper;
+    private final ItemValidationService itemValidationService;
+    private final BulkAuctionCreator bulkAuctionCreator;
 
     // Assuming we have AuctionRepository, but since it's not shown, I'll use a placeholder
     // @Autowired
@@ -32,6 +38,14 @@ public class AuctionTemplateService {
     // @Autowired
     // private ItemRepository itemRepository;
 
+    public AuctionTemplateService(AuctionTemplateRepository templateRepository, ObjectMapper objectMapper,
+                                  ItemValidationService itemValidationService, BulkAuctionCreator bulkAuctionCreator) {
+        this.templateRepository = templateRepository;
+        this.objectMapper = objectMapper;
+        this.itemValidationService = itemValidationService;
+        this.bulkAuctionCreator = bulkAuctionCreator;
+    }
+
     public List<AuctionTemplate> getAllTemplates() {
         return templateRepository.findAll();
     }
@@ -75,60 +89,91 @@ public class AuctionTemplateService {
     }
 
     // Method to create auction from template
-    // This is a placeholder - need to integrate with actual auction creation logic
-    @Transactional
     public Auction createAuctionFromTemplate(String templateId, String sellerId) {
+        BulkCreationResult result = bulkCreateAuctions(templateId, sellerId, 1);
+        if (!result.getFailures().isEmpty()) {
+            throw new IllegalStateException(result.getFailures().get(0).reason());
+        }
+        return result.getAuctions().get(0);
+    }
+
+    // Bulk create auctions from template. The template is checked once for the whole batch; auctions that
+    // cannot be created are reported in the result without failing the others. Not transactional: the creator
+    // stores each chunk in a transaction of its own, so one chunk that fails cannot abort the rest.
+    public BulkCreationResult bulkCreateAuctions(String templateId, String sellerId, int count) {
         AuctionTemplate template = templateRepository.findById(templateId)
                 .orElseThrow(() -> new RuntimeException("Template not found"));
 
+        JsonNode templateJson;
         try {
-            JsonNode templateJson = objectMapper.readTree(template.getTemplateData());
-
-            // Extract data from template JSON
-            String itemTitle = templateJson.get("itemTitle").asText();
-            String itemDescription = templateJson.get("itemDescription").asText();
-            String categoryId = templateJson.get("categoryId").asText();
-            BigDecimal reservePrice = new BigDecimal(templateJson.get("reservePrice").asText());
-            BigDecimal buyNowPrice = templateJson.has("buyNowPrice") ? new BigDecimal(templateJson.get("buyNowPrice").asText()) : null;
-            Instant startTs = Instant.now();
-            Instant endTs = startTs.plusSeconds(templateJson.get("durationSeconds").asLong());
-
-            // Create item
-            Item item = new Item();
-            item.setId(UUID.randomUUID().toString());
-            item.setSellerId(Long.parseLong(sellerId));
-            item.setTitle(itemTitle);
-            item.setDescription(itemDescription);
-            item.setCategoryId(categoryId);
-            // itemRepository.save(item); // placeholder
-
-            // Create auction
+            templateJson = objectMapper.readTree(template.getTemplateData());
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid template data", e);
+        }
+
+        // Every auction from the template lists the same item, so it is validated once for the batch
+        ItemValidationService.ValidationResult validation = itemValidationService.validateItem(
+                text(templateJson, "categoryId"), text(templateJson, "itemTitle"),
+                text(templateJson, "itemDescription"), null, null);
+        if (!validation.isValid()) {
+            throw new IllegalArgumentException(validation.getReason());
+        }
+
+        String categoryId;
+        AuctionType auctionType;
+        Money reservePrice;
+        BigDecimal buyNowAmount;
+        Duration duration;
+        boolean hiddenReserve;
+        try {
+            categoryId = templateJson.get("categoryId").asText();
+            auctionType = templateJson.has("auctionType")
+                    ? AuctionType.valueOf(templateJson.get("auctionType").asText()) : AuctionType.ENGLISH_OPEN;
+            reservePrice = Money.usd(new BigDecimal(templateJson.get("reservePrice").asText()));
+            buyNowAmount = templateJson.has("buyNowPrice") ? new BigDecimal(templateJson.get("buyNowPrice").asText()) : null;
+            duration = Duration.ofSeconds(templateJson.get("durationSeconds").asLong());
+            hiddenReserve = templateJson.get("hiddenReserve").asBoolean();
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid template data", e);
+        }
+
+        Money buyNowPrice = buyNowAmount != null ? Money.usd(buyNowAmount) : Money.ZERO;
+        Instant startTs = Instant.now();
+        Instant endTs = startTs.plus(duration);
+        SellerId seller = new SellerId(sellerId);
+        List<CreateAuctionCommand> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // item creation is a placeholder, as is the read model row below
+            commands.add(new CreateAuctionCommand(AuctionId.generate(), ItemId.generate(), seller, categoryId,
+                    auctionType, reservePrice, buyNowPrice, startTs, endTs, AntiSnipePolicy.none(), hiddenReserve));
+        }
+
+        BulkAuctionCreator.Result result = bulkAuctionCreator.create(commands);
+        List<Auction> auctions = new ArrayList<>(result.created().size());
+        int failure = 0;
+        for (int i = 0; i < commands.size(); i++) {
+            if (failure < result.failures().size() && result.failures().get(failure).index() == i) {
+                failure++;
+                continue;
+            }
+            CreateAuctionCommand command = commands.get(i);
             Auction auction = new Auction();
-            auction.setId(UUID.randomUUID().toString());
-            auction.setItemId(item.getId());
+            auction.setId(command.auctionId().value());
+            auction.setItemId(command.itemId().value());
             auction.setStatus("PENDING");
             auction.setStartTs(startTs);
             auction.setEndTs(endTs);
-            // auction.setEncryptedReservePrice(encryptService.encrypt(reservePrice.toString())); // placeholder
-            auction.setBuyNowPrice(buyNowPrice);
-            auction.setHiddenReserve(templateJson.get("hiddenReserve").asBoolean());
-
+            auction.setBuyNowPrice(buyNowAmount);
+            auction.setHiddenReserve(hiddenReserve);
             // auctionRepository.save(auction); // placeholder
-
-            return auction;
-
-        } catch (Exception e) {
-            throw new RuntimeException("Invalid template data", e);
+            auctions.add(auction);
         }
+        return new BulkCreationResult(auctions, result.failures());
     }
 
-    // Bulk create auctions from template
-    @Transactional
-    public List<Auction> bulkCreateAuctions(String templateId, String sellerId, int count) {
-        // Implementation would create multiple auctions
-        // For now, just create one as example
-        Auction auction = createAuctionFromTemplate(templateId, sellerId);
-        return List.of(auction);
+    private static String text(JsonNode templateJson, String field) {
+        JsonNode value = templateJson.get(field);
+        return value == null ? null : value.asText();
     }
 
     // Save draft auction as template
@@ -139,4 +184,22 @@ public class AuctionTemplateService {
         String templateData = "{\"itemTitle\":\"Draft Item\",\"itemDescription\":\"Draft Description\",\"categoryId\":\"1\",\"reservePrice\":\"100.00\",\"durationSeconds\":3600,\"hiddenReserve\":false}";
         return createTemplate("Draft Auction", "Saved draft", creatorId, templateData, false);
     }
+
+    public static class BulkCreationResult {
+        private final List<Auction> auctions;
+        private final List<BulkAuctionCreator.Failure> failures;
+
+        public BulkCreationResult(List<Auction> auctions, List<BulkAuctionCreator.Failure> failures) {
+            this.auctions = auctions;
+            this.failures = failures;
+        }
+
+        public List<Auction> getAuctions() {
+            return auctions;
+        }
+
+        public List<BulkAuctionCreator.Failure> getFailures() {
+            return failures;
+        }
+    }
 }
\ No newline at end of file
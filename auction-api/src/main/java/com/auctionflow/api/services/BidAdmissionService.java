@@ -0,0 +1,150 @@
+package com.auctionflow.api.services;
+
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.events.command.CommandBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control for bids ahead of the command bus. Each command bus lane has its own
+ * {@link GradientConcurrencyLimit}, fed with the time from admission until the lane has finished with the bid,
+ * retries included, so a lane backed up behind a hot auction sheds load without touching the others. Within a
+ * lane, a single auction may hold at most a share of the lane's permits, which leaves room for the quieter
+ * auctions hashed onto the same lane.
+ *
+ * A bid turned away because its lane is saturated is {@link Decision#OVERLOADED}. A bid turned away because
+ * its auction already holds its share is {@link Decision#AUCTION_TOO_HOT}. Both carry a retry hint.
+ */
+@Service
+public class BidAdmissionService {
+
+    public enum Decision {
+        ADMITTED,
+        AUCTION_TOO_HOT,
+        OVERLOADED
+    }
+
+    private final CommandBus commandBus;
+    private final GradientConcurrencyLimit[] laneLimits;
+    private final double hotAuctionShare;
+    private final int minPerAuction;
+    private final Map<AuctionId, Integer> inFlightByAuction = new ConcurrentHashMap<>();
+
+    public BidAdmissionService(CommandBus commandBus,
+                               @Value("${auction.bid-admission.initial-limit:64}") int initialLimit,
+                               @Value("${auction.bid-admission.min-limit:8}") int minLimit,
+                               @Value("${auction.bid-admission.max-limit:2048}") int maxLimit,
+                               @Value("${auction.bid-admission.latency-tolerance:2.0}") double tolerance,
+                               @Value("${auction.bid-admission.window:PT0.1S}") Duration window,
+                               @Value("${auction.bid-admission.baseline-period:PT30S}") Duration baselinePeriod,
+                               @Value("${auction.bid-admission.hot-auction-share:0.5}") double hotAuctionShare,
+                               @Value("${auction.bid-admission.min-per-auction:2}") int minPerAuction) {
+        this.commandBus = commandBus;
+        this.laneLimits = new GradientConcurrencyLimit[commandBus.laneCount()];
+        for (int i = 0; i < laneLimits.length; i++) {
+            laneLimits[i] = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, window, baselinePeriod);
+        }
+        this.hotAuctionShare = hotAuctionShare;
+        this.minPerAuction = minPerAuction;
+    }
+
+    /**
+     * Decides whether a bid on the auction may be sent to the command bus now. An admitted ticket must be
+     * completed once the bid has been handled, or abandoned if it was never sent.
+     */
+    public Ticket tryAdmit(AuctionId auctionId) {
+        GradientConcurrencyLimit lane = laneLimits[commandBus.laneFor(auctionId)];
+        int auctionLimit = Math.max(minPerAuction, (int) (lane.getLimit() * hotAuctionShare));
+        if (!tryAcquireForAuction(auctionId, auctionLimit)) {
+            return new Ticket(Decision.AUCTION_TOO_HOT, auctionId, lane, lane.retryAfter());
+        }
+        if (!lane.tryAcquire()) {
+            releaseForAuction(auctionId);
+            return new Ticket(Decision.OVERLOADED, auctionId, lane, lane.retryAfter());
+        }
+        return new Ticket(Decision.ADMITTED, auctionId, lane, Duration.ZERO);
+    }
+
+    /**
+     * Current limit of the lane the auction's bids are dispatched on.
+     */
+    public int currentLimit(AuctionId auctionId) {
+        return laneLimits[commandBus.laneFor(auctionId)].getLimit();
+    }
+
+    private boolean tryAcquireForAuction(AuctionId auctionId, int auctionLimit) {
+        boolean[] acquired = new boolean[1];
+        inFlightByAuction.compute(auctionId, (id, held) -> {
+            int current = held == null ? 0 : held;
+            if (current >= auctionLimit) {
+                return held;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void releaseForAuction(AuctionId auctionId) {
+        // Drop the entry at zero so the map only holds auctions with bids in flight
+        inFlightByAuction.computeIfPresent(auctionId, (id, held) -> held > 1 ? held - 1 : null);
+    }
+
+    /**
+     * Outcome of an admission check. Admitted tickets hold a permit on the lane and on the auction.
+     */
+    public final class Ticket {
+        private final Decision decision;
+        private final AuctionId auctionId;
+        private final GradientConcurrencyLimit lane;
+        private final Duration retryAfter;
+        private final long admittedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Ticket(Decision decision, AuctionId auctionId, GradientConcurrencyLimit lane, Duration retryAfter) {
+            this.decision = decision;
+            this.auctionId = auctionId;
+            this.lane = lane;
+            this.retryAfter = retryAfter;
+            this.admittedAt = System.nanoTime();
+        }
+
+        public Decision getDecision() {
+            return decision;
+        }
+
+        public boolean isAdmitted() {
+            return decision == Decision.ADMITTED;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        /**
+         * Returns the permits once the bid has been handled for the last time, retries included, recording
+         * how long it took. Only the first of complete and abandon has any effect.
+         */
+        public void complete() {
+            if (released.compareAndSet(false, true)) {
+                releaseForAuction(auctionId);
+                lane.release(System.nanoTime() - admittedAt);
+            }
+        }
+
+        /**
+         * Returns the permits for a bid that was never sent.
+         */
+        public void abandon() {
+            if (released.compareAndSet(false, true)) {
+                releaseForAuction(auctionId);
+                lane.abandon();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.auctionflow.api.services;
+
+import com.auctionflow.core.domain.events.BidPlacedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.events.publisher.KafkaEventPublisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Watches the stream of placed bids for rapid bidding by one bidder, from one address, or on one auction.
+ *
+ * Each {@link BidPlacedEvent} is counted in sliding windows per bidder, per auction and per the client address
+ * the event carries, in event time, so a consumer catching up on a backlog sees the bids as they were placed.
+ * Nothing is queried per bid. The counts only add up if one consumer sees every bid, so the monitor reads the
+ * bid topic in its own group, where {@link com.auctionflow.api.config.SingleOwnerAssignor} gives one instance
+ * all partitions and leaves the rest on standby.
+ *
+ * A key passing its threshold is flagged through {@link TransactionMonitoringService} once per window: bidders
+ * and addresses as compliance checks against the bidder, whether a numeric user id or a principal UUID, since
+ * {@link SuspiciousActivityService} already raises their alerts on the bid path, and auctions as alerts.
+ */
+@Service
+public class BidVelocityMonitor {
+
+    private static final int BUCKETS = 6;
+
+    private final TransactionMonitoringService transactionMonitoringService;
+    private final SlidingWindowCounter bidderBids;
+    private final SlidingWindowCounter auctionBids;
+    private final SlidingWindowCounter addressBids;
+    private final int bidderThreshold;
+    private final int auctionThreshold;
+    private final int addressThreshold;
+    // Latest event time counted, the clock for evicting idle keys
+    private final LongAccumulator latestEventNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    @Autowired
+    public BidVelocityMonitor(TransactionMonitoringService transactionMonitoringService,
+                              @Value("${auction.bid-velocity.bidder-window:PT1M}") Duration bidderWindow,
+                              @Value("${auction.bid-velocity.bidder-threshold:10}") int bidderThreshold,
+                              @Value("${auction.bid-velocity.auction-window:PT10S}") Duration auctionWindow,
+                              @Value("${auction.bid-velocity.auction-threshold:50}") int auctionThreshold,
+                              @Value("${auction.bid-velocity.address-window:PT1M}") Duration addressWindow,
+                              @Value("${auction.bid-velocity.address-threshold:30}") int addressThreshold,
+                              @Value("${auction.bid-velocity.max-keys:1000000}") int maxKeys) {
+        this.transactionMonitoringService = transactionMonitoringService;
+        this.bidderBids = new SlidingWindowCounter("bidder", bidderWindow, BUCKETS, maxKeys);
+        this.auctionBids = new SlidingWindowCounter("auction", auctionWindow, BUCKETS, maxKeys);
+        this.addressBids = new SlidingWindowCounter("address", addressWindow, BUCKETS, maxKeys);
+        this.bidderThreshold = bidderThreshold;
+        this.auctionThreshold = auctionThreshold;
+        this.addressThreshold = addressThreshold;
+    }
+
+    @KafkaListener(topics = KafkaEventPublisher.BID_EVENTS_TOPIC, groupId = "bid-velocity-monitor",
+            properties = "partition.assignment.strategy=com.auctionflow.api.config.SingleOwnerAssignor")
+    public void consumeBidEvents(@Payload DomainEvent event) {
+        if (event instanceof BidPlacedEvent bidPlaced) {
+            on(bidPlaced);
+        }
+    }
+
+    public void on(BidPlacedEvent event) {
+        onBid(event.getBidderId(), event.getAggregateId().toString(), event.getClientAddress(),
+                epochNanos(event.getTimestamp()));
+    }
+
+    /**
+     * Counts a bid placed at {@code eventNanos}, in nanoseconds since the epoch.
+     */
+    public void onBid(String bidderId, String auctionId, String ipAddress, long eventNanos) {
+        latestEventNanos.accumulate(eventNanos);
+        long bidderCount = bidderBids.increment(bidderId, eventNanos);
+        if (bidderCount > bidderThreshold && bidderBids.claimAlert(bidderId, eventNanos)) {
+            transactionMonitoringService.flagBidVelocity(bidderId, "RAPID_BIDDING", Map.of(
+                    "auctionId", auctionId, "bidCount", Long.toString(bidderCount),
+                    "window", bidderBids.getWindow().toString()));
+        }
+        long auctionCount = auctionBids.increment(auctionId, eventNanos);
+        if (auctionCount > auctionThreshold && auctionBids.claimAlert(auctionId, eventNanos)) {
+            transactionMonitoringService.flagAuctionVelocity(auctionId, "AUCTION_BID_VELOCITY", Map.of(
+                    "bidCount", Long.toString(auctionCount), "window", auctionBids.getWindow().toString()));
+        }
+        if (ipAddress != null) {
+            long addressCount = addressBids.increment(ipAddress, eventNanos);
+            if (addressCount > addressThreshold && addressBids.claimAlert(ipAddress, eventNanos)) {
+                transactionMonitoringService.flagBidVelocity(bidderId, "RAPID_BIDDING_FROM_IP", Map.of(
+                        "auctionId", auctionId, "ipAddress", ipAddress, "bidCount", Long.toString(addressCount),
+                        "window", addressBids.getWindow().toString()));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000) // Drop bidders, auctions and addresses that went quiet
+    public void evictIdle() {
+        long nowNanos = latestEventNanos.get();
+        if (nowNanos != Long.MIN_VALUE) {
+            bidderBids.evictIdle(nowNanos);
+            auctionBids.evictIdle(nowNanos);
+            addressBids.evictIdle(nowNanos);
+        }
+    }
+
+    public int getTrackedKeyCount() {
+        return bidderBids.size() + auctionBids.size() + addressBids.size();
+    }
+
+    private static long epochNanos(Instant timestamp) {
+        return timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano();
+    }
+}
@@ -0,0 +1,95 @@
+package com.auctionflow.api.services;
+
+import com.auctionflow.api.entities.ComplianceCheck;
+import com.auctionflow.api.repositories.ComplianceCheckRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Appends compliance checks to the compliance_checks table.
+ *
+ * Checks are queued and inserted together on a short fixed delay, whether they passed or need attention
+ * (failed or requiring review), so a burst of flagged bids costs a few batched inserts rather than one each.
+ * At most {@value #MAX_PENDING} are queued; beyond that the caller inserts its own check, which slows it down
+ * to the rate the database accepts rather than letting the queue grow or dropping the check. A batch that
+ * fails is put back to be retried on the next flush, and whatever is queued at shutdown is written then.
+ */
+@Service
+public class ComplianceCheckWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplianceCheckWriter.class);
+    private static final int MAX_BATCH = 500;
+    static final int MAX_PENDING = 10_000;
+
+    private final ComplianceCheckRepository complianceCheckRepository;
+    private final Deque<ComplianceCheck> pending = new ConcurrentLinkedDeque<>();
+    // Tracked separately because the deque's size() walks every node
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public ComplianceCheckWriter(ComplianceCheckRepository complianceCheckRepository) {
+        this.complianceCheckRepository = complianceCheckRepository;
+    }
+
+    /**
+     * Queues the check for the next flush, or inserts it now if the queue is full. Either way the check is
+     * stamped now rather than when it is written.
+     */
+    public void append(ComplianceCheck check) {
+        if (check.getCreatedAt() == null) {
+            check.setCreatedAt(Instant.now());
+        }
+        if (pendingCount.incrementAndGet() > MAX_PENDING) {
+            pendingCount.decrementAndGet();
+            complianceCheckRepository.save(check);
+            return;
+        }
+        pending.add(check);
+    }
+
+    @Scheduled(fixedDelay = 1000) // Write queued compliance checks
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<ComplianceCheck> batch = new ArrayList<>(MAX_BATCH);
+            ComplianceCheck check;
+            while (batch.size() < MAX_BATCH && (check = pending.poll()) != null) {
+                batch.add(check);
+            }
+            pendingCount.addAndGet(-batch.size());
+            try {
+                complianceCheckRepository.saveAll(batch);
+            } catch (RuntimeException e) {
+                // Back at the head in their original order, ahead of anything queued since. Appends made while
+                // the batch was out may have taken its room, so the bound is overshot by at most one batch.
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    pending.addFirst(batch.get(i));
+                }
+                pendingCount.addAndGet(batch.size());
+                logger.warn("Could not write {} compliance checks, retrying on the next flush", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush compliance checks on shutdown", e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.auctionflow.api.repositories.DisputeRepository;
 import com.auctionflow.api.repositories.DisputeEvidenceRepository;
 import com.auctionflow.core.domain.events.DisputeCreatedEvent;
 import com.auctionflow.core.domain.events.DisputeResolvedEvent;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 import com.auctionflow.events.publisher.KafkaEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
@@ -15,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @Profile("!ui-only")
@@ -43,7 +43,7 @@ public class DisputeService {
         Dispute saved = disputeRepository.save(dispute);
 
         // Publish event
-        DisputeCreatedEvent event = new DisputeCreatedEvent(auctionId, initiatorId, reason, description, UUID.randomUUID(), Instant.now(), 0);
+        DisputeCreatedEvent event = new DisputeCreatedEvent(auctionId, initiatorId, reason, description, TimeOrderedUuid.next(), Instant.now(), 0);
         eventPublisher.publish(event);
 
         // TODO: Call escrow service to put in dispute
@@ -87,7 +87,7 @@ public class DisputeService {
         Dispute saved = disputeRepository.save(dispute);
 
         // Publish event
-        DisputeResolvedEvent event = new DisputeResolvedEvent(disputeId, dispute.getAuctionId(), resolverId, resolutionNotes, captureEscrow, UUID.randomUUID(), Instant.now(), 0);
+        DisputeResolvedEvent event = new DisputeResolvedEvent(disputeId, dispute.getAuctionId(), resolverId, resolutionNotes, captureEscrow, TimeOrderedUuid.next(), Instant.now(), 0);
         eventPublisher.publish(event);
 
         // TODO: Call escrow service to resolve dispute
@@ -0,0 +1,173 @@
+package com.auctionflow.api.services;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency, in the style of TCP Vegas and Netflix's gradient
+ * limiter. Callers take a permit before starting work and return it with the work's latency when done.
+ *
+ * Latency samples are averaged over short windows. Each window compares its average against the no-load
+ * latency, the lowest sample seen over the last two baseline periods. While latency stays within
+ * {@code tolerance} times the baseline, the limit grows by about its square root per window. Beyond
+ * that it shrinks in proportion to how far latency has risen, by at most half per window. Queues
+ * therefore stay short and admitted work completes in roughly tolerance times its no-load latency,
+ * however much load is offered. The limit only grows while callers actually use at least half of it,
+ * so an idle period does not leave it inflated.
+ *
+ * Thread-safe. Acquiring and releasing are lock-free; the per-sample bookkeeping takes a short lock.
+ */
+public final class GradientConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final long baselinePeriodNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private volatile long latencyNanos;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private long windowStart;
+    private long windowSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+    private long baselineStart;
+    private long currentMinRtt = Long.MAX_VALUE;
+    private long previousMinRtt = Long.MAX_VALUE;
+
+    /**
+     * @param initialLimit starting limit
+     * @param minLimit the limit never drops below this
+     * @param maxLimit the limit never rises above this
+     * @param tolerance how many times the no-load latency is acceptable before the limit shrinks
+     * @param window how long latency samples are averaged before each adjustment
+     * @param baselinePeriod how long a no-load latency measurement is kept
+     */
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    Duration window, Duration baselinePeriod) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (tolerance < 1.0) {
+            throw new IllegalArgumentException("Tolerance must be at least 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = 0.2;
+        this.windowNanos = window.toNanos();
+        this.baselinePeriodNanos = baselinePeriod.toNanos();
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Takes a permit if fewer than the current limit are held.
+     * @return true if a permit was taken and must be returned through {@link #release(long)} or {@link #abandon()}
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Returns a permit for work that completed, recording how long it took.
+     * @param latencyNanos time from acquiring the permit until the work completed
+     */
+    public void release(long latencyNanos) {
+        int held = inFlight.getAndDecrement();
+        sample(latencyNanos, held, System.nanoTime());
+    }
+
+    /**
+     * Returns a permit for work that never ran, without recording a latency.
+     */
+    public void abandon() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Average latency over the last completed window, or zero before the first one.
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * How long a rejected caller should wait before retrying: roughly the time for the work already admitted
+     * to drain, at least one window.
+     */
+    public Duration retryAfter() {
+        long drainNanos = latencyNanos * Math.max(1, inFlight.get()) / Math.max(1, limit);
+        return Duration.ofNanos(Math.max(windowNanos, drainNanos));
+    }
+
+    synchronized void sample(long rttNanos, int held, long now) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (windowCount == 0) {
+            windowStart = now;
+        }
+        if (currentMinRtt == Long.MAX_VALUE && previousMinRtt == Long.MAX_VALUE) {
+            baselineStart = now;
+        }
+        windowSum += rttNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, held);
+        currentMinRtt = Math.min(currentMinRtt, rttNanos);
+        if (now - baselineStart >= baselinePeriodNanos) {
+            // Rotate so that a baseline measured under different conditions ages out after two periods
+            previousMinRtt = currentMinRtt;
+            currentMinRtt = Long.MAX_VALUE;
+            baselineStart = now;
+        }
+        if (now - windowStart < windowNanos) {
+            return;
+        }
+        long shortRtt = windowSum / windowCount;
+        long baseline = Math.min(currentMinRtt, previousMinRtt);
+        int maxHeld = windowMaxInFlight;
+        windowSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+        latencyNanos = shortRtt;
+        adjust(shortRtt, baseline, maxHeld);
+    }
+
+    private void adjust(long shortRtt, long baseline, int maxHeld) {
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * baseline / shortRtt));
+        if (gradient == 1.0 && maxHeld < estimatedLimit / 2) {
+            // Latency is fine but demand is well below the limit; growing further would prove nothing
+            return;
+        }
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - smoothing) + target * smoothing));
+        limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public String toString() {
+        return "GradientConcurrencyLimit[limit=" + limit + ", inFlight=" + inFlight.get()
+                + ", latencyMicros=" + TimeUnit.NANOSECONDS.toMicros(latencyNanos) + "]";
+    }
+}
@@ -1,40 +1,75 @@
 package com.auctionflow.api.services;
 
 import com.auctionflow.api.entities.ProhibitedCategory;
+import com.auctionflow.api.entities.ProhibitedTerm;
 import com.auctionflow.api.entities.VerifiedBrand;
 import com.auctionflow.api.repositories.ProhibitedCategoryRepository;
+import com.auctionflow.api.repositories.ProhibitedTermRepository;
 import com.auctionflow.api.repositories.VerifiedBrandRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-
+import java.util.Map;
+
+/**
+ * Validates items before they are listed.
+ *
+ * Prohibited categories and terms are held in memory: the categories as a map, and the terms compiled into a
+ * {@link ProhibitedTermMatcher} that scans an item's text once, however many terms there are. Both are loaded
+ * on start and reloaded every minute, and the matcher is only recompiled when the active terms have changed.
+ * The counterfeit terms below always apply, so they are enforced even before the first load.
+ */
 @Service
 public class ItemValidationService {
 
-    @Autowired
-    private ProhibitedCategoryRepository prohibitedCategoryRepository;
+    private static final Logger logger = LoggerFactory.getLogger(ItemValidationService.class);
+
+    private static final String COUNTERFEIT_REASON = "Item appears to be counterfeit or replica";
+    private static final List<String> COUNTERFEIT_TERMS = List.of("counterfeit", "fake", "replica");
+
+    private final ProhibitedCategoryRepository prohibitedCategoryRepository;
+    private final ProhibitedTermRepository prohibitedTermRepository;
+    private final VerifiedBrandRepository verifiedBrandRepository;
+
+    // Replaced whole on every reload; readers never lock
+    private volatile ProhibitedContent prohibitedContent = ProhibitedContent.of(Map.of(), List.of());
+
+    public ItemValidationService(ProhibitedCategoryRepository prohibitedCategoryRepository,
+                                 ProhibitedTermRepository prohibitedTermRepository,
+                                 VerifiedBrandRepository verifiedBrandRepository) {
+        this.prohibitedCategoryRepository = prohibitedCategoryRepository;
+        this.prohibitedTermRepository = prohibitedTermRepository;
+        this.verifiedBrandRepository = verifiedBrandRepository;
+    }
 
-    @Autowired
-    private VerifiedBrandRepository verifiedBrandRepository;
+    @PostConstruct
+    public void init() {
+        refreshProhibitedContent();
+    }
 
     public ValidationResult validateItem(String categoryId, String title, String description, String brand, String serialNumber) {
         ValidationResult result = new ValidationResult();
+        ProhibitedContent content = prohibitedContent;
 
         // Check prohibited categories
-        Optional<ProhibitedCategory> prohibited = prohibitedCategoryRepository.findByCategoryIdAndActiveTrue(categoryId);
-        if (prohibited.isPresent()) {
+        ProhibitedCategory prohibited = categoryId == null ? null : content.categories().get(categoryId);
+        if (prohibited != null) {
             result.setValid(false);
-            result.setReason("Category '" + categoryId + "' is prohibited: " + prohibited.get().getReason());
+            result.setReason("Category '" + categoryId + "' is prohibited: " + prohibited.getReason());
             return result;
         }
 
-        // Check for counterfeit keywords in title/description
-        String combinedText = (title + " " + description).toLowerCase();
-        if (combinedText.contains("counterfeit") || combinedText.contains("fake") || combinedText.contains("replica")) {
+        // Check for prohibited terms in title/description
+        int term = content.matcher().indexOfFirst(title, description);
+        if (term >= 0) {
             result.setValid(false);
-            result.setReason("Item appears to be counterfeit or replica");
+            result.setReason(content.reasons().get(term));
             return result;
         }
 
@@ -50,6 +85,30 @@ public class ItemValidationService {
         return result;
     }
 
+    /**
+     * Reloads prohibited categories and terms from the database, recompiling the terms if they changed.
+     */
+    public synchronized void reloadProhibitedContent() {
+        Map<String, ProhibitedCategory> categories = new HashMap<>();
+        for (ProhibitedCategory category : prohibitedCategoryRepository.findByActiveTrue()) {
+            categories.put(category.getCategoryId(), category);
+        }
+        List<ProhibitedTerm> terms = prohibitedTermRepository.findByActiveTrueOrderByIdAsc();
+        ProhibitedContent current = prohibitedContent;
+        prohibitedContent = current.hasTerms(terms)
+                ? new ProhibitedContent(Map.copyOf(categories), current.matcher(), current.reasons())
+                : ProhibitedContent.of(categories, terms);
+    }
+
+    @Scheduled(fixedDelay = 60000) // Pick up prohibited categories and terms changed in the database
+    public void refreshProhibitedContent() {
+        try {
+            reloadProhibitedContent();
+        } catch (RuntimeException e) {
+            logger.warn("Could not reload prohibited content, keeping the current rules", e);
+        }
+    }
+
     public boolean isBrandVerified(String brandName) {
         return verifiedBrandRepository.findByBrandNameAndActiveTrue(brandName).isPresent();
     }
@@ -58,6 +117,47 @@ public class ItemValidationService {
         return verifiedBrandRepository.findByActiveTrue();
     }
 
+    /**
+     * Active prohibited categories by id, and the prohibited terms with the reason given for each.
+     */
+    private record ProhibitedContent(Map<String, ProhibitedCategory> categories, ProhibitedTermMatcher matcher,
+                                     List<String> reasons) {
+
+        static ProhibitedContent of(Map<String, ProhibitedCategory> categories,
+                                    List<ProhibitedTerm> prohibitedTerms) {
+            List<String> terms = new ArrayList<>(COUNTERFEIT_TERMS);
+            List<String> reasons = new ArrayList<>();
+            COUNTERFEIT_TERMS.forEach(term -> reasons.add(COUNTERFEIT_REASON));
+            for (ProhibitedTerm term : prohibitedTerms) {
+                terms.add(term.getTerm());
+                reasons.add(reasonFor(term));
+            }
+            ProhibitedTermMatcher matcher = new ProhibitedTermMatcher(terms);
+            logger.info("Compiled {} prohibited terms into {} states", terms.size(), matcher.getStateCount());
+            return new ProhibitedContent(Map.copyOf(categories), matcher, List.copyOf(reasons));
+        }
+
+        boolean hasTerms(List<ProhibitedTerm> prohibitedTerms) {
+            List<String> terms = matcher.getTerms();
+            if (terms.size() != COUNTERFEIT_TERMS.size() + prohibitedTerms.size()) {
+                return false;
+            }
+            for (int i = 0; i < prohibitedTerms.size(); i++) {
+                ProhibitedTerm term = prohibitedTerms.get(i);
+                int index = COUNTERFEIT_TERMS.size() + i;
+                if (!terms.get(index).equals(term.getTerm()) || !reasons.get(index).equals(reasonFor(term))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String reasonFor(ProhibitedTerm term) {
+            return term.getReason() != null ? term.getReason()
+                    : "Item contains prohibited term '" + term.getTerm() + "'";
+        }
+    }
+
     public static class ValidationResult {
         private boolean valid;
         private String reason;
@@ -0,0 +1,27 @@
+package com.auctionflow.api.services;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers key changes to subscribers in this JVM only, synchronously on the publishing thread. Used when
+ * Redis is not configured, which means a single instance; other instances would see changes on their next
+ * periodic reload.
+ */
+public class LocalApiKeyChangeChannel implements ApiKeyChangeChannel {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String serviceName) {
+        for (Consumer<String> listener : listeners) {
+            listener.accept(serviceName);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,83 @@
+package com.auctionflow.api.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares a fixed request capacity between priority classes so that, as the service saturates, the least
+ * important traffic is turned away first. Every class counts against the same in-flight total, but each may
+ * only start while that total is below its own ceiling: sheddable requests below a small share of capacity,
+ * normal ones below a larger share, critical ones up to the full capacity. The gap between the ceilings is
+ * headroom that lower classes can never take from higher ones.
+ *
+ * Capacity should be sized from what the backing resources sustain (database connections, command bus
+ * lanes), not from the number of server threads; the point is that requests beyond it wait in no queue.
+ */
+public class PriorityLoadShedder {
+
+    public enum Priority {
+        CRITICAL,
+        NORMAL,
+        SHEDDABLE
+    }
+
+    private final int[] ceilings = new int[Priority.values().length];
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder[] shed = new LongAdder[Priority.values().length];
+
+    /**
+     * @param capacity requests allowed in flight in total, reachable only by critical requests
+     * @param normalShare share of capacity that normal requests may fill
+     * @param sheddableShare share of capacity that sheddable requests may fill
+     */
+    public PriorityLoadShedder(int capacity, double normalShare, double sheddableShare) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (sheddableShare <= 0 || sheddableShare > normalShare || normalShare > 1.0) {
+            throw new IllegalArgumentException("Shares must satisfy 0 < sheddable <= normal <= 1");
+        }
+        ceilings[Priority.CRITICAL.ordinal()] = capacity;
+        ceilings[Priority.NORMAL.ordinal()] = Math.max(1, (int) (capacity * normalShare));
+        ceilings[Priority.SHEDDABLE.ordinal()] = Math.max(1, (int) (capacity * sheddableShare));
+        for (int i = 0; i < shed.length; i++) {
+            shed[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Starts a request of the given priority if the in-flight total is below its ceiling.
+     * @return true if started, in which case {@link #exit()} must follow
+     */
+    public boolean tryEnter(Priority priority) {
+        int ceiling = ceilings[priority.ordinal()];
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= ceiling) {
+                shed[priority.ordinal()].increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getCeiling(Priority priority) {
+        return ceilings[priority.ordinal()];
+    }
+
+    /**
+     * Requests of this priority turned away since startup.
+     */
+    public long getShedCount(Priority priority) {
+        return shed[priority.ordinal()].sum();
+    }
+}
@@ -0,0 +1,202 @@
+package com.auctionflow.api.services;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds prohibited terms in item text in one pass, whatever the number of terms.
+ *
+ * The terms are compiled into an Aho-Corasick automaton, with every transition precomputed, so scanning costs
+ * one table lookup per character of text. Terms and text are normalized alike as they are read: letters are
+ * folded to lower case without accents, Cyrillic and Greek look-alikes and common digit and symbol
+ * substitutions are read as the letters they imitate, punctuation within words is dropped, and runs of
+ * whitespace and other characters count as a single space. So "C0UNTERF3IT", "re-plica" and "fake" spelt
+ * with a Cyrillic "a" all match. Terms match anywhere in the text, as substrings. Instances are immutable; a changed
+ * term list is compiled into a new matcher.
+ */
+public final class ProhibitedTermMatcher {
+
+    private static final int ALPHABET = 27;
+    private static final int SPACE = 26;
+    // Symbol to ignore, or to read as a separator
+    private static final byte SKIP = -1;
+    private static final byte SEPARATOR = SPACE;
+
+    // Symbols of the Latin, Greek and Cyrillic blocks; everything beyond is a separator
+    private static final byte[] SYMBOLS = new byte[0x530];
+    // Letters the digits 0 to 9 stand in for
+    private static final String DIGITS = "oizeasgtbg";
+    // Cyrillic and Greek letters, each followed by the Latin letter it passes for
+    private static final String LOOK_ALIKES = "\u0430a\u0432b\u0435e\u0451e\u0437z\u0456i\u0457i\u0458j\u043ak"
+            + "\u043cm\u043dh\u043eo\u0440p\u0441c\u0442t\u0443y\u0445x\u0455s\u0501d\u051bq\u051dw"
+            + "\u03b1a\u03b2b\u03b5e\u03b9i\u03bak\u03bdv\u03bfo\u03c1p\u03c4t\u03c5u\u03c7x";
+
+    static {
+        Arrays.fill(SYMBOLS, SEPARATOR);
+        for (char c = 'a'; c <= 'z'; c++) {
+            SYMBOLS[c] = (byte) (c - 'a');
+            SYMBOLS[Character.toUpperCase(c)] = (byte) (c - 'a');
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            SYMBOLS[c] = (byte) (DIGITS.charAt(c - '0') - 'a');
+        }
+        SYMBOLS['@'] = 'a' - 'a';
+        SYMBOLS['$'] = 's' - 'a';
+        SYMBOLS['!'] = 'i' - 'a';
+        SYMBOLS['|'] = 'l' - 'a';
+        SYMBOLS['+'] = 't' - 'a';
+        for (char c : ".,-_*'`\"~^#%&/\\:;=".toCharArray()) {
+            SYMBOLS[c] = SKIP;
+        }
+        for (char c = 0xC0; c < 0x250; c++) {
+            String base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            char first = Character.toLowerCase(base.charAt(0));
+            if (first >= 'a' && first <= 'z') {
+                SYMBOLS[c] = (byte) (first - 'a');
+            }
+        }
+        for (char c = 0x370; c < SYMBOLS.length; c++) {
+            int alike = LOOK_ALIKES.indexOf(Character.toLowerCase(c));
+            if (alike >= 0 && alike % 2 == 0) {
+                SYMBOLS[c] = (byte) (LOOK_ALIKES.charAt(alike + 1) - 'a');
+            }
+        }
+    }
+
+    private final List<String> terms;
+    // Transition table, ALPHABET entries per state; state 0 is the root
+    private final int[] transitions;
+    // For each state, one more than the index of a term ending there or at a suffix of it; 0 for none
+    private final int[] matches;
+
+    /**
+     * @param terms prohibited terms; those empty once normalized are ignored, and duplicates report the first
+     */
+    public ProhibitedTermMatcher(List<String> terms) {
+        this.terms = List.copyOf(terms);
+        int capacity = 1;
+        for (String term : this.terms) {
+            capacity += term.length();
+        }
+        int[] next = new int[capacity * ALPHABET];
+        int[] found = new int[capacity];
+        int states = 1;
+        for (int t = 0; t < this.terms.size(); t++) {
+            byte[] symbols = normalize(this.terms.get(t));
+            if (symbols.length == 0) {
+                continue;
+            }
+            int state = 0;
+            for (byte symbol : symbols) {
+                int edge = state * ALPHABET + symbol;
+                if (next[edge] == 0) {
+                    next[edge] = states++;
+                }
+                state = next[edge];
+            }
+            if (found[state] == 0) {
+                found[state] = t + 1;
+            }
+        }
+
+        // Breadth first, so each state's failure state is complete before its children need it
+        int[] failure = new int[states];
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            if (next[symbol] != 0) {
+                queue[tail++] = next[symbol];
+            }
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            int fallback = failure[state];
+            if (found[state] == 0) {
+                found[state] = found[fallback];
+            }
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int edge = state * ALPHABET + symbol;
+                int target = next[fallback * ALPHABET + symbol];
+                if (next[edge] == 0) {
+                    next[edge] = target;
+                } else {
+                    failure[next[edge]] = target;
+                    queue[tail++] = next[edge];
+                }
+            }
+        }
+        this.transitions = Arrays.copyOf(next, states * ALPHABET);
+        this.matches = Arrays.copyOf(found, states);
+    }
+
+    /**
+     * The first prohibited term found, reading the texts in order as if separated by spaces; null if none.
+     * Null texts are skipped.
+     */
+    public String findFirst(String... texts) {
+        int index = indexOfFirst(texts);
+        return index < 0 ? null : terms.get(index);
+    }
+
+    /**
+     * Index in the term list of the first prohibited term found, as for {@link #findFirst}; -1 if none.
+     */
+    public int indexOfFirst(String... texts) {
+        int state = 0;
+        boolean spaced = true;
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            if (!spaced) {
+                state = transitions[state * ALPHABET + SPACE];
+                spaced = true;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                int symbol = symbol(text.charAt(i));
+                if (symbol == SKIP || (symbol == SPACE && spaced)) {
+                    continue;
+                }
+                spaced = symbol == SPACE;
+                state = transitions[state * ALPHABET + symbol];
+                if (matches[state] != 0) {
+                    return matches[state] - 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    public int getStateCount() {
+        return matches.length;
+    }
+
+    /**
+     * The term's symbols: as text would be read, without leading or trailing spaces.
+     */
+    private static byte[] normalize(String term) {
+        byte[] symbols = new byte[term.length()];
+        int length = 0;
+        for (int i = 0; i < term.length(); i++) {
+            int symbol = symbol(term.charAt(i));
+            if (symbol == SKIP || (symbol == SPACE && (length == 0 || symbols[length - 1] == SPACE))) {
+                continue;
+            }
+            symbols[length++] = (byte) symbol;
+        }
+        if (length > 0 && symbols[length - 1] == SPACE) {
+            length--;
+        }
+        return Arrays.copyOf(symbols, length);
+    }
+
+    private static int symbol(char c) {
+        return c < SYMBOLS.length ? SYMBOLS[c] : SEPARATOR;
+    }
+}
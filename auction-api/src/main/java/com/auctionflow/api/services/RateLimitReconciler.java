@@ -0,0 +1,112 @@
+package com.auctionflow.api.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconciles cluster-tracked {@link TokenBucketRateLimiter}s through Redis in the background. Each interval,
+ * the permits a node granted per key are added to a shared counter in one pipelined round trip, and what the
+ * other nodes granted is debited from the local buckets. Requests never wait on Redis; without it, limits
+ * are simply enforced per node.
+ */
+@Component
+public class RateLimitReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitReconciler.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration interval;
+    private final Duration counterExpiry;
+    private final List<TokenBucketRateLimiter> limiters = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RateLimitReconciler(@Autowired(required = false) RedisTemplate<String, String> redisTemplate,
+                               @Value("${auction.rate-limit.reconcile-interval:PT1S}") Duration interval,
+                               @Value("${auction.rate-limit.counter-expiry:PT10M}") Duration counterExpiry) {
+        this.redisTemplate = redisTemplate;
+        this.interval = interval;
+        this.counterExpiry = counterExpiry;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (redisTemplate == null) {
+            logger.info("Redis not available, rate limits are enforced per node");
+            return;
+        }
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::reconcile, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public void register(TokenBucketRateLimiter limiter) {
+        if (!limiter.isClusterTracked()) {
+            throw new IllegalArgumentException("Rate limiter " + limiter.getName() + " is not cluster-tracked");
+        }
+        limiters.add(limiter);
+    }
+
+    void reconcile() {
+        for (TokenBucketRateLimiter limiter : limiters) {
+            try {
+                reconcile(limiter);
+            } catch (RuntimeException e) {
+                // The drained usage is lost, so the cluster briefly under-counts this interval
+                logger.warn("Rate limit reconciliation failed for {}", limiter.getName(), e);
+            }
+        }
+    }
+
+    private void reconcile(TokenBucketRateLimiter limiter) {
+        List<TokenBucketRateLimiter.Usage> usage = limiter.drainUsage();
+        if (usage.isEmpty()) {
+            return;
+        }
+        String prefix = "rate_limit:" + limiter.getName() + ":";
+        long expirySeconds = Math.max(1, counterExpiry.getSeconds());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (TokenBucketRateLimiter.Usage keyUsage : usage) {
+                byte[] key = (prefix + Long.toHexString(keyUsage.fingerprint())).getBytes(StandardCharsets.UTF_8);
+                incrementWithExpiry(connection, key, keyUsage.granted(), expirySeconds);
+            }
+            return null;
+        });
+        // Each key contributed an INCRBY result followed by an EXPIRE result
+        for (int i = 0; i < usage.size(); i++) {
+            Object count = results.get(2 * i);
+            if (count instanceof Long clusterCount) {
+                TokenBucketRateLimiter.Usage keyUsage = usage.get(i);
+                limiter.applyClusterCount(keyUsage.fingerprint(), keyUsage.granted(), clusterCount);
+            }
+        }
+    }
+
+    private static void incrementWithExpiry(RedisConnection connection, byte[] key, int granted, long expirySeconds) {
+        connection.stringCommands().incrBy(key, granted);
+        connection.keyCommands().expire(key, expirySeconds);
+    }
+}
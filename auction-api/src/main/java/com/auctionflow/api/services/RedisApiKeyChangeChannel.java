@@ -0,0 +1,35 @@
+package com.auctionflow.api.services;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts key changes to every API instance over Redis pub/sub.
+ */
+public class RedisApiKeyChangeChannel implements ApiKeyChangeChannel {
+
+    static final ChannelTopic TOPIC = new ChannelTopic("api-key-changes");
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisApiKeyChangeChannel(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(String serviceName) {
+        redisTemplate.convertAndSend(TOPIC.getTopic(), serviceName);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)), TOPIC);
+    }
+}
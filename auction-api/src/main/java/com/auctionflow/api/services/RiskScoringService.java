@@ -3,159 +3,172 @@ package com.auctionflow.api.services;
 import com.auctionflow.api.entities.ComplianceCheck;
 import com.auctionflow.api.entities.User;
 import com.auctionflow.api.repositories.ComplianceCheckRepository;
+import com.auctionflow.api.repositories.DisputeRepository;
+import com.auctionflow.api.repositories.UserRepository;
+import com.auctionflow.core.domain.events.DisputeCreatedEvent;
+import com.auctionflow.core.domain.events.EventHandler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
 
+/**
+ * Scores users from 0 (low risk) to 100 (high risk).
+ *
+ * Each user's score is kept as a small risk state: fixed KYC and account-age factors, plus counts of compliance
+ * checks, flagged transactions and disputes. The state is loaded from the database once, kept up to date as
+ * checks are appended through {@link #appendComplianceCheck} and disputes are raised, and expires after a TTL
+ * so that changes made elsewhere are picked up. Scoring is integer arithmetic on the state, in hundredths of a
+ * point. A risk assessment is recorded only when a user's risk level changes.
+ */
 @Service
 public class RiskScoringService {
 
     private static final Logger logger = LoggerFactory.getLogger(RiskScoringService.class);
 
-    @Autowired
-    private ComplianceCheckRepository complianceCheckRepository;
-
-    private UserService userService;
+    private static final int NEUTRAL_SCORE = 50_00;
+    private static final int MAX_SCORE = 100_00;
+    private static final int REVIEW_THRESHOLD = 75_00;
+
+    private final ComplianceCheckRepository complianceCheckRepository;
+    private final ComplianceCheckWriter complianceCheckWriter;
+    private final UserRepository userRepository;
+    private final DisputeRepository disputeRepository;
+    private final Cache<Long, RiskState> riskStates;
+
+    public RiskScoringService(ComplianceCheckRepository complianceCheckRepository,
+                              ComplianceCheckWriter complianceCheckWriter,
+                              UserRepository userRepository,
+                              DisputeRepository disputeRepository,
+                              @Value("${auction.risk.state-ttl:PT10M}") Duration stateTtl,
+                              @Value("${auction.risk.max-users:100000}") long maxUsers) {
+        this.complianceCheckRepository = complianceCheckRepository;
+        this.complianceCheckWriter = complianceCheckWriter;
+        this.userRepository = userRepository;
+        this.disputeRepository = disputeRepository;
+        this.riskStates = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(stateTtl)
+                .build();
+    }
 
     /**
      * Calculate comprehensive risk score for a user
      * Score ranges from 0 (low risk) to 100 (high risk)
      */
     public BigDecimal calculateRiskScore(Long userId) {
-        logger.info("Calculating risk score for user {}", userId);
-
-        BigDecimal baseScore = BigDecimal.valueOf(50.0); // Neutral starting point
-
-        // Factor 1: KYC/Identity verification status
-        baseScore = baseScore.add(calculateKycRiskFactor(userId));
-
-        // Factor 2: Account age and activity patterns
-        baseScore = baseScore.add(calculateAccountRiskFactor(userId));
-
-        // Factor 3: Transaction patterns (placeholder - would need transaction data)
-        baseScore = baseScore.add(calculateTransactionRiskFactor(userId));
-
-        // Factor 4: Compliance history
-        baseScore = baseScore.add(calculateComplianceHistoryRiskFactor(userId));
-
-        // Ensure score is between 0 and 100
-        BigDecimal finalScore = baseScore.max(BigDecimal.ZERO).min(BigDecimal.valueOf(100.0));
-
-        logger.info("Risk score for user {}: {}", userId, finalScore);
-
-        // Store the risk assessment
-        storeRiskAssessment(userId, finalScore);
-
-        return finalScore;
-    }
-
-    private BigDecimal calculateKycRiskFactor(Long userId) {
-        if (userService == null) {
-            return BigDecimal.valueOf(0.0); // Neutral if no user service
-        }
-        try {
-            User user = userService.getUserById(userId); // Assuming this method exists
-            if (user == null) return BigDecimal.valueOf(50.0); // High risk if user not found
-
-            switch (user.getKycStatus()) {
-                case VERIFIED:
-                    return BigDecimal.valueOf(-30.0); // Significant risk reduction
-                case PENDING:
-                    return BigDecimal.valueOf(10.0); // Moderate risk increase
-                case REJECTED:
-                    return BigDecimal.valueOf(40.0); // High risk increase
-                default:
-                    return BigDecimal.valueOf(20.0);
-            }
-        } catch (Exception e) {
-            logger.warn("Error calculating KYC risk factor for user {}: {}", userId, e.getMessage());
-            return BigDecimal.valueOf(25.0); // Moderate risk increase on error
+        RiskState state = riskStates.get(userId, this::loadState);
+        int score = state.score();
+        String level = getRiskLevel(BigDecimal.valueOf(score, 2));
+        if (state.levelChanged(level)) {
+            logger.info("Risk level for user {} is now {} at {}", userId, level, BigDecimal.valueOf(score, 2));
+            storeRiskAssessment(userId, BigDecimal.valueOf(score, 2));
         }
+        return BigDecimal.valueOf(score, 2);
     }
 
-    private BigDecimal calculateAccountRiskFactor(Long userId) {
-        if (userService == null) {
-            return BigDecimal.valueOf(0.0); // Neutral if no user service
-        }
-        try {
-            User user = userService.getUserById(userId);
-            if (user == null) return BigDecimal.valueOf(50.0);
-
-            long accountAgeDays = ChronoUnit.DAYS.between(user.getCreatedAt(), Instant.now());
-
-            if (accountAgeDays < 1) {
-                return BigDecimal.valueOf(30.0); // Very new account - high risk
-            } else if (accountAgeDays < 7) {
-                return BigDecimal.valueOf(20.0); // New account
-            } else if (accountAgeDays < 30) {
-                return BigDecimal.valueOf(10.0); // Relatively new
-            } else if (accountAgeDays < 90) {
-                return BigDecimal.valueOf(0.0); // Established
-            } else {
-                return BigDecimal.valueOf(-10.0); // Well-established - lower risk
-            }
-        } catch (Exception e) {
-            logger.warn("Error calculating account risk factor for user {}: {}", userId, e.getMessage());
-            return BigDecimal.valueOf(15.0);
+    /**
+     * Hands the check to the writer and counts it towards the user's risk state, if it is against a user.
+     */
+    public void appendComplianceCheck(ComplianceCheck check) {
+        complianceCheckWriter.append(check);
+        RiskState state = check.getUserId() == null ? null : riskStates.getIfPresent(check.getUserId());
+        if (state != null) {
+            state.recordCheck(check.getCheckType(), check.getStatus());
         }
     }
 
-    private BigDecimal calculateTransactionRiskFactor(Long userId) {
-        // Placeholder - in a real implementation, this would analyze:
-        // - Number of transactions
-        // - Transaction amounts and patterns
-        // - Failed payment attempts
-        // - Geographic patterns
-        // - Time patterns (e.g., unusual hours)
-
-        // For now, return a neutral score
-        return BigDecimal.valueOf(0.0);
+    /**
+     * Drops the user's risk state, for changes made outside this service such as a new KYC status.
+     */
+    public void invalidate(Long userId) {
+        riskStates.invalidate(userId);
     }
 
-    private BigDecimal calculateComplianceHistoryRiskFactor(Long userId) {
-        try {
-            List<ComplianceCheck> checks = complianceCheckRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    @EventHandler
+    public void on(DisputeCreatedEvent event) {
+        Long userId = parseUserId(event.getInitiatorId());
+        RiskState state = userId == null ? null : riskStates.getIfPresent(userId);
+        if (state != null) {
+            state.recordDispute();
+        }
+    }
 
-            if (checks.isEmpty()) {
-                return BigDecimal.valueOf(15.0); // No compliance history - moderate risk
-            }
+    private RiskState loadState(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        RiskState state = new RiskState(kycRiskFactor(user), accountRiskFactor(user));
+        // Transaction monitoring only writes flagged checks, so it is left out of the failure rate and
+        // scored through flaggedTransactions instead
+        state.totalChecks = complianceCheckRepository.countByUserIdAndCheckTypeNot(userId,
+                ComplianceCheck.CheckType.TRANSACTION_MONITORING);
+        state.failedChecks = complianceCheckRepository.countByUserIdAndStatusAndCheckTypeNot(userId,
+                ComplianceCheck.CheckStatus.FAILED, ComplianceCheck.CheckType.TRANSACTION_MONITORING);
+        state.flaggedTransactions = complianceCheckRepository.countByUserIdAndCheckTypeAndStatus(userId,
+                ComplianceCheck.CheckType.TRANSACTION_MONITORING, ComplianceCheck.CheckStatus.REQUIRES_REVIEW);
+        state.disputes = disputeRepository.countByInitiatorId(userId.toString());
+        complianceCheckRepository.findFirstByUserIdAndCheckTypeOrderByCreatedAtDesc(userId,
+                        ComplianceCheck.CheckType.RISK_ASSESSMENT)
+                .filter(assessment -> assessment.getRiskScore() != null)
+                .ifPresent(assessment -> state.level = getRiskLevel(assessment.getRiskScore()));
+        return state;
+    }
 
-            long failedChecks = checks.stream()
-                .filter(check -> check.getStatus() == ComplianceCheck.CheckStatus.FAILED)
-                .count();
+    private int kycRiskFactor(User user) {
+        if (user == null) return 50_00; // High risk if user not found
+
+        switch (user.getKycStatus()) {
+            case VERIFIED:
+                return -30_00; // Significant risk reduction
+            case PENDING:
+                return 10_00; // Moderate risk increase
+            case REJECTED:
+                return 40_00; // High risk increase
+            default:
+                return 20_00;
+        }
+    }
 
-            long totalChecks = checks.size();
-            BigDecimal failureRate = BigDecimal.valueOf(failedChecks).divide(BigDecimal.valueOf(totalChecks), 2, RoundingMode.HALF_UP);
+    private int accountRiskFactor(User user) {
+        if (user == null) return 50_00;
+        if (user.getCreatedAt() == null) return 15_00;
 
-            // Increase risk based on failure rate
-            return failureRate.multiply(BigDecimal.valueOf(25.0));
+        long accountAgeDays = ChronoUnit.DAYS.between(user.getCreatedAt(), Instant.now());
 
-        } catch (Exception e) {
-            logger.warn("Error calculating compliance history risk factor for user {}: {}", userId, e.getMessage());
-            return BigDecimal.valueOf(10.0);
+        if (accountAgeDays < 1) {
+            return 30_00; // Very new account - high risk
+        } else if (accountAgeDays < 7) {
+            return 20_00; // New account
+        } else if (accountAgeDays < 30) {
+            return 10_00; // Relatively new
+        } else if (accountAgeDays < 90) {
+            return 0; // Established
+        } else {
+            return -10_00; // Well-established - lower risk
         }
     }
 
     private void storeRiskAssessment(Long userId, BigDecimal riskScore) {
+        ComplianceCheck assessment = new ComplianceCheck();
+        assessment.setUserId(userId);
+        assessment.setCheckType(ComplianceCheck.CheckType.RISK_ASSESSMENT);
+        assessment.setStatus(ComplianceCheck.CheckStatus.PASSED); // Assessment completed
+        assessment.setRiskScore(riskScore);
+        assessment.setDetails("{\"assessmentType\": \"automated\", \"factors\": [\"kyc\", \"account_age\", \"transactions\", \"compliance_history\"]}");
+        appendComplianceCheck(assessment);
+    }
+
+    private static Long parseUserId(String userId) {
         try {
-            ComplianceCheck assessment = new ComplianceCheck();
-            assessment.setUserId(userId);
-            assessment.setCheckType(ComplianceCheck.CheckType.RISK_ASSESSMENT);
-            assessment.setStatus(ComplianceCheck.CheckStatus.PASSED); // Assessment completed
-            assessment.setRiskScore(riskScore);
-            assessment.setDetails("{\"assessmentType\": \"automated\", \"factors\": [\"kyc\", \"account_age\", \"compliance_history\"]}");
-
-            complianceCheckRepository.save(assessment);
-        } catch (Exception e) {
-            logger.error("Failed to store risk assessment for user {}: {}", userId, e.getMessage());
+            return userId == null ? null : Long.valueOf(userId);
+        } catch (NumberFormatException e) {
+            return null; // Not a user of this service
         }
     }
 
@@ -163,8 +176,7 @@ public class RiskScoringService {
      * Check if user exceeds risk threshold and requires manual review
      */
     public boolean requiresManualReview(Long userId) {
-        BigDecimal riskScore = calculateRiskScore(userId);
-        return riskScore.compareTo(BigDecimal.valueOf(75.0)) >= 0;
+        return calculateRiskScore(userId).compareTo(BigDecimal.valueOf(REVIEW_THRESHOLD, 2)) >= 0;
     }
 
     /**
@@ -181,4 +193,70 @@ public class RiskScoringService {
             return "VERY_LOW";
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * One user's risk factors, in hundredths of a point. Updated in place under its own lock.
+     */
+    private static final class RiskState {
+        final int kycFactor;
+        final int accountFactor;
+        long totalChecks;
+        long failedChecks;
+        long flaggedTransactions;
+        long disputes;
+        String level;
+
+        RiskState(int kycFactor, int accountFactor) {
+            this.kycFactor = kycFactor;
+            this.accountFactor = accountFactor;
+        }
+
+        synchronized int score() {
+            long score = NEUTRAL_SCORE + kycFactor + accountFactor + transactionFactor() + complianceHistoryFactor();
+            return (int) Math.max(0, Math.min(MAX_SCORE, score));
+        }
+
+        private long transactionFactor() {
+            // Flagged bids, wins and payments, and disputes raised
+            return Math.min(20_00, flaggedTransactions * 5_00) + Math.min(20_00, disputes * 10_00);
+        }
+
+        private long complianceHistoryFactor() {
+            // Over identity, document and risk assessment checks, which are written whether they pass or not
+            if (totalChecks == 0) {
+                return 15_00; // No compliance history - moderate risk
+            }
+            // Failure rate to two places, rounded half up, times 25
+            long failureRatePercent = (failedChecks * 200 + totalChecks) / (totalChecks * 2);
+            return failureRatePercent * 25;
+        }
+
+        synchronized void recordCheck(ComplianceCheck.CheckType checkType, ComplianceCheck.CheckStatus status) {
+            if (checkType == ComplianceCheck.CheckType.TRANSACTION_MONITORING) {
+                if (status == ComplianceCheck.CheckStatus.REQUIRES_REVIEW) {
+                    flaggedTransactions++;
+                }
+                return;
+            }
+            totalChecks++;
+            if (status == ComplianceCheck.CheckStatus.FAILED) {
+                failedChecks++;
+            }
+        }
+
+        synchronized void recordDispute() {
+            disputes++;
+        }
+
+        /**
+         * Records the level and reports whether it differs from the last one assessed.
+         */
+        synchronized boolean levelChanged(String current) {
+            if (current.equals(level)) {
+                return false;
+            }
+            level = current;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.auctionflow.api.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-key event counts over a sliding window, for spotting bursts of activity by user or IP.
+ *
+ * The window is divided into buckets, each stamped with the bucket period it counts; a count sums the buckets
+ * stamped within the last window. A bucket is a single long packing stamp and count, updated by CAS, so
+ * counting takes no lock. Keys are held in a {@link ConcurrentHashMap}, whose bins spread contention across
+ * keys. Keys idle for a whole window are dropped by {@link #evictIdle}; beyond {@code maxKeys}, new keys are
+ * counted as first occurrences without being held until eviction makes room.
+ *
+ * Times only need to be consistent per counter: {@link System#nanoTime()} for live traffic, or event time for
+ * a stream, where an event older than the window of events already counted for its key is not counted.
+ */
+public final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long STAMP_MASK = -1L >>> COUNT_BITS;
+
+    private final String name;
+    private final long bucketNanos;
+    private final int buckets;
+    private final int maxKeys;
+    private final Map<String, AtomicLongArray> windows = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * @param window span counted
+     * @param buckets resolution; the window slides one bucket at a time
+     * @param maxKeys keys held at most
+     */
+    public SlidingWindowCounter(String name, Duration window, int buckets, int maxKeys) {
+        if (buckets < 1 || window.toNanos() < buckets) {
+            throw new IllegalArgumentException("Window " + name + " needs at least one bucket of positive length");
+        }
+        this.name = name;
+        this.bucketNanos = window.toNanos() / buckets;
+        this.buckets = buckets;
+        this.maxKeys = maxKeys;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Duration getWindow() {
+        return Duration.ofNanos(bucketNanos * buckets);
+    }
+
+    /**
+     * Counts one event for the key and returns the key's count within the window, including this one.
+     */
+    public long increment(String key, long nowNanos) {
+        AtomicLongArray window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys) {
+                untracked.increment();
+                return 1;
+            }
+            // One slot past the buckets holds the period of the key's last alert
+            window = windows.computeIfAbsent(key, k -> new AtomicLongArray(buckets + 1));
+        }
+        long period = Math.floorDiv(nowNanos, bucketNanos);
+        int index = (int) Math.floorMod(period, (long) buckets);
+        long stamp = period & STAMP_MASK;
+        while (true) {
+            long current = window.get(index);
+            long next;
+            if (current != 0 && isAhead(current >>> COUNT_BITS, stamp)) {
+                // The bucket already counts a later period, so this event is outside the window
+                break;
+            } else if (current >>> COUNT_BITS != stamp) {
+                // The bucket last counted an earlier period
+                next = stamp << COUNT_BITS | 1;
+            } else if ((current & COUNT_MASK) < COUNT_MASK) {
+                next = current + 1;
+            } else {
+                break;
+            }
+            if (window.compareAndSet(index, current, next)) {
+                break;
+            }
+        }
+        return sum(window, period);
+    }
+
+    /**
+     * Claims the key's alert for the window: true if no alert was claimed for the key within the last window,
+     * so a key past its threshold alerts once per window rather than on every event.
+     */
+    public boolean claimAlert(String key, long nowNanos) {
+        AtomicLongArray window = windows.get(key);
+        if (window == null) {
+            return false;
+        }
+        long period = Math.floorDiv(nowNanos, bucketNanos);
+        long last = window.get(buckets);
+        // Zero until the first alert, then the period of the last alert plus one
+        if (last != 0 && period - (last - 1) < buckets) {
+            return false;
+        }
+        return window.compareAndSet(buckets, last, period + 1);
+    }
+
+    /**
+     * The key's count within the window.
+     */
+    public long count(String key, long nowNanos) {
+        AtomicLongArray window = windows.get(key);
+        return window == null ? 0 : sum(window, Math.floorDiv(nowNanos, bucketNanos));
+    }
+
+    /**
+     * Drops keys with nothing counted within the window.
+     */
+    public void evictIdle(long nowNanos) {
+        long period = Math.floorDiv(nowNanos, bucketNanos);
+        // An event racing the removal of its idle key is lost, which only understates a count of one
+        windows.values().removeIf(window -> sum(window, period) == 0);
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    /**
+     * Events for new keys not held because the counter was full.
+     */
+    public long getUntrackedCount() {
+        return untracked.sum();
+    }
+
+    private static boolean isAhead(long bucketStamp, long stamp) {
+        long lead = (bucketStamp - stamp) & STAMP_MASK;
+        return lead != 0 && lead < STAMP_MASK >>> 1;
+    }
+
+    private long sum(AtomicLongArray window, long period) {
+        long total = 0;
+        for (int i = 0; i < buckets; i++) {
+            long bucket = window.get(i);
+            // Stamps are truncated periods, so compare by difference to stay correct across wrap-around
+            long age = (period - (bucket >>> COUNT_BITS)) & STAMP_MASK;
+            if (bucket != 0 && age < buckets) {
+                total += bucket & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+}
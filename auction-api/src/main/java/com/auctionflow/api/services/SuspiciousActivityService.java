@@ -2,72 +2,179 @@ package com.auctionflow.api.services;
 
 import com.auctionflow.events.publisher.KafkaEventPublisher;
 import com.auctionflow.core.domain.events.SuspiciousActivityEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Spots bursts of bidding per user and per IP, and repeated failed logins per IP, from sliding-window counts
+ * kept in this instance.
+ *
+ * Counting is in memory and lock-free, so the bid path never waits on Redis. Only when a key first crosses its
+ * alert threshold within a window does anything leave the instance: a {@link SuspiciousActivityEvent} to
+ * Kafka and an increment of the key's cluster-wide crossing count in Redis, both sent from a background
+ * thread. A user bidding far beyond the user threshold from one IP is refused outright, judged from this
+ * instance's counts alone. The IP-wide count only raises alerts: many accounts behind one NAT or proxy are
+ * not refused together for one another's bids.
+ */
 @Service
 public class SuspiciousActivityService {
 
-    @Autowired(required = false)
-    private RedisTemplate<String, String> redisTemplate;
+    private static final Logger logger = LoggerFactory.getLogger(SuspiciousActivityService.class);
+    private static final int BUCKETS = 6;
+    private static final Duration FAILED_LOGIN_WINDOW = Duration.ofHours(1);
+    private static final int FAILED_LOGIN_THRESHOLD = 5;
+
     private final KafkaEventPublisher eventPublisher;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SlidingWindowCounter userActivity;
+    private final SlidingWindowCounter ipActivity;
+    private final SlidingWindowCounter ipUserActivity;
+    private final SlidingWindowCounter failedLogins;
+    private final int userAlertThreshold;
+    private final int ipAlertThreshold;
+    private final int blockFactor;
+    private final ThreadPoolExecutor alertSender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(10_000), runnable -> {
+                Thread thread = new Thread(runnable, "suspicious-activity-alerts");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardOldestPolicy());
 
     @Autowired
-    public SuspiciousActivityService(KafkaEventPublisher eventPublisher) {
+    public SuspiciousActivityService(KafkaEventPublisher eventPublisher,
+                                     @Autowired(required = false) RedisTemplate<String, String> redisTemplate,
+                                     @Value("${auction.suspicious-activity.window:PT1M}") Duration window,
+                                     @Value("${auction.suspicious-activity.user-threshold:10}") int userAlertThreshold,
+                                     @Value("${auction.suspicious-activity.ip-threshold:30}") int ipAlertThreshold,
+                                     @Value("${auction.suspicious-activity.block-factor:3}") int blockFactor,
+                                     @Value("${auction.suspicious-activity.max-keys:1000000}") int maxKeys) {
         this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.userActivity = new SlidingWindowCounter("user", window, BUCKETS, maxKeys);
+        this.ipActivity = new SlidingWindowCounter("ip", window, BUCKETS, maxKeys);
+        this.ipUserActivity = new SlidingWindowCounter("ip_user", window, BUCKETS, maxKeys);
+        this.failedLogins = new SlidingWindowCounter("failed_login", FAILED_LOGIN_WINDOW, BUCKETS, maxKeys);
+        this.userAlertThreshold = userAlertThreshold;
+        this.ipAlertThreshold = ipAlertThreshold;
+        this.blockFactor = blockFactor;
+    }
+
+    /**
+     * Counts a bidding action and reports whether it should be refused, as the user is acting far beyond the
+     * user alert threshold from this IP within the window.
+     */
+    public boolean checkForSuspiciousActivity(String userId, String ipAddress, String userAgent, String activityType) {
+        return checkForSuspiciousActivity(userId, ipAddress, userAgent, activityType, System.nanoTime());
     }
 
-    public void checkForSuspiciousActivity(String userId, String ipAddress, String userAgent, String activityType) {
-        if (redisTemplate == null) {
-            return; // Skip if Redis not available
+    /**
+     * As {@link #checkForSuspiciousActivity(String, String, String, String)}, with the current
+     * {@link System#nanoTime()} supplied.
+     */
+    public boolean checkForSuspiciousActivity(String userId, String ipAddress, String userAgent, String activityType,
+                                              long nowNanos) {
+        long userCount = userActivity.increment(userId, nowNanos);
+        if (userCount > userAlertThreshold && userActivity.claimAlert(userId, nowNanos)) {
+            alert(ipAddress, userAgent, "RAPID_BIDDING", "user", userId,
+                    "User " + userId + " bidding rapidly from IP " + ipAddress,
+                    Map.of("userId", userId, "bidCount", userCount, "activityType", activityType));
         }
-        // Example: Check for rapid bidding from same IP
-        String key = "bids:" + ipAddress + ":" + userId;
-        Long bidCount = redisTemplate.opsForValue().increment(key);
-        if (bidCount == 1) {
-            redisTemplate.expire(key, 60, TimeUnit.SECONDS); // Reset every minute
+        if (ipAddress == null) {
+            return userCount > (long) userAlertThreshold * blockFactor;
         }
-
-        if (bidCount > 10) { // More than 10 bids per minute from same IP/user
-            publishSuspiciousActivity(ipAddress, userAgent, "RAPID_BIDDING", "User " + userId + " bidding rapidly from IP " + ipAddress, Map.of("bidCount", bidCount));
+        long ipCount = ipActivity.increment(ipAddress, nowNanos);
+        if (ipCount > ipAlertThreshold && ipActivity.claimAlert(ipAddress, nowNanos)) {
+            alert(ipAddress, userAgent, "RAPID_BIDDING_FROM_IP", "ip", ipAddress,
+                    "Rapid bidding from IP " + ipAddress + ", last by user " + userId,
+                    Map.of("bidCount", ipCount, "activityType", activityType));
         }
+        long ipUserCount = ipUserActivity.increment(ipAddress + "|" + userId, nowNanos);
+        return ipUserCount > (long) userAlertThreshold * blockFactor;
+    }
 
-        // Check for multiple failed logins
-        String failedKey = "failed_logins:" + ipAddress;
-        String failedCountStr = redisTemplate.opsForValue().get(failedKey);
-        int failedCount = failedCountStr != null ? Integer.parseInt(failedCountStr) : 0;
-        if (failedCount > 5) {
-            publishSuspiciousActivity(ipAddress, userAgent, "MULTIPLE_FAILED_LOGINS", "Multiple failed logins from IP " + ipAddress, Map.of("failedCount", failedCount));
-        }
+    /**
+     * How long a refused user or IP should wait: the window slides one bucket at a time.
+     */
+    public Duration getRetryAfter() {
+        return userActivity.getWindow().dividedBy(BUCKETS);
     }
 
     public void recordFailedLogin(String ipAddress) {
-        if (redisTemplate == null) {
-            return; // Skip if Redis not available
+        long nowNanos = System.nanoTime();
+        long failedCount = failedLogins.increment(ipAddress, nowNanos);
+        if (failedCount > FAILED_LOGIN_THRESHOLD && failedLogins.claimAlert(ipAddress, nowNanos)) {
+            alert(ipAddress, "unknown", "MULTIPLE_FAILED_LOGINS", "failed_login", ipAddress,
+                    "Multiple failed logins from IP " + ipAddress, Map.of("failedCount", failedCount));
         }
-        String key = "failed_logins:" + ipAddress;
-        redisTemplate.opsForValue().increment(key);
-        redisTemplate.expire(key, 3600, TimeUnit.SECONDS); // Expire after 1 hour
     }
 
     public void recordSuspiciousActivity(Long userId, String activityType, String details) {
+        recordSuspiciousActivity(userId.toString(), activityType, details);
+    }
+
+    public void recordSuspiciousActivity(String userId, String activityType, String details) {
         publishSuspiciousActivity(
             "unknown", // IP address not available in this context
             "unknown", // User agent not available
             activityType,
             "Suspicious activity detected for user " + userId,
-            Map.of("userId", userId.toString(), "details", details)
+            Map.of("userId", userId, "details", details)
         );
     }
 
+    public void recordAuctionActivity(String auctionId, String activityType, String details) {
+        publishSuspiciousActivity("unknown", "unknown", activityType,
+            "Suspicious activity detected on auction " + auctionId,
+            Map.of("auctionId", auctionId, "details", details));
+    }
+
+    @Scheduled(fixedDelay = 60000) // Drop users and IPs that went quiet
+    public void evictIdle() {
+        long nowNanos = System.nanoTime();
+        userActivity.evictIdle(nowNanos);
+        ipActivity.evictIdle(nowNanos);
+        ipUserActivity.evictIdle(nowNanos);
+        failedLogins.evictIdle(nowNanos);
+    }
+
+    @PreDestroy
+    public void stop() {
+        alertSender.shutdown();
+    }
+
+    private void alert(String ipAddress, String userAgent, String activityType, String keyType, String key,
+                       String description, Map<String, Object> details) {
+        alertSender.execute(() -> {
+            publishSuspiciousActivity(ipAddress, userAgent, activityType, description, details);
+            if (redisTemplate != null) {
+                try {
+                    // Crossings across all instances, for cluster-level views of the same user or IP
+                    String redisKey = "suspicious:" + keyType + ":" + key;
+                    redisTemplate.opsForValue().increment(redisKey);
+                    redisTemplate.expire(redisKey, 1, TimeUnit.HOURS);
+                } catch (RuntimeException e) {
+                    logger.warn("Could not record {} crossing for {} in Redis", activityType, key, e);
+                }
+            }
+        });
+    }
+
     private void publishSuspiciousActivity(String ipAddress, String userAgent, String activityType, String description, Map<String, Object> details) {
         SuspiciousActivityEvent event = new SuspiciousActivityEvent(
-            java.util.UUID.randomUUID(),
+            com.auctionflow.core.domain.utils.TimeOrderedUuid.next(),
             Instant.now(),
             ipAddress,
             userAgent,
@@ -77,4 +184,4 @@ public class SuspiciousActivityService {
         );
         eventPublisher.publishSecurityEvent(event);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,231 @@
+package com.auctionflow.api.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the time-partitioned tables (see V9__partition_time_series_tables.sql and V10) ready to write to and
+ * within their retention. Each run creates the partitions for the current interval and the next
+ * {@code premake} intervals, and drops every partition whose upper bound has passed the table's retention, so
+ * expiring a day of audit rows costs one DROP TABLE however many rows it holds.
+ *
+ * Runs are idempotent and cheap, a few catalog queries per table, so they are scheduled hourly: a missed run,
+ * or a new day starting between runs, never leaves rows without a partition. Rows written while no run
+ * happened for longer than that land in the table's DEFAULT partition; the next run creates the partitions
+ * they belong in, from the oldest such row on, and moves them there, as a range overlapping rows in the
+ * default cannot be attached otherwise. A table that is missing or not partitioned is logged as a warning
+ * every run, since its rows are then never expired.
+ */
+@Service
+public class TimePartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimePartitionManager.class);
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    // The partition key column and whether it has a time zone; no row if the table is missing or not partitioned
+    private static final String SELECT_PARTITION_KEY =
+            "SELECT a.attname, a.atttypid = 'timestamptz'::regtype FROM pg_partitioned_table p "
+                    + "JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0] "
+                    + "WHERE p.partrelid = to_regclass(CAST(? AS text))";
+    private static final String SELECT_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                    + "WHERE i.inhparent = to_regclass(CAST(? AS text))";
+
+    public enum Interval {
+        DAY, MONTH;
+
+        LocalDate start(LocalDate date) {
+            return this == DAY ? date : date.withDayOfMonth(1);
+        }
+
+        LocalDate next(LocalDate start) {
+            return this == DAY ? start.plusDays(1) : start.plusMonths(1);
+        }
+    }
+
+    public record PartitionedTable(String name, Interval interval, Duration retention) {
+        public PartitionedTable {
+            if (!IDENTIFIER.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid table name: " + name);
+            }
+        }
+    }
+
+    public record MaintenanceResult(List<String> created, List<String> dropped) {
+    }
+
+    private record PartitionKey(String column, boolean withTimeZone) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PartitionedTable> tables;
+    private final int premake;
+
+    @Autowired
+    public TimePartitionManager(JdbcTemplate jdbcTemplate,
+                                @Value("${auction.retention.audit-trail:90d}") Duration auditTrail,
+                                @Value("${auction.retention.compliance-checks:1825d}") Duration complianceChecks,
+                                @Value("${auction.retention.notifications:30d}") Duration notifications,
+                                @Value("${auction.retention.premake-partitions:7}") int premake) {
+        this(jdbcTemplate, List.of(
+                new PartitionedTable("audit_trail", Interval.DAY, auditTrail),
+                new PartitionedTable("compliance_checks", Interval.MONTH, complianceChecks),
+                new PartitionedTable("notification_deliveries", Interval.DAY, notifications),
+                new PartitionedTable("batched_notifications", Interval.DAY, notifications)), premake);
+    }
+
+    public TimePartitionManager(JdbcTemplate jdbcTemplate, List<PartitionedTable> tables, int premake) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tables = tables;
+        this.premake = premake;
+    }
+
+    @Scheduled(initialDelay = 0, fixedRate = 3600000) // Hourly
+    public void maintainPartitions() {
+        maintain(Instant.now());
+    }
+
+    public MaintenanceResult maintain(Instant now) {
+        List<String> created = new ArrayList<>();
+        List<String> dropped = new ArrayList<>();
+        for (PartitionedTable table : tables) {
+            try {
+                maintain(table, now, created, dropped);
+            } catch (DataAccessException e) {
+                // One table failing must not keep the others from getting their partitions
+                logger.error("Could not maintain partitions of {}", table.name(), e);
+            }
+        }
+        if (!created.isEmpty() || !dropped.isEmpty()) {
+            logger.info("Created partitions {}, dropped partitions {}", created, dropped);
+        }
+        return new MaintenanceResult(created, dropped);
+    }
+
+    private void maintain(PartitionedTable table, Instant now, List<String> created, List<String> dropped) {
+        List<PartitionKey> keys = jdbcTemplate.query(SELECT_PARTITION_KEY,
+                (rs, rowNum) -> new PartitionKey(rs.getString(1), rs.getBoolean(2)), table.name());
+        if (keys.isEmpty()) {
+            logger.warn("Not maintaining {}, which is missing or not partitioned; its rows will never expire",
+                    table.name());
+            return;
+        }
+        PartitionKey key = keys.get(0);
+        String defaultPartition = table.name() + "_default";
+        Pattern partitionName = Pattern.compile(Pattern.quote(table.name()) + "_(p|before_)(\\d{8})");
+        Instant expired = now.minus(table.retention());
+        Set<String> existing = new HashSet<>();
+        LocalDate managedFrom = LocalDate.MIN;
+        boolean hasDefault = false;
+        for (String name : jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class, table.name())) {
+            hasDefault |= name.equals(defaultPartition);
+            Matcher matcher = partitionName.matcher(name);
+            if (!matcher.matches()) {
+                continue;
+            }
+            LocalDate date = LocalDate.parse(matcher.group(2), SUFFIX);
+            boolean before = matcher.group(1).equals("before_");
+            LocalDate upper = before ? date : table.interval().next(date);
+            if (before) {
+                managedFrom = upper.isAfter(managedFrom) ? upper : managedFrom;
+            }
+            if (!startOf(upper).isAfter(expired)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+                dropped.add(name);
+            } else {
+                existing.add(name);
+            }
+        }
+
+        if (!hasDefault) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + defaultPartition + " PARTITION OF " + table.name()
+                    + " DEFAULT");
+            created.add(defaultPartition);
+        }
+
+        LocalDate current = table.interval().start(LocalDate.ofInstant(now, ZoneOffset.UTC));
+        LocalDate last = current;
+        for (int i = 0; i < premake; i++) {
+            last = table.interval().next(last);
+        }
+        LocalDate lower = current;
+        LocalDate oldestDefault = oldestDefaultRow(defaultPartition, key);
+        if (oldestDefault != null && oldestDefault.isBefore(lower)) {
+            // Rows already past retention are not worth a partition that the next run would drop
+            LocalDate keptFrom = table.interval().start(LocalDate.ofInstant(expired, ZoneOffset.UTC));
+            if (oldestDefault.isBefore(keptFrom)) {
+                int expiredRows = jdbcTemplate.update("DELETE FROM " + defaultPartition + " WHERE "
+                        + quote(key.column()) + " < '" + keptFrom + " 00:00:00+00'");
+                logger.info("Deleted {} rows past retention from {}", expiredRows, defaultPartition);
+                oldestDefault = keptFrom;
+            }
+            lower = table.interval().start(oldestDefault);
+        }
+        for (; !lower.isAfter(last); lower = table.interval().next(lower)) {
+            String name = table.name() + "_p" + SUFFIX.format(lower);
+            // Ranges before the first managed partition are still covered by the table it was converted from
+            if (lower.isBefore(managedFrom) || existing.contains(name)) {
+                continue;
+            }
+            createPartition(table, key, defaultPartition, name, lower);
+            created.add(name);
+        }
+    }
+
+    private LocalDate oldestDefaultRow(String defaultPartition, PartitionKey key) {
+        String oldest = key.withTimeZone() ? "min(" + quote(key.column()) + ") AT TIME ZONE 'UTC'"
+                : "min(" + quote(key.column()) + ")";
+        String day = jdbcTemplate.queryForObject("SELECT to_char(" + oldest + ", 'YYYYMMDD') FROM " + defaultPartition,
+                String.class);
+        return day == null ? null : LocalDate.parse(day, SUFFIX);
+    }
+
+    /**
+     * Creates the partition detached, moves the default partition's rows in its range into it and attaches it,
+     * in one statement and so one transaction. The default is locked first so that no row for the range can
+     * arrive between the move and the attach, which would fail it, and so that another instance's run creating
+     * the same partition waits and then finds it there.
+     */
+    private void createPartition(PartitionedTable table, PartitionKey key, String defaultPartition, String name,
+                                 LocalDate lower) {
+        String from = "'" + lower + " 00:00:00+00'";
+        String to = "'" + table.interval().next(lower) + " 00:00:00+00'";
+        String column = quote(key.column());
+        jdbcTemplate.execute("DO $$ BEGIN "
+                + "LOCK TABLE " + defaultPartition + " IN ACCESS EXCLUSIVE MODE; "
+                + "IF to_regclass('" + name + "') IS NOT NULL THEN RETURN; END IF; "
+                + "CREATE TABLE " + name + " (LIKE " + table.name() + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS); "
+                + "WITH moved AS (DELETE FROM " + defaultPartition + " WHERE " + column + " >= " + from
+                + " AND " + column + " < " + to + " RETURNING *) INSERT INTO " + name + " SELECT * FROM moved; "
+                + "ALTER TABLE " + table.name() + " ATTACH PARTITION " + name
+                + " FOR VALUES FROM (" + from + ") TO (" + to + "); "
+                + "END $$");
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    private static Instant startOf(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
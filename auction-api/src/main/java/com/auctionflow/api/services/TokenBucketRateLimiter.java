@@ -0,0 +1,272 @@
+package com.auctionflow.api.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-key token buckets in a fixed-size table, for limiting requests by client IP, API key and the like.
+ *
+ * Keys are reduced to 64-bit fingerprints and kept in primitive arrays, about 20 bytes per bucket (36 when
+ * tracked for cluster reconciliation), so memory is fixed by {@code maxKeys} however many distinct keys
+ * arrive. The table is set-associative: a key can only live in one set of eight slots. A new key takes an
+ * empty or idle-expired slot in its set, or else the least recently used one. An evicted key starts again
+ * with a full bucket, so the table should be sized for the clients active within the idle expiry.
+ *
+ * When cluster-tracked, each bucket also counts the permits it granted since the last reconciliation, which
+ * {@link RateLimitReconciler} adds to a shared Redis counter; whatever other nodes granted in the meantime is
+ * then taken out of the local bucket, so the limit holds across the cluster to within one reconciliation
+ * interval.
+ *
+ * Thread-safe; sets are guarded by striped locks.
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final int WAYS = 8;
+    private static final int MILLI = 1000;
+    private static final int STRIPES = 256;
+
+    private final String name;
+    private final double milliTokensPerNano;
+    private final int burstMilli;
+    private final long idleNanos;
+    private final int setMask;
+    private final Object[] locks = new Object[STRIPES];
+    private final long[] keys;
+    private final long[] touched;
+    private final int[] milliTokens;
+    // Cluster tracking only
+    private final int[] unsynced;
+    private final long[] clusterSeen;
+
+    /**
+     * @param name identifies the limiter, and its counters in Redis
+     * @param maxKeys buckets held at most; rounded up to a power of two
+     * @param permitsPerSecond sustained rate per key
+     * @param burst permits a key may use at once after being idle
+     * @param idleExpiry a bucket untouched for this long counts as free
+     * @param clusterTracked whether to record usage for cluster reconciliation
+     */
+    public TokenBucketRateLimiter(String name, int maxKeys, double permitsPerSecond, int burst, Duration idleExpiry,
+                                  boolean clusterTracked) {
+        if (maxKeys < WAYS || permitsPerSecond <= 0 || burst < 1 || burst > Integer.MAX_VALUE / MILLI) {
+            throw new IllegalArgumentException("Rate limiter " + name + " needs at least " + WAYS
+                    + " keys, a positive rate and a burst between one and " + Integer.MAX_VALUE / MILLI);
+        }
+        int slots = Integer.highestOneBit(maxKeys - 1) << 1;
+        this.name = name;
+        this.milliTokensPerNano = permitsPerSecond * MILLI / 1e9;
+        this.burstMilli = burst * MILLI;
+        this.idleNanos = idleExpiry.toNanos();
+        this.setMask = slots / WAYS - 1;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.keys = new long[slots];
+        this.touched = new long[slots];
+        this.milliTokens = new int[slots];
+        this.unsynced = clusterTracked ? new int[slots] : null;
+        this.clusterSeen = clusterTracked ? new long[slots] : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isClusterTracked() {
+        return unsynced != null;
+    }
+
+    /**
+     * Takes a permit for the key if its bucket has one.
+     */
+    public boolean tryAcquire(CharSequence key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    /**
+     * Takes a permit for the key if its bucket has one, with the current {@link System#nanoTime()} supplied.
+     */
+    public boolean tryAcquire(CharSequence key, long nowNanos) {
+        long fingerprint = fingerprint(key);
+        int set = setOf(fingerprint);
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int slot = findOrClaim(set, fingerprint, nowNanos);
+            refill(slot, nowNanos);
+            if (milliTokens[slot] < MILLI) {
+                return false;
+            }
+            milliTokens[slot] -= MILLI;
+            if (unsynced != null) {
+                unsynced[slot]++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * How long until the key's bucket has a permit again; zero if it has one now or is not held.
+     */
+    public Duration timeToNextPermit(CharSequence key) {
+        long fingerprint = fingerprint(key);
+        int set = setOf(fingerprint);
+        long now = System.nanoTime();
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int slot = find(set, fingerprint, now);
+            if (slot < 0) {
+                return Duration.ZERO;
+            }
+            refill(slot, now);
+            int missing = MILLI - milliTokens[slot];
+            return missing <= 0 ? Duration.ZERO : Duration.ofNanos((long) Math.ceil(missing / milliTokensPerNano));
+        }
+    }
+
+    /**
+     * Keys currently held and not idle-expired. Walks the whole table.
+     */
+    public int size() {
+        long now = System.nanoTime();
+        int held = 0;
+        for (int set = 0; set <= setMask; set++) {
+            synchronized (locks[set & (STRIPES - 1)]) {
+                for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+                    if (keys[slot] != 0 && now - touched[slot] < idleNanos) {
+                        held++;
+                    }
+                }
+            }
+        }
+        return held;
+    }
+
+    /**
+     * Bytes held by the table, which is allocated in full up front.
+     */
+    public long footprintBytes() {
+        long perSlot = 8 + 8 + 4 + (unsynced != null ? 4 + 8 : 0);
+        return perSlot * keys.length;
+    }
+
+    /**
+     * Collects the permits granted per key since the last call and resets those counts.
+     */
+    List<Usage> drainUsage() {
+        List<Usage> usage = new ArrayList<>();
+        if (unsynced == null) {
+            return usage;
+        }
+        for (int set = 0; set <= setMask; set++) {
+            synchronized (locks[set & (STRIPES - 1)]) {
+                for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+                    if (unsynced[slot] > 0) {
+                        usage.add(new Usage(keys[slot], unsynced[slot]));
+                        unsynced[slot] = 0;
+                    }
+                }
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * Applies the cluster-wide count for a key after this node added {@code granted} to it: anything other
+     * nodes granted since the last reconciliation comes out of the local bucket, which may go into debt.
+     */
+    void applyClusterCount(long fingerprint, int granted, long clusterCount) {
+        int set = setOf(fingerprint);
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int slot = find(set, fingerprint, System.nanoTime());
+            if (slot < 0) {
+                return;
+            }
+            long seen = clusterSeen[slot];
+            clusterSeen[slot] = clusterCount;
+            long grantedElsewhere = seen < 0 ? 0 : clusterCount - seen - granted;
+            if (grantedElsewhere > 0) {
+                // A counter that expired and restarted reads low and is taken as nothing granted elsewhere
+                long debited = milliTokens[slot] - grantedElsewhere * MILLI;
+                milliTokens[slot] = (int) Math.max(-burstMilli, debited);
+            }
+        }
+    }
+
+    private int find(int set, long fingerprint, long now) {
+        for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+            if (keys[slot] == fingerprint) {
+                return now - touched[slot] < idleNanos ? slot : -1;
+            }
+        }
+        return -1;
+    }
+
+    private int findOrClaim(int set, long fingerprint, long now) {
+        int victim = -1;
+        boolean free = false;
+        for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+            long key = keys[slot];
+            if (key == fingerprint) {
+                if (now - touched[slot] >= idleNanos) {
+                    reset(slot, fingerprint, now);
+                }
+                return slot;
+            }
+            if (free) {
+                continue;
+            }
+            if (key == 0 || now - touched[slot] >= idleNanos) {
+                victim = slot;
+                free = true;
+            } else if (victim < 0 || touched[slot] - touched[victim] < 0) {
+                victim = slot;
+            }
+        }
+        reset(victim, fingerprint, now);
+        return victim;
+    }
+
+    private void reset(int slot, long fingerprint, long now) {
+        keys[slot] = fingerprint;
+        touched[slot] = now;
+        milliTokens[slot] = burstMilli;
+        if (unsynced != null) {
+            unsynced[slot] = 0;
+            // Unknown until the first reconciliation, which only records the count
+            clusterSeen[slot] = -1;
+        }
+    }
+
+    private void refill(int slot, long now) {
+        long elapsed = now - touched[slot];
+        if (elapsed > 0) {
+            double refilled = milliTokens[slot] + elapsed * milliTokensPerNano;
+            milliTokens[slot] = (int) Math.min(burstMilli, refilled);
+            touched[slot] = now;
+        }
+    }
+
+    private int setOf(long fingerprint) {
+        return (int) (fingerprint >>> 32) & setMask;
+    }
+
+    /**
+     * 64-bit FNV-1a over the key's characters, finished with a MurmurHash3 mix; never zero, which marks an
+     * empty slot.
+     */
+    static long fingerprint(CharSequence key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    record Usage(long fingerprint, int granted) {
+    }
+}
@@ -4,7 +4,6 @@ import com.auctionflow.api.entities.ComplianceCheck;
 import com.auctionflow.api.repositories.ComplianceCheckRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -12,21 +11,32 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+/**
+ * Screens bids, wins and payments as they happen. Transactions that pass leave no record; flagged ones are
+ * appended as compliance checks through {@link RiskScoringService}, which writes them in batches and counts
+ * them towards the user's risk score.
+ */
 @Service
 public class TransactionMonitoringService {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionMonitoringService.class);
 
-    @Autowired
-    private ComplianceCheckRepository complianceCheckRepository;
+    private final ComplianceCheckRepository complianceCheckRepository;
+    private final RiskScoringService riskScoringService;
+    private final SuspiciousActivityService suspiciousActivityService;
 
-    @Autowired
-    private SuspiciousActivityService suspiciousActivityService;
+    public TransactionMonitoringService(ComplianceCheckRepository complianceCheckRepository,
+                                        RiskScoringService riskScoringService,
+                                        SuspiciousActivityService suspiciousActivityService) {
+        this.complianceCheckRepository = complianceCheckRepository;
+        this.riskScoringService = riskScoringService;
+        this.suspiciousActivityService = suspiciousActivityService;
+    }
 
     // Thresholds for suspicious activity detection
     private static final BigDecimal HIGH_VALUE_THRESHOLD = BigDecimal.valueOf(10000.0);
-    private static final int RAPID_BIDS_THRESHOLD = 10; // bids per minute
     private static final BigDecimal UNUSUAL_BID_INCREASE_THRESHOLD = BigDecimal.valueOf(2.0); // 200% increase
 
     /**
@@ -42,14 +52,10 @@ public class TransactionMonitoringService {
                 Map.of("auctionId", auctionId.toString(), "bidAmount", bidAmount.toString()));
         }
 
-        // Check for rapid bidding patterns (would need bid history - placeholder)
-        checkRapidBidding(userId, auctionId, bidTime);
+        // Rapid bidding is detected from the bid stream by BidVelocityMonitor
 
         // Check for unusual bid increases (would need previous bids - placeholder)
         checkUnusualBidIncrease(userId, auctionId, bidAmount);
-
-        // Create transaction monitoring compliance check
-        createTransactionCheck(userId, "BID_PLACEMENT", bidAmount);
     }
 
     /**
@@ -63,8 +69,6 @@ public class TransactionMonitoringService {
             flagSuspiciousActivity(userId, "HIGH_VALUE_WIN",
                 Map.of("auctionId", auctionId.toString(), "finalPrice", finalPrice.toString()));
         }
-
-        createTransactionCheck(userId, "AUCTION_WIN", finalPrice);
     }
 
     /**
@@ -79,16 +83,49 @@ public class TransactionMonitoringService {
             flagSuspiciousActivity(userId, "CRYPTO_PAYMENT_HIGH_VALUE",
                 Map.of("auctionId", auctionId.toString(), "amount", amount.toString(), "method", paymentMethod));
         }
+    }
 
-        createTransactionCheck(userId, "PAYMENT", amount);
+    /**
+     * Records a compliance check for a bidder reported by {@link BidVelocityMonitor}: against the user for a
+     * numeric user id, or against the bidder id for the principal UUIDs the bid API places bids with. The alert
+     * itself is raised on the bid path by {@link SuspiciousActivityService}; bidders in neither form are only
+     * logged.
+     */
+    public void flagBidVelocity(String bidderId, String activityType, Map<String, String> details) {
+        logger.warn("Flagging suspicious activity: bidder={}, type={}, details={}", bidderId, activityType, details);
+        Long userId = parseUserId(bidderId);
+        if (userId != null) {
+            appendComplianceCheck(userId, null, activityType, details);
+            return;
+        }
+        UUID bidderUuid = parseBidderUuid(bidderId);
+        if (bidderUuid != null) {
+            appendComplianceCheck(null, bidderUuid.toString(), activityType, details);
+        }
+    }
+
+    /**
+     * Flags an auction reported by {@link BidVelocityMonitor}, for bidding on it as a whole.
+     */
+    public void flagAuctionVelocity(String auctionId, String activityType, Map<String, String> details) {
+        logger.warn("Flagging suspicious activity: auction={}, type={}, details={}", auctionId, activityType, details);
+        suspiciousActivityService.recordAuctionActivity(auctionId, activityType, details.toString());
     }
 
-    private void checkRapidBidding(Long userId, Long auctionId, Instant bidTime) {
-        // Placeholder - in real implementation, query recent bids by user
-        // If user has placed more than RAPID_BIDS_THRESHOLD bids in the last minute, flag as suspicious
+    private static Long parseUserId(String bidderId) {
+        try {
+            return Long.valueOf(bidderId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
-        // For now, just log
-        logger.debug("Checking rapid bidding for user {} on auction {}", userId, auctionId);
+    private static UUID parseBidderUuid(String bidderId) {
+        try {
+            return UUID.fromString(bidderId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     private void checkUnusualBidIncrease(Long userId, Long auctionId, BigDecimal bidAmount) {
@@ -105,27 +142,19 @@ public class TransactionMonitoringService {
 
         // Use existing SuspiciousActivityService
         suspiciousActivityService.recordSuspiciousActivity(userId, activityType, details.toString());
+        appendComplianceCheck(userId, null, activityType, details);
+    }
 
-        // Create compliance check
+    private void appendComplianceCheck(Long userId, String bidderId, String activityType, Map<String, String> details) {
         ComplianceCheck check = new ComplianceCheck();
         check.setUserId(userId);
+        check.setBidderId(bidderId);
         check.setCheckType(ComplianceCheck.CheckType.TRANSACTION_MONITORING);
         check.setStatus(ComplianceCheck.CheckStatus.REQUIRES_REVIEW);
         check.setRiskScore(BigDecimal.valueOf(85.0)); // High risk
         check.setDetails("{\"activityType\": \"" + activityType + "\", \"details\": " + details.toString() + "}");
 
-        complianceCheckRepository.save(check);
-    }
-
-    private void createTransactionCheck(Long userId, String transactionType, BigDecimal amount) {
-        ComplianceCheck check = new ComplianceCheck();
-        check.setUserId(userId);
-        check.setCheckType(ComplianceCheck.CheckType.TRANSACTION_MONITORING);
-        check.setStatus(ComplianceCheck.CheckStatus.PASSED); // Normal transaction
-        check.setRiskScore(BigDecimal.valueOf(10.0)); // Low risk for normal transactions
-        check.setDetails("{\"transactionType\": \"" + transactionType + "\", \"amount\": " + amount + "}");
-
-        complianceCheckRepository.save(check);
+        riskScoringService.appendComplianceCheck(check);
     }
 
     /**
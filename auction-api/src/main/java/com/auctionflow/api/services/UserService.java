@@ -1,5 +1,6 @@
 package com.auctionflow.api.services;
 
+import com.auctionflow.api.config.VerifiedPrincipalCache;
 import com.auctionflow.api.entities.ComplianceCheck;
 import com.auctionflow.api.entities.DocumentUpload;
 import com.auctionflow.api.entities.User;
@@ -48,6 +49,12 @@ public class UserService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private VerifiedPrincipalCache verifiedPrincipalCache;
+
+    @Autowired
+    private RiskScoringService riskScoringService;
+
     @Value("${gdpr.retention.softDeleteDays:30}")
     private int softDeleteRetentionDays;
 
@@ -75,12 +82,14 @@ public class UserService implements UserDetailsService {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
         user.setKycStatus(User.KycStatus.VERIFIED);
         userRepository.save(user);
+        riskScoringService.invalidate(userId);
     }
 
     public void rejectKyc(Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
         user.setKycStatus(User.KycStatus.REJECTED);
         userRepository.save(user);
+        riskScoringService.invalidate(userId);
     }
 
     public boolean isKycVerified(Long userId) {
@@ -127,6 +136,7 @@ public class UserService implements UserDetailsService {
         check.setStatus(ComplianceCheck.CheckStatus.PENDING);
         check.setDetails("{\"documentId\": " + saved.getId() + ", \"documentType\": \"" + documentType + "\"}");
         complianceCheckRepository.save(check);
+        riskScoringService.invalidate(userId);
 
         return saved.getId().toString();
     }
@@ -161,12 +171,16 @@ public class UserService implements UserDetailsService {
             user.setKycStatus(User.KycStatus.REJECTED);
         }
         userRepository.save(user);
+        // The risk score depends on both the KYC status and the new check
+        riskScoringService.invalidate(userId);
     }
 
     public void changeRole(Long userId, User.Role role) {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
         user.setRole(role);
         userRepository.save(user);
+        // Tokens issued under the old role must not keep its authorities
+        verifiedPrincipalCache.invalidateUser(user.getEmail());
     }
 
     public User getUserById(Long userId) {
@@ -232,6 +246,7 @@ public class UserService implements UserDetailsService {
         user.setDeletedAt(Instant.now());
         user.setDeletedBy(deletedBy);
         userRepository.save(user);
+        verifiedPrincipalCache.invalidateUser(user.getEmail());
         // Note: In a real implementation, also soft delete related auctions, bids, etc.
         // For now, just user.
     }
@@ -0,0 +1,77 @@
+-- Notification tables owned by migrations, and DEFAULT partitions for every time-partitioned table
+--
+-- V9 only converted notification_deliveries and batched_notifications if the notifications service had
+-- already created them through Hibernate; created afterwards they stayed plain tables, which
+-- TimePartitionManager cannot maintain. They are now created here, partitioned from the start, and a plain
+-- table the service created in the meantime is converted the same way V9 converts. The service's
+-- ddl-auto: update finds them in place and leaves them alone.
+--
+-- Every partitioned table also gets a <table>_default partition. Rows whose partition does not exist yet,
+-- because TimePartitionManager has not run for longer than it creates partitions ahead, land there instead
+-- of failing the insert; its next run creates the missing partitions and moves those rows into them.
+
+DO $$
+DECLARE
+    lower_bound TIMESTAMP := date_trunc('day', NOW() AT TIME ZONE 'UTC');
+    created TEXT[] := ARRAY[]::TEXT[];
+    tbl TEXT;
+BEGIN
+    IF to_regclass('notification_deliveries') IS NULL THEN
+        CREATE TABLE notification_deliveries (
+            id BIGSERIAL,
+            user_id VARCHAR(255) NOT NULL,
+            notification_type VARCHAR(255) NOT NULL,
+            channel VARCHAR(255) NOT NULL,
+            status VARCHAR(255) NOT NULL,
+            message VARCHAR(255),
+            sent_at TIMESTAMP(6),
+            retry_count INTEGER NOT NULL DEFAULT 0,
+            last_attempt_at TIMESTAMP(6),
+            error_message VARCHAR(255),
+            created_at TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP,
+            PRIMARY KEY (id, created_at)
+        ) PARTITION BY RANGE (created_at);
+        created := array_append(created, 'notification_deliveries');
+    END IF;
+    IF to_regclass('batched_notifications') IS NULL THEN
+        CREATE TABLE batched_notifications (
+            id BIGSERIAL,
+            user_id VARCHAR(255) NOT NULL,
+            notification_type VARCHAR(255) NOT NULL,
+            message VARCHAR(255) NOT NULL,
+            created_at TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP,
+            sent BOOLEAN NOT NULL DEFAULT FALSE,
+            PRIMARY KEY (id, created_at)
+        ) PARTITION BY RANGE (created_at);
+        created := array_append(created, 'batched_notifications');
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('notification_deliveries')) THEN
+        ALTER TABLE notification_deliveries ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP;
+        PERFORM partition_by_time('notification_deliveries', 'created_at', 'day', 7);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('batched_notifications')) THEN
+        PERFORM partition_by_time('batched_notifications', 'created_at', 'day', 7);
+    END IF;
+
+    -- Tables created here start with this week's partitions; converted ones already have theirs
+    FOREACH tbl IN ARRAY created LOOP
+        FOR i IN 0 .. 6 LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           tbl || '_p' || to_char(lower_bound + i * INTERVAL '1 day', 'YYYYMMDD'), tbl,
+                           to_char(lower_bound + i * INTERVAL '1 day', 'YYYY-MM-DD HH24:MI:SS') || '+00',
+                           to_char(lower_bound + (i + 1) * INTERVAL '1 day', 'YYYY-MM-DD HH24:MI:SS') || '+00');
+        END LOOP;
+    END LOOP;
+END $$;
+
+DO $$
+DECLARE
+    tbl TEXT;
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY['audit_trail', 'compliance_checks', 'notification_deliveries', 'batched_notifications'] LOOP
+        IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(tbl)) THEN
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I DEFAULT', tbl || '_default', tbl);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,13 @@
+-- Compliance checks against bidders identified by UUID
+--
+-- The bid API identifies bidders by the UUID of their principal, not by a users row, so rapid bidding
+-- flagged from the bid stream had nowhere to go and was only logged. Such checks now carry the bidder's
+-- UUID in bidder_id with no user_id; every check still has one or the other. On the partitioned table
+-- these changes apply to every partition, including the DEFAULT one.
+
+ALTER TABLE compliance_checks ADD COLUMN bidder_id VARCHAR(64);
+ALTER TABLE compliance_checks ALTER COLUMN user_id DROP NOT NULL;
+ALTER TABLE compliance_checks ADD CONSTRAINT compliance_checks_subject
+    CHECK (user_id IS NOT NULL OR bidder_id IS NOT NULL);
+
+CREATE INDEX idx_compliance_checks_bidder_id ON compliance_checks (bidder_id) WHERE bidder_id IS NOT NULL;
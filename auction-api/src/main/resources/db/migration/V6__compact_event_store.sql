@@ -0,0 +1,132 @@
+-- Compact, UUID-native event store
+--
+-- aggregate_id and event_id are native UUIDs, event_type is a smallint code (see StoredEventType),
+-- and (aggregate_id, sequence_number) is the primary key, which doubles as the optimistic concurrency guard.
+-- The table is hash-partitioned by aggregate so a per-aggregate read touches exactly one partition.
+-- Postgres requires every partition key to be part of the primary key, so time is not a partition
+-- key here; a BRIN index on timestamp serves the global replay/range queries instead, and is cheap
+-- because events are appended in time order.
+
+-- Move a pre-existing event_store (VARCHAR aggregate_id, time-range partitioned) out of the way
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'event_store'
+          AND column_name = 'aggregate_id' AND data_type <> 'uuid'
+    ) THEN
+        ALTER TABLE event_store RENAME TO event_store_legacy;
+        ALTER INDEX IF EXISTS idx_event_store_aggregate_id_sequence RENAME TO idx_event_store_legacy_aggregate_id_sequence;
+    END IF;
+END $$;
+
+CREATE TABLE IF NOT EXISTS event_store (
+    aggregate_id UUID NOT NULL,
+    sequence_number BIGINT NOT NULL,
+    event_id UUID NOT NULL,
+    event_type SMALLINT NOT NULL,
+    timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    event_data JSONB NOT NULL,
+    event_metadata JSONB,
+    PRIMARY KEY (aggregate_id, sequence_number)
+) PARTITION BY HASH (aggregate_id);
+
+DO $$
+DECLARE
+    i INT;
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE 'CREATE TABLE IF NOT EXISTS event_store_p' || LPAD(i::TEXT, 2, '0')
+            || ' PARTITION OF event_store FOR VALUES WITH (MODULUS 16, REMAINDER ' || i || ');';
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_event_store_timestamp_brin ON event_store USING BRIN (timestamp);
+
+-- Copy legacy rows across, mapping class names to type codes. The legacy table is kept until the copy
+-- has been verified and is dropped by a later migration. A legacy type with no code fails the migration
+-- rather than being copied with a code no reader understands.
+--
+-- The legacy table had no unique (aggregate_id, sequence_number), and proxy outbid events were written with
+-- sequence number 0, so some aggregates have colliding or out-of-range numbers. Those aggregates are
+-- renumbered 1..n in timestamp order, which is also what the aggregate's version counts; every other
+-- aggregate keeps its numbers. No row is dropped.
+DO $$
+DECLARE
+    unmapped TEXT;
+    duplicate_rows BIGINT;
+    renumbered_aggregates BIGINT;
+    legacy_rows BIGINT;
+    copied_rows BIGINT;
+BEGIN
+    IF to_regclass('event_store_legacy') IS NOT NULL THEN
+        SELECT string_agg(DISTINCT l.event_type, ', ') INTO unmapped
+        FROM event_store_legacy l
+        WHERE l.event_type NOT IN (
+            'AuctionCreatedEvent', 'BidPlacedEvent', 'BidRejectedEvent', 'BidCommittedEvent', 'BidRevealedEvent',
+            'AuctionRevealPhaseStartedEvent', 'AuctionExtendedEvent', 'ReserveMetEvent', 'AuctionClosedEvent',
+            'WinnerDeclaredEvent', 'PriceReducedEvent', 'ProxyBidOutbidEvent', 'OfferCreatedEvent',
+            'OfferAcceptedEvent', 'OfferRejectedEvent', 'DisputeCreatedEvent', 'DisputeResolvedEvent'
+        );
+        IF unmapped IS NOT NULL THEN
+            RAISE EXCEPTION 'event_store_legacy has event types with no StoredEventType code: %', unmapped;
+        END IF;
+
+        SELECT COALESCE(SUM(n - 1), 0) INTO duplicate_rows
+        FROM (
+            SELECT count(*) AS n FROM event_store_legacy GROUP BY aggregate_id, sequence_number HAVING count(*) > 1
+        ) d;
+
+        CREATE TEMPORARY TABLE event_store_renumbered ON COMMIT DROP AS
+        SELECT aggregate_id
+        FROM event_store_legacy
+        GROUP BY aggregate_id
+        HAVING count(DISTINCT sequence_number) <> count(*)
+            OR min(sequence_number) <> 1
+            OR max(sequence_number) <> count(*);
+        SELECT count(*) INTO renumbered_aggregates FROM event_store_renumbered;
+
+        RAISE NOTICE 'event_store_legacy: % duplicate (aggregate_id, sequence_number) rows, % aggregates renumbered',
+            duplicate_rows, renumbered_aggregates;
+
+        INSERT INTO event_store (aggregate_id, sequence_number, event_id, event_type, timestamp, event_data, event_metadata)
+        SELECT l.aggregate_id::uuid,
+               CASE WHEN r.aggregate_id IS NULL THEN l.sequence_number
+                    ELSE ROW_NUMBER() OVER (PARTITION BY l.aggregate_id ORDER BY l.timestamp, l.sequence_number, l.ctid)
+               END,
+               COALESCE((l.event_data ->> 'eventId')::uuid, gen_random_uuid()),
+               CASE l.event_type
+                   WHEN 'AuctionCreatedEvent' THEN 1
+                   WHEN 'BidPlacedEvent' THEN 2
+                   WHEN 'BidRejectedEvent' THEN 3
+                   WHEN 'BidCommittedEvent' THEN 4
+                   WHEN 'BidRevealedEvent' THEN 5
+                   WHEN 'AuctionRevealPhaseStartedEvent' THEN 6
+                   WHEN 'AuctionExtendedEvent' THEN 7
+                   WHEN 'ReserveMetEvent' THEN 8
+                   WHEN 'AuctionClosedEvent' THEN 9
+                   WHEN 'WinnerDeclaredEvent' THEN 10
+                   WHEN 'PriceReducedEvent' THEN 11
+                   WHEN 'ProxyBidOutbidEvent' THEN 12
+                   WHEN 'OfferCreatedEvent' THEN 13
+                   WHEN 'OfferAcceptedEvent' THEN 14
+                   WHEN 'OfferRejectedEvent' THEN 15
+                   WHEN 'DisputeCreatedEvent' THEN 16
+                   WHEN 'DisputeResolvedEvent' THEN 17
+                   -- Unreachable after the guard above, and event_type is NOT NULL, so a miss fails the insert
+                   ELSE NULL
+               END,
+               l.timestamp,
+               l.event_data,
+               l.event_metadata
+        FROM event_store_legacy l
+        LEFT JOIN event_store_renumbered r ON r.aggregate_id = l.aggregate_id;
+
+        -- Any conflict left above fails the insert, so the copy is complete unless the counts disagree
+        GET DIAGNOSTICS copied_rows = ROW_COUNT;
+        SELECT count(*) INTO legacy_rows FROM event_store_legacy;
+        IF copied_rows <> legacy_rows THEN
+            RAISE EXCEPTION 'event_store_legacy has % rows but % were copied', legacy_rows, copied_rows;
+        END IF;
+    END IF;
+END $$;
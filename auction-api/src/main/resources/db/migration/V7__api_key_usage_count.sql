@@ -0,0 +1,3 @@
+-- API key usage is aggregated in memory and flushed periodically, as a count alongside last_used_at
+
+ALTER TABLE api_keys ADD COLUMN usage_count BIGINT NOT NULL DEFAULT 0;
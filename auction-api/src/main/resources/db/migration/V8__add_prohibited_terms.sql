@@ -0,0 +1,9 @@
+-- Terms prohibited in item titles and descriptions, matched in memory by ItemValidationService
+
+CREATE TABLE IF NOT EXISTS prohibited_terms (
+    id BIGSERIAL PRIMARY KEY,
+    term VARCHAR(255) NOT NULL UNIQUE,
+    reason VARCHAR(255),
+    active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,123 @@
+-- Time-partitioned retention for audit, compliance and notification tables
+--
+-- These tables only grow at the head and were trimmed with row-level DELETEs, which leave dead tuples and
+-- index bloat behind for vacuum. They become range-partitioned on their creation timestamp, so expiring a
+-- day (or month) of rows is a DROP TABLE of one partition. TimePartitionManager creates partitions ahead
+-- of time and drops expired ones; partitions are named <table>_pYYYYMMDD after their lower bound, in UTC.
+--
+-- Existing rows are not copied: the old table is attached whole as <table>_before_YYYYMMDD, covering
+-- everything before the first managed partition, and is dropped like any other partition once it ages
+-- out. A partitioned table's primary key must include the partition key, so it becomes (id, <column>).
+
+CREATE OR REPLACE FUNCTION partition_by_time(tbl TEXT, col TEXT, step TEXT, premake INT) RETURNS VOID AS $$
+DECLARE
+    legacy TEXT;
+    latest TIMESTAMP;
+    boundary TIMESTAMP;
+    lower_bound TIMESTAMP;
+    with_time_zone BOOLEAN;
+    is_identity BOOLEAN;
+    serial_sequence TEXT;
+    max_id BIGINT;
+    primary_key TEXT;
+BEGIN
+    IF to_regclass(tbl) IS NULL
+        OR EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(tbl)) THEN
+        RETURN;
+    END IF;
+
+    SELECT atttypid = 'timestamptz'::regtype INTO with_time_zone
+    FROM pg_attribute WHERE attrelid = to_regclass(tbl) AND attname = col;
+    IF with_time_zone THEN
+        EXECUTE format('SELECT max(%I) AT TIME ZONE ''UTC'' FROM %I', col, tbl) INTO latest;
+    ELSE
+        EXECUTE format('SELECT max(%I) FROM %I', col, tbl) INTO latest;
+    END IF;
+    -- Managed partitions start after the current interval and after the newest existing row
+    boundary := date_trunc(step, greatest(latest, NOW() AT TIME ZONE 'UTC')) + ('1 ' || step)::interval;
+    legacy := tbl || '_before_' || to_char(boundary, 'YYYYMMDD');
+
+    EXECUTE format('SELECT max(id) FROM %I', tbl) INTO max_id;
+    serial_sequence := pg_get_serial_sequence(tbl, 'id');
+    SELECT attidentity <> '' INTO is_identity
+    FROM pg_attribute WHERE attrelid = to_regclass(tbl) AND attname = 'id';
+    IF is_identity THEN
+        -- Identity sequences belong to their table; ids continue from a plain sequence owned by the parent
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY', tbl);
+    END IF;
+
+    SELECT conname INTO primary_key FROM pg_constraint WHERE conrelid = to_regclass(tbl) AND contype = 'p';
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', tbl, legacy);
+    IF primary_key IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE %I RENAME CONSTRAINT %I TO %I', legacy, primary_key, legacy || '_pkey');
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE (%I)',
+                   tbl, legacy, col);
+    IF is_identity THEN
+        EXECUTE format('CREATE SEQUENCE %I OWNED BY %I.id', tbl || '_id_seq', tbl);
+        PERFORM setval(quote_ident(tbl || '_id_seq'), coalesce(max_id, 0) + 1, false);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', tbl, quote_ident(tbl || '_id_seq'));
+    ELSIF serial_sequence IS NOT NULL THEN
+        -- Otherwise dropping the old partition would drop the sequence with it
+        EXECUTE format('ALTER SEQUENCE %s OWNED BY %I.id', serial_sequence, tbl);
+    END IF;
+    EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (id, %I)', tbl, col);
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+                   tbl, legacy, to_char(boundary, 'YYYY-MM-DD HH24:MI:SS') || '+00');
+    FOR i IN 0 .. premake - 1 LOOP
+        lower_bound := boundary + (i || ' ' || step)::interval;
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       tbl || '_p' || to_char(lower_bound, 'YYYYMMDD'), tbl,
+                       to_char(lower_bound, 'YYYY-MM-DD HH24:MI:SS') || '+00',
+                       to_char(lower_bound + ('1 ' || step)::interval, 'YYYY-MM-DD HH24:MI:SS') || '+00');
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Indexes on a partitioned table are created on every partition; the old table's matching indexes are
+-- adopted rather than rebuilt.
+
+DO $$
+BEGIN
+    IF to_regclass('audit_trail') IS NOT NULL
+        AND NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('audit_trail')) THEN
+        PERFORM partition_by_time('audit_trail', 'timestamp', 'day', 7);
+        CREATE INDEX ON audit_trail (user_id);
+        CREATE INDEX ON audit_trail (timestamp);
+        CREATE INDEX ON audit_trail (entity_type, entity_id);
+    END IF;
+END $$;
+
+DO $$
+BEGIN
+    IF to_regclass('compliance_checks') IS NOT NULL
+        AND NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('compliance_checks')) THEN
+        -- Row triggers and foreign keys move to the partitioned table, which clones them onto every partition
+        DROP TRIGGER IF EXISTS trigger_update_compliance_check_updated_at ON compliance_checks;
+        PERFORM partition_by_time('compliance_checks', 'created_at', 'month', 7);
+        ALTER TABLE compliance_checks ADD FOREIGN KEY (user_id) REFERENCES users (id);
+        CREATE INDEX ON compliance_checks (user_id);
+        CREATE INDEX ON compliance_checks (status);
+        CREATE INDEX ON compliance_checks (check_type, status);
+        CREATE TRIGGER trigger_update_compliance_check_updated_at
+            BEFORE UPDATE ON compliance_checks
+            FOR EACH ROW
+            EXECUTE FUNCTION update_compliance_check_updated_at();
+    END IF;
+END $$;
+
+-- The notification tables are created by the notifications service; they are converted if present
+DO $$
+BEGIN
+    IF to_regclass('notification_deliveries') IS NOT NULL
+        AND NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('notification_deliveries')) THEN
+        ALTER TABLE notification_deliveries ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP;
+        PERFORM partition_by_time('notification_deliveries', 'created_at', 'day', 7);
+    END IF;
+    IF to_regclass('batched_notifications') IS NOT NULL
+        AND NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('batched_notifications')) THEN
+        PERFORM partition_by_time('batched_notifications', 'created_at', 'day', 7);
+    END IF;
+END $$;
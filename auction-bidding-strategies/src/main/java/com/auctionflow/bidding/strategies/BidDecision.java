@@ -5,17 +5,26 @@ import com.auctionflow.core.domain.valueobjects.Money;
 import java.time.Instant;
 
 /**
- * Decision result from a bidding strategy
+ * Decision result from a bidding strategy. A decision made against a budget carries that budget, and
+ * whoever places the bid reserves it in the {@link BudgetLedger} at that point.
  */
 public class BidDecision {
+    private static final long NO_BUDGET = -1;
+
     private final boolean shouldBid;
     private final Money bidAmount;
     private final Instant bidTime;
+    private final long budgetCents;
 
     public BidDecision(boolean shouldBid, Money bidAmount, Instant bidTime) {
+        this(shouldBid, bidAmount, bidTime, NO_BUDGET);
+    }
+
+    private BidDecision(boolean shouldBid, Money bidAmount, Instant bidTime, long budgetCents) {
         this.shouldBid = shouldBid;
         this.bidAmount = bidAmount;
         this.bidTime = bidTime;
+        this.budgetCents = budgetCents;
     }
 
     public static BidDecision noBid() {
@@ -26,7 +35,16 @@ public class BidDecision {
         return new BidDecision(true, amount, time);
     }
 
+    /**
+     * The same decision, to be placed only if the bidder's committed exposure stays within the budget.
+     */
+    public BidDecision withinBudget(Money budget) {
+        return new BidDecision(shouldBid, bidAmount, bidTime, budget.getAmountCents());
+    }
+
     public boolean shouldBid() { return shouldBid; }
     public Money getBidAmount() { return bidAmount; }
     public Instant getBidTime() { return bidTime; }
+    public boolean hasBudget() { return budgetCents != NO_BUDGET; }
+    public long getBudgetCents() { return budgetCents; }
 }
\ No newline at end of file
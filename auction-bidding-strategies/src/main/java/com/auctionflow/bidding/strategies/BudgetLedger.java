@@ -0,0 +1,67 @@
+package com.auctionflow.bidding.strategies;
+
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+
+/**
+ * Each bidder's committed exposure across all auctions, so budget-aware strategies can check and reserve
+ * budget without querying the database.
+ *
+ * A bidder's exposure is the sum of their holds (one per auction, the amount they lead or are about to bid)
+ * plus what they have already won. A strategy's bid takes its hold with {@link #tryReserve} as it is placed
+ * and puts back the hold it replaced with {@link #restore} if it is not; bid events move holds to the new
+ * leader and closed auctions settle them. Every node placing bids must see the same ledger, or a bidder can
+ * spend their budget once per node.
+ */
+public interface BudgetLedger {
+
+    /**
+     * Sets the bidder's hold on the auction to the given amount if their total exposure stays within budget.
+     *
+     * @return false, leaving the ledger unchanged, if the hold would exceed the budget
+     */
+    boolean tryReserve(BidderId bidderId, AuctionId auctionId, long amountCents, long budgetCents);
+
+    /**
+     * Releases the bidder's hold on the auction, if any.
+     */
+    void release(BidderId bidderId, AuctionId auctionId);
+
+    /**
+     * Puts the bidder's hold on the auction back to what it was before a reservation whose bid was not placed,
+     * releasing it if there was none.
+     */
+    default void restore(BidderId bidderId, AuctionId auctionId, long previousCents) {
+        if (previousCents > 0) {
+            tryReserve(bidderId, auctionId, previousCents, Long.MAX_VALUE);
+        } else {
+            release(bidderId, auctionId);
+        }
+    }
+
+    /**
+     * Records a bid event. If the bid takes the lead, the bidder's hold is set to the bid amount (regardless of
+     * budget, since the bid has already been accepted) and the previous leader's hold is released. Recording
+     * the same event again changes nothing.
+     */
+    void onLeadingBid(AuctionId auctionId, BidderId bidderId, long amountCents);
+
+    /**
+     * Settles a closed auction: the winner's hold becomes spend and every other hold on it is released.
+     */
+    void onAuctionClosed(AuctionId auctionId, BidderId winnerId);
+
+    /**
+     * Total exposure: current holds plus amounts already won.
+     */
+    long committedCents(BidderId bidderId);
+
+    /**
+     * Exposure excluding the bidder's own hold on the given auction, which a new bid there would replace.
+     */
+    long committedElsewhereCents(BidderId bidderId, AuctionId auctionId);
+
+    long holdCents(BidderId bidderId, AuctionId auctionId);
+
+    long spentCents(BidderId bidderId);
+}
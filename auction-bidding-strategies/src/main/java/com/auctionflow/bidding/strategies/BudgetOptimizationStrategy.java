@@ -5,22 +5,43 @@ import com.auctionflow.core.domain.valueobjects.BidderId;
 import com.auctionflow.core.domain.valueobjects.Money;
 
 import java.math.BigDecimal;
-import java.time.Duration;
+import java.time.Clock;
 import java.time.Instant;
 
 /**
- * Strategy that optimizes bidding across multiple auctions within a budget
+ * Strategy that optimizes bidding across multiple auctions within a budget.
+ * With a {@link BudgetLedger}, the bidder's committed exposure across auctions comes from the ledger;
+ * without one, it falls back to the allocatedBudget parameter. Deciding reserves nothing: the decision
+ * carries the total budget, and the bid is reserved against it only when it is placed.
  */
 public class BudgetOptimizationStrategy implements BiddingStrategy {
 
+    private final BudgetLedger budgetLedger;
+    private final Clock clock;
+
+    public BudgetOptimizationStrategy() {
+        this(null);
+    }
+
+    public BudgetOptimizationStrategy(BudgetLedger budgetLedger) {
+        this(budgetLedger, Clock.systemUTC());
+    }
+
+    public BudgetOptimizationStrategy(BudgetLedger budgetLedger, Clock clock) {
+        this.budgetLedger = budgetLedger;
+        this.clock = clock;
+    }
+
     @Override
     public BidDecision decideBid(AuctionId auctionId, BidderId bidderId, Money currentHighestBid,
                                 Instant auctionEndTime, StrategyParameters params) {
-        Money totalBudget = Money.usd(BigDecimal.valueOf(params.getDouble("totalBudget")));
-        Money allocatedBudget = Money.usd(BigDecimal.valueOf(params.getDouble("allocatedBudget")));
+        Money totalBudget = params.getMoney("totalBudget");
+        Money allocatedBudget = budgetLedger != null
+                ? Money.usd(budgetLedger.committedElsewhereCents(bidderId, auctionId))
+                : params.getMoney("allocatedBudget");
         Integer competingAuctions = params.getInt("competingAuctions");
 
-        Money maxBid = Money.usd(BigDecimal.valueOf(params.getDouble("maxBid")));
+        Money maxBid = params.getMoney("maxBid");
         if (currentHighestBid.isGreaterThanOrEqual(maxBid)) {
             return BidDecision.noBid();
         }
@@ -44,11 +65,12 @@ public class BudgetOptimizationStrategy implements BiddingStrategy {
             return BidDecision.noBid();
         }
 
-        return BidDecision.bid(nextBid, Instant.now());
+        // Another auction may take budget before the bid is placed; the reservation made then is authoritative
+        return BidDecision.bid(nextBid, clock.instant()).withinBudget(totalBudget);
     }
 
     @Override
     public StrategyType getType() {
         return StrategyType.BUDGET_OPTIMIZATION;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package com.auctionflow.bidding.strategies;
+
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link BudgetLedger} held in this process's memory, so budget-aware strategies can check and reserve budget
+ * in O(1) without a round trip. It only sees the events and reservations of this process, so it serves a
+ * single node, such as the market simulator; a cluster shares one ledger through {@code RedisBudgetLedger}.
+ *
+ * A bidder's exposure is the sum of their holds (one per auction, the amount they lead or are about to bid)
+ * plus what they have already won. Holds are taken by {@link #tryReserve} as a strategy's bid is placed and by
+ * {@link #onLeadingBid} when a bid event shows a new leader; the previous leader's hold is released when
+ * they are outbid, a placement that fails puts back the hold it replaced with {@link #restore}, and
+ * {@link #onAuctionClosed} turns the winner's hold into spend and releases the rest. An account left with
+ * no holds and no spend is dropped, so bidders who stop bidding do not stay in memory.
+ *
+ * All updates use compare-and-set with no locks. The committed total is raised before a hold grows and
+ * lowered only after a hold shrinks, so it never drops below the sum of the holds and concurrent
+ * reservations cannot push a bidder past their budget.
+ */
+public class InMemoryBudgetLedger implements BudgetLedger {
+
+    private final ConcurrentHashMap<BidderId, Account> accounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<AuctionId, AtomicReference<Lead>> leads = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<AuctionId, Set<BidderId>> holders = new ConcurrentHashMap<>();
+
+    private record Lead(BidderId bidderId, long amountCents) {
+    }
+
+    private static final class Account {
+        final AtomicLong committedCents = new AtomicLong();
+        final AtomicLong spentCents = new AtomicLong();
+        final ConcurrentHashMap<AuctionId, Long> holds = new ConcurrentHashMap<>();
+        // Set while the account is being evicted; a hold written to a retired account is redone on a live one
+        volatile boolean retired;
+
+        boolean raise(long deltaCents, long budgetCents) {
+            long current;
+            do {
+                current = committedCents.get();
+                if (current + deltaCents > budgetCents) {
+                    return false;
+                }
+            } while (!committedCents.compareAndSet(current, current + deltaCents));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean tryReserve(BidderId bidderId, AuctionId auctionId, long amountCents, long budgetCents) {
+        Account account = accounts.computeIfAbsent(bidderId, id -> new Account());
+        while (true) {
+            if (account.retired) {
+                account = accounts.computeIfAbsent(bidderId, id -> new Account());
+                continue;
+            }
+            Long held = account.holds.get(auctionId);
+            long delta = amountCents - (held == null ? 0 : held);
+            if (delta > 0 && !account.raise(delta, budgetCents)) {
+                return false;
+            }
+            boolean swapped = held == null
+                    ? account.holds.putIfAbsent(auctionId, amountCents) == null
+                    : account.holds.replace(auctionId, held, amountCents);
+            if (swapped) {
+                if (delta < 0) {
+                    account.committedCents.addAndGet(delta);
+                }
+                if (held == null) {
+                    holders.computeIfAbsent(auctionId, id -> ConcurrentHashMap.newKeySet()).add(bidderId);
+                }
+                if (account.retired) {
+                    // Possibly evicted as the hold was written; redo it on whichever account is live, which
+                    // is a no-op if this one was kept
+                    continue;
+                }
+                return true;
+            }
+            if (delta > 0) {
+                // Lost a race on this auction's hold; undo and retry against the new value
+                account.committedCents.addAndGet(-delta);
+            }
+        }
+    }
+
+    @Override
+    public void release(BidderId bidderId, AuctionId auctionId) {
+        Account account = accounts.get(bidderId);
+        if (account == null) {
+            return;
+        }
+        Long held;
+        while ((held = account.holds.get(auctionId)) != null) {
+            if (account.holds.remove(auctionId, held)) {
+                account.committedCents.addAndGet(-held);
+                evictIfEmpty(bidderId, account);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onLeadingBid(AuctionId auctionId, BidderId bidderId, long amountCents) {
+        AtomicReference<Lead> lead = leads.computeIfAbsent(auctionId, id -> new AtomicReference<>());
+        while (true) {
+            Lead current = lead.get();
+            if (current != null && current.amountCents() >= amountCents) {
+                return;
+            }
+            if (lead.compareAndSet(current, new Lead(bidderId, amountCents))) {
+                tryReserve(bidderId, auctionId, amountCents, Long.MAX_VALUE);
+                if (current != null && !current.bidderId().equals(bidderId)) {
+                    release(current.bidderId(), auctionId);
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onAuctionClosed(AuctionId auctionId, BidderId winnerId) {
+        leads.remove(auctionId);
+        Set<BidderId> auctionHolders = holders.remove(auctionId);
+        if (auctionHolders == null) {
+            return;
+        }
+        for (BidderId holder : auctionHolders) {
+            Account account = accounts.get(holder);
+            if (account == null) {
+                continue;
+            }
+            if (holder.equals(winnerId)) {
+                Long held = account.holds.remove(auctionId);
+                if (held != null) {
+                    // Stays committed, now as spend
+                    account.spentCents.addAndGet(held);
+                }
+                evictIfEmpty(holder, account);
+            } else {
+                release(holder, auctionId);
+            }
+        }
+    }
+
+    /**
+     * Drops an account that holds nothing and has won nothing. The account is marked retired before it is
+     * checked, so a reservation writing to it concurrently either is seen here and keeps the account, or sees
+     * the mark and redoes the reservation on a fresh account.
+     */
+    private void evictIfEmpty(BidderId bidderId, Account account) {
+        if (!account.holds.isEmpty() || account.spentCents.get() != 0) {
+            return;
+        }
+        accounts.computeIfPresent(bidderId, (id, current) -> {
+            if (current != account) {
+                return current;
+            }
+            account.retired = true;
+            if (account.holds.isEmpty() && account.spentCents.get() == 0) {
+                return null;
+            }
+            account.retired = false;
+            return current;
+        });
+    }
+
+    @Override
+    public long committedCents(BidderId bidderId) {
+        Account account = accounts.get(bidderId);
+        return account == null ? 0 : account.committedCents.get();
+    }
+
+    @Override
+    public long committedElsewhereCents(BidderId bidderId, AuctionId auctionId) {
+        Account account = accounts.get(bidderId);
+        if (account == null) {
+            return 0;
+        }
+        Long held = account.holds.get(auctionId);
+        return account.committedCents.get() - (held == null ? 0 : held);
+    }
+
+    @Override
+    public long holdCents(BidderId bidderId, AuctionId auctionId) {
+        Account account = accounts.get(bidderId);
+        Long held = account == null ? null : account.holds.get(auctionId);
+        return held == null ? 0 : held;
+    }
+
+    @Override
+    public long spentCents(BidderId bidderId) {
+        Account account = accounts.get(bidderId);
+        return account == null ? 0 : account.spentCents.get();
+    }
+
+    /**
+     * Bidders currently tracked, which excludes those with no holds and nothing won.
+     */
+    public int accountCount() {
+        return accounts.size();
+    }
+}
@@ -4,8 +4,8 @@ import com.auctionflow.core.domain.valueobjects.AuctionId;
 import com.auctionflow.core.domain.valueobjects.BidderId;
 import com.auctionflow.core.domain.valueobjects.Money;
 
-import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Clock;
 import java.time.Instant;
 
 /**
@@ -13,20 +13,30 @@ import java.time.Instant;
  */
 public class OptimalTimingStrategy implements BiddingStrategy {
 
+    private final Clock clock;
+
+    public OptimalTimingStrategy() {
+        this(Clock.systemUTC());
+    }
+
+    public OptimalTimingStrategy(Clock clock) {
+        this.clock = clock;
+    }
+
     @Override
     public BidDecision decideBid(AuctionId auctionId, BidderId bidderId, Money currentHighestBid,
                                 Instant auctionEndTime, StrategyParameters params) {
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         Duration timeLeft = Duration.between(now, auctionEndTime);
 
-        Money maxBid = Money.usd(BigDecimal.valueOf(params.getDouble("maxBid")));
+        Money maxBid = params.getMoney("maxBid");
         if (currentHighestBid.isGreaterThanOrEqual(maxBid)) {
             return BidDecision.noBid();
         }
 
         // Optimal timing: bid when activity is low, avoid peak times
         // For simplicity, bid in the middle third of the auction
-        Duration totalDuration = Duration.between(Instant.now().minus(timeLeft), auctionEndTime);
+        Duration totalDuration = Duration.between(clock.instant().minus(timeLeft), auctionEndTime);
         Duration optimalStart = totalDuration.dividedBy(3);
         Duration optimalEnd = totalDuration.multipliedBy(2).dividedBy(3);
 
@@ -35,8 +45,8 @@ public class OptimalTimingStrategy implements BiddingStrategy {
         }
 
         // Calculate bid amount - jump to discourage others
-        Money increment = Money.usd(BigDecimal.valueOf(params.getDouble("increment")));
-        Money nextBid = currentHighestBid.add(increment.multiply(BigDecimal.valueOf(2))); // Bid higher to discourage
+        Money increment = params.getMoney("increment");
+        Money nextBid = currentHighestBid.add(increment.multiply(2)); // Bid higher to discourage
         if (nextBid.isGreaterThan(maxBid)) {
             nextBid = maxBid;
         }
@@ -5,6 +5,7 @@ import com.auctionflow.core.domain.valueobjects.BidderId;
 import com.auctionflow.core.domain.valueobjects.Money;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Instant;
 
 /**
@@ -13,19 +14,29 @@ import java.time.Instant;
  */
 public class ReinforcementLearningStrategy implements BiddingStrategy {
 
+    private final Clock clock;
+
+    public ReinforcementLearningStrategy() {
+        this(Clock.systemUTC());
+    }
+
+    public ReinforcementLearningStrategy(Clock clock) {
+        this.clock = clock;
+    }
+
     @Override
     public BidDecision decideBid(AuctionId auctionId, BidderId bidderId, Money currentHighestBid,
                                 Instant auctionEndTime, StrategyParameters params) {
         // TODO: Implement RL model
         // For now, fall back to conservative bidding
 
-        Money maxBid = Money.usd(BigDecimal.valueOf(params.getDouble("maxBid")));
+        Money maxBid = params.getMoney("maxBid");
         if (currentHighestBid.isGreaterThanOrEqual(maxBid)) {
             return BidDecision.noBid();
         }
 
         // Simple RL-inspired: bid higher when closer to end
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         long secondsLeft = auctionEndTime.getEpochSecond() - now.getEpochSecond();
         double urgencyFactor = Math.max(0.1, 1.0 - (secondsLeft / 3600.0)); // Higher urgency near end
 
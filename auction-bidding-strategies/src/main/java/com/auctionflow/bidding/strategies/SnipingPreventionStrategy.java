@@ -4,8 +4,8 @@ import com.auctionflow.core.domain.valueobjects.AuctionId;
 import com.auctionflow.core.domain.valueobjects.BidderId;
 import com.auctionflow.core.domain.valueobjects.Money;
 
-import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Clock;
 import java.time.Instant;
 
 /**
@@ -13,10 +13,20 @@ import java.time.Instant;
  */
 public class SnipingPreventionStrategy implements BiddingStrategy {
 
+    private final Clock clock;
+
+    public SnipingPreventionStrategy() {
+        this(Clock.systemUTC());
+    }
+
+    public SnipingPreventionStrategy(Clock clock) {
+        this.clock = clock;
+    }
+
     @Override
     public BidDecision decideBid(AuctionId auctionId, BidderId bidderId, Money currentHighestBid,
                                 Instant auctionEndTime, StrategyParameters params) {
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         Duration timeLeft = Duration.between(now, auctionEndTime);
 
         // Don't bid in the last minute to avoid triggering anti-snipe
@@ -25,13 +35,13 @@ public class SnipingPreventionStrategy implements BiddingStrategy {
         }
 
         // Bid incrementally, not too aggressively
-        Money maxBid = Money.usd(BigDecimal.valueOf(params.getDouble("maxBid")));
+        Money maxBid = params.getMoney("maxBid");
         if (currentHighestBid.isGreaterThanOrEqual(maxBid)) {
             return BidDecision.noBid();
         }
 
         // Calculate next bid amount - conservative increment
-        Money increment = Money.usd(BigDecimal.valueOf(params.getDouble("increment")));
+        Money increment = params.getMoney("increment");
         Money nextBid = currentHighestBid.add(increment);
         if (nextBid.isGreaterThan(maxBid)) {
             nextBid = maxBid;
@@ -1,12 +1,18 @@
 package com.auctionflow.bidding.strategies;
 
+import com.auctionflow.core.domain.valueobjects.Money;
+
+import java.math.BigDecimal;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Parameters for bidding strategies
+ * Parameters for bidding strategies. Instances are parsed once per strategy and reused across
+ * evaluations, so monetary values are converted on first use and kept.
  */
 public class StrategyParameters {
     private final Map<String, Object> params;
+    private final Map<String, Money> moneyValues = new ConcurrentHashMap<>();
 
     public StrategyParameters(Map<String, Object> params) {
         this.params = params;
@@ -21,14 +27,23 @@ public class StrategyParameters {
     }
 
     public Double getDouble(String key) {
-        return (Double) params.get(key);
+        Number value = (Number) params.get(key);
+        return value == null ? null : value.doubleValue();
     }
 
     public Integer getInt(String key) {
-        return (Integer) params.get(key);
+        Number value = (Number) params.get(key);
+        return value == null ? null : value.intValue();
     }
 
     public Boolean getBoolean(String key) {
         return (Boolean) params.get(key);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a numeric parameter as a USD amount, converted once and cached.
+     */
+    public Money getMoney(String key) {
+        return moneyValues.computeIfAbsent(key, k -> Money.usd(BigDecimal.valueOf(getDouble(k))));
+    }
+}
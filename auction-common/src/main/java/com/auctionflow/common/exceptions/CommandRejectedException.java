@@ -0,0 +1,20 @@
+package com.auctionflow.common.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a command cannot be accepted because the system is at capacity. The caller should retry
+ * after {@link #getRetryAfter()}.
+ */
+public class CommandRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public CommandRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
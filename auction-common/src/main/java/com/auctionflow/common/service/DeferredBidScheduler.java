@@ -0,0 +1,36 @@
+package com.auctionflow.common.service;
+
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.core.domain.valueobjects.Money;
+
+import java.time.Instant;
+
+/**
+ * Holds automated strategy bids that should be placed at a later time and places them when due.
+ */
+public interface DeferredBidScheduler {
+
+    /**
+     * Registers a pending bid for a strategy, replacing any bid the same strategy already has pending. The
+     * auction's end time at the moment of the decision is kept so that an extension can move the bid with it.
+     * budgetCents is the strategy's budget, reserved when the bid is placed, or PlaceBidCommand.NO_BUDGET.
+     */
+    void schedule(AuctionId auctionId, String strategyId, BidderId bidderId, Money amount, long budgetCents,
+                  Instant bidTime, Instant auctionEndTime);
+
+    /**
+     * Drops pending bids on the auction that would no longer beat the current highest bid.
+     */
+    void invalidateAtOrBelow(AuctionId auctionId, Money currentHighestBid);
+
+    /**
+     * Moves pending bids on an extended auction later by the extension, so a bid timed against the close
+     * keeps its distance from the new close.
+     */
+    void extend(AuctionId auctionId, Instant newEndTime);
+
+    void cancelAll(AuctionId auctionId);
+
+    int getPendingCount();
+}
@@ -1,13 +1,41 @@
 package com.auctionflow.common.service;
 
+import com.auctionflow.common.exceptions.OptimisticLockException;
 import com.auctionflow.core.domain.events.DomainEvent;
 import com.auctionflow.core.domain.valueobjects.AuctionId;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface EventStore {
     void save(List<DomainEvent> events, long expectedVersion);
+
+    /**
+     * Appends the opening events of many new aggregates at once. An aggregate that already has events is
+     * left untouched and returned; the events of every other aggregate are appended. Stores that can should
+     * override this to append in a few round trips; by default each aggregate is saved on its own.
+     */
+    default Set<AuctionId> appendNew(List<DomainEvent> events) {
+        Map<AuctionId, List<DomainEvent>> byAggregate = new LinkedHashMap<>();
+        for (DomainEvent event : events) {
+            byAggregate.computeIfAbsent((AuctionId) event.getAggregateId(), id -> new ArrayList<>()).add(event);
+        }
+        Set<AuctionId> existing = new HashSet<>();
+        byAggregate.forEach((aggregateId, aggregateEvents) -> {
+            try {
+                save(aggregateEvents, 0);
+            } catch (OptimisticLockException e) {
+                existing.add(aggregateId);
+            }
+        });
+        return existing;
+    }
     List<DomainEvent> getEvents(AuctionId aggregateId);
     List<DomainEvent> getEventsAfter(AuctionId aggregateId, long sequenceNumber);
 
@@ -15,4 +43,11 @@ public interface EventStore {
     List<DomainEvent> getEventsFromTimestamp(Instant fromTimestamp);
     List<DomainEvent> getEventsForAggregateFromTimestamp(AuctionId aggregateId, Instant fromTimestamp);
     List<DomainEvent> getEventsByTimestampRange(Instant fromTimestamp, Instant toTimestamp);
+
+    // Streaming variants, same ordering as above but cursor-backed with bounded memory.
+    // The returned stream holds a database connection and must be closed (try-with-resources).
+    Stream<DomainEvent> streamEvents(AuctionId aggregateId);
+    Stream<DomainEvent> streamEventsFromTimestamp(Instant fromTimestamp);
+    Stream<DomainEvent> streamEventsForAggregateFromTimestamp(AuctionId aggregateId, Instant fromTimestamp);
+    Stream<DomainEvent> streamEventsByTimestampRange(Instant fromTimestamp, Instant toTimestamp);
 }
\ No newline at end of file
@@ -1,48 +1,78 @@
 package com.auctionflow.core.domain;
 
-import com.auctionflow.core.domain.valueobjects.Bid;
-import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
 
-import java.util.Comparator;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.Arrays;
 
 /**
- * Efficient bid queue for high-frequency auctions.
- * Uses concurrent priority queue ordered by price-time priority: higher amount first, then lower seqNo for ties.
- * Provides O(log n) insertion and O(1) peek for processing.
- * Thread-safe for concurrent access in high-frequency scenarios.
+ * Queue of validated bids waiting to be applied, ordered by price-time priority: higher amount first,
+ * then lower seqNo for ties.
+ * Holds the place-bid commands themselves in an array-backed binary heap, so queuing a bid allocates nothing
+ * and no intermediate Bid object is created. Provides O(log n) insertion and O(1) peek for processing.
+ * Not thread-safe: each queue belongs to one aggregate, which is only ever driven by the single writer of its
+ * command bus lane.
  */
 public class BidQueue {
-    private final PriorityBlockingQueue<Bid> queue;
-
-    public BidQueue() {
-        this.queue = new PriorityBlockingQueue<>(11, Comparator
-                .comparing((Bid b) -> b.amount().getAmountCents(), Comparator.reverseOrder()) // higher amount first
-                .thenComparing(Bid::seqNo)); // lower seqNo first for same amount
-    }
+    private PlaceBidCommand[] heap = new PlaceBidCommand[8];
+    private int size;
 
     /**
      * Adds a bid to the queue.
      * @param bid the bid to add
      */
-    public void addBid(Bid bid) {
-        queue.offer(bid);
+    public void addBid(PlaceBidCommand bid) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!higherPriority(bid, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = bid;
     }
 
     /**
      * Peeks at the highest priority bid without removing.
      * @return the highest priority bid or null if empty
      */
-    public Bid peekHighestBid() {
-        return queue.peek();
+    public PlaceBidCommand peekHighestBid() {
+        return size == 0 ? null : heap[0];
     }
 
     /**
      * Removes and returns the highest priority bid.
      * @return the highest priority bid or null if empty
      */
-    public Bid pollHighestBid() {
-        return queue.poll();
+    public PlaceBidCommand pollHighestBid() {
+        if (size == 0) {
+            return null;
+        }
+        PlaceBidCommand highest = heap[0];
+        PlaceBidCommand last = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && higherPriority(heap[right], heap[child])) {
+                    child = right;
+                }
+                if (!higherPriority(heap[child], last)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = last;
+        }
+        return highest;
     }
 
     /**
@@ -50,7 +80,7 @@ public class BidQueue {
      * @return true if empty
      */
     public boolean isEmpty() {
-        return queue.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -58,13 +88,20 @@ public class BidQueue {
      * @return number of bids in queue
      */
     public int size() {
-        return queue.size();
+        return size;
     }
 
     /**
      * Clears all bids from the queue.
      */
     public void clear() {
-        queue.clear();
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    private static boolean higherPriority(PlaceBidCommand a, PlaceBidCommand b) {
+        long amountA = a.amount().getAmountCents();
+        long amountB = b.amount().getAmountCents();
+        return amountA > amountB || (amountA == amountB && a.seqNo() < b.seqNo());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.auctionflow.core.domain;
+
+import com.auctionflow.core.domain.valueobjects.BidIncrement;
+import com.auctionflow.core.domain.valueobjects.FixedBidIncrement;
+import com.auctionflow.core.domain.valueobjects.IncrementLadder;
+import com.auctionflow.core.domain.valueobjects.Money;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide set of compiled increment ladders, shared by all aggregates.
+ *
+ * A new auction takes the ladder named after its category, or the {@value #DEFAULT} ladder, or a fixed $1
+ * increment when neither is loaded, and its AuctionCreatedEvent records that ladder's steps. Replay rebuilds
+ * the ladder from the event through {@link #forSteps}, so a reload only affects auctions created after it.
+ * Reloads replace the whole set atomically.
+ */
+public final class IncrementLadders {
+
+    public static final String DEFAULT = "default";
+
+    private static final BidIncrement FALLBACK = new FixedBidIncrement(Money.usd(100));
+
+    private static volatile Map<String, IncrementLadder> ladders = Map.of();
+    // Ladders rebuilt from events, one instance per distinct set of steps; there are only ever a few versions
+    private static final Map<List<IncrementLadder.Step>, IncrementLadder> compiled = new ConcurrentHashMap<>();
+
+    private IncrementLadders() {
+    }
+
+    public static BidIncrement forCategory(String categoryId) {
+        Map<String, IncrementLadder> current = ladders;
+        IncrementLadder ladder = categoryId == null ? null : current.get(categoryId);
+        if (ladder == null) {
+            ladder = current.get(DEFAULT);
+        }
+        return ladder != null ? ladder : FALLBACK;
+    }
+
+    /**
+     * The steps a new auction in the category records, or null when it gets the fixed increment.
+     */
+    public static List<IncrementLadder.Step> stepsForCategory(String categoryId) {
+        return forCategory(categoryId) instanceof IncrementLadder ladder ? ladder.getSteps() : null;
+    }
+
+    /**
+     * The increment recorded with an auction: the ladder with these steps, or the fixed increment for null,
+     * which is also what auctions created before ladders were recorded used.
+     */
+    public static BidIncrement forSteps(List<IncrementLadder.Step> steps) {
+        if (steps == null) {
+            return FALLBACK;
+        }
+        return compiled.computeIfAbsent(List.copyOf(steps), IncrementLadder::of);
+    }
+
+    public static void replaceAll(Map<String, IncrementLadder> loaded) {
+        ladders = Map.copyOf(loaded);
+    }
+
+    public static Map<String, IncrementLadder> snapshot() {
+        return ladders;
+    }
+}
@@ -38,6 +38,19 @@ public abstract class AggregateRoot {
         this.expectedVersion = expectedVersion;
     }
 
+    /**
+     * Returns an independent copy of this aggregate's state, used to keep point-in-time checkpoints,
+     * or null if this aggregate type does not support copying. Pending domain events are not copied.
+     */
+    public AggregateRoot copy() {
+        return null;
+    }
+
+    protected void copyVersionTo(AggregateRoot target) {
+        target.version = this.version;
+        target.expectedVersion = this.expectedVersion;
+    }
+
     public abstract Object getId();
     public abstract Object getStatus();
     public abstract Instant getEndTime();
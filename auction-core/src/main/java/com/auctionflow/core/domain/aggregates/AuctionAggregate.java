@@ -1,19 +1,17 @@
 package com.auctionflow.core.domain.aggregates;
 
 import com.auctionflow.core.domain.BidQueue;
+import com.auctionflow.core.domain.IncrementLadders;
 import com.auctionflow.core.domain.commands.*;
 import com.auctionflow.core.domain.events.*;
-import com.auctionflow.core.domain.utils.ObjectPool;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 import com.auctionflow.core.domain.validators.BidValidator;
-import com.auctionflow.core.domain.validators.ValidationResult;
-import java.util.function.Supplier;
 import com.auctionflow.core.domain.valueobjects.*;
-import com.auctionflow.core.domain.valueobjects.FixedBidIncrement;
-import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,14 +22,15 @@ import java.util.UUID;
  * Concurrent access to the same auction is not supported and must be prevented at the command bus level.
  */
 public class AuctionAggregate extends AggregateRoot {
-    // Pool BidValidator instances to reduce allocation in hot paths
-    private static final ObjectPool<BidValidator> BID_VALIDATOR_POOL = new ObjectPool<>(10, 100, BidValidator::new);
+    // Stateless, so one instance serves every auction
+    private static final BidValidator BID_VALIDATOR = new BidValidator();
 
     private AuctionId id;
     private ItemId itemId;
     private SellerId sellerId;
     private AuctionType auctionType;
     private Money reservePrice;
+    private Currency currency;
     private Money buyNowPrice;
     private boolean hiddenReserve;
     private boolean reserveMet;
@@ -59,7 +58,7 @@ public class AuctionAggregate extends AggregateRoot {
         this.extensionsCount = 0;
         this.currentHighestBid = null;
         this.highestBidderId = null;
-        this.bidIncrement = new FixedBidIncrement(Money.usd(BigDecimal.ONE));
+        this.bidIncrement = IncrementLadders.forSteps(null);
         this.currentSeqNo = Long.MAX_VALUE;
     }
 
@@ -98,7 +97,7 @@ public class AuctionAggregate extends AggregateRoot {
             throw new IllegalStateException("Auction already created");
         }
         AuctionId auctionId = command.auctionId();
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         Instant timestamp = Instant.now();
         long sequenceNumber = getVersion() + 1;
         AuctionCreatedEvent event = new AuctionCreatedEvent(
@@ -113,6 +112,7 @@ public class AuctionAggregate extends AggregateRoot {
             command.endTime(),
             command.antiSnipePolicy(),
             command.hiddenReserve(),
+            IncrementLadders.stepsForCategory(command.categoryId()),
             eventId,
             timestamp,
             sequenceNumber
@@ -134,7 +134,7 @@ public class AuctionAggregate extends AggregateRoot {
         }
         // Set reveal phase end time, e.g., 1 hour after bidding ends
         Instant revealEndTime = endTime.plusSeconds(3600);
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         long sequenceNumber = getVersion() + 1;
         AuctionRevealPhaseStartedEvent event = new AuctionRevealPhaseStartedEvent(id, revealEndTime,
                                                                                   eventId, now, sequenceNumber);
@@ -161,7 +161,7 @@ public class AuctionAggregate extends AggregateRoot {
         boolean valid = com.auctionflow.core.domain.utils.CryptoUtils.verifyBid(
                 command.amount().toString(), command.salt(), commit.getHash());
         Instant now = Instant.now();
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         long sequenceNumber = getVersion() + 1;
         BidRevealedEvent event = new BidRevealedEvent(id, command.bidderId(), command.amount(), command.salt(), valid,
                                                       eventId, now, sequenceNumber);
@@ -185,7 +185,7 @@ public class AuctionAggregate extends AggregateRoot {
         if (alreadyCommitted) {
             throw new IllegalStateException("Bidder has already committed a bid");
         }
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         long sequenceNumber = getVersion() + 1;
         BidCommittedEvent event = new BidCommittedEvent(id, command.bidderId(), command.bidHash(), command.salt(),
                                                         sequenceNumber, eventId, now, sequenceNumber);
@@ -195,7 +195,7 @@ public class AuctionAggregate extends AggregateRoot {
 
     /**
      * Handles placing a bid on the auction.
-     * Validates bid amount using BidValidator with increments, updates state with price-time priority, and emits events.
+     * Validates bid amount using the shared BidValidator with increments, updates state with price-time priority, and emits events.
      * Optimized for high-frequency bidding with server-assigned timestamps and sequence numbers for fairness.
      * @param command the place bid command containing server timestamp and sequence number
      */
@@ -204,26 +204,24 @@ public class AuctionAggregate extends AggregateRoot {
             throw new IllegalStateException("Use commit bid for sealed auctions");
         }
         Instant serverTs = command.serverTs();
-        long seqNo = command.seqNo();
         if (status != AuctionStatus.OPEN) {
             throw new IllegalStateException("Auction is not open for bidding");
         }
         if (serverTs.isBefore(startTime) || serverTs.isAfter(endTime)) {
             throw new IllegalStateException("Auction is not active");
         }
-        // Use pooled BidValidator for proper validation with increments to minimize allocation
-        BidValidator validator = BID_VALIDATOR_POOL.borrow();
-        try {
-            ValidationResult result = validator.validate(currentHighestBid, reservePrice, bidIncrement, new BidderId(command.bidderId()), command.amount());
-            if (!result.isValid()) {
-                throw new IllegalStateException(result.getFirstError());
-            }
-        } finally {
-            BID_VALIDATOR_POOL.release(validator);
+        // Currency is checked once against the auction's; validation then runs on primitive cents
+        Money amount = command.amount();
+        if (!currency.equals(amount.getCurrency())) {
+            throw new IllegalStateException("Bid currency must match the auction currency");
+        }
+        BidValidator.Result result = BID_VALIDATOR.validate(currentHighestBid.getAmountCents(),
+                reservePrice.getAmountCents(), bidIncrement, amount.getAmountCents());
+        if (!result.isValid()) {
+            throw new IllegalStateException(result.getMessage());
         }
-        // Use bid queue for efficient processing and ordering with pooled Bid objects
-        Bid bid = Bid.create(new BidderId(command.bidderId()), command.amount(), serverTs, seqNo);
-        bidQueue.addBid(bid);
+        // The command itself waits in the bid queue; only accepted bids are recorded, as compact Bid records
+        bidQueue.addBid(command);
         processQueuedBids();
     }
 
@@ -257,25 +255,24 @@ public class AuctionAggregate extends AggregateRoot {
         int maxBatchSize = calculateAdaptiveBatchSize(queueSize); // Adaptive batch size based on queue load
         int processed = 0;
         while (!bidQueue.isEmpty() && processed < maxBatchSize) {
-            Bid bid = bidQueue.pollHighestBid();
+            PlaceBidCommand bid = bidQueue.pollHighestBid();
             if (bid != null) {
-                UUID eventId = UUID.randomUUID();
+                UUID eventId = TimeOrderedUuid.next();
                 long sequenceNumber = getVersion() + 1;
-                BidPlacedEvent event = new BidPlacedEvent(id, bid.bidderId().id(), bid.amount(), bid.timestamp(), eventId, sequenceNumber, bid.seqNo());
+                BidPlacedEvent event = new BidPlacedEvent(id, bid.bidderId(), bid.amount(), bid.serverTs(), eventId, sequenceNumber, bid.seqNo(),
+                        bid.clientAddress());
                 apply(event);
                 addDomainEvent(event);
 
                 // Check if reserve is met for the first time
-                if (!reserveMet && bid.amount().isGreaterThanOrEqual(reservePrice)) {
+                if (!reserveMet && bid.amount().getAmountCents() >= reservePrice.getAmountCents()) {
                     reserveMet = true;
-                    UUID reserveEventId = UUID.randomUUID();
+                    UUID reserveEventId = TimeOrderedUuid.next();
                     long reserveSequenceNumber = getVersion() + 1;
-                    ReserveMetEvent reserveEvent = new ReserveMetEvent(id, bid.bidderId(), bid.amount(), reserveEventId, bid.timestamp(), reserveSequenceNumber);
+                    ReserveMetEvent reserveEvent = new ReserveMetEvent(id, new BidderId(bid.bidderId()), bid.amount(), reserveEventId, bid.serverTs(), reserveSequenceNumber);
                     addDomainEvent(reserveEvent);
                 }
                 processed++;
-                // Release pooled Bid object after processing
-                Bid.release(bid);
             }
         }
     }
@@ -287,7 +284,7 @@ public class AuctionAggregate extends AggregateRoot {
         if (command.newEndTime().isBefore(endTime)) {
             throw new IllegalStateException("New end time must be after current end time");
         }
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         Instant timestamp = Instant.now();
         long sequenceNumber = getVersion() + 1;
         AuctionExtendedEvent event = new AuctionExtendedEvent(id, command.newEndTime(), eventId, timestamp, sequenceNumber);
@@ -295,6 +292,17 @@ public class AuctionAggregate extends AggregateRoot {
         addDomainEvent(event);
     }
 
+    /**
+     * Records that a proxy bid could not answer the current highest bid. The event changes no auction state
+     * but is part of the aggregate's stream, so it takes the next sequence number like any other.
+     */
+    public void recordProxyBidOutbid(UUID userId, String reason) {
+        UUID eventId = TimeOrderedUuid.next();
+        long sequenceNumber = getVersion() + 1;
+        ProxyBidOutbidEvent event = new ProxyBidOutbidEvent(id, userId, reason, eventId, Instant.now(), sequenceNumber);
+        addDomainEvent(event);
+    }
+
     public void handle(CloseAuctionCommand command) {
         if (status != AuctionStatus.OPEN && status != AuctionStatus.REVEAL_PHASE) {
             throw new IllegalStateException("Auction is not open or in reveal phase");
@@ -307,14 +315,14 @@ public class AuctionAggregate extends AggregateRoot {
         if (auctionType == AuctionType.SEALED_BID) {
             // For sealed bid, winner from revealed bids: higher amount, then lower seqNo (earlier commit)
             winner = revealedBids.stream()
-                    .max(Comparator.comparing((Bid b) -> b.amount().toBigDecimal(), Comparator.reverseOrder())
-                            .thenComparing(Bid::seqNo))
+                    .max(Comparator.comparingLong(Bid::amountCents)
+                            .thenComparing(Bid::seqNo, Comparator.reverseOrder()))
                     .map(bid -> new WinnerId(bid.bidderId().id()))
                     .orElse(null);
         } else {
             winner = highestBidderId != null ? new WinnerId(highestBidderId) : null;
         }
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         long sequenceNumber = getVersion() + 1;
         AuctionClosedEvent event = new AuctionClosedEvent(id, winner, eventId, now, sequenceNumber);
         apply(event);
@@ -328,6 +336,7 @@ public class AuctionAggregate extends AggregateRoot {
         this.sellerId = event.getSellerId();
         this.auctionType = event.getAuctionType();
         this.reservePrice = event.getReservePrice();
+        this.currency = event.getReservePrice().getCurrency();
         this.buyNowPrice = event.getBuyNowPrice();
         this.hiddenReserve = event.isHiddenReserve();
         this.reserveMet = false;
@@ -337,7 +346,8 @@ public class AuctionAggregate extends AggregateRoot {
         this.antiSnipePolicy = event.getAntiSnipePolicy();
         this.status = event.getAuctionType() == AuctionType.SEALED_BID ? AuctionStatus.SEALED_BIDDING : AuctionStatus.OPEN;
         this.currentHighestBid = event.getReservePrice();
-        this.bidIncrement = new FixedBidIncrement(Money.usd(BigDecimal.ONE));
+        // From the event, not the current ladders, so replay gives the increments the auction was run with
+        this.bidIncrement = IncrementLadders.forSteps(event.getIncrementSteps());
         this.currentSeqNo = Long.MAX_VALUE;
     }
 
@@ -364,8 +374,9 @@ public class AuctionAggregate extends AggregateRoot {
         if (this.currentHighestBid == null) {
             return true;
         }
-        return event.getAmount().isGreaterThan(this.currentHighestBid) ||
-               (event.getAmount().equals(this.currentHighestBid) && event.getSeqNo() < this.currentSeqNo);
+        long amountCents = event.getAmount().getAmountCents();
+        long highestCents = this.currentHighestBid.getAmountCents();
+        return amountCents > highestCents || (amountCents == highestCents && event.getSeqNo() < this.currentSeqNo);
     }
 
     @EventHandler
@@ -411,6 +422,36 @@ public class AuctionAggregate extends AggregateRoot {
         this.reserveMet = true;
     }
 
+    @Override
+    public AuctionAggregate copy() {
+        AuctionAggregate copy = new AuctionAggregate();
+        copy.id = id;
+        copy.itemId = itemId;
+        copy.sellerId = sellerId;
+        copy.auctionType = auctionType;
+        copy.reservePrice = reservePrice;
+        copy.currency = currency;
+        copy.buyNowPrice = buyNowPrice;
+        copy.hiddenReserve = hiddenReserve;
+        copy.reserveMet = reserveMet;
+        copy.status = status;
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.originalDuration = originalDuration;
+        copy.antiSnipePolicy = antiSnipePolicy;
+        copy.extensionsCount = extensionsCount;
+        copy.bids = new ArrayList<>(bids);
+        copy.commits = new ArrayList<>(commits);
+        copy.revealedBids = new ArrayList<>(revealedBids);
+        copy.winnerId = winnerId;
+        copy.currentHighestBid = currentHighestBid;
+        copy.highestBidderId = highestBidderId;
+        copy.bidIncrement = bidIncrement;
+        copy.currentSeqNo = currentSeqNo;
+        copyVersionTo(copy);
+        return copy;
+    }
+
     @Override
     public void handle(Object command) {
         if (command instanceof CreateAuctionCommand c) {
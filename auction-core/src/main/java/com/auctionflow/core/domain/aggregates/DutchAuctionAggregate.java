@@ -2,6 +2,7 @@ package com.auctionflow.core.domain.aggregates;
 
 import com.auctionflow.core.domain.commands.*;
 import com.auctionflow.core.domain.events.*;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 import com.auctionflow.core.domain.valueobjects.*;
 
 import java.time.Duration;
@@ -68,7 +69,7 @@ public class DutchAuctionAggregate extends AggregateRoot {
         Duration decrementInterval = Duration.ofMinutes(1);
         DutchAuctionRules rules = new DutchAuctionRules(minimumPrice, decrementAmount, decrementInterval);
 
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         Instant timestamp = Instant.now();
         long sequenceNumber = getVersion() + 1;
         AuctionCreatedEvent event = new AuctionCreatedEvent(
@@ -83,6 +84,7 @@ public class DutchAuctionAggregate extends AggregateRoot {
             command.endTime(),
             command.antiSnipePolicy(),
             false, // hiddenReserve
+            null, // Dutch prices step down on their own schedule, not by bid increments
             eventId,
             timestamp,
             sequenceNumber
@@ -104,9 +106,10 @@ public class DutchAuctionAggregate extends AggregateRoot {
         if (!command.amount().equals(currentPrice)) {
             throw new IllegalStateException("Bid amount must match current price");
         }
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         long sequenceNumber = getVersion() + 1;
-        BidPlacedEvent event = new BidPlacedEvent(id, command.bidderId(), currentPrice, serverTs, eventId, sequenceNumber, seqNo);
+        BidPlacedEvent event = new BidPlacedEvent(id, command.bidderId(), currentPrice, serverTs, eventId, sequenceNumber, seqNo,
+                command.clientAddress());
         apply(event);
         addDomainEvent(event);
     }
@@ -127,7 +130,7 @@ public class DutchAuctionAggregate extends AggregateRoot {
             // No reduction needed
             return;
         }
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         long sequenceNumber = getVersion() + 1;
         PriceReducedEvent event = new PriceReducedEvent(id, newPrice, eventId, now, sequenceNumber);
         apply(event);
@@ -143,7 +146,7 @@ public class DutchAuctionAggregate extends AggregateRoot {
             throw new IllegalStateException("Auction has not ended yet");
         }
         // If no winner, winnerId remains null
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         long sequenceNumber = getVersion() + 1;
         AuctionClosedEvent event = new AuctionClosedEvent(id, winnerId, eventId, now, sequenceNumber);
         apply(event);
@@ -187,6 +190,24 @@ public class DutchAuctionAggregate extends AggregateRoot {
     }
 
     // Getters
+    @Override
+    public DutchAuctionAggregate copy() {
+        DutchAuctionAggregate copy = new DutchAuctionAggregate();
+        copy.id = id;
+        copy.itemId = itemId;
+        copy.auctionType = auctionType;
+        copy.startingPrice = startingPrice;
+        copy.currentPrice = currentPrice;
+        copy.rules = rules;
+        copy.status = status;
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.winnerId = winnerId;
+        copy.priceHistory = new ArrayList<>(priceHistory);
+        copyVersionTo(copy);
+        return copy;
+    }
+
     public AuctionId getId() { return id; }
     public AuctionType getAuctionType() { return auctionType; }
     public AuctionStatus getStatus() { return status; }
@@ -2,6 +2,7 @@ package com.auctionflow.core.domain.aggregates;
 
 import com.auctionflow.core.domain.commands.*;
 import com.auctionflow.core.domain.events.*;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 import com.auctionflow.core.domain.valueobjects.*;
 
 import java.time.Instant;
@@ -42,7 +43,7 @@ public class OfferAggregate extends AggregateRoot {
             throw new IllegalStateException("Offer already created");
         }
         OfferId offerId = OfferId.generate();
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         Instant timestamp = Instant.now();
         long sequenceNumber = getVersion() + 1;
         OfferCreatedEvent event = new OfferCreatedEvent(
@@ -63,7 +64,7 @@ public class OfferAggregate extends AggregateRoot {
         if (status != OfferStatus.PENDING) {
             throw new IllegalStateException("Offer is not pending");
         }
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         Instant timestamp = Instant.now();
         long sequenceNumber = getVersion() + 1;
         OfferAcceptedEvent event = new OfferAcceptedEvent(id, eventId, timestamp, sequenceNumber);
@@ -75,7 +76,7 @@ public class OfferAggregate extends AggregateRoot {
         if (status != OfferStatus.PENDING) {
             throw new IllegalStateException("Offer is not pending");
         }
-        UUID eventId = UUID.randomUUID();
+        UUID eventId = TimeOrderedUuid.next();
         Instant timestamp = Instant.now();
         long sequenceNumber = getVersion() + 1;
         OfferRejectedEvent event = new OfferRejectedEvent(id, eventId, timestamp, sequenceNumber);
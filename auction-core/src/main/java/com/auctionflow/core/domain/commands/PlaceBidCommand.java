@@ -5,7 +5,26 @@ import com.auctionflow.core.domain.valueobjects.Money;
 
 import java.time.Instant;
 
-public record PlaceBidCommand(AuctionId auctionId, String bidderId, Money amount, String idempotencyKey, Instant serverTs, long seqNo) {
+/**
+ * A bid to place. clientAddress is the address the bid was made from, or null for bids placed on a bidder's
+ * behalf (proxy and automated bids) and where it is not known. budgetCents is the budget of the strategy that
+ * placed the bid, reserved against when the bid is handled, or NO_BUDGET.
+ */
+public record PlaceBidCommand(AuctionId auctionId, String bidderId, Money amount, String idempotencyKey, Instant serverTs,
+                              long seqNo, String clientAddress, long budgetCents) {
+
+    public static final long NO_BUDGET = -1;
+
+    public PlaceBidCommand(AuctionId auctionId, String bidderId, Money amount, String idempotencyKey, Instant serverTs,
+                           long seqNo) {
+        this(auctionId, bidderId, amount, idempotencyKey, serverTs, seqNo, null);
+    }
+
+    public PlaceBidCommand(AuctionId auctionId, String bidderId, Money amount, String idempotencyKey, Instant serverTs,
+                           long seqNo, String clientAddress) {
+        this(auctionId, bidderId, amount, idempotencyKey, serverTs, seqNo, clientAddress, NO_BUDGET);
+    }
+
     public PlaceBidCommand {
         if (auctionId == null) {
             throw new IllegalArgumentException("AuctionId cannot be null");
@@ -25,5 +44,8 @@ public record PlaceBidCommand(AuctionId auctionId, String bidderId, Money amount
         if (seqNo <= 0) {
             throw new IllegalArgumentException("SeqNo must be positive");
         }
+        if (budgetCents < 0 && budgetCents != NO_BUDGET) {
+            throw new IllegalArgumentException("BudgetCents cannot be negative");
+        }
     }
 }
\ No newline at end of file
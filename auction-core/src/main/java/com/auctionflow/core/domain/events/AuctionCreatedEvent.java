@@ -3,11 +3,13 @@ package com.auctionflow.core.domain.events;
 import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
 import com.auctionflow.core.domain.valueobjects.AuctionId;
 import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.IncrementLadder;
 import com.auctionflow.core.domain.valueobjects.ItemId;
 import com.auctionflow.core.domain.valueobjects.Money;
 import com.auctionflow.core.domain.valueobjects.SellerId;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public class AuctionCreatedEvent extends DomainEvent {
@@ -21,8 +23,10 @@ public class AuctionCreatedEvent extends DomainEvent {
     private final Instant endTime;
     private final AntiSnipePolicy antiSnipePolicy;
     private final boolean hiddenReserve;
+    // The increment ladder in force when the auction was created; null for the fixed increment
+    private final List<IncrementLadder.Step> incrementSteps;
 
-    public AuctionCreatedEvent(AuctionId auctionId, ItemId itemId, SellerId sellerId, String categoryId, AuctionType auctionType, Money reservePrice, Money buyNowPrice, Instant startTime, Instant endTime, AntiSnipePolicy antiSnipePolicy, boolean hiddenReserve, UUID eventId, Instant timestamp, long sequenceNumber) {
+    public AuctionCreatedEvent(AuctionId auctionId, ItemId itemId, SellerId sellerId, String categoryId, AuctionType auctionType, Money reservePrice, Money buyNowPrice, Instant startTime, Instant endTime, AntiSnipePolicy antiSnipePolicy, boolean hiddenReserve, List<IncrementLadder.Step> incrementSteps, UUID eventId, Instant timestamp, long sequenceNumber) {
         super(auctionId, eventId, timestamp, sequenceNumber);
         this.itemId = itemId;
         this.sellerId = sellerId;
@@ -34,6 +38,7 @@ public class AuctionCreatedEvent extends DomainEvent {
         this.endTime = endTime;
         this.antiSnipePolicy = antiSnipePolicy;
         this.hiddenReserve = hiddenReserve;
+        this.incrementSteps = incrementSteps == null ? null : List.copyOf(incrementSteps);
         if (auctionId == null) {
             throw new IllegalArgumentException("AuctionId cannot be null");
         }
@@ -82,4 +87,8 @@ public class AuctionCreatedEvent extends DomainEvent {
     public boolean isHiddenReserve() {
         return hiddenReserve;
     }
+
+    public List<IncrementLadder.Step> getIncrementSteps() {
+        return incrementSteps;
+    }
 }
\ No newline at end of file
@@ -10,12 +10,15 @@ public class BidPlacedEvent extends DomainEvent {
     private final String bidderId;
     private final Money amount;
     private final long seqNo;
+    private final String clientAddress;
 
-    public BidPlacedEvent(AuctionId auctionId, String bidderId, Money amount, Instant timestamp, UUID eventId, long sequenceNumber, long seqNo) {
+    public BidPlacedEvent(AuctionId auctionId, String bidderId, Money amount, Instant timestamp, UUID eventId, long sequenceNumber, long seqNo,
+                          String clientAddress) {
         super(auctionId, eventId, timestamp, sequenceNumber);
         this.bidderId = bidderId;
         this.amount = amount;
         this.seqNo = seqNo;
+        this.clientAddress = clientAddress;
         if (auctionId == null) {
             throw new IllegalArgumentException("AuctionId cannot be null");
         }
@@ -41,4 +44,12 @@ public class BidPlacedEvent extends DomainEvent {
     public long getSeqNo() {
         return seqNo;
     }
+
+    /**
+     * The address the bid was made from, or null for proxy and automated bids and for bids recorded before
+     * addresses were.
+     */
+    public String getClientAddress() {
+        return clientAddress;
+    }
 }
\ No newline at end of file
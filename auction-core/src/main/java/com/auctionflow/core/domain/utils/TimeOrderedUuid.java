@@ -0,0 +1,75 @@
+package com.auctionflow.core.domain.utils;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562) for events and entities.
+ * Layout: 48-bit Unix epoch millis, version 7, a 42-bit per-thread counter spread over rand_a and the
+ * top of rand_b, then 32 random bits. Each thread owns its generator state, so generation is lock-free
+ * and never touches SecureRandom after the thread's first call. Values from one thread are strictly
+ * monotonic; values from different threads are ordered by millisecond.
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+    private static final ThreadLocal<Generator> GENERATOR = ThreadLocal.withInitial(Generator::new);
+
+    private static final int COUNTER_BITS = 42;
+    private static final int COUNTER_LOW_BITS = 30;
+    private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+    // Counter is seeded with its top bit clear so a millisecond has at least 2^41 increments of headroom
+    private static final long COUNTER_SEED_MASK = (1L << (COUNTER_BITS - 1)) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    private TimeOrderedUuid() {
+    }
+
+    /**
+     * Returns the next time-ordered UUID for the calling thread.
+     */
+    public static UUID next() {
+        return GENERATOR.get().next(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the next time-ordered UUID as a string, for identifiers stored as text.
+     */
+    public static String nextString() {
+        return next().toString();
+    }
+
+    /**
+     * Extracts the Unix epoch millisecond timestamp embedded in a UUIDv7.
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    static final class Generator {
+        private final SplittableRandom random = new SplittableRandom(SEED_SOURCE.nextLong());
+        private long lastMillis = Long.MIN_VALUE;
+        private long counter;
+
+        UUID next(long nowMillis) {
+            if (nowMillis > lastMillis) {
+                lastMillis = nowMillis;
+                counter = random.nextLong() & COUNTER_SEED_MASK;
+            } else if (++counter > COUNTER_MAX) {
+                // Counter exhausted within one millisecond (or the clock stepped back): borrow the next tick
+                lastMillis++;
+                counter = random.nextLong() & COUNTER_SEED_MASK;
+            }
+            long msb = (lastMillis << 16) | VERSION_7 | (counter >>> COUNTER_LOW_BITS);
+            long lsb = VARIANT_RFC
+                    | ((counter & ((1L << COUNTER_LOW_BITS) - 1)) << 32)
+                    | (random.nextInt() & 0xFFFFFFFFL);
+            return new UUID(msb, lsb);
+        }
+    }
+}
@@ -1,29 +1,42 @@
 package com.auctionflow.core.domain.validators;
 
 import com.auctionflow.core.domain.valueobjects.BidIncrement;
-import com.auctionflow.core.domain.valueobjects.BidderId;
-import com.auctionflow.core.domain.valueobjects.Money;
 
+/**
+ * Validates a bid amount against the reserve and the minimum increment. Works on primitive cents and
+ * returns a result code, so validating a bid allocates nothing; the caller checks the bid's currency
+ * against the auction's once, before calling. Stateless and safe to share.
+ */
 public class BidValidator {
-    public ValidationResult validate(Money currentHighestBid, Money reservePrice, BidIncrement bidIncrement, BidderId bidderId, Money bidAmount) {
-        ValidationResult result = ValidationResult.getInstance();
 
-        // Bidder eligibility
-        if (bidderId == null) {
-            result.addError("Bidder is not eligible");
+    public enum Result {
+        VALID(null),
+        BELOW_RESERVE("Bid must meet or exceed the reserve price"),
+        BELOW_MINIMUM_INCREMENT("Bid must meet or exceed the minimum increment");
+
+        private final String message;
+
+        Result(String message) {
+            this.message = message;
         }
 
-        // Reserve price
-        if (bidAmount.isLessThan(reservePrice)) {
-            result.addError("Bid must meet or exceed the reserve price");
+        public boolean isValid() {
+            return this == VALID;
         }
 
-        // Minimum increment
-        Money minimumBid = bidIncrement.nextBid(currentHighestBid);
-        if (bidAmount.isLessThan(minimumBid)) {
-            result.addError("Bid must meet or exceed the minimum increment");
+        /** Returns the error message, or null for a valid bid. */
+        public String getMessage() {
+            return message;
         }
+    }
 
-        return result;
+    public Result validate(long currentHighestCents, long reserveCents, BidIncrement bidIncrement, long bidCents) {
+        if (bidCents < reserveCents) {
+            return Result.BELOW_RESERVE;
+        }
+        if (bidCents < bidIncrement.nextBidCents(currentHighestCents)) {
+            return Result.BELOW_MINIMUM_INCREMENT;
+        }
+        return Result.VALID;
     }
-}
\ No newline at end of file
+}
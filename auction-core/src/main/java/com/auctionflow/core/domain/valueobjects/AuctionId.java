@@ -1,6 +1,6 @@
 package com.auctionflow.core.domain.valueobjects;
 
-import java.util.UUID;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 
 public record AuctionId(String value) {
     public AuctionId {
@@ -10,7 +10,7 @@ public record AuctionId(String value) {
     }
 
     public static AuctionId generate() {
-        return new AuctionId(UUID.randomUUID().toString());
+        return new AuctionId(TimeOrderedUuid.nextString());
     }
 
     public static AuctionId fromString(String value) {
@@ -1,41 +1,38 @@
 package com.auctionflow.core.domain.valueobjects;
 
 import java.time.Instant;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Currency;
 
 /**
- * Pooled Bid object to minimize allocations in high-frequency bid processing.
- * Uses object pooling with ArrayBlockingQueue to reuse instances and reduce GC pressure.
- * Thread-safe for concurrent access in high-throughput scenarios.
+ * Immutable record of an accepted or revealed bid, as retained in an auction's bid history.
+ * Stored compactly as primitives plus the bidder id string; the value-object accessors build their
+ * result on each call, which only happens off the bid path (closing, history queries).
+ * Bids still waiting to be processed are not Bid instances; see {@link com.auctionflow.core.domain.BidQueue}.
  */
-public class Bid {
-    private static final int POOL_SIZE = 10000;
-    private static final BlockingQueue<Bid> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
-
-    static {
-        // Pre-populate pool
-        for (int i = 0; i < POOL_SIZE; i++) {
-            POOL.offer(new Bid());
-        }
-    }
-
-    private BidderId bidderId;
-    private Money amount;
-    private Instant timestamp;
-    private long seqNo;
-
-    private Bid() {
-        // Private constructor for pooling
+public final class Bid {
+    private final String bidderId;
+    private final long amountCents;
+    private final Currency currency;
+    private final long epochSecond;
+    private final int nanos;
+    private final long seqNo;
+
+    private Bid(String bidderId, long amountCents, Currency currency, long epochSecond, int nanos, long seqNo) {
+        this.bidderId = bidderId;
+        this.amountCents = amountCents;
+        this.currency = currency;
+        this.epochSecond = epochSecond;
+        this.nanos = nanos;
+        this.seqNo = seqNo;
     }
 
     /**
-     * Borrows a Bid instance from the pool and initializes it.
+     * Creates a bid record.
      * @param bidderId the bidder ID
      * @param amount the bid amount
      * @param timestamp the timestamp
      * @param seqNo the sequence number
-     * @return initialized Bid instance
+     * @return the bid record
      */
     public static Bid create(BidderId bidderId, Money amount, Instant timestamp, long seqNo) {
         if (bidderId == null) {
@@ -47,38 +44,14 @@ public class Bid {
         if (timestamp == null) {
             throw new IllegalArgumentException("Timestamp cannot be null");
         }
-        Bid bid = POOL.poll();
-        if (bid == null) {
-            bid = new Bid(); // Fallback if pool exhausted
-        }
-        bid.bidderId = bidderId;
-        bid.amount = amount;
-        bid.timestamp = timestamp;
-        bid.seqNo = seqNo;
-        return bid;
-    }
-
-    /**
-     * Returns the Bid instance to the pool for reuse.
-     * @param bid the bid to release
-     */
-    public static void release(Bid bid) {
-        if (bid != null) {
-            bid.reset();
-            POOL.offer(bid);
-        }
-    }
-
-    private void reset() {
-        this.bidderId = null;
-        this.amount = null;
-        this.timestamp = null;
-        this.seqNo = 0;
+        return new Bid(bidderId.id(), amount.getAmountCents(), amount.getCurrency(),
+                timestamp.getEpochSecond(), timestamp.getNano(), seqNo);
     }
 
     // Getters
-    public BidderId bidderId() { return bidderId; }
-    public Money amount() { return amount; }
-    public Instant timestamp() { return timestamp; }
+    public BidderId bidderId() { return new BidderId(bidderId); }
+    public Money amount() { return Money.of(amountCents, currency); }
+    public Instant timestamp() { return Instant.ofEpochSecond(epochSecond, nanos); }
     public long seqNo() { return seqNo; }
-}
\ No newline at end of file
+    public long amountCents() { return amountCents; }
+}
@@ -4,6 +4,14 @@ import java.math.BigDecimal;
 
 public interface BidIncrement {
     Money nextBid(Money currentHighest);
+
+    /**
+     * Minimum next bid in cents, for callers on the bid path that work in primitive cents. Increments do not
+     * depend on the currency, so the default carries the amount as USD only to reach {@link #nextBid}.
+     */
+    default long nextBidCents(long currentHighestCents) {
+        return nextBid(Money.usd(currentHighestCents)).getAmountCents();
+    }
 }
 
 class PercentageBidIncrement implements BidIncrement {
@@ -15,22 +23,6 @@ class PercentageBidIncrement implements BidIncrement {
 
     @Override
     public Money nextBid(Money currentHighest) {
-        BigDecimal incrementAmount = currentHighest.toBigDecimal().multiply(percentage);
-        Money increment = Money.usd(incrementAmount);
-        return currentHighest.add(increment);
+        return currentHighest.add(currentHighest.multiply(percentage));
     }
 }
-
-class DynamicBidIncrement implements BidIncrement {
-    // For simplicity, assume a ladder, but implement as fixed for now
-    private final Money increment;
-
-    public DynamicBidIncrement(Money increment) {
-        this.increment = increment;
-    }
-
-    @Override
-    public Money nextBid(Money currentHighest) {
-        return currentHighest.add(increment);
-    }
-}
\ No newline at end of file
@@ -1,6 +1,6 @@
 package com.auctionflow.core.domain.valueobjects;
 
-import java.util.UUID;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 
 public record BidderId(String id) {
     public BidderId {
@@ -10,7 +10,7 @@ public record BidderId(String id) {
     }
 
     public static BidderId generate() {
-        return new BidderId(UUID.randomUUID().toString());
+        return new BidderId(TimeOrderedUuid.nextString());
     }
 
     public static BidderId fromString(String id) {
@@ -1,7 +1,5 @@
 package com.auctionflow.core.domain.valueobjects;
 
-import java.math.BigDecimal;
-
 public class FixedBidIncrement implements BidIncrement {
     private final Money increment;
 
@@ -11,6 +9,12 @@ public class FixedBidIncrement implements BidIncrement {
 
     @Override
     public Money nextBid(Money currentHighest) {
-        return currentHighest.add(increment);
+        // The increment is in minor units of the auction's currency, as in nextBidCents
+        return Money.of(nextBidCents(currentHighest.getAmountCents()), currentHighest.getCurrency());
+    }
+
+    @Override
+    public long nextBidCents(long currentHighestCents) {
+        return currentHighestCents + increment.getAmountCents();
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.auctionflow.core.domain.valueobjects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bid increment that depends on the current price, e.g. $1 below $100, $5 up to $1,000 and $10 above.
+ *
+ * The steps are compiled into two parallel sorted arrays of cents, and the applicable step is found by
+ * binary search, so the lookup allocates nothing. Instances are immutable and shared by every auction
+ * that uses the same ladder.
+ */
+public final class IncrementLadder implements BidIncrement {
+
+    /**
+     * The increment that applies from {@code fromCents} up to the next step's threshold.
+     */
+    public record Step(long fromCents, long incrementCents) {
+        public Step {
+            if (fromCents < 0) {
+                throw new IllegalArgumentException("Step threshold must be non-negative");
+            }
+            if (incrementCents <= 0) {
+                throw new IllegalArgumentException("Increment must be positive");
+            }
+        }
+    }
+
+    private final long[] thresholdsCents;
+    private final long[] incrementsCents;
+
+    private IncrementLadder(long[] thresholdsCents, long[] incrementsCents) {
+        this.thresholdsCents = thresholdsCents;
+        this.incrementsCents = incrementsCents;
+    }
+
+    /**
+     * Compiles the steps, in any order. Prices below the lowest threshold use the lowest step's increment.
+     */
+    public static IncrementLadder of(List<Step> steps) {
+        if (steps == null || steps.isEmpty()) {
+            throw new IllegalArgumentException("Ladder must have at least one step");
+        }
+        List<Step> sorted = new ArrayList<>(steps);
+        sorted.sort(Comparator.comparingLong(Step::fromCents));
+        long[] thresholds = new long[sorted.size()];
+        long[] increments = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            thresholds[i] = sorted.get(i).fromCents();
+            increments[i] = sorted.get(i).incrementCents();
+            if (i > 0 && thresholds[i] == thresholds[i - 1]) {
+                throw new IllegalArgumentException("Duplicate step threshold: " + thresholds[i]);
+            }
+        }
+        return new IncrementLadder(thresholds, increments);
+    }
+
+    public long incrementCents(long currentHighestCents) {
+        int index = Arrays.binarySearch(thresholdsCents, currentHighestCents);
+        if (index < 0) {
+            // Insertion point minus one is the last threshold below the price
+            index = Math.max(0, -index - 2);
+        }
+        return incrementsCents[index];
+    }
+
+    @Override
+    public long nextBidCents(long currentHighestCents) {
+        return currentHighestCents + incrementCents(currentHighestCents);
+    }
+
+    @Override
+    public Money nextBid(Money currentHighest) {
+        // Steps are in minor units of whatever currency the auction is priced in
+        return Money.of(nextBidCents(currentHighest.getAmountCents()), currentHighest.getCurrency());
+    }
+
+    public List<Step> getSteps() {
+        List<Step> steps = new ArrayList<>(thresholdsCents.length);
+        for (int i = 0; i < thresholdsCents.length; i++) {
+            steps.add(new Step(thresholdsCents[i], incrementsCents[i]));
+        }
+        return steps;
+    }
+}
@@ -1,6 +1,6 @@
 package com.auctionflow.core.domain.valueobjects;
 
-import java.util.UUID;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 
 public record ItemId(String value) {
     public ItemId {
@@ -10,7 +10,7 @@ public record ItemId(String value) {
     }
 
     public static ItemId generate() {
-        return new ItemId(UUID.randomUUID().toString());
+        return new ItemId(TimeOrderedUuid.nextString());
     }
 
     public static ItemId fromString(String value) {
@@ -34,6 +34,10 @@ public class Money {
         return new Money(cents, Currency.getInstance("USD"));
     }
 
+    public static Money of(long cents, Currency currency) {
+        return new Money(cents, currency);
+    }
+
     public Money add(Money other) {
         if (!currency.equals(other.currency)) {
             throw new IllegalArgumentException("Currencies must match");
@@ -63,10 +67,15 @@ public class Money {
     }
 
     public Money multiply(BigDecimal factor) {
-        long newCents = (long) (amountCents * factor.doubleValue());
+        // Exact decimal product, rounded half-up to the cent, rather than through double
+        long newCents = BigDecimal.valueOf(amountCents).multiply(factor).setScale(0, RoundingMode.HALF_UP).longValueExact();
         return new Money(newCents, currency);
     }
 
+    public Money multiply(long factor) {
+        return new Money(Math.multiplyExact(amountCents, factor), currency);
+    }
+
     public Money divide(int divisor) {
         return new Money(amountCents / divisor, currency);
     }
@@ -1,10 +1,12 @@
 package com.auctionflow.core.domain.valueobjects;
 
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
+
 import java.util.UUID;
 
 public record OfferId(UUID value) {
     public static OfferId generate() {
-        return new OfferId(UUID.randomUUID());
+        return new OfferId(TimeOrderedUuid.next());
     }
 
     public String toString() {
@@ -1,6 +1,6 @@
 package com.auctionflow.core.domain.valueobjects;
 
-import java.util.UUID;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 
 public record SellerId(String value) {
     public SellerId {
@@ -10,7 +10,7 @@ public record SellerId(String value) {
     }
 
     public static SellerId generate() {
-        return new SellerId(UUID.randomUUID().toString());
+        return new SellerId(TimeOrderedUuid.nextString());
     }
 
     public static SellerId of(String value) {
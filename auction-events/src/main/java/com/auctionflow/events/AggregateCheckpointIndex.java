@@ -0,0 +1,134 @@
+package com.auctionflow.events;
+
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.aggregates.AggregateRoot;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time-indexed checkpoints of aggregate state for point-in-time queries.
+ *
+ * Time is divided into fixed intervals. The checkpoint at boundary B holds the aggregate state after every
+ * event with a timestamp before B, so reconstructing the state at T only needs the nearest checkpoint at or
+ * before T plus the events in [B, T]. Checkpoints are built lazily the first time an aggregate is queried and
+ * extended on later queries; only boundaries older than the settle delay are recorded so late-arriving events
+ * cannot invalidate a checkpoint.
+ */
+@Service
+public class AggregateCheckpointIndex {
+
+    private static final Duration SETTLE_DELAY = Duration.ofMinutes(1);
+
+    private final EventStore eventStore;
+    private final long intervalMillis;
+
+    private final Cache<SeriesKey, Series> series = Caffeine.newBuilder()
+            .maximumWeight(200_000) // Total checkpoints held across all aggregates
+            .weigher((SeriesKey key, Series value) -> Math.max(1, value.checkpoints.size()))
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
+    public AggregateCheckpointIndex(EventStore eventStore,
+                                    @Value("${auction.audit.checkpoint-interval:PT15M}") Duration interval) {
+        this.eventStore = eventStore;
+        this.intervalMillis = interval.toMillis();
+    }
+
+    public record Checkpoint(Instant at, AggregateRoot state) {
+    }
+
+    private record SeriesKey(AuctionId aggregateId, Class<?> aggregateType) {
+    }
+
+    private static final class Series {
+        final ConcurrentSkipListMap<Instant, AggregateRoot> checkpoints = new ConcurrentSkipListMap<>();
+        Instant coveredUntil = Instant.EPOCH;
+    }
+
+    /**
+     * Returns the latest checkpoint at or before the given timestamp, building any missing checkpoints first.
+     * The checkpoint state is a private copy the caller may apply further events to. Returns null if the
+     * aggregate type does not support copying.
+     *
+     * @param prototype an empty aggregate of the type being reconstructed
+     */
+    public Checkpoint floorCheckpoint(AuctionId aggregateId, Instant timestamp, AggregateRoot prototype) {
+        AggregateRoot empty = prototype.copy();
+        if (empty == null) {
+            return null;
+        }
+        SeriesKey key = new SeriesKey(aggregateId, prototype.getClass());
+        Series aggregateSeries = series.get(key, k -> new Series());
+        Instant upTo = boundaryAtOrBefore(min(timestamp, Instant.now().minus(SETTLE_DELAY)));
+        synchronized (aggregateSeries) {
+            if (upTo.isAfter(aggregateSeries.coveredUntil)) {
+                extend(aggregateId, aggregateSeries, upTo, empty);
+                // Re-put so the cache re-weighs the series
+                series.put(key, aggregateSeries);
+            }
+        }
+        Map.Entry<Instant, AggregateRoot> floor = aggregateSeries.checkpoints.floorEntry(timestamp);
+        if (floor == null) {
+            return new Checkpoint(Instant.EPOCH, empty);
+        }
+        return new Checkpoint(floor.getKey(), floor.getValue().copy());
+    }
+
+    /**
+     * Drops every checkpoint of the given aggregates. Must be called by anything that deletes or rewrites
+     * stored events, since checkpoints are otherwise only ever extended.
+     */
+    public void invalidate(Collection<AuctionId> aggregateIds) {
+        Set<AuctionId> ids = new HashSet<>(aggregateIds);
+        series.asMap().keySet().removeIf(key -> ids.contains(key.aggregateId()));
+    }
+
+    private void extend(AuctionId aggregateId, Series aggregateSeries, Instant upTo, AggregateRoot empty) {
+        Map.Entry<Instant, AggregateRoot> last = aggregateSeries.checkpoints.lastEntry();
+        Instant from = last != null ? last.getKey() : Instant.EPOCH;
+        AggregateRoot state = last != null ? last.getValue().copy() : empty.copy();
+        Instant lastRecorded = from;
+
+        try (Stream<DomainEvent> events = eventStore.streamEventsForAggregateFromTimestamp(aggregateId, from)) {
+            Iterator<DomainEvent> iterator = events.takeWhile(event -> event.getTimestamp().isBefore(upTo)).iterator();
+            while (iterator.hasNext()) {
+                DomainEvent event = iterator.next();
+                Instant bucket = boundaryAtOrBefore(event.getTimestamp());
+                if (bucket.isAfter(lastRecorded)) {
+                    // State before this event covers everything up to the start of its interval
+                    aggregateSeries.checkpoints.put(bucket, state.copy());
+                    lastRecorded = bucket;
+                }
+                state.apply(event);
+            }
+        }
+        if (upTo.isAfter(lastRecorded)) {
+            aggregateSeries.checkpoints.put(upTo, state);
+        }
+        aggregateSeries.coveredUntil = upTo;
+    }
+
+    private Instant boundaryAtOrBefore(Instant timestamp) {
+        long millis = timestamp.toEpochMilli();
+        return Instant.ofEpochMilli(Math.floorDiv(millis, intervalMillis) * intervalMillis);
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
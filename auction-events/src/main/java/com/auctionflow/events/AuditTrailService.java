@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service for reconstructing audit trails and historical states.
@@ -16,23 +17,36 @@ import java.util.List;
 public class AuditTrailService {
 
     private final EventStore eventStore;
+    private final AggregateCheckpointIndex checkpointIndex;
 
-    public AuditTrailService(EventStore eventStore) {
+    public AuditTrailService(EventStore eventStore, AggregateCheckpointIndex checkpointIndex) {
         this.eventStore = eventStore;
+        this.checkpointIndex = checkpointIndex;
     }
 
     /**
      * Reconstructs the state of an aggregate as it was at a specific point in time.
+     * Starts from the nearest prior checkpoint when the aggregate supports it, so the returned
+     * instance may be a different object than the empty aggregate passed in.
      */
+    @SuppressWarnings("unchecked")
     public <T extends AggregateRoot> T reconstructStateAtTimestamp(AuctionId aggregateId, Instant timestamp, T aggregate) {
-        // Get all events for the aggregate up to the timestamp
-        List<DomainEvent> events = eventStore.getEventsForAggregateFromTimestamp(aggregateId, Instant.MIN);
-        for (DomainEvent event : events) {
-            if (event.getTimestamp().isBefore(timestamp) || event.getTimestamp().equals(timestamp)) {
-                aggregate.apply(event);
+        AggregateCheckpointIndex.Checkpoint checkpoint = checkpointIndex.floorCheckpoint(aggregateId, timestamp, aggregate);
+        if (checkpoint == null) {
+            // No checkpoint support for this aggregate type; replay the full history
+            try (Stream<DomainEvent> events = eventStore.streamEvents(aggregateId)) {
+                events.filter(event -> !event.getTimestamp().isAfter(timestamp))
+                        .forEach(aggregate::apply);
             }
+            return aggregate;
         }
-        return aggregate;
+        T state = (T) checkpoint.state();
+        // Apply only the slice between the checkpoint and the requested timestamp
+        try (Stream<DomainEvent> events = eventStore.streamEventsForAggregateFromTimestamp(aggregateId, checkpoint.at())) {
+            events.takeWhile(event -> !event.getTimestamp().isAfter(timestamp))
+                    .forEach(state::apply);
+        }
+        return state;
     }
 
     /**
@@ -46,9 +60,10 @@ public class AuditTrailService {
      * Gets the audit trail for an aggregate within a time range.
      */
     public List<DomainEvent> getAuditTrailInRange(AuctionId aggregateId, Instant fromTimestamp, Instant toTimestamp) {
-        List<DomainEvent> allEvents = eventStore.getEvents(aggregateId);
-        return allEvents.stream()
-                .filter(event -> !event.getTimestamp().isBefore(fromTimestamp) && !event.getTimestamp().isAfter(toTimestamp))
-                .toList();
+        // Events arrive in timestamp order from fromTimestamp, so stop reading at the first one past the range
+        try (Stream<DomainEvent> events = eventStore.streamEventsForAggregateFromTimestamp(aggregateId, fromTimestamp)) {
+            return events.takeWhile(event -> !event.getTimestamp().isAfter(toTimestamp))
+                    .toList();
+        }
     }
 }
\ No newline at end of file
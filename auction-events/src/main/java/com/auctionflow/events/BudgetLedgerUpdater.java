@@ -0,0 +1,35 @@
+package com.auctionflow.events;
+
+import com.auctionflow.bidding.strategies.BudgetLedger;
+import com.auctionflow.core.domain.events.AuctionClosedEvent;
+import com.auctionflow.core.domain.events.BidPlacedEvent;
+import com.auctionflow.core.domain.events.EventHandler;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link BudgetLedger} in step with the auction event stream: leading bids move holds between
+ * bidders and closed auctions settle them.
+ */
+@Component
+public class BudgetLedgerUpdater {
+
+    private final BudgetLedger budgetLedger;
+
+    public BudgetLedgerUpdater(BudgetLedger budgetLedger) {
+        this.budgetLedger = budgetLedger;
+    }
+
+    @EventHandler
+    public void on(BidPlacedEvent event) {
+        budgetLedger.onLeadingBid((AuctionId) event.getAggregateId(), BidderId.fromString(event.getBidderId()),
+                event.getAmount().getAmountCents());
+    }
+
+    @EventHandler
+    public void on(AuctionClosedEvent event) {
+        BidderId winner = event.getWinnerId() != null ? BidderId.fromString(event.getWinnerId().value()) : null;
+        budgetLedger.onAuctionClosed((AuctionId) event.getAggregateId(), winner);
+    }
+}
@@ -0,0 +1,63 @@
+package com.auctionflow.events;
+
+import com.auctionflow.core.domain.IncrementLadders;
+import com.auctionflow.core.domain.valueobjects.IncrementLadder;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.persistence.BidIncrementEntity;
+import com.auctionflow.events.persistence.BidIncrementRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the bid_increments reference table into {@link IncrementLadders} at startup and on a schedule.
+ * A ladder with invalid rows is skipped, keeping its previously loaded version.
+ */
+@Component
+public class IncrementLadderLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncrementLadderLoader.class);
+
+    private final BidIncrementRepository bidIncrementRepository;
+
+    public IncrementLadderLoader(BidIncrementRepository bidIncrementRepository) {
+        this.bidIncrementRepository = bidIncrementRepository;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelay = 300000) // Every 5 minutes
+    public void reload() {
+        Map<String, List<BidIncrementEntity>> rowsByName = new HashMap<>();
+        for (BidIncrementEntity row : bidIncrementRepository.findAll()) {
+            rowsByName.computeIfAbsent(row.getStrategyName(), name -> new ArrayList<>()).add(row);
+        }
+        Map<String, IncrementLadder> previous = IncrementLadders.snapshot();
+        Map<String, IncrementLadder> compiled = new HashMap<>();
+        rowsByName.forEach((name, rows) -> {
+            try {
+                List<IncrementLadder.Step> steps = new ArrayList<>(rows.size());
+                for (BidIncrementEntity row : rows) {
+                    BigDecimal from = row.getMinAmount() != null ? row.getMinAmount() : BigDecimal.ZERO;
+                    steps.add(new IncrementLadder.Step(Money.usd(from).getAmountCents(),
+                            Money.usd(row.getIncrement()).getAmountCents()));
+                }
+                compiled.put(name, IncrementLadder.of(steps));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping invalid bid increment ladder {}: {}", name, e.getMessage());
+                if (previous.containsKey(name)) {
+                    compiled.put(name, previous.get(name));
+                }
+            }
+        });
+        IncrementLadders.replaceAll(compiled);
+        logger.info("Loaded {} bid increment ladders", compiled.size());
+    }
+}
@@ -0,0 +1,154 @@
+package com.auctionflow.events;
+
+import com.auctionflow.bidding.strategies.BudgetLedger;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link BudgetLedger} kept in Redis, so every node reserves against the same exposure and each bid or close
+ * event, consumed once by the auction-api group, updates it once for the whole cluster.
+ *
+ * A bidder's account is one hash holding their committed and spent totals and a field per held auction, and
+ * every change to it is a Lua script on that one key, so a reservation checks the budget and takes the hold
+ * atomically. An auction's leader and the bidders holding on it are kept under the auction's own keys.
+ * An account whose committed total drops to zero is deleted.
+ */
+public class RedisBudgetLedger implements BudgetLedger {
+
+    private static final String ACCOUNT_KEY = "budget:account:";
+    private static final String LEAD_KEY = "budget:lead:";
+    private static final String HOLDERS_KEY = "budget:holders:";
+    private static final String COMMITTED = "committed";
+    private static final String SPENT = "spent";
+    private static final String HOLD = "hold:";
+
+    // KEYS[1] account; ARGV hold field, amount, budget. Returns 1 if the hold was set, 0 if over budget
+    private static final String RESERVE =
+            "local held = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') "
+            + "local committed = tonumber(redis.call('HGET', KEYS[1], 'committed') or '0') "
+            + "local delta = tonumber(ARGV[2]) - held "
+            + "if delta > 0 and committed + delta > tonumber(ARGV[3]) then return 0 end "
+            + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+            + "if redis.call('HINCRBY', KEYS[1], 'committed', delta) <= 0 then redis.call('DEL', KEYS[1]) end "
+            + "return 1";
+
+    // KEYS[1] account; ARGV hold field, 1 to turn the hold into spend or 0 to release it
+    private static final String SETTLE =
+            "local held = redis.call('HGET', KEYS[1], ARGV[1]) "
+            + "if not held then return 0 end "
+            + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+            + "if ARGV[2] == '1' then redis.call('HINCRBY', KEYS[1], 'spent', held) "
+            + "elseif redis.call('HINCRBY', KEYS[1], 'committed', -tonumber(held)) <= 0 then redis.call('DEL', KEYS[1]) end "
+            + "return 1";
+
+    // KEYS[1] lead; ARGV bidder, amount. Returns the previous leader ('' for none), or nil if not leading
+    private static final String TAKE_LEAD =
+            "local amount = tonumber(redis.call('HGET', KEYS[1], 'amount') or '-1') "
+            + "if amount >= tonumber(ARGV[2]) then return false end "
+            + "local previous = redis.call('HGET', KEYS[1], 'bidder') or '' "
+            + "redis.call('HMSET', KEYS[1], 'bidder', ARGV[1], 'amount', ARGV[2]) "
+            + "return previous";
+
+    // KEYS[1] holders; removes and returns them, so a redelivered close settles nothing twice
+    private static final String TAKE_HOLDERS =
+            "local holders = redis.call('SMEMBERS', KEYS[1]) "
+            + "redis.call('DEL', KEYS[1]) "
+            + "return holders";
+
+    private final RedissonClient redissonClient;
+    private final RScript script;
+
+    public RedisBudgetLedger(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    @Override
+    public boolean tryReserve(BidderId bidderId, AuctionId auctionId, long amountCents, long budgetCents) {
+        Long reserved = script.eval(RScript.Mode.READ_WRITE, RESERVE, RScript.ReturnType.INTEGER,
+                key(ACCOUNT_KEY + bidderId.id()), HOLD + auctionId.value(), Long.toString(amountCents),
+                Long.toString(budgetCents));
+        if (reserved == 0) {
+            return false;
+        }
+        redissonClient.getSet(HOLDERS_KEY + auctionId.value(), StringCodec.INSTANCE).add(bidderId.id());
+        return true;
+    }
+
+    @Override
+    public void release(BidderId bidderId, AuctionId auctionId) {
+        settle(bidderId, auctionId, false);
+    }
+
+    @Override
+    public void onLeadingBid(AuctionId auctionId, BidderId bidderId, long amountCents) {
+        String previous = script.eval(RScript.Mode.READ_WRITE, TAKE_LEAD, RScript.ReturnType.VALUE,
+                key(LEAD_KEY + auctionId.value()), bidderId.id(), Long.toString(amountCents));
+        if (previous == null) {
+            return;
+        }
+        tryReserve(bidderId, auctionId, amountCents, Long.MAX_VALUE);
+        if (!previous.isEmpty() && !previous.equals(bidderId.id())) {
+            release(BidderId.fromString(previous), auctionId);
+        }
+    }
+
+    @Override
+    public void onAuctionClosed(AuctionId auctionId, BidderId winnerId) {
+        redissonClient.getKeys().delete(LEAD_KEY + auctionId.value());
+        List<Object> holders = script.eval(RScript.Mode.READ_WRITE, TAKE_HOLDERS, RScript.ReturnType.MULTI,
+                key(HOLDERS_KEY + auctionId.value()));
+        for (Object holder : holders) {
+            BidderId bidderId = BidderId.fromString((String) holder);
+            settle(bidderId, auctionId, bidderId.equals(winnerId));
+        }
+    }
+
+    private void settle(BidderId bidderId, AuctionId auctionId, boolean won) {
+        script.eval(RScript.Mode.READ_WRITE, SETTLE, RScript.ReturnType.INTEGER,
+                key(ACCOUNT_KEY + bidderId.id()), HOLD + auctionId.value(), won ? "1" : "0");
+    }
+
+    @Override
+    public long committedCents(BidderId bidderId) {
+        return cents(account(bidderId).get(COMMITTED));
+    }
+
+    @Override
+    public long committedElsewhereCents(BidderId bidderId, AuctionId auctionId) {
+        // One HMGET, so the total and the hold are read together
+        String hold = HOLD + auctionId.value();
+        Map<String, String> fields = account(bidderId).getAll(Set.of(COMMITTED, hold));
+        return cents(fields.get(COMMITTED)) - cents(fields.get(hold));
+    }
+
+    @Override
+    public long holdCents(BidderId bidderId, AuctionId auctionId) {
+        return cents(account(bidderId).get(HOLD + auctionId.value()));
+    }
+
+    @Override
+    public long spentCents(BidderId bidderId) {
+        return cents(account(bidderId).get(SPENT));
+    }
+
+    private RMap<String, String> account(BidderId bidderId) {
+        return redissonClient.getMap(ACCOUNT_KEY + bidderId.id(), StringCodec.INSTANCE);
+    }
+
+    private static List<Object> key(String key) {
+        return List.of(key);
+    }
+
+    private static long cents(String value) {
+        return value == null ? 0 : Long.parseLong(value);
+    }
+}
@@ -8,7 +8,10 @@ import com.auctionflow.core.domain.valueobjects.AuctionId;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ReplayService {
@@ -23,9 +26,8 @@ public class ReplayService {
      * Rebuilds an aggregate by replaying all its events.
      */
     public <T extends AggregateRoot> T rebuildAggregate(AuctionId aggregateId, T aggregate) {
-        List<DomainEvent> events = eventStore.getEvents(aggregateId);
-        for (DomainEvent event : events) {
-            aggregate.apply(event);
+        try (Stream<DomainEvent> events = eventStore.streamEvents(aggregateId)) {
+            events.forEach(aggregate::apply);
         }
         return aggregate;
     }
@@ -34,9 +36,8 @@ public class ReplayService {
      * Rebuilds an aggregate by replaying events from a specific timestamp.
      */
     public <T extends AggregateRoot> T rebuildAggregateFromTimestamp(AuctionId aggregateId, Instant fromTimestamp, T aggregate) {
-        List<DomainEvent> events = eventStore.getEventsForAggregateFromTimestamp(aggregateId, fromTimestamp);
-        for (DomainEvent event : events) {
-            aggregate.apply(event);
+        try (Stream<DomainEvent> events = eventStore.streamEventsForAggregateFromTimestamp(aggregateId, fromTimestamp)) {
+            events.forEach(aggregate::apply);
         }
         return aggregate;
     }
@@ -55,6 +56,26 @@ public class ReplayService {
         return eventStore.getEventsByTimestampRange(fromTimestamp, toTimestamp);
     }
 
+    /**
+     * Streams events globally from a timestamp into a consumer without materializing the history.
+     * @return the number of events replayed
+     */
+    public long replayEventsFromTimestamp(Instant fromTimestamp, Consumer<DomainEvent> consumer) {
+        try (Stream<DomainEvent> events = eventStore.streamEventsFromTimestamp(fromTimestamp)) {
+            return drain(events, consumer);
+        }
+    }
+
+    /**
+     * Streams events within a timestamp range into a consumer without materializing the history.
+     * @return the number of events replayed
+     */
+    public long replayEventsInRange(Instant fromTimestamp, Instant toTimestamp, Consumer<DomainEvent> consumer) {
+        try (Stream<DomainEvent> events = eventStore.streamEventsByTimestampRange(fromTimestamp, toTimestamp)) {
+            return drain(events, consumer);
+        }
+    }
+
     /**
      * Applies compensation events to an aggregate.
      */
@@ -64,4 +85,14 @@ public class ReplayService {
         }
         return aggregate;
     }
-}
\ No newline at end of file
+
+    private static long drain(Stream<DomainEvent> events, Consumer<DomainEvent> consumer) {
+        long count = 0;
+        Iterator<DomainEvent> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            consumer.accept(iterator.next());
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,112 @@
+package com.auctionflow.events.command;
+
+import com.auctionflow.bidding.strategies.*;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.events.persistence.AutomatedBidStrategyRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-auction view of active automated bidding strategies, compiled once when an auction's strategies are
+ * first needed: parameters are parsed, the strategy implementation is resolved and the domain strategy is
+ * built, so evaluating a bid touches no repository or JSON. Entries are dropped on strategy lifecycle events
+ * and after a period without bids, and reloaded in the background every 30 seconds.
+ */
+@Component
+public class ActiveStrategyRegistry {
+
+    private static final TypeReference<Map<String, Object>> PARAMETERS_TYPE = new TypeReference<>() {};
+
+    private final AutomatedBidStrategyRepository strategyRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<StrategyType, BiddingStrategy> strategies = new EnumMap<>(StrategyType.class);
+
+    // Lifecycle events are local, so strategy changes made on other nodes are only picked up by the refresh,
+    // which reloads in the background while bids keep using the previous entry. Access expiry only drops
+    // auctions that have gone quiet; a busy auction is read on every bid and would never expire by it.
+    private final LoadingCache<AuctionId, CompiledStrategy[]> activeByAuction = Caffeine.newBuilder()
+            .maximumSize(10000)
+            .refreshAfterWrite(30, TimeUnit.SECONDS)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build(this::load);
+
+    public ActiveStrategyRegistry(AutomatedBidStrategyRepository strategyRepository, BudgetLedger budgetLedger) {
+        this.strategyRepository = strategyRepository;
+
+        // Register strategies
+        register(new SnipingPreventionStrategy());
+        register(new OptimalTimingStrategy());
+        register(new BudgetOptimizationStrategy(budgetLedger));
+        register(new ReinforcementLearningStrategy());
+    }
+
+    private void register(BiddingStrategy strategy) {
+        strategies.put(strategy.getType(), strategy);
+    }
+
+    /**
+     * An active strategy ready for evaluation.
+     */
+    public record CompiledStrategy(AutomatedBidStrategy strategy, BiddingStrategy biddingStrategy, StrategyParameters parameters) {
+    }
+
+    /**
+     * Returns the auction's active strategies, loading and compiling them on first use. The returned array
+     * is shared and must not be modified.
+     */
+    public CompiledStrategy[] activeFor(AuctionId auctionId) {
+        return activeByAuction.get(auctionId);
+    }
+
+    public void invalidate(AuctionId auctionId) {
+        activeByAuction.invalidate(auctionId);
+    }
+
+    @EventListener
+    public void onStrategyLifecycle(StrategyLifecycleEvent event) {
+        invalidate(event.auctionId());
+    }
+
+    private CompiledStrategy[] load(AuctionId auctionId) {
+        List<com.auctionflow.events.persistence.AutomatedBidStrategy> active = strategyRepository.findActiveByAuctionId(auctionId.toString());
+        List<CompiledStrategy> compiled = new ArrayList<>(active.size());
+        for (com.auctionflow.events.persistence.AutomatedBidStrategy entity : active) {
+            BiddingStrategy biddingStrategy = strategies.get(entity.getStrategyType());
+            if (biddingStrategy == null) {
+                continue;
+            }
+            compiled.add(new CompiledStrategy(
+                    new AutomatedBidStrategy(entity.getId().toString(), auctionId,
+                            BidderId.fromString(entity.getBidderId()), entity.getStrategyType()),
+                    biddingStrategy,
+                    parseParameters(entity)));
+        }
+        return compiled.toArray(new CompiledStrategy[0]);
+    }
+
+    private StrategyParameters parseParameters(com.auctionflow.events.persistence.AutomatedBidStrategy entity) {
+        Map<String, Object> params = new HashMap<>();
+        if (entity.getParametersJson() != null) {
+            try {
+                params.putAll(objectMapper.readValue(entity.getParametersJson(), PARAMETERS_TYPE));
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to deserialize parameters for strategy " + entity.getId(), e);
+            }
+        }
+        // The strategy's max bid column is authoritative when the parameters don't repeat it
+        params.putIfAbsent("maxBid", entity.getMaxBid());
+        return new StrategyParameters(params);
+    }
+}
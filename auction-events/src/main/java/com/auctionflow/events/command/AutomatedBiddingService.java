@@ -5,13 +5,11 @@ import com.auctionflow.core.domain.valueobjects.AuctionId;
 import com.auctionflow.core.domain.valueobjects.BidderId;
 import com.auctionflow.core.domain.valueobjects.Money;
 import com.auctionflow.events.persistence.AutomatedBidStrategyRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.Objects;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -21,18 +19,15 @@ import java.util.Map;
 @Service
 public class AutomatedBiddingService {
 
-    private final Map<StrategyType, BiddingStrategy> strategies = new HashMap<>();
     private final AutomatedBidStrategyRepository strategyRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ActiveStrategyRegistry strategyRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AutomatedBiddingService(AutomatedBidStrategyRepository strategyRepository) {
+    public AutomatedBiddingService(AutomatedBidStrategyRepository strategyRepository, ActiveStrategyRegistry strategyRegistry,
+                                   ApplicationEventPublisher eventPublisher) {
         this.strategyRepository = strategyRepository;
-
-        // Register strategies
-        strategies.put(StrategyType.SNIPING_PREVENTION, new SnipingPreventionStrategy());
-        strategies.put(StrategyType.OPTIMAL_TIMING, new OptimalTimingStrategy());
-        strategies.put(StrategyType.BUDGET_OPTIMIZATION, new BudgetOptimizationStrategy());
-        strategies.put(StrategyType.REINFORCEMENT_LEARNING, new ReinforcementLearningStrategy());
+        this.strategyRegistry = strategyRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -41,34 +36,26 @@ public class AutomatedBiddingService {
     public com.auctionflow.events.persistence.AutomatedBidStrategy createStrategy(AuctionId auctionId, BidderId bidderId,
                                               StrategyType type, Map<String, Object> params, Money maxBid) {
         com.auctionflow.events.persistence.AutomatedBidStrategy strategy = new com.auctionflow.events.persistence.AutomatedBidStrategy(auctionId, bidderId, type, params, maxBid);
-        return strategyRepository.save(strategy);
+        com.auctionflow.events.persistence.AutomatedBidStrategy saved = strategyRepository.save(strategy);
+        eventPublisher.publishEvent(new StrategyLifecycleEvent(auctionId, saved.getId(), StrategyLifecycleEvent.Change.CREATED));
+        return saved;
     }
 
     /**
-     * Evaluate all active strategies for an auction and return bidding decisions with strategy info
+     * Evaluate all active strategies for an auction and return bidding decisions with strategy info.
+     * Strategies come pre-compiled from the registry and are evaluated in a single pass.
      */
     public List<StrategyBidDecision> evaluateStrategies(AuctionId auctionId, Money currentHighestBid, Instant auctionEndTime) {
-        List<com.auctionflow.events.persistence.AutomatedBidStrategy> activeStrategies = strategyRepository.findActiveByAuctionId(auctionId.toString());
-
-        return activeStrategies.stream()
-            .map(strategy -> {
-                BiddingStrategy biddingStrategy = strategies.get(strategy.getStrategyType());
-                if (biddingStrategy == null) {
-                    return null;
-                }
-
-                StrategyParameters params = new StrategyParameters(deserializeParameters(strategy.getParametersJson()));
-                BidDecision decision = biddingStrategy.decideBid(auctionId, BidderId.fromString(strategy.getBidderId()),
-                                                currentHighestBid, auctionEndTime, params);
-                if (decision.shouldBid()) {
-                    com.auctionflow.bidding.strategies.AutomatedBidStrategy domainStrategy = new com.auctionflow.bidding.strategies.AutomatedBidStrategy(strategy.getId().toString(),
-                        AuctionId.fromString(strategy.getAuctionId()), BidderId.fromString(strategy.getBidderId()), strategy.getStrategyType());
-                    return new StrategyBidDecision(domainStrategy, decision);
-                }
-                return null;
-            })
-            .filter(Objects::nonNull)
-            .toList();
+        ActiveStrategyRegistry.CompiledStrategy[] active = strategyRegistry.activeFor(auctionId);
+        List<StrategyBidDecision> decisions = new ArrayList<>();
+        for (ActiveStrategyRegistry.CompiledStrategy compiled : active) {
+            BidDecision decision = compiled.biddingStrategy().decideBid(auctionId, compiled.strategy().getBidderId(),
+                    currentHighestBid, auctionEndTime, compiled.parameters());
+            if (decision.shouldBid()) {
+                decisions.add(new StrategyBidDecision(compiled.strategy(), decision));
+            }
+        }
+        return decisions;
     }
 
     /**
@@ -89,14 +76,7 @@ public class AutomatedBiddingService {
         com.auctionflow.events.persistence.AutomatedBidStrategy strategy = strategyRepository.findById(strategyId).orElseThrow();
         strategy.setIsActive(false);
         strategyRepository.save(strategy);
+        eventPublisher.publishEvent(new StrategyLifecycleEvent(AuctionId.fromString(strategy.getAuctionId()), strategyId,
+                StrategyLifecycleEvent.Change.DEACTIVATED));
     }
-
-    // Helper method
-    private Map<String, Object> deserializeParameters(String json) {
-        try {
-            return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to deserialize parameters", e);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package com.auctionflow.events.command;
+
+import com.auctionflow.common.service.EventPublisher;
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.aggregates.AggregateRoot;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.aggregates.DutchAuctionAggregate;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates many auctions in one call, for sellers listing in bulk. Each command is handled by a fresh aggregate
+ * as {@link CreateAuctionHandler} would, but the resulting events are appended to the event store
+ * {@code batchSize} at a time through {@link EventStore#appendNew}, so a batch costs a few round trips rather
+ * than several per auction. No per-auction lock is taken: the auctions are new, and the event store refuses to
+ * append to an auction that already has events.
+ *
+ * Each chunk is appended in a transaction of its own, never the caller's, and its events are published once
+ * that transaction commits. On Postgres a failed statement aborts its whole transaction, so a chunk that
+ * cannot be stored would otherwise take every other chunk of the batch down with it. A command that fails,
+ * or whose chunk cannot be stored, does not fail the others; its position in the input and the reason are
+ * reported.
+ */
+@Component
+public class BulkAuctionCreator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkAuctionCreator.class);
+
+    private final EventStore eventStore;
+    private final EventPublisher eventPublisher;
+    // Null for a store without transactions; each chunk is then published as soon as it is appended
+    private final TransactionTemplate chunkTransaction;
+    private final int batchSize;
+
+    public BulkAuctionCreator(EventStore eventStore, EventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${auction.bulk-create.batch-size:1000}") int batchSize) {
+        this.eventStore = eventStore;
+        this.eventPublisher = eventPublisher;
+        if (transactionManager != null) {
+            this.chunkTransaction = new TransactionTemplate(transactionManager);
+            this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } else {
+            this.chunkTransaction = null;
+        }
+        this.batchSize = batchSize;
+    }
+
+    public record Failure(int index, AuctionId auctionId, String reason) {
+    }
+
+    public record Result(List<AuctionId> created, List<Failure> failures) {
+    }
+
+    public Result create(List<CreateAuctionCommand> commands) {
+        List<AuctionId> created = new ArrayList<>(commands.size());
+        List<Failure> failures = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>(batchSize);
+        List<DomainEvent> pendingEvents = new ArrayList<>(batchSize);
+        for (int i = 0; i < commands.size(); i++) {
+            CreateAuctionCommand command = commands.get(i);
+            try {
+                AggregateRoot aggregate = command.auctionType() == AuctionType.DUTCH
+                        ? new DutchAuctionAggregate() : new AuctionAggregate();
+                aggregate.handle(command);
+                pendingEvents.addAll(aggregate.getDomainEvents());
+                pendingIndexes.add(i);
+            } catch (RuntimeException e) {
+                failures.add(new Failure(i, command.auctionId(), e.getMessage()));
+                continue;
+            }
+            if (pendingEvents.size() >= batchSize) {
+                append(commands, pendingIndexes, pendingEvents, created, failures);
+            }
+        }
+        if (!pendingEvents.isEmpty()) {
+            append(commands, pendingIndexes, pendingEvents, created, failures);
+        }
+        failures.sort((a, b) -> Integer.compare(a.index(), b.index()));
+        logger.info("Bulk created {} auctions, {} failed", created.size(), failures.size());
+        return new Result(created, failures);
+    }
+
+    private void append(List<CreateAuctionCommand> commands, List<Integer> indexes, List<DomainEvent> events,
+                        List<AuctionId> created, List<Failure> failures) {
+        Set<AuctionId> existing;
+        try {
+            existing = chunkTransaction != null
+                    ? chunkTransaction.execute(status -> appendAndPublish(events))
+                    : appendAndPublish(events);
+        } catch (RuntimeException e) {
+            logger.warn("Could not store a chunk of {} auctions", indexes.size(), e);
+            for (int index : indexes) {
+                failures.add(new Failure(index, commands.get(index).auctionId(),
+                        "Could not store auction: " + e.getMessage()));
+            }
+            indexes.clear();
+            events.clear();
+            return;
+        }
+        for (int index : indexes) {
+            AuctionId auctionId = commands.get(index).auctionId();
+            if (existing.contains(auctionId)) {
+                failures.add(new Failure(index, auctionId, "Auction already exists"));
+            } else {
+                created.add(auctionId);
+            }
+        }
+        indexes.clear();
+        events.clear();
+    }
+
+    private Set<AuctionId> appendAndPublish(List<DomainEvent> events) {
+        Set<AuctionId> existing = eventStore.appendNew(events);
+        List<DomainEvent> stored = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            if (!existing.contains((AuctionId) event.getAggregateId())) {
+                stored.add(event);
+            }
+        }
+        publishOnCommit(stored);
+        return existing;
+    }
+
+    private void publishOnCommit(List<DomainEvent> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(eventPublisher::publish);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(eventPublisher::publish);
+            }
+        });
+    }
+}
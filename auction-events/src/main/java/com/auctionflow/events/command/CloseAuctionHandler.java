@@ -11,16 +11,14 @@ import com.auctionflow.core.domain.valueobjects.AuctionType;
 import com.auctionflow.common.service.EventStore;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.context.event.EventListener;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Component
-public class CloseAuctionHandler {
+public class CloseAuctionHandler implements CommandHandler<CloseAuctionCommand> {
 
     private final EventStore eventStore;
     private final KafkaTemplate<String, DomainEvent> kafkaTemplate;
@@ -32,8 +30,12 @@ public class CloseAuctionHandler {
         this.redissonClient = redissonClient;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public Object routingKey(CloseAuctionCommand command) {
+        return command.auctionId();
+    }
+
+    @Override
     public void handle(CloseAuctionCommand command) {
         String lockKey = "auction:" + command.auctionId().value();
         RLock lock = redissonClient.getLock(lockKey);
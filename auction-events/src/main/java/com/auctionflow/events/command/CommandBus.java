@@ -1,24 +1,178 @@
 package com.auctionflow.events.command;
 
+import com.auctionflow.common.exceptions.CommandRejectedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dispatches commands to their {@link CommandHandler} through a fixed set of lanes, each a preallocated
+ * ring buffer drained in batches by its own consumer thread. Handlers are resolved by command type once at
+ * startup. Commands with the same routing key (for auctions, the auction id) always land on the same lane,
+ * so they are handled one at a time in submission order; a command its handler retries goes back onto the
+ * same lane. When a lane is full the caller gets a {@link CommandRejectedException} rather than an unbounded
+ * queue building up behind it.
+ *
+ * Commands without a registered handler are published as application events, as before.
+ */
 @Service
 public class CommandBus {
 
     private final ApplicationEventPublisher publisher;
+    private final Map<Class<?>, CommandHandler<Object>> handlers;
+    private final CommandRingBuffer[] lanes;
+    // Only waits out retry delays; the retried command itself runs back on its lane
+    private final ScheduledExecutorService retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-bus-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long sendTimeoutNanos;
+    private final AtomicInteger roundRobin = new AtomicInteger();
 
-    public CommandBus(ApplicationEventPublisher publisher) {
+    public CommandBus(ApplicationEventPublisher publisher,
+                      List<CommandHandler<?>> commandHandlers,
+                      @Value("${auction.command-bus.lanes:8}") int laneCount,
+                      @Value("${auction.command-bus.ring-size:4096}") int ringSize,
+                      @Value("${auction.command-bus.max-batch:256}") int maxBatch,
+                      @Value("${auction.command-bus.send-timeout:PT0.1S}") Duration sendTimeout) {
         this.publisher = publisher;
+        this.handlers = resolveHandlers(commandHandlers);
+        this.lanes = new CommandRingBuffer[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new CommandRingBuffer("command-bus-" + i, ringSize, maxBatch, retryExecutor);
+        }
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Class<?>, CommandHandler<Object>> resolveHandlers(List<CommandHandler<?>> commandHandlers) {
+        Map<Class<?>, CommandHandler<Object>> resolved = new HashMap<>();
+        for (CommandHandler<?> handler : commandHandlers) {
+            Class<?> commandType = GenericTypeResolver.resolveTypeArgument(AopUtils.getTargetClass(handler), CommandHandler.class);
+            if (commandType == null) {
+                throw new IllegalStateException("Cannot resolve command type for " + handler.getClass().getName());
+            }
+            if (resolved.put(commandType, (CommandHandler<Object>) handler) != null) {
+                throw new IllegalStateException("Multiple handlers registered for " + commandType.getName());
+            }
+        }
+        return Map.copyOf(resolved);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (CommandRingBuffer lane : lanes) {
+            lane.start();
+        }
     }
 
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (CommandRingBuffer lane : lanes) {
+            lane.shutdown(TimeUnit.SECONDS.toMillis(10));
+        }
+        // Pending retries find their lane stopped and complete their commands
+        for (Runnable pending : retryExecutor.shutdownNow()) {
+            pending.run();
+        }
+    }
+
+    /**
+     * Enqueues a command, waiting up to the configured send timeout for space if its lane is full.
+     */
     public void send(Object command) {
-        publisher.publishEvent(command);
+        dispatch(command, sendTimeoutNanos, null);
     }
 
-    @Async
+    /**
+     * Enqueues a command without waiting; rejects it immediately if its lane is full.
+     */
     public void sendAsync(Object command) {
-        publisher.publishEvent(command);
+        dispatch(command, 0, null);
+    }
+
+    /**
+     * Enqueues a command without waiting, running onHandled once the command has been handled for the last
+     * time: after its final retry, whether it succeeded, failed or threw an Error. onHandled usually runs on
+     * the lane's consumer thread and must be quick, as it delays the rest of the lane. If the command is
+     * rejected onHandled never runs.
+     */
+    public void sendAsync(Object command, Runnable onHandled) {
+        dispatch(command, 0, onHandled);
+    }
+
+    /**
+     * Number of dispatch lanes.
+     */
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Lane that commands with this non-null routing key are dispatched on.
+     */
+    public int laneFor(Object routingKey) {
+        int hash = routingKey.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    /**
+     * Number of commands waiting across all lanes.
+     */
+    public int pendingCommands() {
+        int pending = 0;
+        for (CommandRingBuffer lane : lanes) {
+            pending += lane.size();
+        }
+        return pending;
+    }
+
+    private void dispatch(Object command, long timeoutNanos, Runnable onHandled) {
+        CommandHandler<Object> handler = handlers.get(command.getClass());
+        if (handler == null) {
+            try {
+                publisher.publishEvent(command);
+            } finally {
+                if (onHandled != null) {
+                    onHandled.run();
+                }
+            }
+            return;
+        }
+        CommandRingBuffer lane = lanes[pickLane(handler.routingKey(command))];
+        if (lane.tryPublish(handler, command, onHandled)) {
+            return;
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            if (lane.tryPublish(handler, command, onHandled)) {
+                return;
+            }
+        }
+        throw new CommandRejectedException("Command queue is full, rejected " + command.getClass().getSimpleName(),
+                Duration.ofSeconds(1));
+    }
+
+    private int pickLane(Object routingKey) {
+        if (routingKey == null) {
+            return Math.floorMod(roundRobin.getAndIncrement(), lanes.length);
+        }
+        return laneFor(routingKey);
     }
-}
\ No newline at end of file
+}
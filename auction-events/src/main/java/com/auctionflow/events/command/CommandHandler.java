@@ -1,5 +1,24 @@
 package com.auctionflow.events.command;
 
+import java.time.Duration;
+
 public interface CommandHandler<T> {
     void handle(T command);
-}
\ No newline at end of file
+
+    /**
+     * Key used by the {@link CommandBus} to pick a dispatch lane. Commands with the same key are handled
+     * in order on the same lane; null spreads commands across lanes.
+     */
+    default Object routingKey(T command) {
+        return null;
+    }
+
+    /**
+     * Delay after which the {@link CommandBus} hands a failed command back to the lane it ran on, or null to
+     * give up. Going back through the lane means a retry is never handled concurrently with other commands
+     * that share its routing key. attempt is 0 for the first failure.
+     */
+    default Duration retryDelay(T command, RuntimeException failure, int attempt) {
+        return null;
+    }
+}
@@ -0,0 +1,206 @@
+package com.auctionflow.events.command;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated slots. Producers claim a sequence with a CAS
+ * and publish the slot by writing its sequence number; the consumer thread drains contiguous published
+ * slots in batches and only then releases them, so producers touch the shared consumer cursor once per
+ * batch rather than once per command. A full ring is reported to the producer instead of growing.
+ *
+ * A command whose handler asks for a retry is published to this same ring again after the delay, so it is
+ * never handled concurrently with the lane's other commands. Nothing a handler throws, Errors included,
+ * stops the consumer thread.
+ */
+final class CommandRingBuffer implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandRingBuffer.class);
+    private static final int SPIN_TRIES = 200;
+
+    private final int capacity;
+    private final int mask;
+    private final int maxBatch;
+    private final Object[] commands;
+    private final CommandHandler<Object>[] handlers;
+    private final Runnable[] callbacks;
+    private final int[] attempts;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final Thread consumer;
+    private final ScheduledExecutorService retryExecutor;
+    private volatile boolean consumerWaiting;
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    CommandRingBuffer(String name, int capacity, int maxBatch, ScheduledExecutorService retryExecutor) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.maxBatch = maxBatch;
+        this.commands = new Object[capacity];
+        this.handlers = new CommandHandler[capacity];
+        this.callbacks = new Runnable[capacity];
+        this.attempts = new int[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.consumer = new Thread(this, name);
+        this.consumer.setDaemon(true);
+        this.retryExecutor = retryExecutor;
+    }
+
+    void start() {
+        consumer.start();
+    }
+
+    /**
+     * Publishes a command, or returns false without blocking if the ring is full. A non-null onHandled
+     * runs once the command has been handled for the last time, retries included, whether or not it
+     * succeeded.
+     */
+    boolean tryPublish(CommandHandler<Object> handler, Object command, Runnable onHandled) {
+        return tryPublish(handler, command, onHandled, 0);
+    }
+
+    private boolean tryPublish(CommandHandler<Object> handler, Object command, Runnable onHandled, int attempt) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= capacity || !running) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        int index = (int) (sequence & mask);
+        handlers[index] = handler;
+        commands[index] = command;
+        callbacks[index] = onHandled;
+        attempts[index] = attempt;
+        published.set(index, sequence);
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    int size() {
+        return (int) (claimed.get() - consumed.get());
+    }
+
+    @Override
+    public void run() {
+        long next = 0;
+        int idleSpins = 0;
+        while (running || next < claimed.get()) {
+            int batch = 0;
+            while (batch < maxBatch) {
+                int index = (int) (next & mask);
+                if (published.get(index) != next) {
+                    break;
+                }
+                CommandHandler<Object> handler = handlers[index];
+                Object command = commands[index];
+                Runnable onHandled = callbacks[index];
+                int attempt = attempts[index];
+                handlers[index] = null;
+                commands[index] = null;
+                callbacks[index] = null;
+                dispatch(handler, command, onHandled, attempt);
+                next++;
+                batch++;
+            }
+            if (batch > 0) {
+                // Release the whole batch to producers at once
+                consumed.lazySet(next);
+                idleSpins = 0;
+            } else if (idleSpins++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                consumerWaiting = true;
+                if (published.get((int) (next & mask)) != next && running) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+                }
+                consumerWaiting = false;
+            }
+        }
+        consumed.set(next);
+    }
+
+    /**
+     * Stops accepting commands and waits for the consumer to drain what was already published.
+     */
+    void shutdown(long timeoutMillis) throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(timeoutMillis);
+    }
+
+    private void dispatch(CommandHandler<Object> handler, Object command, Runnable onHandled, int attempt) {
+        boolean retrying = false;
+        try {
+            handler.handle(command);
+        } catch (Throwable t) {
+            try {
+                retrying = scheduleRetry(handler, command, onHandled, attempt, t);
+            } catch (Throwable retryFailure) {
+                t.addSuppressed(retryFailure);
+            }
+            if (!retrying) {
+                logger.error("Command handler failed for {}", command.getClass().getSimpleName(), t);
+            }
+        } finally {
+            if (!retrying) {
+                complete(command, onHandled);
+            }
+        }
+    }
+
+    /**
+     * Hands a failed command back to this ring after the handler's retry delay. Returns false if the
+     * handler gives up, in which case the caller completes the command.
+     */
+    private boolean scheduleRetry(CommandHandler<Object> handler, Object command, Runnable onHandled, int attempt,
+                                  Throwable failure) {
+        if (!(failure instanceof RuntimeException exception) || !running) {
+            return false;
+        }
+        Duration delay = handler.retryDelay(command, exception, attempt);
+        if (delay == null) {
+            return false;
+        }
+        try {
+            retryExecutor.schedule(() -> {
+                if (!tryPublish(handler, command, onHandled, attempt + 1)) {
+                    logger.error("Dropped retry of {}: lane is full or stopped", command.getClass().getSimpleName(), exception);
+                    complete(command, onHandled);
+                }
+            }, delay.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static void complete(Object command, Runnable onHandled) {
+        if (onHandled == null) {
+            return;
+        }
+        try {
+            onHandled.run();
+        } catch (Throwable t) {
+            logger.error("Completion callback failed for {}", command.getClass().getSimpleName(), t);
+        }
+    }
+}
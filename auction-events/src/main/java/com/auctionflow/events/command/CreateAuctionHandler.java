@@ -10,16 +10,14 @@ import com.auctionflow.core.domain.valueobjects.AuctionType;
 import com.auctionflow.common.service.EventStore;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.context.event.EventListener;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Component
-public class CreateAuctionHandler {
+public class CreateAuctionHandler implements CommandHandler<CreateAuctionCommand> {
 
     private final EventStore eventStore;
     private final KafkaTemplate<String, DomainEvent> kafkaTemplate;
@@ -31,8 +29,12 @@ public class CreateAuctionHandler {
         this.redissonClient = redissonClient;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public Object routingKey(CreateAuctionCommand command) {
+        return command.auctionId();
+    }
+
+    @Override
     public void handle(CreateAuctionCommand command) {
         AggregateRoot aggregate;
         if (command.auctionType() == AuctionType.DUTCH) {
@@ -8,40 +8,42 @@ import com.auctionflow.core.domain.commands.PlaceBidCommand;
 import com.auctionflow.core.domain.events.AuctionCreatedEvent;
 import com.auctionflow.core.domain.events.BidPlacedEvent;
 import com.auctionflow.core.domain.events.DomainEvent;
-import com.auctionflow.core.domain.events.ProxyBidOutbidEvent;
 import com.auctionflow.core.domain.valueobjects.AuctionId;
 import com.auctionflow.core.domain.valueobjects.AuctionType;
 import com.auctionflow.core.domain.valueobjects.BidderId;
 import com.auctionflow.core.domain.valueobjects.Money;
 import com.auctionflow.events.AggregateCacheService;
+import com.auctionflow.common.service.DeferredBidScheduler;
 import com.auctionflow.common.service.EventStore;
 import com.auctionflow.events.persistence.ProxyBidEntity;
 import com.auctionflow.events.persistence.EventProxyBidRepository;
 
 import com.auctionflow.events.command.AutomatedBiddingService;
 import com.auctionflow.bidding.strategies.BidDecision;
+import com.auctionflow.bidding.strategies.BudgetLedger;
 import com.auctionflow.bidding.strategies.StrategyBidDecision;
 import io.opentelemetry.extension.annotations.WithSpan;
-import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.context.event.EventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Component
-public class PlaceBidHandler {
+public class PlaceBidHandler implements CommandHandler<PlaceBidCommand> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceBidHandler.class);
+    private static final int MAX_RETRIES = 3;
+    private static final long INITIAL_BACKOFF_MS = 100;
 
     private final EventStore eventStore;
     private final KafkaTemplate<String, DomainEvent> kafkaTemplate;
@@ -49,38 +51,40 @@ public class PlaceBidHandler {
     private final EventProxyBidRepository proxyBidRepository;
     private final AutomatedBiddingService automatedBiddingService;
     private final AggregateCacheService aggregateCacheService;
-    // Scheduled executor for non-blocking retries
-    private final ScheduledExecutorService retryExecutor = Executors.newScheduledThreadPool(10);
+    private final BudgetLedger budgetLedger;
+    // Present when the timer module is deployed; without it, deferred strategy bids are skipped
+    private final ObjectProvider<DeferredBidScheduler> deferredBidScheduler;
 
-    public PlaceBidHandler(EventStore eventStore, KafkaTemplate<String, DomainEvent> kafkaTemplate, RedissonClient redissonClient, EventProxyBidRepository proxyBidRepository, AutomatedBiddingService automatedBiddingService, AggregateCacheService aggregateCacheService) {
+    public PlaceBidHandler(EventStore eventStore, KafkaTemplate<String, DomainEvent> kafkaTemplate, RedissonClient redissonClient, EventProxyBidRepository proxyBidRepository, AutomatedBiddingService automatedBiddingService, AggregateCacheService aggregateCacheService, BudgetLedger budgetLedger, ObjectProvider<DeferredBidScheduler> deferredBidScheduler) {
         this.eventStore = eventStore;
         this.kafkaTemplate = kafkaTemplate;
         this.redissonClient = redissonClient;
         this.proxyBidRepository = proxyBidRepository;
         this.automatedBiddingService = automatedBiddingService;
         this.aggregateCacheService = aggregateCacheService;
+        this.budgetLedger = budgetLedger;
+        this.deferredBidScheduler = deferredBidScheduler;
+    }
+
+    @Override
+    public Object routingKey(PlaceBidCommand command) {
+        return command.auctionId();
     }
 
-    @Async
-    @EventListener
+    @Override
     @WithSpan("process-bid-command")
     public void handle(PlaceBidCommand command) {
-        String lockKey = "auction:" + command.auctionId().value();
-        RLock lock = redissonClient.getLock(lockKey);
-        try {
-            // Try to acquire lock with timeout
-            if (!lock.tryLock(10, 30, TimeUnit.SECONDS)) {
-                throw new RuntimeException("Could not acquire lock for auction " + command.auctionId());
-            }
-            processBidWithRetry(command, 0, 100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Interrupted while handling command", e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+        // The command bus lane already serializes this auction's commands on this node, and appends from
+        // other nodes are caught by the event store's version check, so no distributed lock is taken here
+        processBid(command);
+    }
+
+    @Override
+    public Duration retryDelay(PlaceBidCommand command, RuntimeException failure, int attempt) {
+        if (failure instanceof OptimisticLockException && attempt < MAX_RETRIES) {
+            return Duration.ofMillis(INITIAL_BACKOFF_MS << attempt);
         }
+        return null;
     }
 
     /**
@@ -92,7 +96,7 @@ public class PlaceBidHandler {
         return redissonClient.getAtomicLong(key).incrementAndGet();
     }
 
-    private void processBidWithRetry(PlaceBidCommand command, int attempt, long backoffMs) {
+    private void processBid(PlaceBidCommand command) {
         try {
             // Use cached aggregate if available, otherwise reconstruct from events
             AggregateRoot aggregate = aggregateCacheService.get(command.auctionId());
@@ -117,50 +121,62 @@ public class PlaceBidHandler {
                     type = AuctionType.ENGLISH_OPEN;
                 }
             }
-            aggregate.handle(command);
-            List<DomainEvent> newEvents = aggregate.getDomainEvents();
-            eventStore.save(newEvents, aggregate.getExpectedVersion());
+            BudgetHold budgetHold = reserveBudget(command);
+            List<DomainEvent> newEvents;
+            try {
+                aggregate.handle(command);
+                newEvents = aggregate.getDomainEvents();
+                eventStore.save(newEvents, aggregate.getExpectedVersion());
+            } catch (RuntimeException e) {
+                // The bid was not placed, so its budget is not held; a retry reserves again
+                if (budgetHold != null) {
+                    budgetLedger.restore(budgetHold.bidderId(), command.auctionId(), budgetHold.previousCents());
+                }
+                throw e;
+            }
+            // The proxy and automated responses below append after these events
+            aggregate.setExpectedVersion(aggregate.getExpectedVersion() + newEvents.size());
             // Update cache with new version
             aggregateCacheService.put(command.auctionId(), aggregate);
             // Publish to Kafka in batch
             for (DomainEvent event : newEvents) {
                 kafkaTemplate.send("auction-events", event.getAggregateId().toString(), event);
             }
+            aggregate.clearDomainEvents();
 
-            // Handle proxy bidding after the initial bid is placed asynchronously to reduce latency
+            // Proxy and automated bids respond on the same lane, so they see this bid and the next bid sees theirs
             if (type != AuctionType.DUTCH) {
-                final AggregateRoot currentAggregate = aggregate; // Capture current state
-                retryExecutor.submit(() -> {
-                    String lockKey = "auction:proxy:" + command.auctionId().value();
-                    RLock lock = redissonClient.getLock(lockKey);
-                    try {
-                        if (lock.tryLock(5, TimeUnit.SECONDS)) {
-                            // Use current aggregate state to avoid reloading events
-                            handleProxyBidding(command.auctionId(), currentAggregate);
-                            handleAutomatedBidding(command.auctionId(), currentAggregate);
-                            // Update cache with updated aggregate
-                            aggregateCacheService.put(command.auctionId(), currentAggregate);
-                        }
-                    } catch (Exception e) {
-                        // Log error
-                    } finally {
-                        if (lock.isHeldByCurrentThread()) {
-                            lock.unlock();
-                        }
-                    }
-                });
+                try {
+                    handleProxyBidding(command.auctionId(), aggregate);
+                    handleAutomatedBidding(command.auctionId(), aggregate);
+                    aggregateCacheService.put(command.auctionId(), aggregate);
+                } catch (RuntimeException e) {
+                    // The bid itself is stored; only the responses to it are lost
+                    logger.error("Proxy or automated bidding failed for auction {}", command.auctionId(), e);
+                    aggregateCacheService.invalidate(command.auctionId());
+                }
             }
-
-
-
-            aggregate.clearDomainEvents();
         } catch (OptimisticLockException e) {
-            if (attempt < 3) {
-                retryExecutor.schedule(() -> processBidWithRetry(command, attempt + 1, backoffMs * 2), backoffMs, TimeUnit.MILLISECONDS);
-            } else {
-                throw new RuntimeException("Failed to process bid after retries", e);
-            }
+            // Another node appended first; the retry rebuilds from the store
+            aggregateCacheService.invalidate(command.auctionId());
+            throw e;
+        }
+    }
+
+    /**
+     * Reserves a budgeted bid's amount, the way automated bids placed straight away are reserved, returning
+     * the hold it replaced, or null when the bid is not budgeted.
+     */
+    private BudgetHold reserveBudget(PlaceBidCommand command) {
+        if (command.budgetCents() == PlaceBidCommand.NO_BUDGET) {
+            return null;
+        }
+        BidderId bidderId = BidderId.fromString(command.bidderId());
+        long previousCents = budgetLedger.holdCents(bidderId, command.auctionId());
+        if (!budgetLedger.tryReserve(bidderId, command.auctionId(), command.amount().getAmountCents(), command.budgetCents())) {
+            throw new IllegalStateException("Bid would exceed the budget of bidder " + command.bidderId());
         }
+        return new BudgetHold(bidderId, previousCents);
     }
 
     @Transactional
@@ -189,8 +205,9 @@ public class PlaceBidHandler {
                 // Cannot bid, mark as outbid
                 toUpdateStatusOutbid.add(proxyBid);
                 // Publish outbid event
-                ProxyBidOutbidEvent outbidEvent = new ProxyBidOutbidEvent(auctionId, proxyBid.getUserId(), "Maximum bid exceeded", UUID.randomUUID(), Instant.now(), 0);
-                allProxyEvents.add(outbidEvent);
+                auctionAgg.recordProxyBidOutbid(proxyBid.getUserId(), "Maximum bid exceeded");
+                allProxyEvents.addAll(auctionAgg.getDomainEvents());
+                auctionAgg.clearDomainEvents();
                 continue;
             }
 
@@ -254,35 +271,75 @@ public class PlaceBidHandler {
 
         // Collect all events for batch processing
         List<DomainEvent> allAutoEvents = new java.util.ArrayList<>();
+        // Budget holds taken for the bids below, with the hold each replaced, to put back if the batch fails
+        List<BudgetHold> budgetHolds = new java.util.ArrayList<>();
 
-        for (StrategyBidDecision strategyDecision : decisions) {
-            BidDecision decision = strategyDecision.getDecision();
-            if (decision.shouldBid() && decision.getBidTime().isBefore(Instant.now().plusSeconds(1))) { // Only immediate bids for now
-                // Place the automated bid for this user
-                BidderId bidderId = strategyDecision.getStrategy().getBidderId();
-                Instant autoServerTs = Instant.now();
-                long autoSeqNo = generateSeqNo(auctionId);
-                PlaceBidCommand autoCommand = new PlaceBidCommand(auctionId, bidderId.id(), decision.getBidAmount(), "automated-" + strategyDecision.getStrategy().getId(), autoServerTs, autoSeqNo);
-
-                // Handle the automated bid
-                auctionAgg.handle(autoCommand);
-                List<DomainEvent> autoEvents = auctionAgg.getDomainEvents();
-                allAutoEvents.addAll(autoEvents);
-                auctionAgg.clearDomainEvents();
-
-                // Update current highest for next iteration
-                currentHighest = decision.getBidAmount();
+        DeferredBidScheduler scheduler = deferredBidScheduler.getIfAvailable();
+        try {
+            for (StrategyBidDecision strategyDecision : decisions) {
+                BidDecision decision = strategyDecision.getDecision();
+                if (!decision.shouldBid()) {
+                    continue;
+                }
+                if (!decision.getBidTime().isBefore(Instant.now().plusSeconds(1))) {
+                    // Bid later: hand it to the timing wheel, replacing this strategy's previous pending bid
+                    if (scheduler != null && decision.getBidTime().isBefore(auctionEndTime)) {
+                        // Its budget is reserved when the bid is placed, as for the bids placed below
+                        scheduler.schedule(auctionId, strategyDecision.getStrategy().getId(), strategyDecision.getStrategy().getBidderId(),
+                                decision.getBidAmount(), decision.hasBudget() ? decision.getBudgetCents() : PlaceBidCommand.NO_BUDGET,
+                                decision.getBidTime(), auctionEndTime);
+                    }
+                } else {
+                    // Place the automated bid for this user
+                    BidderId bidderId = strategyDecision.getStrategy().getBidderId();
+                    if (decision.hasBudget()) {
+                        // Reserved now that the bid is actually placed; another auction may have taken the budget
+                        long previousCents = budgetLedger.holdCents(bidderId, auctionId);
+                        if (!budgetLedger.tryReserve(bidderId, auctionId, decision.getBidAmount().getAmountCents(), decision.getBudgetCents())) {
+                            continue;
+                        }
+                        budgetHolds.add(new BudgetHold(bidderId, previousCents));
+                    }
+                    Instant autoServerTs = Instant.now();
+                    long autoSeqNo = generateSeqNo(auctionId);
+                    PlaceBidCommand autoCommand = new PlaceBidCommand(auctionId, bidderId.id(), decision.getBidAmount(), "automated-" + strategyDecision.getStrategy().getId(), autoServerTs, autoSeqNo);
+
+                    // Handle the automated bid
+                    auctionAgg.handle(autoCommand);
+                    List<DomainEvent> autoEvents = auctionAgg.getDomainEvents();
+                    allAutoEvents.addAll(autoEvents);
+                    auctionAgg.clearDomainEvents();
+
+                    // Update current highest for next iteration
+                    currentHighest = decision.getBidAmount();
+                }
+            }
+            if (!allAutoEvents.isEmpty()) {
+                eventStore.save(allAutoEvents, auctionAgg.getExpectedVersion());
+            }
+        } catch (RuntimeException e) {
+            // A rejected or unsaved batch placed none of its bids, so none of their budget stays held
+            for (int i = budgetHolds.size() - 1; i >= 0; i--) {
+                BudgetHold hold = budgetHolds.get(i);
+                budgetLedger.restore(hold.bidderId(), auctionId, hold.previousCents());
             }
+            throw e;
         }
 
-        // Batch save all automated events
+        // Batch Kafka sends for the automated events saved above
         if (!allAutoEvents.isEmpty()) {
-            eventStore.save(allAutoEvents, auctionAgg.getExpectedVersion());
             auctionAgg.setExpectedVersion(auctionAgg.getExpectedVersion() + allAutoEvents.size());
-            // Batch Kafka sends
             for (DomainEvent event : allAutoEvents) {
                 kafkaTemplate.send("auction-events", event.getAggregateId().toString(), event);
             }
         }
+
+        // Pending deferred bids that no longer beat the highest bid are stale
+        if (scheduler != null) {
+            scheduler.invalidateAtOrBelow(auctionId, currentHighest);
+        }
+    }
+
+    private record BudgetHold(BidderId bidderId, long previousCents) {
     }
-}
\ No newline at end of file
+}
@@ -7,16 +7,14 @@ import com.auctionflow.core.domain.events.DomainEvent;
 import com.auctionflow.common.service.EventStore;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.context.event.EventListener;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Component
-public class ReducePriceHandler {
+public class ReducePriceHandler implements CommandHandler<ReducePriceCommand> {
 
     private final EventStore eventStore;
     private final KafkaTemplate<String, DomainEvent> kafkaTemplate;
@@ -28,8 +26,12 @@ public class ReducePriceHandler {
         this.redissonClient = redissonClient;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public Object routingKey(ReducePriceCommand command) {
+        return command.auctionId();
+    }
+
+    @Override
     public void handle(ReducePriceCommand command) {
         String lockKey = "auction:" + command.auctionId().value();
         RLock lock = redissonClient.getLock(lockKey);
@@ -0,0 +1,15 @@
+package com.auctionflow.events.command;
+
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+
+/**
+ * Published when an automated bidding strategy is created or deactivated, so cached views of the
+ * auction's active strategies can be refreshed.
+ */
+public record StrategyLifecycleEvent(AuctionId auctionId, Long strategyId, Change change) {
+
+    public enum Change {
+        CREATED,
+        DEACTIVATED
+    }
+}
@@ -0,0 +1,17 @@
+package com.auctionflow.events.config;
+
+import com.auctionflow.bidding.strategies.BudgetLedger;
+import com.auctionflow.events.RedisBudgetLedger;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StrategyConfig {
+
+    // Shared by every node: each consumes only its share of the bid events, and all of them reserve budget
+    @Bean
+    public BudgetLedger budgetLedger(RedissonClient redissonClient) {
+        return new RedisBudgetLedger(redissonClient);
+    }
+}
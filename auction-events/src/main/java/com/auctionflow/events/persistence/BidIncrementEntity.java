@@ -0,0 +1,52 @@
+package com.auctionflow.events.persistence;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One step of a bid increment ladder from the bid_increments reference table. Rows sharing a
+ * strategy name form one ladder; each applies from min_amount up to the next row's min_amount.
+ */
+@Entity
+@Table(name = "bid_increments")
+public class BidIncrementEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "strategy_name", nullable = false)
+    private String strategyName;
+
+    @Column(name = "min_amount", precision = 10, scale = 2)
+    private BigDecimal minAmount;
+
+    @Column(name = "max_amount", precision = 10, scale = 2)
+    private BigDecimal maxAmount;
+
+    @Column(name = "increment", nullable = false, precision = 10, scale = 2)
+    private BigDecimal increment;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt = Instant.now();
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getStrategyName() { return strategyName; }
+    public void setStrategyName(String strategyName) { this.strategyName = strategyName; }
+
+    public BigDecimal getMinAmount() { return minAmount; }
+    public void setMinAmount(BigDecimal minAmount) { this.minAmount = minAmount; }
+
+    public BigDecimal getMaxAmount() { return maxAmount; }
+    public void setMaxAmount(BigDecimal maxAmount) { this.maxAmount = maxAmount; }
+
+    public BigDecimal getIncrement() { return increment; }
+    public void setIncrement(BigDecimal increment) { this.increment = increment; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,6 @@
+package com.auctionflow.events.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BidIncrementRepository extends JpaRepository<BidIncrementEntity, Long> {
+}
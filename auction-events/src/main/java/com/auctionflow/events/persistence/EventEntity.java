@@ -3,25 +3,35 @@ package com.auctionflow.events.persistence;
 import jakarta.persistence.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
+import java.io.Serializable;
 import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
 
+/**
+ * Row of the hash-partitioned event_store table. Keyed by (aggregate_id, sequence_number);
+ * the event type is stored as a {@link StoredEventType} code.
+ */
 @Entity
-@Table(name = "event_store", uniqueConstraints = @UniqueConstraint(columnNames = {"aggregate_id", "sequence_number", "timestamp"}))
-public class EventEntity {
+@Table(name = "event_store")
+@IdClass(EventEntity.Key.class)
+public class EventEntity implements Persistable<EventEntity.Key> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
     @Column(name = "aggregate_id", nullable = false)
-    private String aggregateId;
+    private UUID aggregateId;
+
+    @Id
+    @Column(name = "sequence_number", nullable = false)
+    private Long sequenceNumber;
 
-    @Column(name = "aggregate_type", nullable = false)
-    private String aggregateType;
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
 
     @Column(name = "event_type", nullable = false)
-    private String eventType;
+    private short eventType;
 
     @Column(name = "event_data", columnDefinition = "jsonb", nullable = false)
     @JdbcTypeCode(SqlTypes.JSON)
@@ -31,38 +41,49 @@ public class EventEntity {
     @JdbcTypeCode(SqlTypes.JSON)
     private String eventMetadata;
 
-    @Column(name = "sequence_number", nullable = false)
-    private Long sequenceNumber;
-
     @Column(name = "timestamp", nullable = false)
     private Instant timestamp;
 
+    // Events are append-only: a freshly constructed entity is always an insert, never a merge
+    @Transient
+    private boolean isNew = true;
+
     // Constructors, getters, setters
 
     public EventEntity() {}
 
-    public EventEntity(String aggregateId, String aggregateType, String eventType, String eventData, String eventMetadata, Long sequenceNumber, Instant timestamp) {
+    public EventEntity(UUID aggregateId, Long sequenceNumber, UUID eventId, short eventType, String eventData, String eventMetadata, Instant timestamp) {
         this.aggregateId = aggregateId;
-        this.aggregateType = aggregateType;
+        this.sequenceNumber = sequenceNumber;
+        this.eventId = eventId;
         this.eventType = eventType;
         this.eventData = eventData;
         this.eventMetadata = eventMetadata;
-        this.sequenceNumber = sequenceNumber;
         this.timestamp = timestamp;
     }
 
+    @Override
+    public Key getId() { return new Key(aggregateId, sequenceNumber); }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
     // Getters and setters
-    public Long getId() { return id; }
-    public void setId(Long id) { this.id = id; }
+    public UUID getAggregateId() { return aggregateId; }
+    public void setAggregateId(UUID aggregateId) { this.aggregateId = aggregateId; }
 
-    public String getAggregateId() { return aggregateId; }
-    public void setAggregateId(String aggregateId) { this.aggregateId = aggregateId; }
+    public Long getSequenceNumber() { return sequenceNumber; }
+    public void setSequenceNumber(Long sequenceNumber) { this.sequenceNumber = sequenceNumber; }
 
-    public String getAggregateType() { return aggregateType; }
-    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+    public UUID getEventId() { return eventId; }
+    public void setEventId(UUID eventId) { this.eventId = eventId; }
 
-    public String getEventType() { return eventType; }
-    public void setEventType(String eventType) { this.eventType = eventType; }
+    public short getEventType() { return eventType; }
+    public void setEventType(short eventType) { this.eventType = eventType; }
 
     public String getEventData() { return eventData; }
     public void setEventData(String eventData) { this.eventData = eventData; }
@@ -70,9 +91,36 @@ public class EventEntity {
     public String getEventMetadata() { return eventMetadata; }
     public void setEventMetadata(String eventMetadata) { this.eventMetadata = eventMetadata; }
 
-    public Long getSequenceNumber() { return sequenceNumber; }
-    public void setSequenceNumber(Long sequenceNumber) { this.sequenceNumber = sequenceNumber; }
-
     public Instant getTimestamp() { return timestamp; }
     public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
-}
\ No newline at end of file
+
+    /**
+     * Composite primary key: (aggregate_id, sequence_number).
+     */
+    public static class Key implements Serializable {
+        private UUID aggregateId;
+        private Long sequenceNumber;
+
+        public Key() {}
+
+        public Key(UUID aggregateId, Long sequenceNumber) {
+            this.aggregateId = aggregateId;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        public UUID getAggregateId() { return aggregateId; }
+        public Long getSequenceNumber() { return sequenceNumber; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(aggregateId, key.aggregateId) && Objects.equals(sequenceNumber, key.sequenceNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(aggregateId, sequenceNumber);
+        }
+    }
+}
@@ -6,26 +6,27 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
-public interface EventRepository extends JpaRepository<EventEntity, Long> {
+public interface EventRepository extends JpaRepository<EventEntity, EventEntity.Key> {
 
-    List<EventEntity> findByAggregateIdOrderBySequenceNumberAsc(String aggregateId);
+    List<EventEntity> findByAggregateIdOrderBySequenceNumberAsc(UUID aggregateId);
 
     @Query("SELECT e FROM EventEntity e WHERE e.aggregateId = :aggregateId AND e.sequenceNumber > :sequenceNumber ORDER BY e.sequenceNumber ASC")
-    List<EventEntity> findByAggregateIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(@Param("aggregateId") String aggregateId, @Param("sequenceNumber") Long sequenceNumber);
+    List<EventEntity> findByAggregateIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(@Param("aggregateId") UUID aggregateId, @Param("sequenceNumber") Long sequenceNumber);
 
     @Query("SELECT MAX(e.sequenceNumber) FROM EventEntity e WHERE e.aggregateId = :aggregateId")
-    Long findMaxSequenceNumberByAggregateId(@Param("aggregateId") String aggregateId);
+    Long findMaxSequenceNumberByAggregateId(@Param("aggregateId") UUID aggregateId);
 
-    void deleteByAggregateId(String aggregateId);
+    void deleteByAggregateId(UUID aggregateId);
 
     // Replay queries
     @Query("SELECT e FROM EventEntity e WHERE e.timestamp >= :fromTimestamp ORDER BY e.timestamp ASC, e.sequenceNumber ASC")
     List<EventEntity> findByTimestampGreaterThanEqualOrderByTimestampAscSequenceNumberAsc(@Param("fromTimestamp") Instant fromTimestamp);
 
     @Query("SELECT e FROM EventEntity e WHERE e.aggregateId = :aggregateId AND e.timestamp >= :fromTimestamp ORDER BY e.timestamp ASC, e.sequenceNumber ASC")
-    List<EventEntity> findByAggregateIdAndTimestampGreaterThanEqualOrderByTimestampAscSequenceNumberAsc(@Param("aggregateId") String aggregateId, @Param("fromTimestamp") Instant fromTimestamp);
+    List<EventEntity> findByAggregateIdAndTimestampGreaterThanEqualOrderByTimestampAscSequenceNumberAsc(@Param("aggregateId") UUID aggregateId, @Param("fromTimestamp") Instant fromTimestamp);
 
     @Query("SELECT e FROM EventEntity e WHERE e.timestamp >= :fromTimestamp AND e.timestamp <= :toTimestamp ORDER BY e.timestamp ASC, e.sequenceNumber ASC")
     List<EventEntity> findByTimestampBetweenOrderByTimestampAscSequenceNumberAsc(@Param("fromTimestamp") Instant fromTimestamp, @Param("toTimestamp") Instant toTimestamp);
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.auctionflow.events.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams query results through a server-side JDBC cursor so memory stays bounded by the fetch size
+ * regardless of how many rows match. PostgreSQL only honours fetch size inside a transaction, so a stream
+ * opened inside a Spring transaction reads on that transaction's connection; otherwise it holds its own
+ * read-only connection with auto-commit off. Either way the stream must be closed by the caller,
+ * typically with try-with-resources.
+ */
+@Component
+public class JdbcEventCursor {
+
+    static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+
+    @Autowired
+    public JdbcEventCursor(DataSource dataSource) {
+        this(dataSource, DEFAULT_FETCH_SIZE);
+    }
+
+    public JdbcEventCursor(DataSource dataSource, int fetchSize) {
+        this.dataSource = dataSource;
+        this.fetchSize = fetchSize;
+    }
+
+    public <T> Stream<T> query(String sql, RowMapper<T> rowMapper, Object... params) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        boolean ownTransaction = !DataSourceUtils.isConnectionTransactional(connection, dataSource);
+        PreparedStatement statement = null;
+        try {
+            if (ownTransaction) {
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+            }
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            CursorSpliterator<T> spliterator = new CursorSpliterator<>(
+                    () -> release(connection, ownTransaction), statement, resultSet, rowMapper);
+            return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+        } catch (SQLException e) {
+            JdbcUtils.closeStatement(statement);
+            release(connection, ownTransaction);
+            throw new RuntimeException("Failed to open event cursor", e);
+        }
+    }
+
+    private void release(Connection connection, boolean ownTransaction) {
+        if (ownTransaction) {
+            try {
+                connection.rollback();
+                connection.setReadOnly(false);
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+                // The pool validates the connection when it is returned
+            }
+        }
+        DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    private static final class CursorSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Runnable releaseConnection;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private final RowMapper<T> rowMapper;
+        private int rowNum;
+        private boolean closed;
+
+        CursorSpliterator(Runnable releaseConnection, PreparedStatement statement, ResultSet resultSet, RowMapper<T> rowMapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.releaseConnection = releaseConnection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!resultSet.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(rowMapper.mapRow(resultSet, rowNum++));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new RuntimeException("Failed to read from event cursor", e);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                resultSet.close();
+                statement.close();
+            } catch (SQLException ignored) {
+                // Fall through to release the connection
+            }
+            releaseConnection.run();
+        }
+    }
+}
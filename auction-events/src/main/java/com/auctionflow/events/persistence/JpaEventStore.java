@@ -5,28 +5,64 @@ import com.auctionflow.core.domain.events.DomainEvent;
 import com.auctionflow.core.domain.valueobjects.AuctionId;
 import com.auctionflow.common.service.EventStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class JpaEventStore implements EventStore {
 
+    private static final String STREAM_SELECT = "SELECT event_type, event_data FROM event_store ";
+    private static final String STREAM_BY_AGGREGATE = STREAM_SELECT
+            + "WHERE aggregate_id = ? ORDER BY sequence_number ASC";
+    private static final String STREAM_FROM_TIMESTAMP = STREAM_SELECT
+            + "WHERE timestamp >= ? ORDER BY timestamp ASC, sequence_number ASC";
+    private static final String STREAM_FOR_AGGREGATE_FROM_TIMESTAMP = STREAM_SELECT
+            + "WHERE aggregate_id = ? AND timestamp >= ? ORDER BY timestamp ASC, sequence_number ASC";
+    private static final String STREAM_BY_TIMESTAMP_RANGE = STREAM_SELECT
+            + "WHERE timestamp >= ? AND timestamp <= ? ORDER BY timestamp ASC, sequence_number ASC";
+    // One statement per chunk: rows arrive as parallel arrays, aggregates that already have events are
+    // skipped, and the aggregate of every row written comes back
+    private static final String APPEND_NEW = "INSERT INTO event_store "
+            + "(aggregate_id, sequence_number, event_id, event_type, timestamp, event_data) "
+            + "SELECT e.aggregate_id, e.sequence_number, e.event_id, e.event_type, e.timestamp, e.event_data::jsonb "
+            + "FROM unnest(?::uuid[], ?::bigint[], ?::uuid[], ?::smallint[], ?::timestamptz[], ?::text[]) "
+            + "AS e(aggregate_id, sequence_number, event_id, event_type, timestamp, event_data) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM event_store s WHERE s.aggregate_id = e.aggregate_id) "
+            + "ON CONFLICT (aggregate_id, sequence_number) DO NOTHING "
+            + "RETURNING aggregate_id";
+    static final int APPEND_CHUNK_SIZE = 1000;
+
     private final EventRepository eventRepository;
     private final ObjectMapper objectMapper;
+    private final JdbcEventCursor eventCursor;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaEventStore(EventRepository eventRepository, ObjectMapper objectMapper) {
+    public JpaEventStore(EventRepository eventRepository, ObjectMapper objectMapper, JdbcEventCursor eventCursor,
+                         JdbcTemplate jdbcTemplate) {
         this.eventRepository = eventRepository;
         this.objectMapper = objectMapper;
+        this.eventCursor = eventCursor;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public void save(List<DomainEvent> events, long expectedVersion) {
         if (!events.isEmpty()) {
-            String aggregateId = ((AuctionId) events.get(0).getAggregateId()).value().toString();
+            UUID aggregateId = toUuid((AuctionId) events.get(0).getAggregateId());
             Long currentMaxSeq = eventRepository.findMaxSequenceNumberByAggregateId(aggregateId);
             long currentVersion = currentMaxSeq != null ? currentMaxSeq : 0;
             if (currentVersion != expectedVersion) {
@@ -36,12 +72,78 @@ public class JpaEventStore implements EventStore {
         List<EventEntity> entities = events.stream()
                 .map(this::toEntity)
                 .collect(Collectors.toList());
-        eventRepository.saveAll(entities);
+        try {
+            // Flush inside the call so a concurrent append surfaces here as a primary key conflict
+            eventRepository.saveAllAndFlush(entities);
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockException("Version conflict: concurrent append to aggregate", e);
+        }
+    }
+
+    /**
+     * Appends in chunks of about {@value #APPEND_CHUNK_SIZE} rows, one INSERT each, never splitting an
+     * aggregate's events across chunks. Runs in the caller's transaction, if any.
+     */
+    @Override
+    public Set<AuctionId> appendNew(List<DomainEvent> events) {
+        Set<AuctionId> existing = new HashSet<>();
+        List<EventEntity> chunk = new ArrayList<>(APPEND_CHUNK_SIZE);
+        for (int i = 0; i < events.size(); i++) {
+            chunk.add(toEntity(events.get(i)));
+            boolean aggregateEnds = i + 1 == events.size()
+                    || !events.get(i + 1).getAggregateId().equals(events.get(i).getAggregateId());
+            if (aggregateEnds && chunk.size() >= APPEND_CHUNK_SIZE) {
+                existing.addAll(appendChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            existing.addAll(appendChunk(chunk));
+        }
+        return existing;
+    }
+
+    private Set<AuctionId> appendChunk(List<EventEntity> chunk) {
+        int size = chunk.size();
+        UUID[] aggregateIds = new UUID[size];
+        Long[] sequenceNumbers = new Long[size];
+        UUID[] eventIds = new UUID[size];
+        Short[] eventTypes = new Short[size];
+        Timestamp[] timestamps = new Timestamp[size];
+        String[] eventData = new String[size];
+        for (int i = 0; i < size; i++) {
+            EventEntity entity = chunk.get(i);
+            aggregateIds[i] = entity.getAggregateId();
+            sequenceNumbers[i] = entity.getSequenceNumber();
+            eventIds[i] = entity.getEventId();
+            eventTypes[i] = entity.getEventType();
+            timestamps[i] = Timestamp.from(entity.getTimestamp());
+            eventData[i] = entity.getEventData();
+        }
+        Set<UUID> appended = new HashSet<>();
+        jdbcTemplate.query(APPEND_NEW, statement -> {
+            Connection connection = statement.getConnection();
+            statement.setArray(1, connection.createArrayOf("uuid", aggregateIds));
+            statement.setArray(2, connection.createArrayOf("int8", sequenceNumbers));
+            statement.setArray(3, connection.createArrayOf("uuid", eventIds));
+            statement.setArray(4, connection.createArrayOf("int2", eventTypes));
+            statement.setArray(5, connection.createArrayOf("timestamptz", timestamps));
+            statement.setArray(6, connection.createArrayOf("text", eventData));
+        }, resultSet -> {
+            appended.add(resultSet.getObject(1, UUID.class));
+        });
+        Set<AuctionId> existing = new HashSet<>();
+        for (UUID aggregateId : aggregateIds) {
+            if (!appended.contains(aggregateId)) {
+                existing.add(new AuctionId(aggregateId.toString()));
+            }
+        }
+        return existing;
     }
 
     @Override
     public List<DomainEvent> getEvents(AuctionId aggregateId) {
-        return eventRepository.findByAggregateIdOrderBySequenceNumberAsc(aggregateId.value().toString())
+        return eventRepository.findByAggregateIdOrderBySequenceNumberAsc(toUuid(aggregateId))
                 .stream()
                 .map(this::toDomainEvent)
                 .collect(Collectors.toList());
@@ -50,7 +152,7 @@ public class JpaEventStore implements EventStore {
     @Override
     public List<DomainEvent> getEventsAfter(AuctionId aggregateId, long sequenceNumber) {
         return eventRepository.findByAggregateIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(
-                        aggregateId.value().toString(), sequenceNumber)
+                        toUuid(aggregateId), sequenceNumber)
                 .stream()
                 .map(this::toDomainEvent)
                 .collect(Collectors.toList());
@@ -67,7 +169,7 @@ public class JpaEventStore implements EventStore {
     @Override
     public List<DomainEvent> getEventsForAggregateFromTimestamp(AuctionId aggregateId, Instant fromTimestamp) {
         return eventRepository.findByAggregateIdAndTimestampGreaterThanEqualOrderByTimestampAscSequenceNumberAsc(
-                        aggregateId.value().toString(), fromTimestamp)
+                        toUuid(aggregateId), fromTimestamp)
                 .stream()
                 .map(this::toDomainEvent)
                 .collect(Collectors.toList());
@@ -81,16 +183,36 @@ public class JpaEventStore implements EventStore {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<DomainEvent> streamEvents(AuctionId aggregateId) {
+        return eventCursor.query(STREAM_BY_AGGREGATE, this::mapRow, toUuid(aggregateId));
+    }
+
+    @Override
+    public Stream<DomainEvent> streamEventsFromTimestamp(Instant fromTimestamp) {
+        return eventCursor.query(STREAM_FROM_TIMESTAMP, this::mapRow, Timestamp.from(fromTimestamp));
+    }
+
+    @Override
+    public Stream<DomainEvent> streamEventsForAggregateFromTimestamp(AuctionId aggregateId, Instant fromTimestamp) {
+        return eventCursor.query(STREAM_FOR_AGGREGATE_FROM_TIMESTAMP, this::mapRow, toUuid(aggregateId), Timestamp.from(fromTimestamp));
+    }
+
+    @Override
+    public Stream<DomainEvent> streamEventsByTimestampRange(Instant fromTimestamp, Instant toTimestamp) {
+        return eventCursor.query(STREAM_BY_TIMESTAMP_RANGE, this::mapRow, Timestamp.from(fromTimestamp), Timestamp.from(toTimestamp));
+    }
+
     private EventEntity toEntity(DomainEvent event) {
         try {
             String eventData = objectMapper.writeValueAsString(event);
             return new EventEntity(
-                    ((AuctionId) event.getAggregateId()).value().toString(),
-                    "auction", // aggregateType
-                    event.getClass().getSimpleName(),
+                    toUuid((AuctionId) event.getAggregateId()),
+                    event.getSequenceNumber(),
+                    event.getEventId(),
+                    StoredEventType.of(event).code(),
                     eventData,
                     null, // eventMetadata
-                    event.getSequenceNumber(),
                     event.getTimestamp()
             );
         } catch (Exception e) {
@@ -99,13 +221,23 @@ public class JpaEventStore implements EventStore {
     }
 
     private DomainEvent toDomainEvent(EventEntity entity) {
+        return deserialize(entity.getEventType(), entity.getEventData());
+    }
+
+    private DomainEvent deserialize(short eventType, String eventData) {
         try {
-            // For simplicity, assume all events are in the same package
-            String className = "com.auctionflow.core.domain.events." + entity.getEventType();
-            Class<?> clazz = Class.forName(className);
-            return (DomainEvent) objectMapper.readValue(entity.getEventData(), clazz);
+            Class<? extends DomainEvent> clazz = StoredEventType.fromCode(eventType).eventClass();
+            return objectMapper.readValue(eventData, clazz);
         } catch (Exception e) {
             throw new RuntimeException("Failed to deserialize event", e);
         }
     }
-}
\ No newline at end of file
+
+    private DomainEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return deserialize(rs.getShort(1), rs.getString(2));
+    }
+
+    private static UUID toUuid(AuctionId aggregateId) {
+        return UUID.fromString(aggregateId.value());
+    }
+}
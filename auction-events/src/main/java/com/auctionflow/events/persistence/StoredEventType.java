@@ -0,0 +1,77 @@
+package com.auctionflow.events.persistence;
+
+import com.auctionflow.core.domain.events.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stable smallint codes for the event_type column of event_store.
+ * Codes are persisted, so existing entries must never be renumbered; append new types at the end.
+ */
+public enum StoredEventType {
+    AUCTION_CREATED(1, AuctionCreatedEvent.class),
+    BID_PLACED(2, BidPlacedEvent.class),
+    BID_REJECTED(3, BidRejectedEvent.class),
+    BID_COMMITTED(4, BidCommittedEvent.class),
+    BID_REVEALED(5, BidRevealedEvent.class),
+    AUCTION_REVEAL_PHASE_STARTED(6, AuctionRevealPhaseStartedEvent.class),
+    AUCTION_EXTENDED(7, AuctionExtendedEvent.class),
+    RESERVE_MET(8, ReserveMetEvent.class),
+    AUCTION_CLOSED(9, AuctionClosedEvent.class),
+    WINNER_DECLARED(10, WinnerDeclaredEvent.class),
+    PRICE_REDUCED(11, PriceReducedEvent.class),
+    PROXY_BID_OUTBID(12, ProxyBidOutbidEvent.class),
+    OFFER_CREATED(13, OfferCreatedEvent.class),
+    OFFER_ACCEPTED(14, OfferAcceptedEvent.class),
+    OFFER_REJECTED(15, OfferRejectedEvent.class),
+    DISPUTE_CREATED(16, DisputeCreatedEvent.class),
+    DISPUTE_RESOLVED(17, DisputeResolvedEvent.class);
+
+    private static final StoredEventType[] BY_CODE;
+    private static final Map<Class<? extends DomainEvent>, StoredEventType> BY_CLASS = new HashMap<>();
+
+    static {
+        int maxCode = 0;
+        for (StoredEventType type : values()) {
+            maxCode = Math.max(maxCode, type.code);
+            BY_CLASS.put(type.eventClass, type);
+        }
+        BY_CODE = new StoredEventType[maxCode + 1];
+        for (StoredEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final short code;
+    private final Class<? extends DomainEvent> eventClass;
+
+    StoredEventType(int code, Class<? extends DomainEvent> eventClass) {
+        this.code = (short) code;
+        this.eventClass = eventClass;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    public Class<? extends DomainEvent> eventClass() {
+        return eventClass;
+    }
+
+    public static StoredEventType fromCode(short code) {
+        StoredEventType type = code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown stored event type code: " + code);
+        }
+        return type;
+    }
+
+    public static StoredEventType of(DomainEvent event) {
+        StoredEventType type = BY_CLASS.get(event.getClass());
+        if (type == null) {
+            throw new IllegalArgumentException("Event type is not registered for storage: " + event.getClass().getName());
+        }
+        return type;
+    }
+}
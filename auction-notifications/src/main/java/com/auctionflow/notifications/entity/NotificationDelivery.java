@@ -39,6 +39,10 @@ public class NotificationDelivery {
     @Column(name = "error_message")
     private String errorMessage;
 
+    // Partition key of notification_deliveries; never changes, so a delivery stays in its partition
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
     // Constructors, getters, setters
 
     public NotificationDelivery() {}
@@ -133,7 +137,15 @@ public class NotificationDelivery {
         this.errorMessage = errorMessage;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public enum DeliveryStatus {
         PENDING, SENT, FAILED
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.api.entities.ApiKey;
+import com.auctionflow.api.repositories.ApiKeyRepository;
+import com.auctionflow.api.services.ApiKeyService;
+import com.auctionflow.api.services.LocalApiKeyChangeChannel;
+import com.auctionflow.api.services.RateLimitReconciler;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Partner requests validated per second across 8 threads: ApiKeyService's in-memory key index with
+ * usage flushed in the background, versus the previous per-request path of a key query followed by a
+ * lastUsedAt write. The api_keys table is an in-memory stand-in that parks for {@code queryMicros} and
+ * {@code writeMicros} per statement, to model the database round trips.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ApiKeyValidationBenchmark {
+
+    private static final int PARTNERS = 64;
+
+    @Param({"150"})
+    public long queryMicros;
+
+    @Param({"400"})
+    public long writeMicros;
+
+    Map<String, ApiKey> keysByHash;
+    ApiKeyRepository repository;
+    ApiKeyService service;
+    String[] rawKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keysByHash = new ConcurrentHashMap<>();
+        AtomicLong ids = new AtomicLong();
+        long queryNanos = TimeUnit.MICROSECONDS.toNanos(queryMicros);
+        long writeNanos = TimeUnit.MICROSECONDS.toNanos(writeMicros);
+        repository = mock(ApiKeyRepository.class, withSettings().stubOnly());
+        when(repository.save(any(ApiKey.class))).thenAnswer(invocation -> {
+            LockSupport.parkNanos(writeNanos);
+            ApiKey apiKey = invocation.getArgument(0);
+            if (apiKey.getId() == null) {
+                apiKey.setId(ids.incrementAndGet());
+            }
+            keysByHash.put(apiKey.getHashedKey(), apiKey);
+            return apiKey;
+        });
+        when(repository.recordUsage(anyLong(), any(Instant.class), anyLong())).thenAnswer(invocation -> {
+            LockSupport.parkNanos(writeNanos);
+            return 1;
+        });
+        when(repository.findByHashedKeyAndRevokedAtIsNull(anyString())).thenAnswer(invocation -> {
+            LockSupport.parkNanos(queryNanos);
+            return Optional.ofNullable(keysByHash.get(invocation.<String>getArgument(0)));
+        });
+        when(repository.findByRevokedAtIsNull()).thenAnswer(invocation -> new ArrayList<>(keysByHash.values()));
+        when(repository.findAll()).thenAnswer(invocation -> new ArrayList<>(keysByHash.values()));
+        RateLimitReconciler reconciler = new RateLimitReconciler(null, Duration.ofSeconds(1), Duration.ofMinutes(10));
+        // A quota high enough that the measured path is the served request, not the refusal
+        service = new ApiKeyService(repository, new LocalApiKeyChangeChannel(), reconciler, 2_000_000);
+        service.init();
+        rawKeys = new String[PARTNERS];
+        for (int i = 0; i < PARTNERS; i++) {
+            rawKeys[i] = service.generateKey("partner-" + i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Partner {
+        int next;
+    }
+
+    @Benchmark
+    public boolean inMemoryIndex(Partner partner) {
+        return service.validateKey(rawKeys[partner.next++ & (PARTNERS - 1)]);
+    }
+
+    @Benchmark
+    public boolean perRequestDatabase(Partner partner) throws Exception {
+        String hashedKey = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+                .digest(rawKeys[partner.next++ & (PARTNERS - 1)].getBytes()));
+        Optional<ApiKey> apiKey = repository.findByHashedKeyAndRevokedAtIsNull(hashedKey);
+        if (apiKey.isEmpty()) {
+            return false;
+        }
+        apiKey.get().setLastUsedAt(Instant.now());
+        repository.save(apiKey.get());
+        return true;
+    }
+
+    @TearDown(Level.Iteration)
+    public void flush() {
+        service.flushUsage();
+    }
+}
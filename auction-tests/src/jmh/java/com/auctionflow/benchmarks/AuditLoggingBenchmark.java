@@ -0,0 +1,109 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.analytics.AuditLogWriter;
+import com.auctionflow.analytics.AuditService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latency of an audited API request from eight request threads. The request itself parks
+ * {@code requestMicros}; {@code off} does nothing more, {@code synchronous} is the previous AuditService,
+ * which saved each entry on the request thread in its own transaction, {@code batched} logs an ordinary
+ * entry through AuditService and AuditLogWriter, and {@code critical} logs an admin action, which waits for
+ * its batch to commit. The database parks {@code roundTripMicros} per statement or batch plus
+ * {@code rowMicros} per row; batches and overflows are printed after each iteration.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class AuditLoggingBenchmark {
+
+    @Param({"off", "synchronous", "batched", "critical"})
+    public String auditing;
+
+    @Param({"500"})
+    public long requestMicros;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    @Param({"5"})
+    public long rowMicros;
+
+    final AtomicLong batches = new AtomicLong();
+    SimpleMeterRegistry meterRegistry;
+    AuditLogWriter writer;
+    AuditService auditService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Batches are timed, not run, so nothing is bound to them
+        JdbcTemplate jdbc = new JdbcTemplate() {
+            @Override
+            public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                           ParameterizedPreparedStatementSetter<T> setter) {
+                batches.incrementAndGet();
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros + rowMicros * batchArgs.size()));
+                return new int[0][];
+            }
+        };
+        PlatformTransactionManager transactions = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditLogWriter(jdbc, transactions, meterRegistry, 8192, 500, Duration.ofSeconds(5));
+        writer.start();
+        auditService = new AuditService(writer, Set.of("ADMIN_ACTION", "STATE_CHANGE"));
+    }
+
+    @Benchmark
+    public void auditedRequest() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(requestMicros));
+        switch (auditing) {
+            case "synchronous" -> LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros + rowMicros));
+            case "batched" -> auditService.logApiRequest(42L, "/analytics/top-auctions", "10.0.0.1", "limit: 10");
+            case "critical" -> auditService.logAdminAction(42L, "SUSPEND_USER", "userId: 7", "10.0.0.1");
+            default -> {
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%d audit batches, %.0f entries written on the request thread so far because the ring was full%n",
+                batches.getAndSet(0), meterRegistry.counter("audit_entries_overflow_total").count());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        writer.stop();
+    }
+}
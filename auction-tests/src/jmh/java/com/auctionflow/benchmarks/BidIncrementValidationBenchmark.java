@@ -0,0 +1,75 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.core.domain.validators.BidValidator;
+import com.auctionflow.core.domain.valueobjects.BidIncrement;
+import com.auctionflow.core.domain.valueobjects.FixedBidIncrement;
+import com.auctionflow.core.domain.valueobjects.IncrementLadder;
+import com.auctionflow.core.domain.valueobjects.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bid validation with a fixed $1 increment versus increment ladders of 3 and 32 steps, over a spread of
+ * current prices so every step is exercised. Run with {@code -prof gc}: the ladder lookup should add no
+ * allocation per validation and stay within a few nanoseconds of the fixed increment.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BidIncrementValidationBenchmark {
+
+    private static final int PRICES = 1024;
+
+    @Param({"fixed", "ladder3", "ladder32"})
+    public String increment;
+
+    private BidIncrement bidIncrement;
+    private final BidValidator validator = new BidValidator();
+    private long[] currentCents;
+    private long[] bidCents;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bidIncrement = switch (increment) {
+            case "fixed" -> new FixedBidIncrement(Money.usd(100));
+            case "ladder3" -> IncrementLadder.of(List.of(
+                    new IncrementLadder.Step(0, 100),
+                    new IncrementLadder.Step(10_000, 500),
+                    new IncrementLadder.Step(100_000, 1_000)));
+            default -> {
+                List<IncrementLadder.Step> steps = new ArrayList<>();
+                for (int i = 0; i < 32; i++) {
+                    steps.add(new IncrementLadder.Step(i * 5_000L, 100L + i * 50L));
+                }
+                yield IncrementLadder.of(steps);
+            }
+        };
+        SplittableRandom random = new SplittableRandom(42);
+        currentCents = new long[PRICES];
+        bidCents = new long[PRICES];
+        for (int i = 0; i < PRICES; i++) {
+            currentCents[i] = 100 + random.nextLong(200_000);
+            // Valid bid: well above any step's increment
+            bidCents[i] = currentCents[i] + 2_500;
+        }
+    }
+
+    @Benchmark
+    public boolean validate() {
+        int i = next++ & (PRICES - 1);
+        return validator.validate(currentCents[i], 100, bidIncrement, bidCents[i]).isValid();
+    }
+
+    @Benchmark
+    public long nextBidCents() {
+        return bidIncrement.nextBidCents(currentCents[next++ & (PRICES - 1)]);
+    }
+}
@@ -40,7 +40,7 @@ public class BidPlacementBenchmark {
 
         AuctionCreatedEvent createdEvent = new AuctionCreatedEvent(
             auctionId, itemId, sellerId, categoryId, auctionType, reservePrice, buyNowPrice, startTime, endTime, antiSnipePolicy, hiddenReserve,
-            eventId, timestamp, sequenceNumber
+            null, eventId, timestamp, sequenceNumber
         );
 
         auctionAggregate = new AuctionAggregate();
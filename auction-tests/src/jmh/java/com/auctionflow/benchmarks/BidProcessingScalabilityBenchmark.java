@@ -0,0 +1,127 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.valueobjects.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bid processing throughput as threads are added, each thread driving its own auction as a command bus lane
+ * would. {@code placeBid} runs the aggregate's bid path, where pending bids stay in the aggregate's own queue
+ * and only compact records of accepted bids are kept. {@code sharedPoolHandoff} repeats just the
+ * borrow/release traffic the previous static Bid pool put on a single ArrayBlockingQueue for every bid
+ * (two borrows, one release), which every thread contends on.
+ *
+ * Run this class's main method to measure both at 1, 2, 4, 8, 16 and 32 threads. Per-thread throughput
+ * of placeBid should stay roughly flat up to the core count, while the shared pool's flattens out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidProcessingScalabilityBenchmark {
+
+    private static final int BIDS_PER_AUCTION = 10_000;
+
+    @State(Scope.Thread)
+    public static class Lane {
+        private final AuctionId auctionId = AuctionId.generate();
+        private final PlaceBidCommand[] bids = new PlaceBidCommand[BIDS_PER_AUCTION];
+        private AuctionAggregate aggregate;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Instant now = Instant.now();
+            for (int i = 0; i < BIDS_PER_AUCTION; i++) {
+                bids[i] = new PlaceBidCommand(auctionId, "bidder-" + (i % 50), Money.usd(1_100 + i * 100L),
+                        "key-" + i, now, i + 1);
+            }
+            reset();
+        }
+
+        void reset() {
+            Instant now = Instant.now();
+            aggregate = new AuctionAggregate();
+            aggregate.handle(new CreateAuctionCommand(auctionId, new ItemId("item"), new SellerId("seller"), "benchmark",
+                    AuctionType.ENGLISH_OPEN, Money.usd(1_000), Money.usd(1_000_000_000), now.minus(Duration.ofHours(1)),
+                    now.plus(Duration.ofDays(1)), AntiSnipePolicy.none(), false));
+            aggregate.clearDomainEvents();
+            next = 0;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedPool {
+        private final BlockingQueue<long[]> pool = new ArrayBlockingQueue<>(10_000);
+
+        @Setup(Level.Trial)
+        public void setup() {
+            for (int i = 0; i < 10_000; i++) {
+                pool.offer(new long[4]);
+            }
+        }
+
+        long[] borrow() {
+            long[] bid = pool.poll();
+            return bid != null ? bid : new long[4];
+        }
+    }
+
+    @Benchmark
+    public long placeBid(Lane lane) {
+        if (lane.next == BIDS_PER_AUCTION) {
+            // Start a fresh auction so the retained bid history stays bounded
+            lane.reset();
+        }
+        lane.aggregate.handle(lane.bids[lane.next++]);
+        lane.aggregate.clearDomainEvents();
+        return lane.aggregate.getVersion();
+    }
+
+    @Benchmark
+    public long sharedPoolHandoff(SharedPool shared) {
+        long[] queued = shared.borrow();
+        queued[0] = 1;
+        long[] recorded = shared.borrow();
+        recorded[0] = queued[0];
+        shared.pool.offer(queued);
+        // The recorded bid was retained by the aggregate and never came back to the pool
+        return recorded[0];
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] threadCounts = {1, 2, 4, 8, 16, 32};
+        StringBuilder table = new StringBuilder(String.format("%8s %22s %22s%n", "threads", "placeBid ops/us", "sharedPool ops/us"));
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(BidProcessingScalabilityBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            double placeBid = 0;
+            double sharedPool = 0;
+            for (RunResult run : new Runner(options).run()) {
+                double score = run.getPrimaryResult().getScore();
+                if (run.getParams().getBenchmark().endsWith("placeBid")) {
+                    placeBid = score;
+                } else {
+                    sharedPool = score;
+                }
+            }
+            table.append(String.format("%8d %22.2f %22.2f%n", threads, placeBid, sharedPool));
+        }
+        System.out.print(table);
+    }
+}
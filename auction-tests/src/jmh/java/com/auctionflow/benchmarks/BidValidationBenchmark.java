@@ -0,0 +1,87 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.core.domain.IncrementLadders;
+import com.auctionflow.core.domain.validators.BidValidator;
+import com.auctionflow.core.domain.valueobjects.BidIncrement;
+import com.auctionflow.core.domain.valueobjects.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Currency;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bid validation step of AuctionAggregate.handle(PlaceBidCommand): currency check against the auction's,
+ * then the shared stateless BidValidator on primitive cents, over a mix of valid and rejected bids.
+ *
+ * Running this class's main method runs the benchmark under the GC profiler and fails unless validation
+ * allocates nothing per bid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BidValidationBenchmark {
+
+    private static final int BIDS = 1024;
+
+    private final BidValidator validator = new BidValidator();
+    private final BidIncrement bidIncrement = IncrementLadders.forCategory(null);
+    private final Currency auctionCurrency = Currency.getInstance("USD");
+    private final Money reservePrice = Money.usd(5_000);
+    private Money[] currentHighest;
+    private Money[] amounts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        currentHighest = new Money[BIDS];
+        amounts = new Money[BIDS];
+        for (int i = 0; i < BIDS; i++) {
+            long highest = 5_000 + random.nextLong(100_000);
+            currentHighest[i] = Money.usd(highest);
+            // About a third fall short of the increment or the reserve
+            amounts[i] = Money.usd(Math.max(0, highest - 500 + random.nextLong(2_000)));
+        }
+    }
+
+    @Benchmark
+    public void validateBid(Blackhole blackhole) {
+        int i = next++ & (BIDS - 1);
+        Money amount = amounts[i];
+        if (!auctionCurrency.equals(amount.getCurrency())) {
+            throw new IllegalStateException("Bid currency must match the auction currency");
+        }
+        blackhole.consume(validator.validate(currentHighest[i].getAmountCents(), reservePrice.getAmountCents(),
+                bidIncrement, amount.getAmountCents()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(BidValidationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        for (RunResult run : new Runner(options).run()) {
+            Result<?> allocated = run.getSecondaryResults().get("gc.alloc.rate.norm");
+            if (allocated == null) {
+                allocated = run.getSecondaryResults().get("·gc.alloc.rate.norm");
+            }
+            // Allow for sub-byte noise from the harness itself
+            if (allocated == null || allocated.getScore() >= 1.0) {
+                throw new AssertionError("Expected zero bytes allocated per validated bid, got "
+                        + (allocated == null ? "no GC profile" : allocated.getScore() + " B/op"));
+            }
+            System.out.printf("Validated bids allocate %.3f B/op%n", allocated.getScore());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.api.entities.AuctionTemplate;
+import com.auctionflow.api.repositories.AuctionTemplateRepository;
+import com.auctionflow.api.repositories.ProhibitedCategoryRepository;
+import com.auctionflow.api.repositories.ProhibitedTermRepository;
+import com.auctionflow.api.repositories.VerifiedBrandRepository;
+import com.auctionflow.api.services.AuctionTemplateService;
+import com.auctionflow.api.services.ItemValidationService;
+import com.auctionflow.common.service.AuctionTimerService.AuctionSchedule;
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.events.AuctionCreatedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import com.auctionflow.events.command.BulkAuctionCreator;
+import com.auctionflow.timers.DurableScheduler;
+import com.auctionflow.timers.ScheduledJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Wall time to create 100,000 auctions from one template. {@code oneAtATime} is the previous path: each
+ * auction is handled on its own, its events saved with a version query and an insert, and its close job
+ * written by DurableScheduler with a lookup and an insert. {@code bulk} goes through AuctionTemplateService
+ * and BulkAuctionCreator, appending events a chunk at a time, then schedules the close jobs as the timer
+ * service consumes the created events, 500 to a poll. Every database round trip parks
+ * {@code roundTripMicros}, and the number of round trips per batch is printed after each iteration. Timing
+ * wheel registration is in memory on both paths and is left out.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkAuctionCreationBenchmark {
+
+    private static final int AUCTIONS = 100_000;
+    private static final int POLL_SIZE = 500;
+
+    @Param({"100"})
+    public long roundTripMicros;
+
+    final AtomicLong roundTrips = new AtomicLong();
+    final List<DomainEvent> published = new ArrayList<>();
+    EventStore eventStore;
+    DurableScheduler scheduler;
+    AuctionTemplateService templates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventStore = mock(EventStore.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            roundTrip(2); // Version query, then the insert
+            return null;
+        }).when(eventStore).save(anyList(), anyLong());
+        when(eventStore.appendNew(anyList())).thenAnswer(invocation -> {
+            roundTrip(1);
+            return Set.of();
+        });
+        ScheduledJobRepository jobs = mock(ScheduledJobRepository.class, withSettings().stubOnly());
+        when(jobs.findByAuctionIdAndStatus(anyString(), anyString())).thenAnswer(invocation -> {
+            roundTrip(1);
+            return List.of();
+        });
+        when(jobs.save(any())).thenAnswer(invocation -> {
+            roundTrip(1);
+            return invocation.getArgument(0);
+        });
+        // Statements are counted, not run, so nothing is bound to them
+        JdbcTemplate jdbc = new JdbcTemplate() {
+            @Override
+            public void query(String sql, PreparedStatementSetter setter, RowCallbackHandler handler) {
+                roundTrip(1);
+            }
+
+            @Override
+            public int update(String sql, PreparedStatementSetter setter) {
+                roundTrip(1);
+                return 0;
+            }
+        };
+        scheduler = new DurableScheduler(jobs, null, jdbc);
+
+        AuctionTemplate template = new AuctionTemplate("cameras", "", "7", "{\"itemTitle\":\"Vintage camera\","
+                + "\"itemDescription\":\"Works well\",\"categoryId\":\"cameras\",\"reservePrice\":\"100.00\","
+                + "\"durationSeconds\":86400,\"hiddenReserve\":false}", false);
+        template.setId("cameras");
+        ItemValidationService validation = new ItemValidationService(
+                mock(ProhibitedCategoryRepository.class), mock(ProhibitedTermRepository.class),
+                mock(VerifiedBrandRepository.class));
+        validation.reloadProhibitedContent();
+        AuctionTemplateRepository templateRepository = mock(AuctionTemplateRepository.class, withSettings().stubOnly());
+        when(templateRepository.findById(anyString())).thenReturn(Optional.of(template));
+        templates = new AuctionTemplateService(templateRepository, new ObjectMapper(), validation,
+                new BulkAuctionCreator(eventStore, published::add, null, 1000));
+    }
+
+    @Benchmark
+    public int oneAtATime() {
+        Instant start = Instant.now();
+        Instant end = start.plus(Duration.ofDays(1));
+        SellerId seller = new SellerId("42");
+        for (int i = 0; i < AUCTIONS; i++) {
+            CreateAuctionCommand command = new CreateAuctionCommand(AuctionId.generate(), ItemId.generate(), seller,
+                    "cameras", AuctionType.ENGLISH_OPEN, Money.usd(10_000), Money.ZERO, start, end,
+                    AntiSnipePolicy.none(), false);
+            AuctionAggregate aggregate = new AuctionAggregate();
+            aggregate.handle(command);
+            eventStore.save(aggregate.getDomainEvents(), aggregate.getExpectedVersion());
+            scheduler.scheduleAuctionClose(command.auctionId(), end);
+        }
+        return AUCTIONS;
+    }
+
+    @Benchmark
+    public int bulk() {
+        int created = templates.bulkCreateAuctions("cameras", "42", AUCTIONS).getAuctions().size();
+        for (int from = 0; from < published.size(); from += POLL_SIZE) {
+            List<AuctionSchedule> schedules = new ArrayList<>(POLL_SIZE);
+            for (DomainEvent event : published.subList(from, Math.min(from + POLL_SIZE, published.size()))) {
+                AuctionCreatedEvent auctionCreated = (AuctionCreatedEvent) event;
+                schedules.add(new AuctionSchedule((AuctionId) auctionCreated.getAggregateId(), auctionCreated.getEndTime()));
+            }
+            scheduler.scheduleAuctionCloses(schedules);
+        }
+        published.clear();
+        return created;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%d database round trips for %d auctions%n", roundTrips.getAndSet(0), AUCTIONS);
+    }
+
+    private void roundTrip(int count) {
+        roundTrips.addAndGet(count);
+        for (int i = 0; i < count; i++) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.events.command.CommandBus;
+import com.auctionflow.events.command.CommandHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Commands/s and send-to-handled latency of the ring-buffer CommandBus versus the previous dispatch through
+ * ApplicationEventPublisher with an @Async @EventListener. The previous bus runs on the same executor Spring
+ * Boot auto-configures for @Async (8 core threads, unbounded queue). Handlers do no work beyond counting, so
+ * the numbers isolate dispatch and handoff cost.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class CommandBusBenchmark {
+
+    private static final int BATCH = 1000;
+
+    public record BenchCommand(long key, AtomicLong handled) {
+    }
+
+    @State(Scope.Benchmark)
+    public static class Bus {
+        @Param({"ring-buffer", "application-event"})
+        public String implementation;
+
+        CommandBus ringBus;
+        AnnotationConfigApplicationContext context;
+        ApplicationEventPublisher publisher;
+
+        @Setup(Level.Trial)
+        public void start() {
+            if ("ring-buffer".equals(implementation)) {
+                ringBus = new CommandBus(event -> { }, List.of(new CountingHandler()), 8, 4096, 256, Duration.ofSeconds(1));
+                ringBus.start();
+            } else {
+                context = new AnnotationConfigApplicationContext(LegacyBusConfig.class);
+                publisher = context;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws InterruptedException {
+            if (ringBus != null) {
+                ringBus.stop();
+            }
+            if (context != null) {
+                context.close();
+            }
+        }
+
+        void send(BenchCommand command) {
+            if (ringBus != null) {
+                ringBus.send(command);
+            } else {
+                publisher.publishEvent(command);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        final AtomicLong handled = new AtomicLong();
+        final long key = ThreadLocalRandom.current().nextLong();
+        long sent;
+
+        void awaitHandled() {
+            while (handled.get() < sent) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH)
+    public void commandsPerSecond(Bus bus, Producer producer) {
+        for (int i = 0; i < BATCH; i++) {
+            bus.send(new BenchCommand(producer.key + i, producer.handled));
+            producer.sent++;
+        }
+        producer.awaitHandled();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void handoffLatency(Bus bus, Producer producer) {
+        bus.send(new BenchCommand(producer.key, producer.handled));
+        producer.sent++;
+        producer.awaitHandled();
+    }
+
+    static final class CountingHandler implements CommandHandler<BenchCommand> {
+        @Override
+        public Object routingKey(BenchCommand command) {
+            return command.key();
+        }
+
+        @Override
+        public void handle(BenchCommand command) {
+            command.handled().incrementAndGet();
+        }
+    }
+
+    @Configuration
+    @EnableAsync
+    static class LegacyBusConfig {
+        @Bean
+        ThreadPoolTaskExecutor taskExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(8);
+            executor.setThreadNamePrefix("task-");
+            return executor;
+        }
+
+        @Bean
+        LegacyListener legacyListener() {
+            return new LegacyListener();
+        }
+    }
+
+    static class LegacyListener {
+        @Async
+        @EventListener
+        public void handle(BenchCommand command) {
+            command.handled().incrementAndGet();
+        }
+    }
+}
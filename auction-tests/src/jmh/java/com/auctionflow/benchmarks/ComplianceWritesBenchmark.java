@@ -0,0 +1,157 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.api.entities.ComplianceCheck;
+import com.auctionflow.api.repositories.ComplianceCheckRepository;
+import com.auctionflow.api.repositories.DisputeRepository;
+import com.auctionflow.api.repositories.UserRepository;
+import com.auctionflow.api.services.ComplianceCheckWriter;
+import com.auctionflow.api.services.RiskScoringService;
+import com.auctionflow.api.services.SuspiciousActivityService;
+import com.auctionflow.api.services.TransactionMonitoringService;
+import com.auctionflow.core.domain.events.SecurityEvent;
+import com.auctionflow.events.publisher.KafkaEventPublisher;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Compliance writes for one second of bidding at 10,000 bids/s, of which about 0.3% are high-value: the
+ * previous monitoring path, which saved a PASSED check for every bid in its own transaction, versus
+ * TransactionMonitoringService writing only flagged checks, queued and inserted in batches.
+ * Each operation replays that second. The compliance_checks table parks {@code insertMicros} per row and
+ * {@code commitMicros} per transaction, so an operation slower than a second is a path that cannot keep up;
+ * rows and transactions per second of bidding are printed after each iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComplianceWritesBenchmark {
+
+    private static final int BIDS_PER_SECOND = 10_000;
+    private static final int BIDDERS = 2_000;
+    private static final BigDecimal HIGH_VALUE_THRESHOLD = BigDecimal.valueOf(10000.0);
+
+    @Param({"50"})
+    public long insertMicros;
+
+    @Param({"200"})
+    public long commitMicros;
+
+    final AtomicLong rows = new AtomicLong();
+    final AtomicLong transactions = new AtomicLong();
+    long seconds;
+
+    ComplianceCheckRepository complianceChecks;
+    ComplianceCheckWriter writer;
+    TransactionMonitoringService monitoring;
+    SuspiciousActivityService suspiciousActivity;
+    long[] bidders;
+    BigDecimal[] amounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        complianceChecks = mock(ComplianceCheckRepository.class, withSettings().stubOnly());
+        when(complianceChecks.save(any(ComplianceCheck.class))).thenAnswer(invocation -> {
+            write(1);
+            return invocation.getArgument(0);
+        });
+        when(complianceChecks.saveAll(anyIterable())).thenAnswer(invocation -> {
+            write(invocation.<Collection<?>>getArgument(0).size());
+            return invocation.getArgument(0);
+        });
+        UserRepository users = mock(UserRepository.class, withSettings().stubOnly());
+        DisputeRepository disputes = mock(DisputeRepository.class, withSettings().stubOnly());
+        KafkaEventPublisher publisher = new KafkaEventPublisher(null, null) {
+            @Override
+            public void publishSecurityEvent(SecurityEvent event) {
+            }
+        };
+        suspiciousActivity = new SuspiciousActivityService(publisher, null, Duration.ofMinutes(1), 10, 30, 3,
+                1_000_000);
+        writer = new ComplianceCheckWriter(complianceChecks);
+        RiskScoringService riskScoring = new RiskScoringService(complianceChecks, writer, users, disputes,
+                Duration.ofMinutes(10), 100_000);
+        monitoring = new TransactionMonitoringService(complianceChecks, riskScoring, suspiciousActivity);
+
+        SplittableRandom random = new SplittableRandom(44);
+        bidders = new long[BIDS_PER_SECOND];
+        amounts = new BigDecimal[BIDS_PER_SECOND];
+        for (int i = 0; i < BIDS_PER_SECOND; i++) {
+            bidders[i] = 1 + random.nextInt(BIDDERS);
+            amounts[i] = random.nextInt(1000) < 3
+                    ? BigDecimal.valueOf(10_000 + random.nextInt(90_000))
+                    : BigDecimal.valueOf(5 + random.nextInt(2_000));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        rows.set(0);
+        transactions.set(0);
+        seconds = 0;
+    }
+
+    @Benchmark
+    public void perBidChecks() {
+        for (int i = 0; i < BIDS_PER_SECOND; i++) {
+            if (amounts[i].compareTo(HIGH_VALUE_THRESHOLD) >= 0) {
+                suspiciousActivity.recordSuspiciousActivity(bidders[i], "HIGH_VALUE_BID", amounts[i].toString());
+                complianceChecks.save(check(bidders[i], ComplianceCheck.CheckStatus.REQUIRES_REVIEW));
+            }
+            complianceChecks.save(check(bidders[i], ComplianceCheck.CheckStatus.PASSED));
+        }
+        seconds++;
+    }
+
+    @Benchmark
+    public void flaggedChecksOnly() {
+        Instant now = Instant.now();
+        for (int i = 0; i < BIDS_PER_SECOND; i++) {
+            monitoring.monitorBidPlacement(bidders[i], 1L, amounts[i], now);
+        }
+        writer.flush();
+        seconds++;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%d compliance rows and %d transactions per second of bidding%n",
+                rows.get() / Math.max(1, seconds), transactions.get() / Math.max(1, seconds));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        suspiciousActivity.stop();
+    }
+
+    private void write(int rowCount) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(insertMicros * rowCount + commitMicros));
+        rows.addAndGet(rowCount);
+        transactions.incrementAndGet();
+    }
+
+    private static ComplianceCheck check(long userId, ComplianceCheck.CheckStatus status) {
+        ComplianceCheck check = new ComplianceCheck();
+        check.setUserId(userId);
+        check.setCheckType(ComplianceCheck.CheckType.TRANSACTION_MONITORING);
+        check.setStatus(status);
+        check.setRiskScore(status == ComplianceCheck.CheckStatus.PASSED ? BigDecimal.valueOf(10.0) : BigDecimal.valueOf(85.0));
+        return check;
+    }
+}
@@ -0,0 +1,163 @@
+package com.auctionflow.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-aggregate read and append latency of the legacy event_store layout (VARCHAR ids, class-name types,
+ * monthly range partitions) versus the compact layout from V6 (UUID ids, smallint types, hash partitions).
+ *
+ * Runs against a local Postgres, configured with -Dbench.jdbc.url / -Dbench.jdbc.user / -Dbench.jdbc.password.
+ * Both tables live in a "bench" schema and are seeded server-side with generate_series on first run
+ * (100M events by default, spread over twelve months); later runs reuse the seeded data.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventStoreSchemaBenchmark {
+
+    private static final String URL = System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/auctionflow");
+    private static final String USER = System.getProperty("bench.jdbc.user", "postgres");
+    private static final String PASSWORD = System.getProperty("bench.jdbc.password", "postgres");
+
+    @Param({"legacy", "compact"})
+    public String layout;
+
+    @Param({"100000000"})
+    public long events;
+
+    @Param({"100"})
+    public int eventsPerAggregate;
+
+    private long aggregates;
+    private final AtomicLong appendAggregates = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException {
+        aggregates = events / eventsPerAggregate;
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS bench");
+            if ("legacy".equals(layout)) {
+                createLegacy(statement);
+            } else {
+                createCompact(statement);
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT count(*) FROM bench.events_" + layout)) {
+                rs.next();
+                if (rs.getLong(1) >= events) {
+                    return;
+                }
+            }
+            statement.execute("TRUNCATE bench.events_" + layout);
+            // Aggregate a gets md5(a)::uuid as its id; events are spread evenly over the last 365 days
+            String aggregateId = "legacy".equals(layout) ? "md5(a::text)::uuid::text" : "md5(a::text)::uuid";
+            String eventType = "legacy".equals(layout) ? "CASE WHEN s = 1 THEN 'AuctionCreatedEvent' ELSE 'BidPlacedEvent' END"
+                    : "CASE WHEN s = 1 THEN 1 ELSE 2 END";
+            String columns = "legacy".equals(layout)
+                    ? "(aggregate_id, aggregate_type, event_type, event_data, sequence_number, timestamp)"
+                    : "(aggregate_id, sequence_number, event_id, event_type, event_data, timestamp)";
+            String values = "legacy".equals(layout)
+                    ? aggregateId + ", 'auction', " + eventType + ", '{\"amount\": 100}'::jsonb, s, ts"
+                    : aggregateId + ", s, gen_random_uuid(), " + eventType + ", '{\"amount\": 100}'::jsonb, ts";
+            long chunk = 100_000;
+            for (long from = 0; from < aggregates; from += chunk) {
+                long to = Math.min(aggregates, from + chunk) - 1;
+                statement.execute("INSERT INTO bench.events_" + layout + " " + columns
+                        + " SELECT " + values + " FROM generate_series(" + from + ", " + to + ") a"
+                        + " CROSS JOIN generate_series(1, " + eventsPerAggregate + ") s"
+                        + " CROSS JOIN LATERAL (SELECT now() - interval '365 days' * ((a * " + eventsPerAggregate
+                        + " + s)::float8 / " + events + ") AS ts) t");
+            }
+            statement.execute("ANALYZE bench.events_" + layout);
+        }
+    }
+
+    private static void createLegacy(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE IF NOT EXISTS bench.events_legacy (id BIGSERIAL NOT NULL, aggregate_id VARCHAR(255) NOT NULL, "
+                + "aggregate_type VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, event_data JSONB NOT NULL, "
+                + "event_metadata JSONB, sequence_number BIGINT NOT NULL, timestamp TIMESTAMP WITH TIME ZONE NOT NULL"
+                + ") PARTITION BY RANGE (timestamp)");
+        for (int month = -13; month <= 1; month++) {
+            statement.execute("DO $$ DECLARE s DATE := DATE_TRUNC('month', CURRENT_DATE) + INTERVAL '1 month' * (" + month + "); BEGIN "
+                    + "EXECUTE 'CREATE TABLE IF NOT EXISTS bench.events_legacy_' || TO_CHAR(s, 'YYYY_MM') || ' PARTITION OF bench.events_legacy "
+                    + "FOR VALUES FROM (''' || s || ''') TO (''' || (s + INTERVAL '1 month')::date || ''')'; END $$");
+        }
+        statement.execute("CREATE UNIQUE INDEX IF NOT EXISTS bench_events_legacy_agg_seq ON bench.events_legacy (aggregate_id, sequence_number, timestamp)");
+    }
+
+    private static void createCompact(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE IF NOT EXISTS bench.events_compact (aggregate_id UUID NOT NULL, sequence_number BIGINT NOT NULL, "
+                + "event_id UUID NOT NULL, event_type SMALLINT NOT NULL, timestamp TIMESTAMP WITH TIME ZONE NOT NULL, "
+                + "event_data JSONB NOT NULL, event_metadata JSONB, PRIMARY KEY (aggregate_id, sequence_number)"
+                + ") PARTITION BY HASH (aggregate_id)");
+        for (int i = 0; i < 16; i++) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench.events_compact_p" + i
+                    + " PARTITION OF bench.events_compact FOR VALUES WITH (MODULUS 16, REMAINDER " + i + ")");
+        }
+        statement.execute("CREATE INDEX IF NOT EXISTS bench_events_compact_ts ON bench.events_compact USING BRIN (timestamp)");
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+        Connection connection;
+        PreparedStatement read;
+        PreparedStatement append;
+
+        @Setup(Level.Trial)
+        public void open(EventStoreSchemaBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(URL, USER, PASSWORD);
+            if ("legacy".equals(benchmark.layout)) {
+                read = connection.prepareStatement("SELECT event_type, event_data, sequence_number, timestamp FROM bench.events_legacy "
+                        + "WHERE aggregate_id = md5(?::text)::uuid::text ORDER BY sequence_number");
+                append = connection.prepareStatement("INSERT INTO bench.events_legacy (aggregate_id, aggregate_type, event_type, event_data, "
+                        + "sequence_number, timestamp) VALUES (?, 'auction', 'BidPlacedEvent', '{\"amount\": 100}'::jsonb, ?, ?)");
+            } else {
+                read = connection.prepareStatement("SELECT event_type, event_data, sequence_number, timestamp FROM bench.events_compact "
+                        + "WHERE aggregate_id = md5(?::text)::uuid ORDER BY sequence_number");
+                append = connection.prepareStatement("INSERT INTO bench.events_compact (aggregate_id, sequence_number, event_id, event_type, "
+                        + "event_data, timestamp) VALUES (?::uuid, ?, gen_random_uuid(), 2, '{\"amount\": 100}'::jsonb, ?)");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void readAggregate(Session session, Blackhole blackhole) throws SQLException {
+        session.read.setLong(1, ThreadLocalRandom.current().nextLong(aggregates));
+        try (ResultSet rs = session.read.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString(2));
+            }
+        }
+    }
+
+    @Benchmark
+    public void appendEvent(Session session) throws SQLException {
+        // Every append starts a fresh aggregate so the two layouts see identical key patterns
+        session.append.setString(1, new UUID(appendAggregates.incrementAndGet(), System.nanoTime()).toString());
+        session.append.setLong(2, 1);
+        session.append.setTimestamp(3, Timestamp.from(Instant.now()));
+        session.append.executeUpdate();
+    }
+}
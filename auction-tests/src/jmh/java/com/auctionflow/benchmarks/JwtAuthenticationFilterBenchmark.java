@@ -0,0 +1,85 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.api.config.JwtAuthenticationFilter;
+import com.auctionflow.api.config.JwtTokenProvider;
+import com.auctionflow.api.config.VerifiedPrincipalCache;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-request cost of JwtAuthenticationFilter for a client reusing its token, with and without the
+ * verified-principal cache. The user lookup parks for {@code userLookupMicros} to stand in for the database
+ * round trip behind UserService; set it to 0 to isolate token verification.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final int CLIENTS = 1024;
+
+    @Param({"enabled", "disabled"})
+    public String cache;
+
+    @Param({"200", "0"})
+    public long userLookupMicros;
+
+    JwtAuthenticationFilter filter;
+    MockHttpServletRequest[] requests;
+    final FilterChain chain = (request, response) -> { };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "benchmark-secret-that-is-long-enough-for-hs256");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 3_600_000);
+        ReflectionTestUtils.setField(tokenProvider, "jwtRefreshExpirationInMs", 86_400_000);
+        long lookupNanos = TimeUnit.MICROSECONDS.toNanos(userLookupMicros);
+        UserDetailsService users = username -> {
+            if (lookupNanos > 0) {
+                LockSupport.parkNanos(lookupNanos);
+            }
+            return User.withUsername(username).password("hash").roles("BUYER").build();
+        };
+        VerifiedPrincipalCache principalCache = new VerifiedPrincipalCache("enabled".equals(cache) ? 100_000 : 0,
+                Duration.ofSeconds(30));
+        filter = new JwtAuthenticationFilter(tokenProvider, users, principalCache);
+
+        requests = new MockHttpServletRequest[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            UserDetails user = users.loadUserByUsername("bidder-" + i + "@example.com");
+            String token = tokenProvider.generateToken(
+                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+            requests[i] = new MockHttpServletRequest("GET", "/api/v1/watchlist");
+            requests[i].addHeader("Authorization", "Bearer " + token);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        int next;
+    }
+
+    @Benchmark
+    public Object authenticate(Client client) throws Exception {
+        filter.doFilter(requests[client.next++ & (CLIENTS - 1)], new MockHttpServletResponse(), chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,159 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.events.AuctionCreatedEvent;
+import com.auctionflow.core.domain.events.BidPlacedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.*;
+import com.auctionflow.events.AggregateCheckpointIndex;
+import com.auctionflow.events.AuditTrailService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of AuditTrailService.reconstructStateAtTimestamp at various history lengths, full replay versus
+ * checkpoint plus bounded slice. Events come from an in-memory EventStore so the numbers reflect replay
+ * work rather than database I/O; each event is one second apart and checkpoints are every 15 minutes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointInTimeReconstructionBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int historyLength;
+
+    @Param({"full", "checkpointed"})
+    public String mode;
+
+    private AuctionId auctionId;
+    private Instant start;
+    private AuditTrailService auditTrailService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        auctionId = AuctionId.generate();
+        start = Instant.now().minus(Duration.ofDays(30));
+        List<DomainEvent> history = new ArrayList<>(historyLength);
+        history.add(new AuctionCreatedEvent(auctionId, ItemId.generate(), SellerId.generate(), "bench",
+                AuctionType.ENGLISH_OPEN, Money.usd(100), null, start, start.plus(Duration.ofDays(29)),
+                AntiSnipePolicy.none(), false, null, UUID.randomUUID(), start, 1));
+        for (int i = 1; i < historyLength; i++) {
+            history.add(new BidPlacedEvent(auctionId, "bidder-" + (i % 500), Money.usd(100 + i),
+                    start.plusSeconds(i), UUID.randomUUID(), i + 1, i, null));
+        }
+        InMemoryEventStore eventStore = new InMemoryEventStore(history);
+        auditTrailService = "full".equals(mode)
+                ? new FullReplayAuditTrailService(eventStore)
+                : new AuditTrailService(eventStore, new AggregateCheckpointIndex(eventStore, Duration.ofMinutes(15)));
+        // Build checkpoints once up front so the measurement covers steady-state queries
+        auditTrailService.reconstructStateAtTimestamp(auctionId, start.plusSeconds(historyLength), new AuctionAggregate());
+    }
+
+    @Benchmark
+    public AuctionAggregate reconstructAtRandomPoint() {
+        Instant target = start.plusSeconds(ThreadLocalRandom.current().nextInt(historyLength));
+        return auditTrailService.reconstructStateAtTimestamp(auctionId, target, new AuctionAggregate());
+    }
+
+    /**
+     * Reconstruction without checkpoints: an index that never returns a checkpoint forces the
+     * full-history path.
+     */
+    private static final class FullReplayAuditTrailService extends AuditTrailService {
+        FullReplayAuditTrailService(EventStore eventStore) {
+            super(eventStore, new AggregateCheckpointIndex(eventStore, Duration.ofMinutes(15)) {
+                @Override
+                public Checkpoint floorCheckpoint(AuctionId aggregateId, Instant timestamp,
+                                                  com.auctionflow.core.domain.aggregates.AggregateRoot prototype) {
+                    return null;
+                }
+            });
+        }
+    }
+
+    private static final class InMemoryEventStore implements EventStore {
+        private final List<DomainEvent> events;
+
+        InMemoryEventStore(List<DomainEvent> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void save(List<DomainEvent> newEvents, long expectedVersion) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DomainEvent> getEvents(AuctionId aggregateId) {
+            return events;
+        }
+
+        @Override
+        public List<DomainEvent> getEventsAfter(AuctionId aggregateId, long sequenceNumber) {
+            return events.stream().filter(e -> e.getSequenceNumber() > sequenceNumber).toList();
+        }
+
+        @Override
+        public List<DomainEvent> getEventsFromTimestamp(Instant fromTimestamp) {
+            return streamEventsFromTimestamp(fromTimestamp).toList();
+        }
+
+        @Override
+        public List<DomainEvent> getEventsForAggregateFromTimestamp(AuctionId aggregateId, Instant fromTimestamp) {
+            return streamEventsFromTimestamp(fromTimestamp).toList();
+        }
+
+        @Override
+        public List<DomainEvent> getEventsByTimestampRange(Instant fromTimestamp, Instant toTimestamp) {
+            return streamEventsByTimestampRange(fromTimestamp, toTimestamp).toList();
+        }
+
+        @Override
+        public Stream<DomainEvent> streamEvents(AuctionId aggregateId) {
+            return events.stream();
+        }
+
+        @Override
+        public Stream<DomainEvent> streamEventsFromTimestamp(Instant fromTimestamp) {
+            // Events are stored in timestamp order, so seek like the timestamp index would
+            return events.subList(firstAtOrAfter(fromTimestamp), events.size()).stream();
+        }
+
+        @Override
+        public Stream<DomainEvent> streamEventsForAggregateFromTimestamp(AuctionId aggregateId, Instant fromTimestamp) {
+            return streamEventsFromTimestamp(fromTimestamp);
+        }
+
+        @Override
+        public Stream<DomainEvent> streamEventsByTimestampRange(Instant fromTimestamp, Instant toTimestamp) {
+            return streamEventsFromTimestamp(fromTimestamp).takeWhile(e -> !e.getTimestamp().isAfter(toTimestamp));
+        }
+
+        private int firstAtOrAfter(Instant timestamp) {
+            int low = 0;
+            int high = events.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (events.get(mid).getTimestamp().isBefore(timestamp)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.api.entities.Auction;
+import com.auctionflow.api.entities.AuctionTemplate;
+import com.auctionflow.api.entities.ProhibitedTerm;
+import com.auctionflow.api.repositories.AuctionTemplateRepository;
+import com.auctionflow.api.repositories.ProhibitedCategoryRepository;
+import com.auctionflow.api.repositories.ProhibitedTermRepository;
+import com.auctionflow.api.repositories.VerifiedBrandRepository;
+import com.auctionflow.api.services.AuctionTemplateService;
+import com.auctionflow.api.services.ItemValidationService;
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.events.command.BulkAuctionCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Listing validation against 10,000 prohibited terms: the previous path, which queried the prohibited
+ * category per listing and ran a substring search per term, versus ItemValidationService checking its
+ * in-memory category map and scanning the text once with the compiled term automaton. Listings have an
+ * eight-word title and a 150-word description, and about 1% contain a prohibited term. The category query
+ * parks {@code queryMicros}. {@code bulkCreateAuctions} creates {@code batchSize} auctions per template
+ * through AuctionTemplateService, which validates the template's item once per batch.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProhibitedContentBenchmark {
+
+    private static final int TERMS = 10_000;
+    private static final int LISTINGS = 1_024;
+    private static final int VOCABULARY = 5_000;
+
+    @Param({"200"})
+    public long queryMicros;
+
+    @Param({"100"})
+    public int batchSize;
+
+    ItemValidationService validation;
+    AuctionTemplateService templates;
+    ProhibitedCategoryRepository categories;
+    List<String> terms;
+    String[] titles;
+    String[] descriptions;
+    String[] templateIds;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(46);
+        List<ProhibitedTerm> prohibitedTerms = new ArrayList<>();
+        terms = new ArrayList<>();
+        for (int i = 0; i < TERMS; i++) {
+            String term = i % 10 == 0 ? word(random) + " " + word(random) : word(random) + word(random);
+            ProhibitedTerm prohibitedTerm = new ProhibitedTerm();
+            prohibitedTerm.setId((long) i);
+            prohibitedTerm.setTerm(term);
+            prohibitedTerms.add(prohibitedTerm);
+            terms.add(term);
+        }
+        String[] vocabulary = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            vocabulary[i] = word(random);
+        }
+        titles = new String[LISTINGS];
+        descriptions = new String[LISTINGS];
+        for (int i = 0; i < LISTINGS; i++) {
+            titles[i] = sentence(random, vocabulary, 8);
+            descriptions[i] = sentence(random, vocabulary, 150)
+                    + (random.nextInt(100) == 0 ? " " + terms.get(random.nextInt(TERMS)) : "");
+        }
+
+        categories = repository(ProhibitedCategoryRepository.class, List.of());
+        validation = new ItemValidationService(categories, repository(ProhibitedTermRepository.class, prohibitedTerms),
+                repository(VerifiedBrandRepository.class, List.of()));
+        validation.reloadProhibitedContent();
+
+        Map<String, AuctionTemplate> byId = new HashMap<>();
+        templateIds = new String[LISTINGS];
+        for (int i = 0; i < LISTINGS; i++) {
+            AuctionTemplate template = new AuctionTemplate("template-" + i, "", "7", "{\"itemTitle\":\"" + titles[i]
+                    + "\",\"itemDescription\":\"" + descriptions[i] + "\",\"categoryId\":\"collectibles\","
+                    + "\"reservePrice\":\"100.00\",\"durationSeconds\":3600,\"hiddenReserve\":false}", false);
+            template.setId("template-" + i);
+            byId.put(template.getId(), template);
+            templateIds[i] = template.getId();
+        }
+        AuctionTemplateRepository templateRepository = mock(AuctionTemplateRepository.class, withSettings().stubOnly());
+        when(templateRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(byId.get(invocation.<String>getArgument(0))));
+        EventStore eventStore = mock(EventStore.class, withSettings().stubOnly());
+        when(eventStore.appendNew(anyList())).thenReturn(Set.of());
+        templates = new AuctionTemplateService(templateRepository, new ObjectMapper(), validation,
+                new BulkAuctionCreator(eventStore, event -> { }, null, 1000));
+    }
+
+    @Benchmark
+    public boolean substringSearchPerTerm() {
+        int i = next++ & (LISTINGS - 1);
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(queryMicros));
+        if (categories.findByCategoryIdAndActiveTrue("collectibles").isPresent()) {
+            return false;
+        }
+        String combinedText = (titles[i] + " " + descriptions[i]).toLowerCase();
+        for (String term : terms) {
+            if (combinedText.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean compiledTerms() {
+        int i = next++ & (LISTINGS - 1);
+        return validation.validateItem("collectibles", titles[i], descriptions[i], null, null).isValid();
+    }
+
+    @Benchmark
+    public int bulkCreateAuctions() {
+        String templateId = templateIds[next++ & (LISTINGS - 1)];
+        try {
+            List<Auction> auctions = templates.bulkCreateAuctions(templateId, "42", batchSize).getAuctions();
+            return auctions.size();
+        } catch (IllegalArgumentException e) {
+            return 0; // Prohibited item
+        }
+    }
+
+    private static String word(SplittableRandom random) {
+        String consonants = "bcdghklmnprstvz";
+        String vowels = "aeiou";
+        StringBuilder word = new StringBuilder();
+        for (int syllables = 2 + random.nextInt(2); syllables > 0; syllables--) {
+            word.append(consonants.charAt(random.nextInt(consonants.length())))
+                    .append(vowels.charAt(random.nextInt(vowels.length())));
+        }
+        return word.toString();
+    }
+
+    private static String sentence(SplittableRandom random, String[] vocabulary, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static <T> T repository(Class<T> type, List<?> rows) {
+        return mock(type, withSettings().stubOnly().defaultAnswer(invocation ->
+                invocation.getMethod().getReturnType() == List.class ? List.copyOf(rows)
+                        : RETURNS_DEFAULTS.answer(invocation)));
+    }
+}
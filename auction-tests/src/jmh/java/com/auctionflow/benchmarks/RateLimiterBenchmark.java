@@ -0,0 +1,74 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.api.services.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the token bucket check behind the IP rate limit: a client already in the table, and a stream of
+ * new clients that each claim a slot and evict an older one once the table is full. The threaded variant
+ * shows contention on the striped set locks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int MAX_KEYS = 1 << 20;
+    private static final int HOT_CLIENTS = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Limiter {
+        TokenBucketRateLimiter limiter;
+        String[] hotClients;
+
+        @Setup(Level.Trial)
+        public void create() {
+            // A generous rate, so the hot path measured is the grant rather than the denial
+            limiter = new TokenBucketRateLimiter("ip", MAX_KEYS, 1e9, 1_000_000, Duration.ofMinutes(10), false);
+            hotClients = new String[HOT_CLIENTS];
+            for (int i = 0; i < HOT_CLIENTS; i++) {
+                hotClients[i] = "198.51." + (i >>> 8) + "." + (i & 0xff);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        final StringBuilder ip = new StringBuilder(15);
+        int next;
+        int thread;
+
+        @Setup(Level.Trial)
+        public void pick() {
+            thread = (int) (Thread.currentThread().getId() & 0xff);
+        }
+
+        CharSequence newIp() {
+            int client = next++ & 0xffffff;
+            ip.setLength(0);
+            return ip.append(thread).append('.').append(client >>> 16).append('.').append((client >>> 8) & 0xff)
+                    .append('.').append(client & 0xff);
+        }
+    }
+
+    @Benchmark
+    public boolean knownClient(Limiter state, Client client) {
+        return state.limiter.tryAcquire(state.hotClients[client.next++ & (HOT_CLIENTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean newClient(Limiter state, Client client) {
+        return state.limiter.tryAcquire(client.newIp());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean knownClientContended(Limiter state, Client client) {
+        return state.limiter.tryAcquire(state.hotClients[client.next++ & (HOT_CLIENTS - 1)]);
+    }
+}
@@ -0,0 +1,109 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.bidding.strategies.*;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.command.ActiveStrategyRegistry;
+import com.auctionflow.events.command.AutomatedBiddingService;
+import com.auctionflow.events.persistence.AutomatedBidStrategyRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Evaluation latency per incoming bid with 1,000 automated bidders on one auction: the registry-backed
+ * AutomatedBiddingService versus the previous per-bid path that parsed every strategy's parameters JSON and
+ * looked implementations up in a HashMap. The repository is an in-memory stub, so the previous path's
+ * per-bid database query is not included and the gap shown is a lower bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrategyEvaluationBenchmark {
+
+    @Param({"1000"})
+    public int bidders;
+
+    private AuctionId auctionId;
+    private Instant auctionEndTime;
+    private List<com.auctionflow.events.persistence.AutomatedBidStrategy> entities;
+    private AutomatedBiddingService service;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<StrategyType, BiddingStrategy> legacyStrategies = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        auctionId = AuctionId.generate();
+        auctionEndTime = Instant.now().plus(Duration.ofHours(2));
+        StrategyType[] types = StrategyType.values();
+        entities = new ArrayList<>(bidders);
+        for (int i = 0; i < bidders; i++) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("maxBid", 100.0 + i);
+            params.put("increment", 1.0);
+            params.put("totalBudget", 5000.0);
+            params.put("allocatedBudget", 1000.0);
+            params.put("competingAuctions", 4);
+            com.auctionflow.events.persistence.AutomatedBidStrategy entity = new com.auctionflow.events.persistence.AutomatedBidStrategy(
+                    auctionId, BidderId.generate(), types[i % types.length], params, Money.usd(BigDecimal.valueOf(100.0 + i)));
+            entity.setId((long) i);
+            entities.add(entity);
+        }
+        AutomatedBidStrategyRepository repository = mock(AutomatedBidStrategyRepository.class, withSettings().stubOnly());
+        when(repository.findActiveByAuctionId(anyString())).thenReturn(entities);
+        service = new AutomatedBiddingService(repository, new ActiveStrategyRegistry(repository, new InMemoryBudgetLedger()), event -> { });
+
+        legacyStrategies.put(StrategyType.SNIPING_PREVENTION, new SnipingPreventionStrategy());
+        legacyStrategies.put(StrategyType.OPTIMAL_TIMING, new OptimalTimingStrategy());
+        legacyStrategies.put(StrategyType.BUDGET_OPTIMIZATION, new BudgetOptimizationStrategy());
+        legacyStrategies.put(StrategyType.REINFORCEMENT_LEARNING, new ReinforcementLearningStrategy());
+    }
+
+    private Money incomingBid() {
+        return Money.usd(5_000 + ThreadLocalRandom.current().nextLong(10_000));
+    }
+
+    @Benchmark
+    public List<StrategyBidDecision> registry() {
+        return service.evaluateStrategies(auctionId, incomingBid(), auctionEndTime);
+    }
+
+    @Benchmark
+    public List<StrategyBidDecision> perBidParsing() throws Exception {
+        Money currentHighestBid = incomingBid();
+        List<StrategyBidDecision> decisions = new ArrayList<>();
+        for (com.auctionflow.events.persistence.AutomatedBidStrategy strategy : entities) {
+            BiddingStrategy biddingStrategy = legacyStrategies.get(strategy.getStrategyType());
+            StrategyParameters params = new StrategyParameters(
+                    objectMapper.readValue(strategy.getParametersJson(), new TypeReference<Map<String, Object>>() {}));
+            BidDecision decision = biddingStrategy.decideBid(auctionId, BidderId.fromString(strategy.getBidderId()),
+                    currentHighestBid, auctionEndTime, params);
+            if (decision.shouldBid()) {
+                decisions.add(new StrategyBidDecision(new AutomatedBidStrategy(strategy.getId().toString(),
+                        AuctionId.fromString(strategy.getAuctionId()), BidderId.fromString(strategy.getBidderId()),
+                        strategy.getStrategyType()), decision));
+            }
+        }
+        return decisions;
+    }
+}
@@ -0,0 +1,76 @@
+package com.auctionflow.benchmarks;
+
+import com.auctionflow.api.services.SuspiciousActivityService;
+import com.auctionflow.core.domain.events.SecurityEvent;
+import com.auctionflow.events.publisher.KafkaEventPublisher;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Time the suspicious-activity check adds to each bid across 8 threads: SuspiciousActivityService's in-process
+ * sliding windows, versus the previous check's two Redis round trips per bid (INCR of the IP and user counter,
+ * then GET of the IP's failed logins), modelled as parks of {@code redisRoundTripMicros}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class SuspiciousActivityBenchmark {
+
+    private static final int BIDDERS = 1 << 14;
+
+    @Param({"250"})
+    public long redisRoundTripMicros;
+
+    SuspiciousActivityService service;
+    String[] bidderIds;
+    String[] bidderIps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        KafkaEventPublisher publisher = new KafkaEventPublisher(null, null) {
+            @Override
+            public void publishSecurityEvent(SecurityEvent event) {
+            }
+        };
+        // Thresholds out of reach, so the path measured is the count rather than the alert
+        service = new SuspiciousActivityService(publisher, null, Duration.ofMinutes(1), 1_000_000, 1_000_000, 3,
+                1_000_000);
+        bidderIds = new String[BIDDERS];
+        bidderIps = new String[BIDDERS];
+        for (int i = 0; i < BIDDERS; i++) {
+            bidderIds[i] = UUID.randomUUID().toString();
+            bidderIps[i] = "203.0." + (i >>> 8) + "." + (i & 0xff);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.stop();
+    }
+
+    @State(Scope.Thread)
+    public static class Bidder {
+        int next;
+    }
+
+    @Benchmark
+    public boolean inProcessWindows(Bidder bidder) {
+        int i = bidder.next++ & (BIDDERS - 1);
+        return service.checkForSuspiciousActivity(bidderIds[i], bidderIps[i], "jmh", "BID_PLACEMENT");
+    }
+
+    @Benchmark
+    public void redisRoundTrips(Bidder bidder) {
+        bidder.next++;
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(redisRoundTripMicros));
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(redisRoundTripMicros));
+    }
+}
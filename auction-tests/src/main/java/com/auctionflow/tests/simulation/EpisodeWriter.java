@@ -0,0 +1,87 @@
+package com.auctionflow.tests.simulation;
+
+import com.auctionflow.bidding.strategies.StrategyType;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes one JSON line per bidder per auction, the training episodes for a bidding policy such as
+ * {@code ReinforcementLearningStrategy}. Each episode lists the bidder's observations and actions in order and
+ * carries a terminal reward: the winner's valuation minus the price paid, or zero for everyone else.
+ *
+ * Steps are held until the auction closes, so memory is bounded by the auctions open at once.
+ */
+public class EpisodeWriter implements SimulationListener {
+
+    public record Step(long millisLeft, long currentHighestCents, long bidCents, boolean accepted) {
+    }
+
+    public record Episode(String auctionId, String bidderId, StrategyType strategy, long valuationCents,
+                          boolean won, long rewardCents, List<Step> steps) {
+    }
+
+    private final Writer out;
+    private final Set<StrategyType> strategies;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<AuctionId, Map<BidderId, List<SimulationListener.Decision>>> open = new HashMap<>();
+    private long written;
+
+    /**
+     * @param strategies only bidders using these strategies produce episodes
+     */
+    public EpisodeWriter(Writer out, Set<StrategyType> strategies) {
+        this.out = out;
+        this.strategies = Set.copyOf(strategies);
+    }
+
+    @Override
+    public void onDecision(SimulationListener.Decision decision) {
+        if (strategies.contains(decision.strategy())) {
+            open.computeIfAbsent(decision.auctionId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(decision.bidderId(), id -> new ArrayList<>())
+                    .add(decision);
+        }
+    }
+
+    @Override
+    public void onAuctionClosed(SimulationListener.AuctionOutcome outcome) {
+        Map<BidderId, List<SimulationListener.Decision>> byBidder = open.remove(outcome.auctionId());
+        if (byBidder == null) {
+            return;
+        }
+        try {
+            for (Map.Entry<BidderId, List<SimulationListener.Decision>> entry : byBidder.entrySet()) {
+                List<SimulationListener.Decision> decisions = entry.getValue();
+                SimulationListener.Decision first = decisions.get(0);
+                boolean won = entry.getKey().equals(outcome.winnerId());
+                List<Step> steps = new ArrayList<>(decisions.size());
+                for (SimulationListener.Decision decision : decisions) {
+                    steps.add(new Step(decision.millisLeft(), decision.currentHighestCents(), decision.bidCents(),
+                            decision.accepted()));
+                }
+                Episode episode = new Episode(outcome.auctionId().value(), entry.getKey().id(), first.strategy(),
+                        first.valuationCents(), won, won ? first.valuationCents() - outcome.priceCents() : 0, steps);
+                out.write(objectMapper.writeValueAsString(episode));
+                out.write('\n');
+                written++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write episode for auction " + outcome.auctionId(), e);
+        }
+    }
+
+    public long getEpisodesWritten() {
+        return written;
+    }
+}
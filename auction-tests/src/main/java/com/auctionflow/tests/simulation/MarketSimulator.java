@@ -0,0 +1,450 @@
+package com.auctionflow.tests.simulation;
+
+import com.auctionflow.bidding.strategies.*;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.commands.CloseAuctionCommand;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.commands.ExtendAuctionCommand;
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.valueobjects.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic, single-threaded auction market that runs simulated bidders against real
+ * {@link AuctionAggregate}s on a virtual clock, with no Spring context, database or broker.
+ *
+ * Each bidder is backed by one of the {@link BiddingStrategy} implementations and has a private valuation per
+ * auction, which becomes its strategy's maxBid. Bidders look at their auctions after exponentially distributed
+ * think times; when the strategy decides to bid, a {@link PlaceBidCommand} goes straight to the aggregate, and
+ * bids inside the anti-snipe window extend the auction. Budget-optimizing bidders share a {@link BudgetLedger}
+ * that is kept up to date the way {@code BudgetLedgerUpdater} does it in the service.
+ *
+ * Every random draw comes from one seeded generator and events at the same virtual instant run in the order
+ * they were scheduled, so a seed fully determines the run. Virtual time starts on 2024-01-01 because closing an
+ * auction checks its end time against the wall clock.
+ */
+public class MarketSimulator {
+
+    private static final Instant ORIGIN = Instant.parse("2024-01-01T00:00:00Z");
+    private static final long MEDIAN_VALUE_CENTS = 10_000;
+    private static final long MEDIAN_BUDGET_CENTS = 50_000;
+
+    private final SimulationConfig config;
+    private final SimulationListener listener;
+    private final VirtualClock clock = new VirtualClock(ORIGIN);
+    private final BudgetLedger budgetLedger = new InMemoryBudgetLedger();
+    private final Map<StrategyType, BiddingStrategy> strategies = new EnumMap<>(StrategyType.class);
+    private final Random random;
+    private final PriorityQueue<Scheduled> queue = new PriorityQueue<>();
+    private final Map<StrategyType, Tally> tallies = new EnumMap<>(StrategyType.class);
+
+    private long scheduled;
+    private long seqNo;
+    private long commands;
+    private long engineNanos;
+    private long domainEvents;
+    private long decisions;
+    private long bidsSubmitted;
+    private long bidsAccepted;
+    private long extensions;
+    private int sold;
+    private int unsold;
+    private int efficient;
+    private double priceToValueSum;
+    private long fingerprint = 17;
+    private long[] latencies = new long[1 << 16];
+    private int latencyCount;
+    private boolean ran;
+
+    public MarketSimulator(SimulationConfig config) {
+        this(config, new SimulationListener() { });
+    }
+
+    public MarketSimulator(SimulationConfig config, SimulationListener listener) {
+        this.config = config;
+        this.listener = listener;
+        this.random = new Random(config.seed());
+        strategies.put(StrategyType.SNIPING_PREVENTION, new SnipingPreventionStrategy(clock));
+        strategies.put(StrategyType.OPTIMAL_TIMING, new OptimalTimingStrategy(clock));
+        strategies.put(StrategyType.BUDGET_OPTIMIZATION, new BudgetOptimizationStrategy(budgetLedger, clock));
+        strategies.put(StrategyType.REINFORCEMENT_LEARNING, new ReinforcementLearningStrategy(clock));
+        for (StrategyType type : StrategyType.values()) {
+            tallies.put(type, new Tally());
+        }
+    }
+
+    private enum Kind {
+        OPEN, WAKE, BID, CLOSE
+    }
+
+    private record Scheduled(long atMillis, long order, Kind kind, Market market, Participant participant)
+            implements Comparable<Scheduled> {
+        @Override
+        public int compareTo(Scheduled other) {
+            int byTime = Long.compare(atMillis, other.atMillis);
+            return byTime != 0 ? byTime : Long.compare(order, other.order);
+        }
+    }
+
+    private static final class Bidder {
+        final BidderId id;
+        final StrategyType type;
+        final long budgetCents;
+        int auctions;
+
+        Bidder(BidderId id, StrategyType type, long budgetCents) {
+            this.id = id;
+            this.type = type;
+            this.budgetCents = budgetCents;
+        }
+    }
+
+    private static final class Market {
+        final AuctionId id;
+        final long valueCents;
+        final long reserveCents;
+        final long startMillis;
+        long endMillis;
+        AuctionAggregate aggregate;
+        Participant[] participants;
+        Participant leader;
+        int bids;
+        boolean closed;
+
+        Market(AuctionId id, long valueCents, long reserveCents, long startMillis, long endMillis) {
+            this.id = id;
+            this.valueCents = valueCents;
+            this.reserveCents = reserveCents;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+
+    private static final class Participant {
+        final Market market;
+        final Bidder bidder;
+        final long valuationCents;
+        StrategyParameters params;
+        long pendingBidCents;
+        // Budget the pending bid is reserved against when submitted, or -1 for none
+        long pendingBudgetCents = -1;
+
+        Participant(Market market, Bidder bidder, long valuationCents) {
+            this.market = market;
+            this.bidder = bidder;
+            this.valuationCents = valuationCents;
+        }
+    }
+
+    private static final class Tally {
+        int bidders;
+        long decisions;
+        long bidsSubmitted;
+        long bidsAccepted;
+        long wins;
+        long surplusCents;
+    }
+
+    /**
+     * Runs the market until every auction has closed. A simulator runs once.
+     */
+    public SimulationReport run() {
+        if (ran) {
+            throw new IllegalStateException("Simulation has already run");
+        }
+        ran = true;
+        populate();
+        long start = System.nanoTime();
+        Scheduled next;
+        while ((next = queue.poll()) != null) {
+            clock.advanceTo(next.atMillis());
+            switch (next.kind()) {
+                case OPEN -> open(next.market());
+                case WAKE -> wake(next.participant());
+                case BID -> submit(next.participant(), next.participant().pendingBidCents);
+                case CLOSE -> close(next.market());
+            }
+        }
+        return report(System.nanoTime() - start);
+    }
+
+    private void populate() {
+        Bidder[] bidders = new Bidder[config.bidders()];
+        for (int i = 0; i < bidders.length; i++) {
+            Bidder bidder = new Bidder(new BidderId(nextUuid()), pickStrategy(), logNormal(MEDIAN_BUDGET_CENTS, 0.5));
+            bidders[i] = bidder;
+            tallies.get(bidder.type).bidders++;
+        }
+
+        Market[] markets = new Market[config.auctions()];
+        long duration = config.auctionDuration().toMillis();
+        for (int a = 0; a < markets.length; a++) {
+            long value = logNormal(MEDIAN_VALUE_CENTS, 0.5);
+            long reserve = (long) (value * (0.5 + 0.3 * random.nextDouble()));
+            long start = (long) (random.nextDouble() * config.startSpread().toMillis());
+            Market market = new Market(new AuctionId(nextUuid()), value, reserve, start, start + duration);
+            market.participants = new Participant[config.biddersPerAuction()];
+            int[] picked = new int[config.biddersPerAuction()];
+            for (int p = 0; p < picked.length; p++) {
+                picked[p] = pickDistinct(picked, p, bidders.length);
+                Bidder bidder = bidders[picked[p]];
+                bidder.auctions++;
+                market.participants[p] = new Participant(market, bidder, logNormal(value, 0.2));
+            }
+            markets[a] = market;
+            schedule(start, Kind.OPEN, market, null);
+        }
+
+        // Parameters need each bidder's final auction count
+        for (Market market : markets) {
+            for (Participant participant : market.participants) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("maxBid", participant.valuationCents / 100.0);
+                params.put("increment", (double) (1 + random.nextInt(5)));
+                params.put("totalBudget", participant.bidder.budgetCents / 100.0);
+                params.put("allocatedBudget", 0.0);
+                params.put("competingAuctions", participant.bidder.auctions);
+                participant.params = new StrategyParameters(params);
+            }
+        }
+    }
+
+    private void open(Market market) {
+        market.aggregate = new AuctionAggregate();
+        execute(market.aggregate, new CreateAuctionCommand(market.id, new ItemId("item-" + market.id),
+                new SellerId("seller-" + market.id), "simulated", AuctionType.ENGLISH_OPEN,
+                Money.usd(market.reserveCents), Money.usd(market.valueCents * 3), clock.at(market.startMillis),
+                clock.at(market.endMillis), config.antiSnipePolicy(), false));
+        schedule(market.endMillis, Kind.CLOSE, market, null);
+        for (Participant participant : market.participants) {
+            schedule(market.startMillis + thinkTime(), Kind.WAKE, market, participant);
+        }
+    }
+
+    private void wake(Participant participant) {
+        Market market = participant.market;
+        long now = clock.elapsedMillis();
+        if (market.closed || now >= market.endMillis) {
+            return;
+        }
+        if (market.leader != participant && participant.pendingBidCents == 0) {
+            Money currentHighest = market.aggregate.getCurrentHighestBid();
+            BidDecision decision = strategies.get(participant.bidder.type).decideBid(market.id, participant.bidder.id,
+                    currentHighest, clock.at(market.endMillis), participant.params);
+            decisions++;
+            tallies.get(participant.bidder.type).decisions++;
+            if (!decision.shouldBid()) {
+                listener.onDecision(decisionRecord(participant, currentHighest.getAmountCents(), 0, false));
+            } else {
+                long bidAt = Math.max(now, clock.elapsedMillis(decision.getBidTime()));
+                participant.pendingBudgetCents = decision.hasBudget() ? decision.getBudgetCents() : -1;
+                if (bidAt > now) {
+                    participant.pendingBidCents = decision.getBidAmount().getAmountCents();
+                    schedule(bidAt, Kind.BID, market, participant);
+                } else {
+                    submit(participant, decision.getBidAmount().getAmountCents());
+                }
+            }
+        }
+        schedule(now + thinkTime(), Kind.WAKE, market, participant);
+    }
+
+    private void submit(Participant participant, long amountCents) {
+        participant.pendingBidCents = 0;
+        Market market = participant.market;
+        BidderId bidderId = participant.bidder.id;
+        if (market.closed || clock.elapsedMillis() > market.endMillis) {
+            return;
+        }
+        long currentHighest = market.aggregate.getCurrentHighestBid().getAmountCents();
+        // Budget is reserved as the bid is placed, as PlaceBidHandler does, and put back if it is rejected
+        long previousHoldCents = budgetLedger.holdCents(bidderId, market.id);
+        if (participant.pendingBudgetCents >= 0
+                && !budgetLedger.tryReserve(bidderId, market.id, amountCents, participant.pendingBudgetCents)) {
+            listener.onDecision(decisionRecord(participant, currentHighest, 0, false));
+            return;
+        }
+        seqNo++;
+        boolean accepted = execute(market.aggregate, new PlaceBidCommand(market.id, bidderId.id(),
+                Money.usd(amountCents), "sim-" + seqNo, clock.instant(), seqNo));
+        Tally tally = tallies.get(participant.bidder.type);
+        bidsSubmitted++;
+        tally.bidsSubmitted++;
+        if (accepted) {
+            bidsAccepted++;
+            tally.bidsAccepted++;
+            market.bids++;
+            // Every accepted bid clears the increment over the current highest, so it leads
+            market.leader = participant;
+            budgetLedger.onLeadingBid(market.id, bidderId, amountCents);
+            extendIfSniped(market);
+        } else if (participant.pendingBudgetCents >= 0) {
+            budgetLedger.restore(bidderId, market.id, previousHoldCents);
+        }
+        listener.onDecision(decisionRecord(participant, currentHighest, amountCents, accepted));
+    }
+
+    private void extendIfSniped(Market market) {
+        AntiSnipePolicy policy = config.antiSnipePolicy();
+        AuctionAggregate aggregate = market.aggregate;
+        long millisLeft = market.endMillis - clock.elapsedMillis();
+        if (millisLeft > policy.extensionWindow().toMillis() || !policy.shouldExtend(aggregate.getExtensionsCount())) {
+            return;
+        }
+        Duration extension = policy.calculateExtension(aggregate.getOriginalDuration());
+        if (extension.isZero()) {
+            return;
+        }
+        market.endMillis += extension.toMillis();
+        execute(aggregate, new ExtendAuctionCommand(market.id, clock.at(market.endMillis)));
+        extensions++;
+        // The CLOSE already queued for the old end time finds the auction still running and does nothing
+        schedule(market.endMillis, Kind.CLOSE, market, null);
+    }
+
+    private void close(Market market) {
+        if (market.closed || clock.elapsedMillis() < market.endMillis) {
+            return;
+        }
+        AuctionAggregate aggregate = market.aggregate;
+        execute(aggregate, new CloseAuctionCommand(market.id));
+        market.closed = true;
+
+        long highestValuation = 0;
+        for (Participant participant : market.participants) {
+            highestValuation = Math.max(highestValuation, participant.valuationCents);
+        }
+        Participant winner = aggregate.getWinnerId() == null ? null : market.leader;
+        SimulationListener.AuctionOutcome outcome;
+        if (winner == null) {
+            unsold++;
+            budgetLedger.onAuctionClosed(market.id, null);
+            outcome = new SimulationListener.AuctionOutcome(market.id, clock.instant(), null, null, 0,
+                    market.reserveCents, 0, highestValuation, market.bids, aggregate.getExtensionsCount());
+        } else {
+            long price = aggregate.getCurrentHighestBid().getAmountCents();
+            sold++;
+            if (winner.valuationCents == highestValuation) {
+                efficient++;
+            }
+            priceToValueSum += (double) price / winner.valuationCents;
+            Tally tally = tallies.get(winner.bidder.type);
+            tally.wins++;
+            tally.surplusCents += winner.valuationCents - price;
+            budgetLedger.onAuctionClosed(market.id, winner.bidder.id);
+            outcome = new SimulationListener.AuctionOutcome(market.id, clock.instant(), winner.bidder.id,
+                    winner.bidder.type, price, market.reserveCents, winner.valuationCents, highestValuation,
+                    market.bids, aggregate.getExtensionsCount());
+        }
+        fingerprint = fingerprint * 31 + market.id.hashCode();
+        fingerprint = fingerprint * 31 + (winner == null ? 0 : winner.bidder.id.hashCode());
+        fingerprint = fingerprint * 31 + outcome.priceCents();
+        listener.onAuctionClosed(outcome);
+
+        // Wakes still queued for this auction only need to see that it closed
+        market.aggregate = null;
+        market.participants = null;
+        market.leader = null;
+    }
+
+    private boolean execute(AuctionAggregate aggregate, Object command) {
+        long versionBefore = aggregate.getVersion();
+        long start = System.nanoTime();
+        boolean accepted;
+        try {
+            aggregate.handle(command);
+            accepted = true;
+        } catch (IllegalStateException e) {
+            accepted = false;
+        }
+        long elapsed = System.nanoTime() - start;
+        recordLatency(elapsed);
+        engineNanos += elapsed;
+        commands++;
+        domainEvents += aggregate.getVersion() - versionBefore;
+        aggregate.clearDomainEvents();
+        return accepted;
+    }
+
+    private SimulationListener.Decision decisionRecord(Participant participant, long currentHighestCents,
+                                                       long bidCents, boolean accepted) {
+        return new SimulationListener.Decision(clock.instant(), participant.market.id, participant.bidder.id,
+                participant.bidder.type, participant.valuationCents, currentHighestCents,
+                participant.market.endMillis - clock.elapsedMillis(), bidCents, accepted);
+    }
+
+    private void schedule(long atMillis, Kind kind, Market market, Participant participant) {
+        queue.add(new Scheduled(atMillis, scheduled++, kind, market, participant));
+    }
+
+    private void recordLatency(long nanos) {
+        if (latencyCount == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[latencyCount++] = nanos;
+    }
+
+    private String nextUuid() {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private StrategyType pickStrategy() {
+        int total = config.strategyMix().values().stream().mapToInt(Integer::intValue).sum();
+        int draw = random.nextInt(total);
+        for (StrategyType type : StrategyType.values()) {
+            draw -= config.strategyMix().getOrDefault(type, 0);
+            if (draw < 0) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Strategy mix is empty");
+    }
+
+    private int pickDistinct(int[] picked, int count, int bound) {
+        while (true) {
+            int candidate = random.nextInt(bound);
+            boolean taken = false;
+            for (int i = 0; i < count && !taken; i++) {
+                taken = picked[i] == candidate;
+            }
+            if (!taken) {
+                return candidate;
+            }
+        }
+    }
+
+    private long logNormal(long medianCents, double sigma) {
+        return Math.max(100, Math.round(medianCents * Math.exp(sigma * random.nextGaussian())));
+    }
+
+    private long thinkTime() {
+        double mean = config.meanThinkTime().toMillis();
+        return 1 + (long) (-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    private SimulationReport report(long wallNanos) {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        Map<StrategyType, SimulationReport.StrategyStats> byStrategy = new EnumMap<>(StrategyType.class);
+        tallies.forEach((type, tally) -> byStrategy.put(type, new SimulationReport.StrategyStats(tally.bidders,
+                tally.decisions, tally.bidsSubmitted, tally.bidsAccepted, tally.wins, tally.surplusCents)));
+        return new SimulationReport(config.seed(), Duration.ofMillis(clock.elapsedMillis()), wallNanos, engineNanos,
+                commands, domainEvents, decisions, bidsSubmitted, bidsAccepted, extensions, sold, unsold,
+                sold == 0 ? 0 : (double) efficient / sold, sold == 0 ? 0 : priceToValueSum / sold,
+                percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1], byStrategy, fingerprint);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[(int) (sorted.length * quantile)];
+    }
+}
@@ -0,0 +1,74 @@
+package com.auctionflow.tests.simulation;
+
+import com.auctionflow.bidding.strategies.StrategyType;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Shape of a simulated market. Two runs with the same configuration produce the same bids and outcomes.
+ *
+ * @param seed seeds every random draw: bidder strategies, valuations, budgets, auction timing and think times
+ * @param auctions number of auctions, each opening at a random point within {@code startSpread}
+ * @param bidders size of the bidder population
+ * @param biddersPerAuction distinct bidders watching each auction
+ * @param auctionDuration scheduled length of every auction, before anti-snipe extensions
+ * @param startSpread window over which auction openings are spread
+ * @param meanThinkTime mean of the exponential delay between a bidder's looks at an auction
+ * @param antiSnipePolicy policy applied to every auction
+ * @param strategyMix relative weight of each strategy in the bidder population
+ */
+public record SimulationConfig(long seed, int auctions, int bidders, int biddersPerAuction,
+                               Duration auctionDuration, Duration startSpread, Duration meanThinkTime,
+                               AntiSnipePolicy antiSnipePolicy, Map<StrategyType, Integer> strategyMix) {
+
+    public SimulationConfig {
+        if (auctions <= 0 || bidders <= 0) {
+            throw new IllegalArgumentException("Auctions and bidders must be positive");
+        }
+        if (biddersPerAuction <= 0 || biddersPerAuction > bidders) {
+            throw new IllegalArgumentException("BiddersPerAuction must be between 1 and bidders");
+        }
+        if (auctionDuration == null || auctionDuration.isNegative() || auctionDuration.isZero()) {
+            throw new IllegalArgumentException("AuctionDuration must be positive");
+        }
+        if (startSpread == null || startSpread.isNegative()) {
+            throw new IllegalArgumentException("StartSpread must be non-negative");
+        }
+        if (meanThinkTime == null || meanThinkTime.isNegative() || meanThinkTime.isZero()) {
+            throw new IllegalArgumentException("MeanThinkTime must be positive");
+        }
+        if (antiSnipePolicy == null) {
+            throw new IllegalArgumentException("AntiSnipePolicy cannot be null");
+        }
+        if (strategyMix == null || strategyMix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("StrategyMix must have a positive total weight");
+        }
+        strategyMix = Map.copyOf(strategyMix);
+    }
+
+    /**
+     * A mid-sized market: 2,000 thirty-minute auctions over two hours, 5,000 bidders split evenly across
+     * the strategies, 25 bidders per auction looking roughly once a minute, with a two-minute anti-snipe window.
+     */
+    public static SimulationConfig defaults(long seed) {
+        Map<StrategyType, Integer> mix = new EnumMap<>(StrategyType.class);
+        for (StrategyType type : StrategyType.values()) {
+            mix.put(type, 1);
+        }
+        return new SimulationConfig(seed, 2_000, 5_000, 25, Duration.ofMinutes(30), Duration.ofHours(2),
+                Duration.ofMinutes(1), AntiSnipePolicy.fixed(Duration.ofMinutes(2), 5, Duration.ofMinutes(2)), mix);
+    }
+
+    public SimulationConfig withSize(int auctions, int bidders, int biddersPerAuction) {
+        return new SimulationConfig(seed, auctions, bidders, biddersPerAuction, auctionDuration, startSpread,
+                meanThinkTime, antiSnipePolicy, strategyMix);
+    }
+
+    public SimulationConfig withStrategyMix(Map<StrategyType, Integer> strategyMix) {
+        return new SimulationConfig(seed, auctions, bidders, biddersPerAuction, auctionDuration, startSpread,
+                meanThinkTime, antiSnipePolicy, strategyMix);
+    }
+}
@@ -0,0 +1,39 @@
+package com.auctionflow.tests.simulation;
+
+import com.auctionflow.bidding.strategies.StrategyType;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+
+import java.time.Instant;
+
+/**
+ * Observes a simulation as it runs, in virtual-time order. Callbacks run on the simulator thread.
+ */
+public interface SimulationListener {
+
+    /**
+     * A bidder looked at an auction. {@code bidCents} is zero when the strategy chose not to bid.
+     */
+    default void onDecision(Decision decision) {
+    }
+
+    default void onAuctionClosed(AuctionOutcome outcome) {
+    }
+
+    record Decision(Instant at, AuctionId auctionId, BidderId bidderId, StrategyType strategy, long valuationCents,
+                    long currentHighestCents, long millisLeft, long bidCents, boolean accepted) {
+    }
+
+    /**
+     * Result of a closed auction. {@code winnerId} and {@code winnerStrategy} are null, and the winner fields
+     * zero, when nothing sold.
+     */
+    record AuctionOutcome(AuctionId auctionId, Instant closedAt, BidderId winnerId, StrategyType winnerStrategy,
+                          long priceCents, long reserveCents, long winnerValuationCents, long highestValuationCents,
+                          int bids, long extensions) {
+
+        public boolean sold() {
+            return winnerId != null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.auctionflow.tests.simulation;
+
+import com.auctionflow.bidding.strategies.StrategyType;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Throughput, engine latency and market outcomes of one simulation run.
+ *
+ * {@code wallNanos} covers the whole run, strategy evaluation included; {@code engineNanos} and the latency
+ * figures cover only time spent in the aggregates' command handlers. Everything else is determined by the
+ * configuration, and {@code fingerprint} summarises every auction's winner and price so two runs can be
+ * compared cheaply.
+ */
+public record SimulationReport(long seed, Duration virtualDuration, long wallNanos, long engineNanos,
+                               long commands, long domainEvents, long decisions, long bidsSubmitted, long bidsAccepted,
+                               long extensions, int auctionsSold, int auctionsUnsold,
+                               double allocativeEfficiency, double meanPriceToValue,
+                               long latencyP50Nanos, long latencyP99Nanos, long latencyP999Nanos, long latencyMaxNanos,
+                               Map<StrategyType, StrategyStats> byStrategy, long fingerprint) {
+
+    /**
+     * @param surplusCents sum over auctions won of the winner's valuation minus the price paid
+     */
+    public record StrategyStats(int bidders, long decisions, long bidsSubmitted, long bidsAccepted, long wins,
+                                long surplusCents) {
+    }
+
+    public double decisionsPerSecond() {
+        return wallNanos == 0 ? 0 : decisions * 1_000_000_000.0 / wallNanos;
+    }
+
+    /**
+     * Commands the aggregates can absorb per second of handler time on one thread.
+     */
+    public double engineCommandsPerSecond() {
+        return engineNanos == 0 ? 0 : commands * 1_000_000_000.0 / engineNanos;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("seed=%d: %s of virtual time in %.2fs, %,.0f decisions/s%n",
+                seed, virtualDuration, wallNanos / 1e9, decisionsPerSecond()));
+        summary.append(String.format("engine: %,d commands at %,.0f/s, latency p50=%dns p99=%dns p99.9=%dns max=%dns%n",
+                commands, engineCommandsPerSecond(), latencyP50Nanos, latencyP99Nanos, latencyP999Nanos, latencyMaxNanos));
+        summary.append(String.format("%,d decisions, %,d bids (%,d accepted), %,d extensions, %,d domain events%n",
+                decisions, bidsSubmitted, bidsAccepted, extensions, domainEvents));
+        summary.append(String.format("%,d sold, %,d unsold; efficiency=%.3f price/value=%.3f%n",
+                auctionsSold, auctionsUnsold, allocativeEfficiency, meanPriceToValue));
+        byStrategy.forEach((type, stats) -> summary.append(String.format(
+                "  %-22s bidders=%,d decisions=%,d bids=%,d accepted=%,d wins=%,d surplus=$%,.2f%n",
+                type, stats.bidders(), stats.decisions(), stats.bidsSubmitted(), stats.bidsAccepted(), stats.wins(),
+                stats.surplusCents() / 100.0)));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.auctionflow.tests.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock whose time only moves when the simulator advances it. Not thread-safe; the simulator is single-threaded.
+ */
+public class VirtualClock extends Clock {
+
+    private final Instant origin;
+    private long elapsedMillis;
+
+    public VirtualClock(Instant origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Moves the clock to the given offset from the origin. Time never goes backwards.
+     */
+    public void advanceTo(long elapsedMillis) {
+        if (elapsedMillis < this.elapsedMillis) {
+            throw new IllegalArgumentException("Virtual time cannot go backwards");
+        }
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Instant at(long elapsedMillis) {
+        return origin.plusMillis(elapsedMillis);
+    }
+
+    public long elapsedMillis(Instant instant) {
+        return instant.toEpochMilli() - origin.toEpochMilli();
+    }
+
+    @Override
+    public Instant instant() {
+        return at(elapsedMillis);
+    }
+
+    @Override
+    public long millis() {
+        return origin.toEpochMilli() + elapsedMillis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("Virtual clock is always UTC");
+    }
+}
@@ -0,0 +1,185 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.entities.ApiKey;
+import com.auctionflow.api.repositories.ApiKeyRepository;
+import com.auctionflow.api.services.ApiKeyService;
+import com.auctionflow.api.services.LocalApiKeyChangeChannel;
+import com.auctionflow.api.services.RateLimitReconciler;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two API instances validating partner keys from their in-memory indexes over one api_keys table, connected by
+ * an in-process change channel standing in for Redis pub/sub.
+ */
+public class ApiKeyIndexRevocationTest {
+
+    private final ApiKeysTable table = new ApiKeysTable();
+    private final LocalApiKeyChangeChannel channel = new LocalApiKeyChangeChannel();
+
+    @Test
+    void revocationOnOneInstanceTakesEffectOnTheOther() {
+        ApiKeyService instanceA = start(channel);
+        ApiKeyService instanceB = start(channel);
+
+        String rawKey = instanceA.generateKey("partner-feed");
+        assertThat(instanceA.validateKey(rawKey)).isTrue();
+        assertThat(instanceB.validateKey(rawKey)).isTrue();
+
+        instanceA.revokeKey("partner-feed");
+
+        assertThat(instanceA.validateKey(rawKey)).isFalse();
+        assertThat(instanceB.validateKey(rawKey)).isFalse();
+        assertThat(instanceB.validateKey("never-issued")).isFalse();
+    }
+
+    @Test
+    void missedNotificationsAreCaughtByThePeriodicReload() {
+        ApiKeyService instanceA = start(channel);
+        ApiKeyService isolated = start(new LocalApiKeyChangeChannel());
+        String rawKey = instanceA.generateKey("partner-feed");
+        isolated.refreshIndex();
+        assertThat(isolated.validateKey(rawKey)).isTrue();
+
+        instanceA.revokeKey("partner-feed");
+        assertThat(isolated.validateKey(rawKey)).isTrue();
+        isolated.refreshIndex();
+        assertThat(isolated.validateKey(rawKey)).isFalse();
+    }
+
+    @Test
+    void usageIsAggregatedAndWrittenInOneFlush() {
+        ApiKeyService instanceA = start(channel);
+        ApiKeyService instanceB = start(channel);
+        String rawKey = instanceA.generateKey("partner-feed");
+        int writesAfterIssue = table.writes.get();
+
+        for (int i = 0; i < 600; i++) {
+            assertThat(instanceA.validateKey(rawKey)).isTrue();
+        }
+        for (int i = 0; i < 400; i++) {
+            assertThat(instanceB.validateKey(rawKey)).isTrue();
+        }
+        assertThat(table.writes.get()).isEqualTo(writesAfterIssue);
+
+        Instant beforeFlush = Instant.now();
+        instanceA.flushUsage();
+        instanceB.flushUsage();
+        instanceA.flushUsage();
+
+        ApiKey stored = table.rows.values().iterator().next();
+        assertThat(stored.getUsageCount()).isEqualTo(1000);
+        assertThat(stored.getLastUsedAt()).isBeforeOrEqualTo(beforeFlush);
+        assertThat(table.writes.get()).isEqualTo(writesAfterIssue + 2);
+    }
+
+    @Test
+    void usageOfRevokedKeysIsStillFlushed() {
+        ApiKeyService instanceA = start(channel);
+        String rawKey = instanceA.generateKey("partner-feed");
+        for (int i = 0; i < 10; i++) {
+            instanceA.validateKey(rawKey);
+        }
+        instanceA.revokeKey("partner-feed");
+        instanceA.flushUsage();
+
+        assertThat(table.rows.values().iterator().next().getUsageCount()).isEqualTo(10);
+    }
+
+    @Test
+    void usageIsKeptWhenItsFlushFails() {
+        ApiKeyService instanceA = start(channel);
+        String failing = instanceA.generateKey("partner-feed");
+        String healthy = instanceA.generateKey("partner-search");
+        for (int i = 0; i < 10; i++) {
+            instanceA.validateKey(failing);
+            instanceA.validateKey(healthy);
+        }
+        Long failingId = table.rows.values().stream()
+                .filter(key -> key.getServiceName().equals("partner-feed")).findFirst().orElseThrow().getId();
+
+        table.failingIds.add(failingId);
+        instanceA.flushUsage();
+        assertThat(table.rows.get(failingId).getUsageCount()).isZero();
+        assertThat(table.rows.values()).filteredOn(key -> !key.getId().equals(failingId))
+                .singleElement().satisfies(key -> assertThat(key.getUsageCount()).isEqualTo(10));
+
+        table.failingIds.clear();
+        instanceA.flushUsage();
+        assertThat(table.rows.get(failingId).getUsageCount()).isEqualTo(10);
+        assertThat(table.rows.get(failingId).getLastUsedAt()).isAfter(Instant.EPOCH);
+    }
+
+    private ApiKeyService start(LocalApiKeyChangeChannel changeChannel) {
+        RateLimitReconciler reconciler = new RateLimitReconciler(null, Duration.ofSeconds(1), Duration.ofMinutes(10));
+        ApiKeyService service = new ApiKeyService(table.repository(), changeChannel, reconciler, 100_000);
+        service.init();
+        return service;
+    }
+
+    /**
+     * The api_keys table, behind the repository methods ApiKeyService uses.
+     */
+    private static final class ApiKeysTable {
+        final Map<Long, ApiKey> rows = new ConcurrentHashMap<>();
+        final AtomicLong ids = new AtomicLong();
+        final AtomicInteger writes = new AtomicInteger();
+        // Rows whose usage update fails, as on a lock timeout
+        final Set<Long> failingIds = ConcurrentHashMap.newKeySet();
+
+        ApiKeyRepository repository() {
+            ApiKeyRepository repository = mock(ApiKeyRepository.class);
+            when(repository.save(any(ApiKey.class))).thenAnswer(invocation -> save(invocation.getArgument(0)));
+            when(repository.findAll()).thenAnswer(invocation -> new ArrayList<>(rows.values()));
+            when(repository.findByRevokedAtIsNull()).thenAnswer(invocation -> active());
+            when(repository.findByServiceNameAndRevokedAtIsNull(anyString())).thenAnswer(invocation -> active().stream()
+                    .filter(key -> key.getServiceName().equals(invocation.getArgument(0))).findFirst());
+            when(repository.recordUsage(anyLong(), any(Instant.class), anyLong())).thenAnswer(invocation ->
+                    recordUsage(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            return repository;
+        }
+
+        private ApiKey save(ApiKey apiKey) {
+            writes.incrementAndGet();
+            if (apiKey.getId() == null) {
+                apiKey.setId(ids.incrementAndGet());
+            }
+            rows.put(apiKey.getId(), apiKey);
+            return apiKey;
+        }
+
+        private List<ApiKey> active() {
+            return rows.values().stream().filter(key -> key.getRevokedAt() == null).toList();
+        }
+
+        private synchronized int recordUsage(Long id, Instant lastUsedAt, long uses) {
+            if (failingIds.contains(id)) {
+                throw new QueryTimeoutException("lock timeout on api_keys " + id);
+            }
+            writes.incrementAndGet();
+            ApiKey apiKey = rows.get(id);
+            apiKey.setUsageCount(apiKey.getUsageCount() + uses);
+            if (apiKey.getLastUsedAt() == null || apiKey.getLastUsedAt().isBefore(lastUsedAt)) {
+                apiKey.setLastUsedAt(lastUsedAt);
+            }
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.services.ArchivalService;
+import com.auctionflow.api.services.ArchiveSegmentStore;
+import com.auctionflow.api.services.ArchiveSegmentStore.ArchivedAuctionBlock;
+import com.auctionflow.events.AggregateCheckpointIndex;
+import com.auctionflow.events.persistence.JdbcEventCursor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives 100,000 closed auctions holding 10M events and 1M bids into the segment archive, then reads
+ * auctions back through its index. Runs in the boundedHeapTest task with -Xmx256m; heap is sampled while the
+ * archiver runs, and throughput is printed.
+ */
+@Tag("bounded-heap")
+@Testcontainers
+public class ArchivalBoundedHeapTest {
+
+    private static final long EVENTS = 10_000_000L;
+    private static final long AUCTIONS = 100_000L;
+    private static final long BIDS_PER_AUCTION = 10;
+    private static final long OPEN_AUCTIONS = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+            .withDatabaseName("auctionflow_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @TempDir
+    Path archiveDirectory;
+
+    @BeforeAll
+    static void seedClosedAuctions() throws Exception {
+        String migration;
+        try (InputStream in = ArchivalBoundedHeapTest.class.getResourceAsStream("/db/migration/V6__compact_event_store.sql")) {
+            migration = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection connection = postgres.createConnection(""); Statement statement = connection.createStatement()) {
+            statement.execute(migration);
+            statement.execute("CREATE TABLE auctions (id VARCHAR(255) PRIMARY KEY, item_id VARCHAR(255), seller_id BIGINT, "
+                    + "status VARCHAR(50), start_ts TIMESTAMP WITH TIME ZONE, end_ts TIMESTAMP WITH TIME ZONE, "
+                    + "encrypted_reserve_price TEXT, buy_now_price DECIMAL(10,2), hidden_reserve BOOLEAN, "
+                    + "current_highest_bid DECIMAL(10,2), current_highest_bidder BIGINT, "
+                    + "deleted_at TIMESTAMP WITH TIME ZONE, deleted_by BIGINT)");
+            statement.execute("CREATE TABLE bids (id BIGSERIAL PRIMARY KEY, auction_id VARCHAR(255), bidder_id BIGINT, "
+                    + "amount DECIMAL(10,2), server_ts TIMESTAMP WITH TIME ZONE, seq_no BIGINT, accepted BOOLEAN, "
+                    + "deleted_at TIMESTAMP WITH TIME ZONE, deleted_by BIGINT)");
+            statement.execute("CREATE INDEX idx_bids_auction_id ON bids (auction_id)");
+
+            statement.execute("INSERT INTO auctions (id, item_id, seller_id, status, start_ts, end_ts, buy_now_price, hidden_reserve) "
+                    + "SELECT md5(a::text)::uuid::text, 'item-' || a, 7, 'CLOSED', "
+                    + "TIMESTAMPTZ '2024-01-01' + a * INTERVAL '1 second', TIMESTAMPTZ '2024-01-08' + a * INTERVAL '1 second', "
+                    + "250.00, false FROM generate_series(0, " + (AUCTIONS - 1) + ") a");
+            statement.execute("INSERT INTO auctions (id, item_id, seller_id, status, start_ts, end_ts, hidden_reserve) "
+                    + "SELECT md5(a::text)::uuid::text, 'item-' || a, 7, 'OPEN', NOW(), NOW() + INTERVAL '7 days', false "
+                    + "FROM generate_series(" + AUCTIONS + ", " + (AUCTIONS + OPEN_AUCTIONS - 1) + ") a");
+            statement.execute("INSERT INTO bids (auction_id, bidder_id, amount, server_ts, seq_no, accepted) "
+                    + "SELECT md5(a::text)::uuid::text, 1000 + s, 10 + s, TIMESTAMPTZ '2024-01-02' + s * INTERVAL '1 minute', "
+                    + "s, s = " + BIDS_PER_AUCTION + " FROM generate_series(0, " + (AUCTIONS - 1) + ") a "
+                    + "CROSS JOIN generate_series(1, " + BIDS_PER_AUCTION + ") s");
+            long perAuction = EVENTS / AUCTIONS;
+            statement.execute("INSERT INTO event_store (aggregate_id, sequence_number, event_id, event_type, timestamp, event_data) "
+                    + "SELECT md5(a::text)::uuid, s, gen_random_uuid(), 2, "
+                    + "TIMESTAMPTZ '2024-01-01' + (s * " + AUCTIONS + " + a) * INTERVAL '1 millisecond', "
+                    + "jsonb_build_object('bidderId', 'bidder-' || a, 'amount', jsonb_build_object('amountCents', 100 + s), 'seqNo', s) "
+                    + "FROM generate_series(0, " + (AUCTIONS - 1) + ") a CROSS JOIN generate_series(1, " + perAuction + ") s");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @Test
+    void archivesTenMillionEventsWithBoundedHeap() throws Exception {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        ArchiveSegmentStore archive = new ArchiveSegmentStore(archiveDirectory.toString(), 64L << 20);
+        archive.open();
+        ArchivalService archival = new ArchivalService(jdbc, new JdbcEventCursor(dataSource, 1000), archive,
+                new AggregateCheckpointIndex(null, Duration.ofMinutes(15)), 500, Duration.ofDays(365));
+        String sample = jdbc.queryForObject("SELECT md5('42')::uuid::text", String.class);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong maxUsedHeap = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> maxUsedHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 50, TimeUnit.MILLISECONDS);
+        ArchivalService.ArchiveRun run;
+        try {
+            run = archival.archiveClosedBefore(Instant.parse("2025-01-01T00:00:00Z"));
+        } finally {
+            sampler.shutdownNow();
+        }
+        assertThat(run.auctions()).isEqualTo(AUCTIONS);
+        assertThat(run.bids()).isEqualTo(AUCTIONS * BIDS_PER_AUCTION);
+        assertThat(run.events()).isEqualTo(EVENTS);
+        assertThat(maxUsedHeap.get()).isLessThan(256L << 20);
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM event_store", Long.class)).isEqualTo(0L);
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM bids", Long.class)).isEqualTo(0L);
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM auctions", Long.class)).isEqualTo(OPEN_AUCTIONS);
+
+        ArchivedAuctionBlock block = archive.read(sample).orElseThrow();
+        assertThat(block.auction().getItemId()).isEqualTo("item-42");
+        assertThat(block.bids()).hasSize((int) BIDS_PER_AUCTION);
+        assertThat(block.events()).hasSize((int) (EVENTS / AUCTIONS));
+        for (int i = 0; i < block.events().size(); i++) {
+            assertThat(block.events().get(i).sequenceNumber()).isEqualTo(i + 1L);
+        }
+
+        // A second run finds nothing left, and a reopened archive still has every auction
+        assertThat(archival.archiveClosedBefore(Instant.parse("2025-01-01T00:00:00Z")).auctions()).isZero();
+        archive.close();
+        ArchiveSegmentStore reopened = new ArchiveSegmentStore(archiveDirectory.toString(), 64L << 20);
+        reopened.open();
+        assertThat(reopened.read(sample).orElseThrow().events()).hasSize((int) (EVENTS / AUCTIONS));
+        reopened.close();
+    }
+}
@@ -0,0 +1,233 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.entities.ArchivedAuction;
+import com.auctionflow.api.entities.ArchivedBid;
+import com.auctionflow.api.services.ArchiveSegmentStore;
+import com.auctionflow.api.services.ArchiveSegmentStore.ArchivedAuctionBlock;
+import com.auctionflow.api.services.ArchiveSegmentStore.ArchivedEventRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The segment archive: reading auctions back through the index, visibility only after sync, recovery from a
+ * torn write or an aborted block, indexes reloaded across segments, and blocks written by one instance read by
+ * another.
+ */
+public class ArchiveSegmentStoreTest {
+
+    private static final Instant ARCHIVED_AT = Instant.parse("2026-10-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void auctionsAreReadBackThroughTheIndex() {
+        ArchiveSegmentStore store = open(1 << 20);
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        write(store, first, 3, 40);
+        write(store, second, 0, 1);
+
+        assertThat(store.contains(first)).isFalse();
+        store.sync();
+        assertThat(store.contains(first)).isTrue();
+
+        ArchivedAuctionBlock block = store.read(first).orElseThrow();
+        assertThat(block.auction().getId()).isEqualTo(first);
+        assertThat(block.auction().getItemId()).isEqualTo("item-" + first);
+        assertThat(block.auction().getBuyNowPrice()).isEqualTo(new BigDecimal("250.00"));
+        assertThat(block.auction().getArchivedAt()).isEqualTo(ARCHIVED_AT);
+        assertThat(block.bids()).hasSize(3);
+        assertThat(block.bids().get(2).getAmount()).isEqualTo(new BigDecimal("12.50"));
+        assertThat(block.bids().get(2).getAccepted()).isTrue();
+        assertThat(block.bids().get(0).getSeqNo()).isNull();
+        assertThat(block.events()).hasSize(40);
+        assertThat(block.events().get(39).sequenceNumber()).isEqualTo(40L);
+        assertThat(block.events().get(39).eventData()).isEqualTo("{\"seqNo\":40,\"note\":\"\u00e9t\u00e9\"}");
+        assertThat(block.events().get(0).eventMetadata()).isNull();
+
+        assertThat(store.read(second).orElseThrow().events()).hasSize(1);
+        assertThat(store.read(UUID.randomUUID().toString())).isEmpty();
+        assertThat(store.read("not-a-uuid")).isEmpty();
+        store.close();
+    }
+
+    @Test
+    void tornWriteIsTruncatedWhenWritingResumes() throws IOException {
+        ArchiveSegmentStore store = open(1 << 20);
+        String kept = UUID.randomUUID().toString();
+        write(store, kept, 2, 10);
+        store.sync();
+        store.close();
+
+        // A block that reached the data file but whose index entry was only half written
+        Path data = directory.resolve("segment-00000001.dat");
+        Path index = directory.resolve("segment-00000001.idx");
+        long dataSize = Files.size(data);
+        long indexSize = Files.size(index);
+        Files.write(data, new byte[4096], StandardOpenOption.APPEND);
+        Files.write(index, new byte[10], StandardOpenOption.APPEND);
+
+        // Opening only reads, as another instance may be writing
+        ArchiveSegmentStore reopened = open(1 << 20);
+        assertThat(reopened.read(kept).orElseThrow().events()).hasSize(10);
+        assertThat(Files.size(data)).isEqualTo(dataSize + 4096);
+
+        String next = UUID.randomUUID().toString();
+        int length = write(reopened, next, 1, 5);
+        reopened.sync();
+        assertThat(Files.size(data)).isEqualTo(dataSize + length);
+        assertThat(Files.size(index)).isEqualTo(indexSize + 28);
+        assertThat(reopened.read(next).orElseThrow().events()).hasSize(5);
+        assertThat(reopened.read(kept).orElseThrow().bids()).hasSize(2);
+        reopened.close();
+    }
+
+    @Test
+    void segmentsRollAndTheirIndexesReload() throws IOException {
+        ArchiveSegmentStore store = open(2_000);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String id = UUID.randomUUID().toString();
+            write(store, id, 1, 20);
+            ids.add(id);
+            if (i % 5 == 4) {
+                store.sync();
+            }
+        }
+        for (String id : ids) {
+            assertThat(store.read(id).orElseThrow().auction().getId()).isEqualTo(id);
+        }
+        store.close();
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.filter(file -> file.toString().endsWith(".dat")).count()).isGreaterThan(2);
+        }
+        ArchiveSegmentStore reopened = open(2_000);
+        for (String id : ids) {
+            assertThat(reopened.contains(id)).isTrue();
+            assertThat(reopened.read(id).orElseThrow().events()).hasSize(20);
+        }
+        reopened.close();
+    }
+
+    @Test
+    void anAbortedBlockIsCutOffAndTheNextOneWritten() throws IOException {
+        ArchiveSegmentStore store = open(1 << 20);
+        String kept = UUID.randomUUID().toString();
+        int keptLength = write(store, kept, 2, 10);
+
+        String dropped = UUID.randomUUID().toString();
+        ArchiveSegmentStore.BlockWriter block = store.startBlock(auction(dropped));
+        for (int s = 1; s <= 5_000; s++) {
+            block.writeEvent(new ArchivedEventRecord(s, (short) 2, ARCHIVED_AT, UUID.randomUUID().toString(), null));
+        }
+        block.abort();
+
+        String next = UUID.randomUUID().toString();
+        int nextLength = write(store, next, 1, 5);
+        store.sync();
+
+        assertThat(store.contains(dropped)).isFalse();
+        assertThat(store.read(kept).orElseThrow().events()).hasSize(10);
+        assertThat(store.read(next).orElseThrow().events()).hasSize(5);
+        assertThat(Files.size(directory.resolve("segment-00000001.dat"))).isEqualTo(keptLength + nextLength);
+        store.close();
+    }
+
+    @Test
+    void anotherInstanceReadsWhatTheWriterSynced() {
+        ArchiveSegmentStore first = open(2_000);
+        ArchiveSegmentStore second = open(2_000);
+        List<String> firstIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String id = UUID.randomUUID().toString();
+            write(first, id, 1, 20);
+            firstIds.add(id);
+            first.sync();
+        }
+        first.finishWriting();
+
+        for (String id : firstIds) {
+            assertThat(second.read(id).orElseThrow().auction().getId()).isEqualTo(id);
+        }
+
+        // The second instance picks up where the first stopped, in the segment it left open
+        List<String> secondIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String id = UUID.randomUUID().toString();
+            write(second, id, 1, 20);
+            secondIds.add(id);
+            second.sync();
+        }
+        second.finishWriting();
+
+        for (String id : secondIds) {
+            assertThat(first.read(id).orElseThrow().events()).hasSize(20);
+        }
+        for (String id : firstIds) {
+            assertThat(first.contains(id)).isTrue();
+            assertThat(second.contains(id)).isTrue();
+        }
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void refusesToStartWithoutADirectory() {
+        ArchiveSegmentStore store = new ArchiveSegmentStore("", 1 << 20);
+
+        assertThatThrownBy(store::open).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("auction.archive.directory");
+    }
+
+    private ArchiveSegmentStore open(long segmentBytes) {
+        ArchiveSegmentStore store = new ArchiveSegmentStore(directory.toString(), segmentBytes);
+        store.open();
+        return store;
+    }
+
+    private static ArchivedAuction auction(String id) {
+        ArchivedAuction auction = new ArchivedAuction();
+        auction.setId(id);
+        auction.setItemId("item-" + id);
+        auction.setStatus("CLOSED");
+        auction.setStartTs(Instant.parse("2025-01-01T00:00:00Z"));
+        auction.setEndTs(Instant.parse("2025-01-08T00:00:00Z"));
+        auction.setBuyNowPrice(new BigDecimal("250.00"));
+        auction.setArchivedAt(ARCHIVED_AT);
+        return auction;
+    }
+
+    private static int write(ArchiveSegmentStore store, String id, int bids, int events) {
+        ArchiveSegmentStore.BlockWriter block = store.startBlock(auction(id));
+        for (int i = 0; i < bids; i++) {
+            ArchivedBid bid = new ArchivedBid();
+            bid.setId((long) i);
+            bid.setBidderId("bidder-" + i);
+            bid.setAmount(new BigDecimal("10.50").add(BigDecimal.valueOf(i)));
+            bid.setServerTs(Instant.parse("2025-01-02T00:00:00Z").plusSeconds(i));
+            bid.setSeqNo(i == 0 ? null : (long) i);
+            bid.setAccepted(i == bids - 1);
+            block.writeBid(bid);
+        }
+        for (int s = 1; s <= events; s++) {
+            block.writeEvent(new ArchivedEventRecord(s, (short) 2, Instant.parse("2025-01-02T00:00:00Z").plusMillis(s),
+                    "{\"seqNo\":" + s + ",\"note\":\"\u00e9t\u00e9\"}", s == 1 ? null : "{\"source\":\"test\"}"));
+        }
+        return block.finish();
+    }
+}
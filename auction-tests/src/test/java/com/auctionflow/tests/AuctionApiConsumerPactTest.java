@@ -7,6 +7,7 @@ import au.com.dius.pact.consumer.junit5.PactTestFor;
 import au.com.dius.pact.core.model.RequestResponsePact;
 import au.com.dius.pact.core.model.annotations.Pact;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.RestTemplate;
@@ -17,6 +18,7 @@ import java.util.Map;
 import au.com.dius.pact.consumer.dsl.PactDslJsonBody;
 import static org.assertj.core.api.Assertions.assertThat;
 
+@Tag("contract")
 @ExtendWith(PactConsumerTestExt.class)
 @PactTestFor(providerName = "auction-api", port = "8080")
 public class AuctionApiConsumerPactTest {
@@ -0,0 +1,143 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.analytics.AuditLogWriter;
+import com.auctionflow.analytics.entities.AuditTrail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Critical audit entries survive the process being killed. A child JVM runs AuditLogWriter with eight threads
+ * logging ordinary and critical entries, printing each critical entry once appendCritical has returned; the
+ * test kills it with SIGKILL partway through and checks that every acknowledged critical entry is in
+ * audit_trail. Ordinary entries still in the ring at the kill may be lost, and their count is printed.
+ */
+@Testcontainers
+public class AuditCrashDurabilityTest {
+
+    private static final int THREADS = 8;
+    private static final int ACKNOWLEDGED_BEFORE_KILL = 5_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+            .withDatabaseName("auctionflow_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @BeforeAll
+    static void createAuditTrail() {
+        jdbc(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()).execute(
+                "CREATE TABLE audit_trail (id BIGSERIAL PRIMARY KEY, user_id BIGINT, action VARCHAR(255) NOT NULL, "
+                        + "timestamp TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(), ip_address VARCHAR(255), "
+                        + "endpoint VARCHAR(255), details TEXT, entity_type VARCHAR(255), entity_id BIGINT)");
+    }
+
+    @Test
+    void acknowledgedCriticalEntriesSurviveKill() throws Exception {
+        Process child = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), AuditCrashDurabilityTest.class.getName(),
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        Set<String> acknowledged = new HashSet<>();
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(child.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (acknowledged.size() < ACKNOWLEDGED_BEFORE_KILL && (line = out.readLine()) != null) {
+                acknowledge(acknowledged, line);
+            }
+            child.destroyForcibly();
+            // Acknowledgements already printed when the kill landed count too
+            while ((line = out.readLine()) != null) {
+                acknowledge(acknowledged, line);
+            }
+        }
+        assertThat(child.waitFor(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(acknowledged.size()).isGreaterThanOrEqualTo(ACKNOWLEDGED_BEFORE_KILL);
+
+        JdbcTemplate jdbc = jdbc(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Set<String> critical = new HashSet<>(jdbc.queryForList(
+                "SELECT details FROM audit_trail WHERE action = 'ADMIN_ACTION'", String.class));
+
+        assertThat(critical).containsAll(acknowledged);
+    }
+
+    /**
+     * The process that is killed: logs until it is, nine ordinary entries to each critical one.
+     */
+    public static void main(String[] args) throws Exception {
+        PGSimpleDataSource dataSource = dataSource(args[0], args[1], args[2]);
+        AuditLogWriter writer = new AuditLogWriter(new JdbcTemplate(dataSource),
+                new DataSourceTransactionManager(dataSource), new SimpleMeterRegistry(), 1024, 500, Duration.ofSeconds(30));
+        writer.start();
+        PrintStream out = new PrintStream(System.out, false, StandardCharsets.UTF_8);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            new Thread(() -> {
+                for (long n = 0; ; n++) {
+                    if (n % 10 == 9) {
+                        String details = "critical-" + thread + "-" + n;
+                        writer.appendCritical(entry("ADMIN_ACTION", details));
+                        synchronized (out) {
+                            out.println(details + ";");
+                            out.flush();
+                        }
+                    } else {
+                        writer.append(entry("API_REQUEST", "request-" + thread + "-" + n));
+                    }
+                }
+            }, "auditor-" + t).start();
+        }
+        Thread.sleep(Long.MAX_VALUE);
+    }
+
+    private static void acknowledge(Set<String> acknowledged, String line) {
+        // A line cut short by the kill is not an acknowledgement
+        if (line.endsWith(";")) {
+            acknowledged.add(line.substring(0, line.length() - 1));
+        }
+    }
+
+    private static AuditTrail entry(String action, String details) {
+        AuditTrail entry = new AuditTrail();
+        entry.setUserId(42L);
+        entry.setAction(action);
+        entry.setTimestamp(LocalDateTime.now());
+        entry.setIpAddress("10.0.0.1");
+        entry.setEndpoint("/analytics/top-auctions");
+        entry.setDetails(details);
+        return entry;
+    }
+
+    private static JdbcTemplate jdbc(String url, String user, String password) {
+        return new JdbcTemplate(dataSource(url, user, password));
+    }
+
+    private static PGSimpleDataSource dataSource(String url, String user, String password) {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser(user);
+        dataSource.setPassword(password);
+        return dataSource;
+    }
+}
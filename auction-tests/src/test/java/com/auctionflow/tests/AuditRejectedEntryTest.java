@@ -0,0 +1,80 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.analytics.AuditLogWriter;
+import com.auctionflow.analytics.entities.AuditTrail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * An audit entry the database refuses, here one without the required action, is dropped and counted without
+ * holding up the ring or losing the rest of its batch, and a critical one fails its caller instead of hanging.
+ */
+@Testcontainers
+public class AuditRejectedEntryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+            .withDatabaseName("auctionflow_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Test
+    void aRefusedEntryIsDroppedAndTheRestOfItsBatchWritten() throws Exception {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE audit_trail (id BIGSERIAL PRIMARY KEY, user_id BIGINT, action VARCHAR(255) NOT NULL, "
+                + "timestamp TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(), ip_address VARCHAR(255), "
+                + "endpoint VARCHAR(255), details TEXT, entity_type VARCHAR(255), entity_id BIGINT)");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditLogWriter writer = new AuditLogWriter(jdbc, new DataSourceTransactionManager(dataSource), meterRegistry,
+                1024, 500, Duration.ofSeconds(10));
+
+        // Queued before the writer starts, so they go out as one batch with the refused entry in the middle
+        for (int i = 0; i < 100; i++) {
+            writer.append(entry(i == 50 ? null : "API_REQUEST", "request-" + i));
+        }
+        writer.start();
+        try {
+            writer.appendCritical(entry("ADMIN_ACTION", "critical"));
+            assertThatThrownBy(() -> writer.appendCritical(entry(null, "critical-refused")))
+                    .isInstanceOf(IllegalStateException.class);
+            writer.appendCritical(entry("ADMIN_ACTION", "critical-after"));
+
+            await().atMost(Duration.ofSeconds(10)).until(() -> writer.getPendingCount() == 0);
+            assertThat(jdbc.queryForObject("SELECT count(*) FROM audit_trail", Long.class)).isEqualTo(101L);
+            assertThat(jdbc.queryForObject("SELECT count(*) FROM audit_trail WHERE details = 'request-50'", Long.class))
+                    .isZero();
+            assertThat(meterRegistry.get("audit_entries_rejected_total").counter().count()).isEqualTo(2.0);
+        } finally {
+            writer.stop();
+        }
+    }
+
+    private static AuditTrail entry(String action, String details) {
+        AuditTrail entry = new AuditTrail();
+        entry.setUserId(42L);
+        entry.setAction(action);
+        entry.setTimestamp(LocalDateTime.now());
+        entry.setIpAddress("10.0.0.1");
+        entry.setEndpoint("/analytics/top-auctions");
+        entry.setDetails(details);
+        return entry;
+    }
+}
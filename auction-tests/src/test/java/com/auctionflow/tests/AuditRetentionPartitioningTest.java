@@ -0,0 +1,155 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.services.TimePartitionManager;
+import com.auctionflow.api.services.TimePartitionManager.Interval;
+import com.auctionflow.api.services.TimePartitionManager.PartitionedTable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A year of audit trail with 90-day retention, day by day: the previous row-level DELETE of expired entries
+ * on a plain table against the V9 partitioned table with TimePartitionManager dropping expired partitions.
+ * Each simulated day appends that day's entries, then runs that approach's cleanup; cleanup time summed over
+ * the year and the final table size, indexes included, are printed for both. Also, rows written while the
+ * manager did not run are kept in the DEFAULT partition and moved out by its next run.
+ */
+@Testcontainers
+public class AuditRetentionPartitioningTest {
+
+    private static final int DAYS = 365;
+    private static final int ENTRIES_PER_DAY = 8_000;
+    private static final Duration RETENTION = Duration.ofDays(90);
+
+    private static final String AUDIT_TRAIL = "CREATE TABLE audit_trail (id BIGSERIAL PRIMARY KEY, user_id BIGINT, "
+            + "action VARCHAR(255) NOT NULL, timestamp TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(), "
+            + "ip_address VARCHAR(255), endpoint VARCHAR(255), details TEXT, entity_type VARCHAR(255), entity_id BIGINT); "
+            + "CREATE INDEX idx_audit_trail_user_id ON audit_trail (user_id); "
+            + "CREATE INDEX idx_audit_trail_timestamp ON audit_trail (timestamp); "
+            + "CREATE INDEX idx_audit_trail_entity_type_id ON audit_trail (entity_type, entity_id)";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+            .withDatabaseName("auctionflow_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    static String migration;
+    static JdbcTemplate rowDelete;
+    static JdbcTemplate partitioned;
+
+    @BeforeAll
+    static void createTables() throws Exception {
+        try (InputStream in = AuditRetentionPartitioningTest.class.getResourceAsStream("/db/migration/V9__partition_time_series_tables.sql")) {
+            migration = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        rowDelete = jdbc("row_delete");
+        partitioned = jdbc("partitioned");
+        rowDelete.execute(AUDIT_TRAIL);
+        partitioned.execute(AUDIT_TRAIL);
+        partitioned.execute(migration);
+    }
+
+    @Test
+    void droppingPartitionsOutpacesDeletingRowsAndLeavesNoBloat() {
+        TimePartitionManager partitions = new TimePartitionManager(partitioned,
+                List.of(new PartitionedTable("audit_trail", Interval.DAY, RETENTION)), 7);
+        // The migration attached the empty table as audit_trail_before_<tomorrow>; simulate from there
+        LocalDate first = LocalDate.now(ZoneOffset.UTC).plusDays(1);
+
+        long deleteNanos = 0;
+        long dropNanos = 0;
+        long deletedRows = 0;
+        int droppedPartitions = 0;
+        for (int day = 0; day < DAYS; day++) {
+            Instant midnight = first.plusDays(day).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+            long start = System.nanoTime();
+            droppedPartitions += partitions.maintain(midnight).dropped().size();
+            dropNanos += System.nanoTime() - start;
+            append(partitioned, midnight);
+
+            append(rowDelete, midnight);
+            start = System.nanoTime();
+            // What AuditTrailRepository.deleteOldEntries ran
+            deletedRows += rowDelete.update("DELETE FROM audit_trail WHERE timestamp < ?",
+                    Timestamp.from(midnight.minus(RETENTION)));
+            deleteNanos += System.nanoTime() - start;
+        }
+
+        long deleteRemaining = rowDelete.queryForObject("SELECT count(*) FROM audit_trail", Long.class);
+        long partitionedRemaining = partitioned.queryForObject("SELECT count(*) FROM audit_trail", Long.class);
+        long deleteBytes = rowDelete.queryForObject("SELECT pg_total_relation_size('audit_trail')", Long.class);
+        long partitionedBytes = partitioned.queryForObject(
+                "SELECT sum(pg_total_relation_size(relid)) FROM pg_partition_tree('audit_trail')", Long.class);
+
+        assertThat(droppedPartitions).isPositive();
+        assertThat(deletedRows).isPositive();
+        assertThat(partitionedRemaining).isEqualTo(deleteRemaining);
+        assertThat(partitionedRemaining).isEqualTo((RETENTION.toDays() + 1) * ENTRIES_PER_DAY);
+        assertThat(dropNanos).isLessThan(deleteNanos);
+        assertThat(partitionedBytes).isLessThan(deleteBytes);
+    }
+
+    @Test
+    void rowsWrittenWhileTheManagerWasDownAreMovedOutOfTheDefaultPartition() {
+        JdbcTemplate jdbc = jdbc("catch_up");
+        jdbc.execute(AUDIT_TRAIL);
+        jdbc.execute(migration);
+        TimePartitionManager partitions = new TimePartitionManager(jdbc,
+                List.of(new PartitionedTable("audit_trail", Interval.DAY, RETENTION)), 7);
+        LocalDate first = LocalDate.now(ZoneOffset.UTC).plusDays(1);
+        partitions.maintain(first.atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        // Twenty days without a run: the last twelve have no partition of their own
+        for (int day = 0; day < 20; day++) {
+            append(jdbc, first.plusDays(day).atStartOfDay(ZoneOffset.UTC).toInstant());
+        }
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM audit_trail_default", Long.class))
+                .isEqualTo(12L * ENTRIES_PER_DAY);
+
+        List<String> created = partitions.maintain(first.plusDays(20).atStartOfDay(ZoneOffset.UTC).toInstant())
+                .created();
+
+        assertThat(created).contains("audit_trail_p" + first.plusDays(8).toString().replace("-", ""));
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM audit_trail_default", Long.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM audit_trail", Long.class))
+                .isEqualTo(20L * ENTRIES_PER_DAY);
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM audit_trail_p"
+                + first.plusDays(15).toString().replace("-", ""), Long.class)).isEqualTo(ENTRIES_PER_DAY);
+    }
+
+    private static void append(JdbcTemplate jdbc, Instant midnight) {
+        jdbc.update("INSERT INTO audit_trail (user_id, action, timestamp, ip_address, endpoint, details, entity_type, entity_id) "
+                + "SELECT n % 5000, 'API_REQUEST', ? + n * (INTERVAL '1 day' / " + ENTRIES_PER_DAY + "), '10.0.0.' || (n % 250), "
+                + "'/api/v1/auctions', 'limit: ' || (n % 100), 'Auction', n FROM generate_series(0, " + (ENTRIES_PER_DAY - 1) + ") n",
+                Timestamp.from(midnight));
+    }
+
+    private static JdbcTemplate jdbc(String schema) {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setCurrentSchema(schema);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+        return jdbc;
+    }
+}
@@ -0,0 +1,157 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.services.BidAdmissionService;
+import com.auctionflow.common.exceptions.CommandRejectedException;
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.command.CommandBus;
+import com.auctionflow.events.command.CommandHandler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Offers bids at three times what the command bus can handle, first straight onto the bus and then through
+ * {@link BidAdmissionService}, as AuctionController does. Handling a bid takes about half a millisecond of
+ * waiting, like the lock and event store round trips of the real handler.
+ *
+ * Without admission control the lane rings fill and every accepted bid waits behind thousands of others.
+ * With it, the queue stays a small fraction of that depth, admitted bids wait correspondingly less, the rest
+ * are turned away with a retry hint, and the bus still handles close to its full capacity. Everything is
+ * compared between the two runs on the same machine rather than against wall-clock thresholds.
+ */
+public class BidAdmissionLoadTest {
+
+    private static final int LANES = 2;
+    private static final int AUCTIONS = 32;
+    private static final long HANDLING_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final double OVERLOAD = 3.0;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURED = Duration.ofSeconds(3);
+
+    @Test
+    void keepsAdmittedBidLatencyBoundedAtThreeTimesCapacity() throws Exception {
+        double nominalCapacity = LANES * 1e9 / HANDLING_NANOS;
+        Run unprotected = run(false, nominalCapacity * OVERLOAD);
+        // Offer three times what the bus actually managed, whatever the scheduler overhead here
+        Run admitted = run(true, unprotected.throughput() * OVERLOAD);
+
+        assertThat(admitted.maxPending() * 10).isLessThan(unprotected.maxPending());
+        assertThat(admitted.p99Millis() * 10).isLessThan(unprotected.p99Millis());
+        assertThat(admitted.throughput()).isGreaterThan(unprotected.throughput() * 0.8);
+        assertThat(admitted.rejected()).isGreaterThan(0);
+        assertThat(admitted.minRetryAfter()).isPositive();
+    }
+
+    private Run run(boolean withAdmission, double offeredPerSecond) throws Exception {
+        CommandBus commandBus = new CommandBus(event -> { }, List.of(new WaitingBidHandler()), LANES, 4096, 256,
+                Duration.ZERO);
+        BidAdmissionService admission = new BidAdmissionService(commandBus, 64, 8, 2048, 2.0,
+                Duration.ofMillis(100), Duration.ofSeconds(30), 0.5, 2);
+        AuctionId[] auctions = new AuctionId[AUCTIONS];
+        for (int i = 0; i < AUCTIONS; i++) {
+            auctions[i] = AuctionId.generate();
+        }
+
+        long[] latencies = new long[(int) (offeredPerSecond * MEASURED.toSeconds() * 2)];
+        AtomicInteger measured = new AtomicInteger();
+        AtomicLong handledInWindow = new AtomicLong();
+        long rejected = 0;
+        long tooHot = 0;
+        long minRetryAfterNanos = Long.MAX_VALUE;
+        int maxPending = 0;
+
+        commandBus.start();
+        long begin = System.nanoTime();
+        long measureFrom = begin + WARMUP.toNanos();
+        long end = measureFrom + MEASURED.toNanos();
+        long offered = 0;
+        try {
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                long due = (long) ((now - begin) * offeredPerSecond / 1e9);
+                for (; offered < due; offered++) {
+                    AuctionId auctionId = auctions[(int) (offered % AUCTIONS)];
+                    PlaceBidCommand command = new PlaceBidCommand(auctionId, "bidder-" + offered, Money.usd(100),
+                            "key-" + offered, Instant.now(), offered + 1);
+                    long submitted = System.nanoTime();
+                    BidAdmissionService.Ticket ticket = withAdmission ? admission.tryAdmit(auctionId) : null;
+                    if (ticket != null && !ticket.isAdmitted()) {
+                        rejected++;
+                        if (ticket.getDecision() == BidAdmissionService.Decision.AUCTION_TOO_HOT) {
+                            tooHot++;
+                        }
+                        minRetryAfterNanos = Math.min(minRetryAfterNanos, ticket.getRetryAfter().toNanos());
+                        continue;
+                    }
+                    Runnable onHandled = () -> {
+                        if (ticket != null) {
+                            ticket.complete();
+                        }
+                        long handledAt = System.nanoTime();
+                        if (handledAt < measureFrom || handledAt > end) {
+                            return;
+                        }
+                        handledInWindow.incrementAndGet();
+                        if (submitted >= measureFrom) {
+                            int slot = measured.getAndIncrement();
+                            if (slot < latencies.length) {
+                                latencies[slot] = handledAt - submitted;
+                            }
+                        }
+                    };
+                    try {
+                        commandBus.sendAsync(command, onHandled);
+                    } catch (CommandRejectedException e) {
+                        if (ticket != null) {
+                            ticket.abandon();
+                        }
+                        rejected++;
+                    }
+                }
+                if (now >= measureFrom) {
+                    maxPending = Math.max(maxPending, commandBus.pendingCommands());
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        } finally {
+            commandBus.stop();
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, Math.min(measured.get(), latencies.length));
+        Arrays.sort(sorted);
+        long p99 = sorted.length == 0 ? 0 : sorted[(int) (sorted.length * 0.99)];
+        return new Run(handledInWindow.get() / (double) MEASURED.toSeconds(), p99 / 1e6, rejected, tooHot,
+                minRetryAfterNanos == Long.MAX_VALUE ? Duration.ZERO : Duration.ofNanos(minRetryAfterNanos), maxPending);
+    }
+
+    private record Run(double throughput, double p99Millis, long rejected, long tooHot, Duration minRetryAfter,
+                       int maxPending) {
+    }
+
+    /**
+     * Spends about half a millisecond per bid without using the CPU, like a handler waiting on Redis and the
+     * event store.
+     */
+    private static class WaitingBidHandler implements CommandHandler<PlaceBidCommand> {
+        @Override
+        public void handle(PlaceBidCommand command) {
+            LockSupport.parkNanos(HANDLING_NANOS);
+        }
+
+        @Override
+        public Object routingKey(PlaceBidCommand command) {
+            return command.auctionId();
+        }
+    }
+}
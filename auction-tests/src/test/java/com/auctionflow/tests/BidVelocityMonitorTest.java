@@ -0,0 +1,226 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.entities.ComplianceCheck;
+import com.auctionflow.api.repositories.ComplianceCheckRepository;
+import com.auctionflow.api.repositories.DisputeRepository;
+import com.auctionflow.api.repositories.UserRepository;
+import com.auctionflow.api.services.BidVelocityMonitor;
+import com.auctionflow.api.services.ComplianceCheckWriter;
+import com.auctionflow.api.services.RiskScoringService;
+import com.auctionflow.api.services.SuspiciousActivityService;
+import com.auctionflow.api.services.TransactionMonitoringService;
+import com.auctionflow.core.domain.events.BidPlacedEvent;
+import com.auctionflow.core.domain.events.SecurityEvent;
+import com.auctionflow.core.domain.events.SuspiciousActivityEvent;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.publisher.KafkaEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Synthetic bid streams through BidVelocityMonitor, in event time, with its flags captured where they leave
+ * the compliance flow: compliance_checks rows for bidders and addresses, written on the writer's flush, and
+ * security events for auctions.
+ * Bidders are mostly numeric user ids; the principal UUIDs the bid API places bids with are checked too.
+ */
+public class BidVelocityMonitorTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T12:00:00Z");
+
+    private final List<SuspiciousActivityEvent> alerts = new ArrayList<>();
+    private final List<ComplianceCheck> complianceRows = new ArrayList<>();
+    private final SuspiciousActivityService suspiciousActivityService = new SuspiciousActivityService(
+            new KafkaEventPublisher(null, null) {
+                @Override
+                public void publishSecurityEvent(SecurityEvent event) {
+                    alerts.add((SuspiciousActivityEvent) event);
+                }
+            }, null, Duration.ofMinutes(1), 10, 30, 3, 100_000);
+    private final ComplianceCheckWriter writer = new ComplianceCheckWriter(complianceChecks());
+    private final BidVelocityMonitor monitor = new BidVelocityMonitor(new TransactionMonitoringService(
+            complianceChecks(), new RiskScoringService(complianceChecks(), writer, mock(UserRepository.class),
+                    mock(DisputeRepository.class), Duration.ofMinutes(10), 10_000), suspiciousActivityService),
+            Duration.ofMinutes(1), 10, Duration.ofSeconds(10), 50, Duration.ofMinutes(1), 30, 100_000);
+
+    @AfterEach
+    void tearDown() {
+        suspiciousActivityService.stop();
+    }
+
+    @Test
+    void snipingBotIsFlaggedOncePerWindowAmongOrdinaryBidders() {
+        SplittableRandom random = new SplittableRandom(45);
+        for (int second = 0; second < 300; second++) {
+            // 200 ordinary bidders at a bid every 20 to 40 seconds, spread over 50 auctions
+            for (int b = 0; b < 200; b++) {
+                if (random.nextInt(30) == 0) {
+                    bid(Integer.toString(1_000 + b), "auction-" + random.nextInt(50), "10.0." + b + ".1",
+                            second * 1000L + b);
+                }
+            }
+            // The bot bids on a different auction every two seconds
+            if (second % 2 == 0) {
+                bid("9001", "auction-" + (second / 2 % 50), "10.9.0.1", second * 1000L + 500);
+            }
+        }
+
+        assertThat(flaggedUsers("RAPID_BIDDING")).containsOnly(9001L);
+        // Five minutes at 30 bids a minute: one check per window
+        assertThat(checksOf("RAPID_BIDDING")).hasSize(5);
+        assertThat(checksOf("RAPID_BIDDING_FROM_IP")).isEmpty();
+        assertThat(alertsOf("AUCTION_BID_VELOCITY")).isEmpty();
+        // The bid path raises rapid bidding alerts; the monitor does not repeat them
+        assertThat(alerts).isEmpty();
+    }
+
+    @Test
+    void accountsSharingAnAddressAreFlaggedFromTheAddress() {
+        // 15 accounts behind one address, each bidding 4 times a minute
+        for (int minute = 0; minute < 2; minute++) {
+            for (int i = 0; i < 4; i++) {
+                for (int account = 0; account < 15; account++) {
+                    bid(Integer.toString(2_000 + account), "auction-" + account, "203.0.113.7",
+                            minute * 60_000L + i * 15_000L + account * 100L);
+                }
+            }
+        }
+
+        assertThat(checksOf("RAPID_BIDDING")).isEmpty();
+        assertThat(checksOf("RAPID_BIDDING_FROM_IP")).hasSize(2);
+        assertThat(checksOf("RAPID_BIDDING_FROM_IP").get(0).getDetails()).contains("203.0.113.7");
+    }
+
+    @Test
+    void bidsWithoutAnAddressAreCountedPerBidderOnly() {
+        // Proxy and automated bids carry no client address
+        for (int i = 0; i < 40; i++) {
+            bid(Integer.toString(3_000 + i % 2), "auction-1", null, i * 1000L);
+        }
+
+        assertThat(flaggedUsers("RAPID_BIDDING")).containsOnly(3_000L, 3_001L);
+        assertThat(checksOf("RAPID_BIDDING_FROM_IP")).isEmpty();
+    }
+
+    @Test
+    void burstOfBiddersOnOneAuctionIsFlaggedAsAuctionVelocity() {
+        // 60 bidders on one auction within five seconds, each bidding once
+        for (int b = 0; b < 60; b++) {
+            bid(Integer.toString(4_000 + b), "auction-hot", "10.1." + b + ".1", b * 80L);
+        }
+        // The same 60 bids spread over ten minutes elsewhere
+        for (int b = 0; b < 60; b++) {
+            bid(Integer.toString(4_000 + b), "auction-calm", "10.1." + b + ".1", 60_000L + b * 10_000L);
+        }
+
+        assertThat(alertsOf("AUCTION_BID_VELOCITY")).hasSize(1);
+        assertThat(alertsOf("AUCTION_BID_VELOCITY").get(0).getDetails().get("auctionId")).isEqualTo("auction-hot");
+        assertThat(checksOf("RAPID_BIDDING")).isEmpty();
+    }
+
+    @Test
+    void flaggedBiddersGetComplianceChecksOnTheNextFlush() {
+        for (int i = 0; i < 12; i++) {
+            bid("4711", "auction-1", "10.2.0.1", i * 1000L);
+        }
+        assertThat(complianceRows).isEmpty();
+        assertThat(writer.getPendingCount()).isEqualTo(1);
+
+        writer.flush();
+
+        assertThat(complianceRows).hasSize(1);
+        assertThat(complianceRows.get(0).getUserId()).isEqualTo(4711L);
+        assertThat(complianceRows.get(0).getStatus()).isEqualTo(ComplianceCheck.CheckStatus.REQUIRES_REVIEW);
+        assertThat(complianceRows.get(0).getDetails()).contains("RAPID_BIDDING");
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void bidderUuidsFromTheBidApiGetComplianceChecks() {
+        // The bid API places bids with the principal's UUID
+        String bidder = UUID.randomUUID().toString();
+        for (int i = 0; i < 12; i++) {
+            bid(bidder, "auction-1", "10.5.0.1", i * 1000L);
+        }
+
+        assertThat(checksOf("RAPID_BIDDING")).singleElement().satisfies(check -> {
+            assertThat(check.getBidderId()).isEqualTo(bidder);
+            assertThat(check.getUserId()).isNull();
+            assertThat(check.getStatus()).isEqualTo(ComplianceCheck.CheckStatus.REQUIRES_REVIEW);
+        });
+    }
+
+    @Test
+    void backlogIsJudgedByWhenBidsWerePlacedNotWhenTheyArrive() {
+        // An hour of bidding at 6 bids a minute per bidder, consumed in one go after an outage
+        for (int minute = 0; minute < 60; minute++) {
+            for (int i = 0; i < 6; i++) {
+                for (int b = 0; b < 20; b++) {
+                    bid(Integer.toString(5_000 + b), "auction-" + b, "10.3." + b + ".1",
+                            minute * 60_000L + i * 10_000L + b);
+                }
+            }
+        }
+        writer.flush();
+        assertThat(complianceRows).isEmpty();
+        assertThat(alerts).isEmpty();
+
+        // A bid delivered after later ones, from before their window, does not disturb their counts
+        for (int i = 0; i < 10; i++) {
+            bid("6000", "auction-late", "10.4.0.1", 300_000L + i * 1000L);
+        }
+        bid("6000", "auction-late", "10.4.0.1", 240_000L);
+        writer.flush();
+        assertThat(complianceRows).isEmpty();
+        bid("6000", "auction-late", "10.4.0.1", 311_000L);
+        assertThat(flaggedUsers("RAPID_BIDDING")).containsOnly(6000L);
+    }
+
+    private void bid(String bidderId, String auctionId, String ipAddress, long offsetMillis) {
+        monitor.on(new BidPlacedEvent(new AuctionId(auctionId), bidderId, Money.usd(BigDecimal.TEN),
+                START.plusMillis(offsetMillis), TimeOrderedUuid.next(), 0, 0, ipAddress));
+    }
+
+    private List<SuspiciousActivityEvent> alertsOf(String activityType) {
+        return alerts.stream().filter(alert -> alert.getActivityType().equals(activityType)).toList();
+    }
+
+    private List<ComplianceCheck> checksOf(String activityType) {
+        writer.flush();
+        return complianceRows.stream()
+                .filter(check -> check.getDetails().contains("\"activityType\": \"" + activityType + "\""))
+                .toList();
+    }
+
+    private List<Long> flaggedUsers(String activityType) {
+        return checksOf(activityType).stream().map(ComplianceCheck::getUserId).toList();
+    }
+
+    private ComplianceCheckRepository complianceChecks() {
+        ComplianceCheckRepository repository = mock(ComplianceCheckRepository.class);
+        when(repository.save(any(ComplianceCheck.class))).thenAnswer(invocation -> {
+            complianceRows.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(repository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            invocation.<Iterable<ComplianceCheck>>getArgument(0).forEach(complianceRows::add);
+            return invocation.getArgument(0);
+        });
+        return repository;
+    }
+}
@@ -0,0 +1,132 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.bidding.strategies.InMemoryBudgetLedger;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Thousands of bidders reserving budget across thousands of auctions from many threads at once, with bids
+ * taking the lead and auctions closing concurrently. Every bidder bids on auctions handled by all threads, so
+ * their reservations race each other. Verifies no bidder is ever committed past their budget, that the
+ * ledger's totals agree with its holds, and that bidders left holding nothing are no longer tracked.
+ */
+public class BudgetLedgerStressTest {
+
+    private static final int BIDDERS = 5_000;
+    private static final int AUCTIONS = 5_000;
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 500_000;
+
+    @Test
+    void neverCommitsBeyondBudgetUnderContention() throws Exception {
+        InMemoryBudgetLedger ledger = new InMemoryBudgetLedger();
+        BidderId[] bidders = new BidderId[BIDDERS];
+        long[] budgets = new long[BIDDERS];
+        for (int i = 0; i < BIDDERS; i++) {
+            bidders[i] = BidderId.generate();
+            budgets[i] = 10_000 + ThreadLocalRandom.current().nextLong(90_000);
+        }
+        AuctionId[] auctions = new AuctionId[AUCTIONS];
+        for (int i = 0; i < AUCTIONS; i++) {
+            auctions[i] = AuctionId.generate();
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong violations = new AtomicLong();
+        AtomicLong reserved = new AtomicLong();
+        AtomicLong refused = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+        // Samples committed totals while reservations are in flight
+        Future<?> auditor = executor.submit(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                int b = random.nextInt(BIDDERS);
+                if (ledger.committedCents(bidders[b]) > budgets[b]) {
+                    violations.incrementAndGet();
+                }
+            }
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int lane = t;
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int op = 0; op < OPERATIONS_PER_THREAD; op++) {
+                    int b = random.nextInt(BIDDERS);
+                    // Each auction is driven from one thread, as on a command bus lane; a bidder's auctions are not
+                    AuctionId auction = auctions[random.nextInt(AUCTIONS / THREADS) * THREADS + lane];
+                    long amount = 100 + random.nextLong(20_000);
+                    if (!ledger.tryReserve(bidders[b], auction, amount, budgets[b])) {
+                        refused.incrementAndGet();
+                        continue;
+                    }
+                    reserved.incrementAndGet();
+                    int action = random.nextInt(100);
+                    if (action < 60) {
+                        // The bid lands and takes the lead if it is high enough
+                        ledger.onLeadingBid(auction, bidders[b], amount);
+                    } else if (action < 90) {
+                        // The bid was rejected downstream
+                        ledger.release(bidders[b], auction);
+                    } else if (action < 91) {
+                        ledger.onAuctionClosed(auction, random.nextBoolean() ? bidders[b] : null);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> worker : workers) {
+            worker.get(5, TimeUnit.MINUTES);
+        }
+        running.set(false);
+        auditor.get();
+        executor.shutdown();
+
+        assertThat(violations.get()).isZero();
+        assertThat(refused.get()).isPositive();
+        for (int b = 0; b < BIDDERS; b++) {
+            long holds = 0;
+            for (AuctionId auction : auctions) {
+                holds += ledger.holdCents(bidders[b], auction);
+            }
+            long committed = ledger.committedCents(bidders[b]);
+            assertThat(committed).isLessThanOrEqualTo(budgets[b]);
+            // Once quiescent, the committed total is exactly the open holds plus what was won
+            assertThat(committed).isEqualTo(holds + ledger.spentCents(bidders[b]));
+        }
+
+        // Closing everything unsold releases every hold; only bidders who won something are still tracked
+        for (AuctionId auction : auctions) {
+            ledger.onAuctionClosed(auction, null);
+        }
+        long winners = 0;
+        for (int b = 0; b < BIDDERS; b++) {
+            long spent = ledger.spentCents(bidders[b]);
+            assertThat(ledger.committedCents(bidders[b])).isEqualTo(spent);
+            if (spent > 0) {
+                winners++;
+            }
+        }
+        assertThat(ledger.accountCount()).isEqualTo(winners);
+    }
+}
@@ -0,0 +1,110 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import com.auctionflow.events.command.BulkAuctionCreator;
+import com.auctionflow.events.persistence.JpaEventStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk creation against Postgres, where a failed statement aborts its whole transaction: a chunk the database
+ * refuses is reported on its own, every other chunk is stored and published, and none of them depend on the
+ * caller's transaction, which here rolls back afterwards.
+ */
+@Testcontainers
+public class BulkAuctionChunkTransactionTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T12:00:00Z");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+            .withDatabaseName("auctionflow_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static JdbcTemplate jdbc;
+    private static DataSourceTransactionManager transactionManager;
+    private static JpaEventStore eventStore;
+
+    @BeforeAll
+    static void createEventStore() throws Exception {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        jdbc = new JdbcTemplate(dataSource);
+        try (InputStream in = BulkAuctionChunkTransactionTest.class.getResourceAsStream("/db/migration/V6__compact_event_store.sql")) {
+            jdbc.execute(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        // Same serialization settings as the application's auto-configured mapper
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        // appendNew goes through JdbcTemplate only
+        eventStore = new JpaEventStore(null, objectMapper, null, jdbc);
+    }
+
+    @Test
+    void aRefusedChunkFailsAloneAndTheOthersCommit() {
+        List<CreateAuctionCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add(new CreateAuctionCommand(AuctionId.generate(), ItemId.generate(), new SellerId("42"), "cameras",
+                    AuctionType.ENGLISH_OPEN, Money.usd(10_000), Money.usd(10_000), START, START.plusSeconds(3600),
+                    AntiSnipePolicy.none(), false));
+        }
+        // The database refuses the auction at index 30, in the second chunk of 25
+        UUID refused = UUID.fromString(commands.get(30).auctionId().value());
+        jdbc.execute("CREATE FUNCTION refuse_auction() RETURNS trigger AS $$ BEGIN "
+                + "IF NEW.aggregate_id = '" + refused + "' THEN RAISE EXCEPTION 'refused'; END IF; "
+                + "RETURN NEW; END $$ LANGUAGE plpgsql");
+        jdbc.execute("CREATE TRIGGER refuse_auction AFTER INSERT ON event_store FOR EACH ROW EXECUTE FUNCTION refuse_auction()");
+
+        List<DomainEvent> published = new ArrayList<>();
+        BulkAuctionCreator creator = new BulkAuctionCreator(eventStore, published::add, transactionManager, 25);
+        TransactionTemplate caller = new TransactionTemplate(transactionManager);
+        BulkAuctionCreator.Result result = caller.execute(status -> {
+            BulkAuctionCreator.Result created = creator.create(commands);
+            status.setRollbackOnly();
+            return created;
+        });
+
+        assertThat(result.created()).hasSize(75);
+        assertThat(result.failures()).extracting(BulkAuctionCreator.Failure::index)
+                .containsExactlyElementsOf(IntStream.range(25, 50).boxed().toList());
+        assertThat(result.failures().get(0).reason()).startsWith("Could not store auction");
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM event_store", Long.class)).isEqualTo(75L);
+        assertThat(published).hasSize(75);
+        assertThat(published).noneMatch(event -> result.failures().stream()
+                .anyMatch(failure -> failure.auctionId().equals(event.getAggregateId())));
+    }
+}
@@ -0,0 +1,296 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.entities.AuctionTemplate;
+import com.auctionflow.api.repositories.AuctionTemplateRepository;
+import com.auctionflow.api.repositories.ProhibitedCategoryRepository;
+import com.auctionflow.api.repositories.ProhibitedTermRepository;
+import com.auctionflow.api.repositories.VerifiedBrandRepository;
+import com.auctionflow.api.services.AuctionTemplateService;
+import com.auctionflow.api.services.ItemValidationService;
+import com.auctionflow.common.exceptions.OptimisticLockException;
+import com.auctionflow.common.service.AuctionTimerService.AuctionSchedule;
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.events.AuctionCreatedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import com.auctionflow.events.command.BulkAuctionCreator;
+import com.auctionflow.timers.DurableScheduler;
+import com.auctionflow.timers.ScheduledJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bulk auction creation from templates, counting the statements it costs: events appended a chunk at a time,
+ * close jobs written for a whole batch in one statement, failures reported per auction, and events published
+ * only once stored. Chunk transactions against Postgres are covered by BulkAuctionChunkTransactionTest.
+ */
+public class BulkAuctionCreationTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T12:00:00Z");
+
+    private final Map<AuctionId, List<DomainEvent>> stored = new HashMap<>();
+    private final List<DomainEvent> published = new ArrayList<>();
+    private int appends;
+    // The append, counting from 1, that fails; 0 for none
+    private int failingAppend;
+
+    @Test
+    void templateBatchIsAppendedAChunkAtATime() {
+        AuctionTemplate template = new AuctionTemplate("cameras", "", "7", "{\"itemTitle\":\"Vintage camera\","
+                + "\"itemDescription\":\"Works well\",\"categoryId\":\"cameras\",\"reservePrice\":\"100.00\","
+                + "\"buyNowPrice\":\"250.00\",\"durationSeconds\":3600,\"hiddenReserve\":false}", false);
+        template.setId("cameras");
+        AuctionTemplateService templates = new AuctionTemplateService(templates(template), new ObjectMapper(),
+                validation(), new BulkAuctionCreator(eventStore(), published::add, null, 1000));
+
+        AuctionTemplateService.BulkCreationResult result = templates.bulkCreateAuctions("cameras", "42", 10_000);
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getAuctions()).hasSize(10_000);
+        assertThat(appends).isEqualTo(10);
+        assertThat(stored).hasSize(10_000);
+        assertThat(published).hasSize(10_000);
+        AuctionCreatedEvent created = (AuctionCreatedEvent) published.get(0);
+        assertThat(created.getSequenceNumber()).isEqualTo(1L);
+        assertThat(created.getBuyNowPrice().getAmountCents()).isEqualTo(25_000L);
+        assertThat(created.getAggregateId()).isEqualTo(new AuctionId(result.getAuctions().get(0).getId()));
+    }
+
+    @Test
+    void failuresAreReportedPerAuctionWithoutFailingTheBatch() {
+        AuctionId existing = AuctionId.generate();
+        stored.put(existing, List.of());
+        List<CreateAuctionCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add(command(i == 40 ? existing : AuctionId.generate(), AuctionType.ENGLISH_OPEN, Money.usd(10_000)));
+        }
+        // A Dutch auction whose floor is its starting price has nothing to reduce by
+        commands.set(70, command(AuctionId.generate(), AuctionType.DUTCH, Money.usd(10_000)));
+
+        BulkAuctionCreator.Result result = new BulkAuctionCreator(eventStore(), published::add, null, 32).create(commands);
+
+        assertThat(result.created()).hasSize(98);
+        assertThat(result.failures()).hasSize(2);
+        assertThat(result.failures().get(0).index()).isEqualTo(40);
+        assertThat(result.failures().get(0).reason()).isEqualTo("Auction already exists");
+        assertThat(result.failures().get(1).index()).isEqualTo(70);
+        assertThat(result.failures().get(1).reason()).isEqualTo("DecrementAmount must be positive");
+        assertThat(published).hasSize(98);
+        assertThat(appends).isEqualTo(4);
+    }
+
+    @Test
+    void aChunkThatCannotBeStoredIsReportedWithoutFailingTheOthers() {
+        failingAppend = 2;
+        List<CreateAuctionCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add(command(AuctionId.generate(), AuctionType.ENGLISH_OPEN, Money.usd(10_000)));
+        }
+
+        BulkAuctionCreator.Result result = new BulkAuctionCreator(eventStore(), published::add, null, 32).create(commands);
+
+        assertThat(appends).isEqualTo(4);
+        assertThat(result.created()).hasSize(68);
+        assertThat(result.failures()).extracting(BulkAuctionCreator.Failure::index)
+                .containsExactlyElementsOf(IntStream.range(32, 64).boxed().toList());
+        assertThat(result.failures().get(0).reason()).startsWith("Could not store auction");
+        assertThat(published).hasSize(68);
+        assertThat(published).noneMatch(event -> result.failures().stream()
+                .anyMatch(failure -> failure.auctionId().equals(event.getAggregateId())));
+    }
+
+    @Test
+    void defaultAppendSavesEachAggregateAndReportsThoseThatExist() {
+        AuctionId existing = AuctionId.generate();
+        EventStore store = mock(EventStore.class, CALLS_REAL_METHODS);
+        doAnswer(invocation -> {
+            List<DomainEvent> events = invocation.getArgument(0);
+            if (events.get(0).getAggregateId().equals(existing)) {
+                throw new OptimisticLockException("Version conflict: expected 0, but was 3");
+            }
+            appends++;
+            return null;
+        }).when(store).save(anyList(), anyLong());
+        List<CreateAuctionCommand> commands = List.of(
+                command(AuctionId.generate(), AuctionType.ENGLISH_OPEN, Money.usd(10_000)),
+                command(existing, AuctionType.ENGLISH_OPEN, Money.usd(10_000)),
+                command(AuctionId.generate(), AuctionType.ENGLISH_OPEN, Money.usd(10_000)));
+
+        BulkAuctionCreator.Result result = new BulkAuctionCreator(store, published::add, null, 1000).create(commands);
+
+        assertThat(appends).isEqualTo(2);
+        assertThat(result.created()).hasSize(2);
+        assertThat(result.failures()).hasSize(1);
+        assertThat(result.failures().get(0).auctionId()).isEqualTo(existing);
+    }
+
+    @Test
+    void closeJobsForABatchAreWrittenInOneStatement() {
+        List<AuctionSchedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            schedules.add(new AuctionSchedule(AuctionId.generate(), START.plusSeconds(i)));
+        }
+        // Ten of the auctions already have a pending job, which is moved rather than duplicated
+        Map<String, UUID> pending = new HashMap<>();
+        for (int i = 0; i < 1_000; i += 100) {
+            pending.put(schedules.get(i).getAuctionId().value(), UUID.randomUUID());
+        }
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate(pending);
+        DurableScheduler scheduler = new DurableScheduler(mock(ScheduledJobRepository.class), null, jdbc);
+
+        List<UUID> jobIds = scheduler.scheduleAuctionCloses(schedules);
+
+        assertThat(jdbc.statements).hasSize(3);
+        assertThat(jdbc.statements.get(0)).contains("SELECT");
+        assertThat(jdbc.statements.get(1)).contains("UPDATE");
+        assertThat(jdbc.statements.get(2)).contains("INSERT");
+        assertThat(jdbc.arrays.get(1)[0]).hasSize(10);
+        assertThat(jdbc.arrays.get(2)[0]).hasSize(990);
+        assertThat(jobIds).hasSize(1_000);
+        assertThat(new HashSet<>(jobIds)).hasSize(1_000);
+        assertThat(jobIds.get(100)).isEqualTo(pending.get(schedules.get(100).getAuctionId().value()));
+        assertThat(jdbc.arrays.get(2)[1][0]).isEqualTo(schedules.get(1).getAuctionId().value());
+    }
+
+    private static CreateAuctionCommand command(AuctionId auctionId, AuctionType type, Money buyNowPrice) {
+        return new CreateAuctionCommand(auctionId, ItemId.generate(), new SellerId("42"), "cameras", type,
+                Money.usd(10_000), buyNowPrice, START, START.plusSeconds(3600), AntiSnipePolicy.none(), false);
+    }
+
+    private EventStore eventStore() {
+        EventStore store = mock(EventStore.class);
+        when(store.appendNew(anyList())).thenAnswer(invocation -> {
+            if (++appends == failingAppend) {
+                throw new QueryTimeoutException("canceling statement due to statement timeout");
+            }
+            Set<AuctionId> existing = new HashSet<>();
+            Map<AuctionId, List<DomainEvent>> appended = new HashMap<>();
+            for (DomainEvent event : invocation.<List<DomainEvent>>getArgument(0)) {
+                AuctionId aggregateId = (AuctionId) event.getAggregateId();
+                if (stored.containsKey(aggregateId)) {
+                    existing.add(aggregateId);
+                } else {
+                    appended.computeIfAbsent(aggregateId, id -> new ArrayList<>()).add(event);
+                }
+            }
+            stored.putAll(appended);
+            return existing;
+        });
+        return store;
+    }
+
+    private static ItemValidationService validation() {
+        ItemValidationService validation = new ItemValidationService(
+                mock(ProhibitedCategoryRepository.class), mock(ProhibitedTermRepository.class),
+                mock(VerifiedBrandRepository.class));
+        validation.reloadProhibitedContent();
+        return validation;
+    }
+
+    private static AuctionTemplateRepository templates(AuctionTemplate template) {
+        AuctionTemplateRepository templates = mock(AuctionTemplateRepository.class);
+        when(templates.findById(anyString())).thenAnswer(invocation ->
+                Optional.of(template).filter(t -> t.getId().equals(invocation.getArgument(0))));
+        return templates;
+    }
+
+    /**
+     * Records each statement and the arrays bound to it; the pending job query answers from {@code pending}.
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        final List<String> statements = new ArrayList<>();
+        final List<Object[][]> arrays = new ArrayList<>();
+        private final Map<String, UUID> pending;
+
+        RecordingJdbcTemplate(Map<String, UUID> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void query(String sql, PreparedStatementSetter setter, RowCallbackHandler handler) {
+            Object[][] bound = bind(sql, setter);
+            for (Object auctionId : bound[0]) {
+                UUID jobId = pending.get((String) auctionId);
+                if (jobId != null) {
+                    try {
+                        handler.processRow(row(jobId, (String) auctionId));
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public int update(String sql, PreparedStatementSetter setter) {
+            return bind(sql, setter)[0].length;
+        }
+
+        private Object[][] bind(String sql, PreparedStatementSetter setter) {
+            List<Object[]> bound = new ArrayList<>();
+            try {
+                Connection connection = mock(Connection.class);
+                when(connection.createArrayOf(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+                    Array array = mock(Array.class);
+                    when(array.getArray()).thenReturn(invocation.getArgument(1));
+                    return array;
+                });
+                PreparedStatement statement = mock(PreparedStatement.class);
+                when(statement.getConnection()).thenReturn(connection);
+                doAnswer(invocation -> bound.add((Object[]) invocation.<Array>getArgument(1).getArray()))
+                        .when(statement).setArray(anyInt(), any(Array.class));
+                setter.setValues(statement);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            statements.add(sql);
+            arrays.add(bound.toArray(new Object[0][]));
+            return arrays.get(arrays.size() - 1);
+        }
+
+        private static ResultSet row(UUID jobId, String auctionId) throws SQLException {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getObject(anyInt(), eq(UUID.class))).thenReturn(jobId);
+            when(row.getString(anyInt())).thenReturn(auctionId);
+            return row;
+        }
+    }
+}
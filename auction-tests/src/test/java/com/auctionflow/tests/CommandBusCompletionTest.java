@@ -0,0 +1,134 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.common.exceptions.OptimisticLockException;
+import com.auctionflow.events.command.CommandBus;
+import com.auctionflow.events.command.CommandHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The completion callback that BidAdmissionService tickets hang off: it runs exactly once, after the last
+ * retry, and also when a handler throws an Error, which must not stop the lane.
+ */
+public class CommandBusCompletionTest {
+
+    private CommandBus commandBus;
+
+    @AfterEach
+    void stopBus() throws InterruptedException {
+        if (commandBus != null) {
+            commandBus.stop();
+        }
+    }
+
+    @Test
+    void completesOnceAfterTheLastRetry() throws Exception {
+        ScriptedHandler handler = new ScriptedHandler(2, false);
+        commandBus = new CommandBus(event -> { }, List.of(handler), 1, 64, 16, Duration.ZERO);
+        commandBus.start();
+        AtomicInteger attemptsWhenCompleted = new AtomicInteger(-1);
+        AtomicInteger completions = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        commandBus.sendAsync(new Command("auction-1", 1), () -> {
+            attemptsWhenCompleted.set(handler.attempts.get());
+            completions.incrementAndGet();
+            completed.countDown();
+        });
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attemptsWhenCompleted.get()).isEqualTo(3);
+        assertThat(completions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesStayOnTheLaneAndNeverOverlapLaterCommands() throws Exception {
+        ScriptedHandler handler = new ScriptedHandler(1, false);
+        commandBus = new CommandBus(event -> { }, List.of(handler), 4, 64, 16, Duration.ZERO);
+        commandBus.start();
+        CountDownLatch completed = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            commandBus.sendAsync(new Command("auction-1", i), completed::countDown);
+        }
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.overlaps.get()).isZero();
+        assertThat(handler.threads).containsOnly(handler.threads.peek());
+    }
+
+    @Test
+    void completesAndKeepsTheLaneRunningWhenAHandlerThrowsAnError() throws Exception {
+        ScriptedHandler handler = new ScriptedHandler(0, true);
+        commandBus = new CommandBus(event -> { }, List.of(handler), 1, 64, 16, Duration.ZERO);
+        commandBus.start();
+        CountDownLatch completed = new CountDownLatch(2);
+
+        commandBus.sendAsync(new Command("auction-1", 1), completed::countDown);
+        commandBus.sendAsync(new Command("auction-1", 2), completed::countDown);
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.attempts.get()).isEqualTo(2);
+    }
+
+    private record Command(String auctionId, int number) {
+    }
+
+    /**
+     * Fails each command's first conflicts times with an optimistic lock conflict, or throws an Error on
+     * every command, recording the threads it ran on and whether two calls ever overlapped.
+     */
+    private static final class ScriptedHandler implements CommandHandler<Command> {
+        private final int conflicts;
+        private final boolean throwError;
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final ConcurrentLinkedQueue<Thread> threads = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger running = new AtomicInteger();
+        private final Map<Integer, Integer> failures = new ConcurrentHashMap<>();
+
+        ScriptedHandler(int conflicts, boolean throwError) {
+            this.conflicts = conflicts;
+            this.throwError = throwError;
+        }
+
+        @Override
+        public void handle(Command command) {
+            if (running.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            try {
+                attempts.incrementAndGet();
+                threads.add(Thread.currentThread());
+                if (throwError) {
+                    throw new StackOverflowError("handler blew up");
+                }
+                if (failures.merge(command.number(), 1, Integer::sum) <= conflicts) {
+                    throw new OptimisticLockException("conflict");
+                }
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Object routingKey(Command command) {
+            return command.auctionId();
+        }
+
+        @Override
+        public Duration retryDelay(Command command, RuntimeException failure, int attempt) {
+            return failure instanceof OptimisticLockException ? Duration.ofMillis(5) : null;
+        }
+    }
+}
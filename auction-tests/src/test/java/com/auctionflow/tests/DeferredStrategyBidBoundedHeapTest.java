@@ -0,0 +1,131 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.command.CommandBus;
+import com.auctionflow.events.command.CommandHandler;
+import com.auctionflow.timers.DeferredStrategyBidScheduler;
+import com.auctionflow.timers.HierarchicalTimingWheel;
+import com.auctionflow.timers.TimerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 100k pending strategy decisions over 10k auctions, held with one wheel timeout per auction. Runs in the
+ * boundedHeapTest task with -Xmx256m and measures the heap the pending decisions retain, then checks they
+ * all fire close to their bid time.
+ */
+@Tag("bounded-heap")
+public class DeferredStrategyBidBoundedHeapTest {
+
+    private static final int AUCTIONS = 10_000;
+    private static final int STRATEGIES_PER_AUCTION = 10;
+    // A pending bid and its map entry, plus its share of the auction's map, timeout and entry
+    private static final long RETAINED_BYTES_PER_DECISION = 256;
+
+    private final ConcurrentLinkedQueue<PlaceBidCommand> placed = new ConcurrentLinkedQueue<>();
+    private HierarchicalTimingWheel timingWheel;
+    private CommandBus commandBus;
+    private DeferredStrategyBidScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new HierarchicalTimingWheel(new TimerMetrics(new SimpleMeterRegistry()));
+        commandBus = new CommandBus(event -> { }, List.of(new RecordingHandler(placed)), 8, 65536, 256, Duration.ofSeconds(1));
+        commandBus.start();
+        AtomicLong sequence = new AtomicLong();
+        scheduler = new DeferredStrategyBidScheduler(timingWheel, commandBus, auctionId -> sequence.incrementAndGet());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        timingWheel.stop();
+        commandBus.stop();
+    }
+
+    @Test
+    void firesHundredThousandPendingDecisionsOnTimeWithBoundedMemory() {
+        AuctionId[] auctions = new AuctionId[AUCTIONS];
+        BidderId[] bidders = new BidderId[STRATEGIES_PER_AUCTION];
+        String[] strategyIds = new String[STRATEGIES_PER_AUCTION];
+        for (int a = 0; a < AUCTIONS; a++) {
+            auctions[a] = AuctionId.generate();
+        }
+        for (int s = 0; s < STRATEGIES_PER_AUCTION; s++) {
+            bidders[s] = BidderId.generate();
+            strategyIds[s] = "strategy-" + s;
+        }
+        Money amount = Money.usd(10_000);
+        long start = System.currentTimeMillis() + 5_000;
+        Instant end = Instant.ofEpochMilli(start + 60_000);
+        long heapBefore = retainedHeap();
+
+        for (int a = 0; a < AUCTIONS; a++) {
+            for (int s = 0; s < STRATEGIES_PER_AUCTION; s++) {
+                // Spread bid times over 30 seconds, 5 seconds out
+                long due = start + ((long) a * STRATEGIES_PER_AUCTION + s) % 30_000;
+                scheduler.schedule(auctions[a], strategyIds[s], bidders[s], amount, PlaceBidCommand.NO_BUDGET,
+                        Instant.ofEpochMilli(due), end);
+            }
+        }
+        int total = AUCTIONS * STRATEGIES_PER_AUCTION;
+        long retained = retainedHeap() - heapBefore;
+
+        assertThat(placed).isEmpty();
+        assertThat(scheduler.getPendingCount()).isEqualTo(total);
+        // One wheel timeout per auction, not per decision
+        assertThat(scheduler.getAuctionsWithPendingBids()).isEqualTo(AUCTIONS);
+        assertThat(retained).isLessThan(total * RETAINED_BYTES_PER_DECISION);
+
+        await().atMost(Duration.ofSeconds(60)).until(() -> placed.size() == total);
+
+        long[] lateness = placed.stream()
+                .mapToLong(command -> command.serverTs().toEpochMilli() - dueMillis(command))
+                .sorted()
+                .toArray();
+        long p99 = lateness[(int) (lateness.length * 0.99)];
+
+        assertThat(lateness[0]).isGreaterThanOrEqualTo(0);
+        // Wheel ticks every 100ms
+        assertThat(p99).isLessThan(300);
+        assertThat(scheduler.getPendingCount()).isZero();
+        assertThat(scheduler.getAuctionsWithPendingBids()).isZero();
+    }
+
+    private static long retainedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        // Collected a few times over, so only reachable objects are counted
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long dueMillis(PlaceBidCommand command) {
+        String key = command.idempotencyKey();
+        return Long.parseLong(key.substring(key.lastIndexOf('-') + 1));
+    }
+
+    private record RecordingHandler(ConcurrentLinkedQueue<PlaceBidCommand> placed) implements CommandHandler<PlaceBidCommand> {
+        @Override
+        public void handle(PlaceBidCommand command) {
+            placed.add(command);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.command.CommandBus;
+import com.auctionflow.events.command.CommandHandler;
+import com.auctionflow.timers.DeferredStrategyBidScheduler;
+import com.auctionflow.timers.HierarchicalTimingWheel;
+import com.auctionflow.timers.TimerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Deferred strategy bids on the timing wheel: cancellation when the auction state invalidates them, moving
+ * them when the auction is extended, and a bid whose timeout the saturated wheel turned away still firing.
+ * DeferredStrategyBidBoundedHeapTest holds 100k of them.
+ */
+public class DeferredStrategyBidSchedulerTest {
+
+    private final ConcurrentLinkedQueue<PlaceBidCommand> placed = new ConcurrentLinkedQueue<>();
+    private HierarchicalTimingWheel timingWheel;
+    private CommandBus commandBus;
+    private DeferredStrategyBidScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new HierarchicalTimingWheel(new TimerMetrics(new SimpleMeterRegistry()));
+        commandBus = new CommandBus(event -> { }, List.of(new RecordingHandler(placed)), 8, 65536, 256, Duration.ofSeconds(1));
+        commandBus.start();
+        AtomicLong sequence = new AtomicLong();
+        scheduler = new DeferredStrategyBidScheduler(timingWheel, commandBus, auctionId -> sequence.incrementAndGet());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        timingWheel.stop();
+        commandBus.stop();
+    }
+
+    @Test
+    void dropsBidsInvalidatedByAuctionState() throws InterruptedException {
+        AuctionId outbid = AuctionId.generate();
+        AuctionId closed = AuctionId.generate();
+        Instant due = Instant.now().plusMillis(500);
+        Instant end = due.plusSeconds(5);
+        scheduler.schedule(outbid, "low", BidderId.generate(), Money.usd(1_000), PlaceBidCommand.NO_BUDGET, due, end);
+        scheduler.schedule(outbid, "high", BidderId.generate(), Money.usd(5_000), PlaceBidCommand.NO_BUDGET, due, end);
+        scheduler.schedule(closed, "any", BidderId.generate(), Money.usd(1_000), PlaceBidCommand.NO_BUDGET, due, end);
+
+        scheduler.invalidateAtOrBelow(outbid, Money.usd(2_000));
+        scheduler.cancelAll(closed);
+        assertThat(scheduler.getPendingCount()).isEqualTo(1);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> placed.size() == 1);
+        Thread.sleep(500);
+        assertThat(placed).singleElement()
+                .satisfies(command -> assertThat(command.idempotencyKey()).startsWith("automated-high-"));
+    }
+
+    @Test
+    void laterDecisionReplacesStrategysPendingBid() {
+        AuctionId auctionId = AuctionId.generate();
+        BidderId bidder = BidderId.generate();
+        Instant end = Instant.now().plusSeconds(60);
+        scheduler.schedule(auctionId, "s1", bidder, Money.usd(1_000), PlaceBidCommand.NO_BUDGET, Instant.now().plusSeconds(30), end);
+        scheduler.schedule(auctionId, "s1", bidder, Money.usd(1_500), PlaceBidCommand.NO_BUDGET, Instant.now().plusMillis(300), end);
+        assertThat(scheduler.getPendingCount()).isEqualTo(1);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> placed.size() == 1);
+        assertThat(placed.peek().amount().toBigDecimal()).isEqualByComparingTo(Money.usd(1_500).toBigDecimal());
+        assertThat(scheduler.getAuctionsWithPendingBids()).isZero();
+    }
+
+    @Test
+    void extensionMovesPendingBidsWithTheClose() throws InterruptedException {
+        AuctionId auctionId = AuctionId.generate();
+        Instant due = Instant.now().plusMillis(500);
+        Instant end = due.plusSeconds(1);
+        scheduler.schedule(auctionId, "s1", BidderId.generate(), Money.usd(1_000), PlaceBidCommand.NO_BUDGET, due, end);
+
+        scheduler.extend(auctionId, end.plusSeconds(2));
+        // An extension that does not move the close later leaves the bid where it is
+        scheduler.extend(auctionId, end);
+
+        Thread.sleep(1_000);
+        assertThat(placed).isEmpty();
+        await().atMost(Duration.ofSeconds(5)).until(() -> placed.size() == 1);
+        assertThat(dueMillis(placed.peek())).isEqualTo(due.toEpochMilli() + 2_000);
+    }
+
+    @Test
+    void carriesTheStrategysBudgetToTheBidHandler() {
+        Instant due = Instant.now().plusMillis(300);
+        scheduler.schedule(AuctionId.generate(), "s1", BidderId.generate(), Money.usd(1_000), 50_000, due,
+                due.plusSeconds(60));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> placed.size() == 1);
+        assertThat(placed.peek().budgetCents()).isEqualTo(50_000);
+    }
+
+    @Test
+    void bidTurnedAwayBySaturatedWheelFiresOnceThereIsRoom() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AuctionId auctionId = AuctionId.generate();
+        try {
+            // Ten tasks running and a full queue of a thousand behind them
+            for (int i = 0; i < 1_010; i++) {
+                timingWheel.schedule(() -> awaitQuietly(release), 0);
+            }
+            await().atMost(Duration.ofSeconds(5)).until(() -> timingWheel.getExecutionQueueDepth() == 1_000);
+
+            Instant due = Instant.now().plusMillis(200);
+            scheduler.schedule(auctionId, "s1", BidderId.generate(), Money.usd(1_000), PlaceBidCommand.NO_BUDGET,
+                    due, due.plusSeconds(60));
+            Thread.sleep(600);
+            assertThat(placed).isEmpty();
+            assertThat(scheduler.getPendingCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> placed.size() == 1);
+        assertThat(scheduler.getAuctionsWithPendingBids()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long dueMillis(PlaceBidCommand command) {
+        String key = command.idempotencyKey();
+        return Long.parseLong(key.substring(key.lastIndexOf('-') + 1));
+    }
+
+    private record RecordingHandler(ConcurrentLinkedQueue<PlaceBidCommand> placed) implements CommandHandler<PlaceBidCommand> {
+        @Override
+        public void handle(PlaceBidCommand command) {
+            placed.add(command);
+        }
+    }
+}
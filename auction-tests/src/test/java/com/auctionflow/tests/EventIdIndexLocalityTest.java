@@ -0,0 +1,90 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert benchmark for event_store-style primary keys: random UUIDv4 versus time-ordered UUIDv7.
+ * Random keys land on arbitrary leaf pages and split them half-full; ordered keys append to the
+ * rightmost leaf. Leaf page count and density (pgstatindex) are the visible cost of those splits.
+ */
+@Testcontainers
+public class EventIdIndexLocalityTest {
+
+    private static final int ROWS = 500_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+            .withDatabaseName("auctionflow_bench")
+            .withUsername("test")
+            .withPassword("test");
+
+    @BeforeAll
+    static void createExtension() throws Exception {
+        try (Connection connection = postgres.createConnection(""); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+        }
+    }
+
+    @Test
+    void orderedIdsSplitFewerIndexPagesThanRandomIds() throws Exception {
+        IndexStats random = insertAndMeasure("events_random_id", UUID::randomUUID);
+        IndexStats ordered = insertAndMeasure("events_ordered_id", TimeOrderedUuid::next);
+
+        assertThat(ordered.leafPages()).isLessThan(random.leafPages());
+        assertThat(ordered.leafDensity()).isGreaterThan(random.leafDensity());
+    }
+
+    private IndexStats insertAndMeasure(String table, Supplier<UUID> ids) throws Exception {
+        try (Connection connection = postgres.createConnection("")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE " + table + " (event_id UUID PRIMARY KEY, aggregate_id UUID NOT NULL, "
+                        + "sequence_number BIGINT NOT NULL, timestamp TIMESTAMP WITH TIME ZONE NOT NULL)");
+            }
+            connection.setAutoCommit(false);
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " VALUES (?, ?, ?, ?)")) {
+                UUID aggregateId = TimeOrderedUuid.next();
+                for (int i = 0; i < ROWS; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setObject(2, aggregateId);
+                    insert.setLong(3, i);
+                    insert.setTimestamp(4, Timestamp.from(Instant.now()));
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            connection.setAutoCommit(true);
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT leaf_pages, avg_leaf_density FROM pgstatindex('" + table + "_pkey')")) {
+                rs.next();
+                return new IndexStats(ROWS * 1_000_000_000L / elapsedNanos, rs.getLong(1), rs.getDouble(2));
+            }
+        }
+    }
+
+    private record IndexStats(long rowsPerSecond, long leafPages, double leafDensity) {
+    }
+}
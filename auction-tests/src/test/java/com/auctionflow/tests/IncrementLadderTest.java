@@ -0,0 +1,93 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.IncrementLadders;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.IncrementLadder;
+import com.auctionflow.core.domain.valueobjects.IncrementLadder.Step;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step lookup in a compiled increment ladder, and that an auction keeps the ladder it was created with when
+ * it is replayed after the ladders have been reloaded.
+ */
+public class IncrementLadderTest {
+
+    // Steps deliberately out of order: $5 from $100, $0.50 from $10, $10 from $1,000
+    private final IncrementLadder ladder = IncrementLadder.of(List.of(
+            new Step(10_000, 500), new Step(1_000, 50), new Step(100_000, 1_000)));
+
+    @AfterEach
+    void clearLadders() {
+        IncrementLadders.replaceAll(Map.of());
+    }
+
+    @Test
+    void belowTheFirstThresholdUsesTheLowestStep() {
+        assertThat(ladder.incrementCents(0)).isEqualTo(50);
+        assertThat(ladder.incrementCents(999)).isEqualTo(50);
+    }
+
+    @Test
+    void onAThresholdUsesTheStepStartingThere() {
+        assertThat(ladder.incrementCents(1_000)).isEqualTo(50);
+        assertThat(ladder.incrementCents(10_000)).isEqualTo(500);
+        assertThat(ladder.incrementCents(100_000)).isEqualTo(1_000);
+    }
+
+    @Test
+    void betweenStepsUsesTheStepBelow() {
+        assertThat(ladder.incrementCents(9_999)).isEqualTo(50);
+        assertThat(ladder.incrementCents(10_001)).isEqualTo(500);
+        assertThat(ladder.incrementCents(55_000)).isEqualTo(500);
+        assertThat(ladder.incrementCents(5_000_000)).isEqualTo(1_000);
+    }
+
+    @Test
+    void nextBidStaysInTheCurrentBidsCurrency() {
+        Currency eur = Currency.getInstance("EUR");
+
+        Money next = ladder.nextBid(Money.of(10_000, eur));
+
+        assertThat(next.getAmountCents()).isEqualTo(10_500);
+        assertThat(next.getCurrency()).isEqualTo(eur);
+        // Auctions without a ladder fall back to a fixed increment, which is in the auction's currency too
+        Money fallback = IncrementLadders.forCategory("art").nextBid(Money.of(10_000, eur));
+        assertThat(fallback.getAmountCents()).isEqualTo(10_100);
+        assertThat(fallback.getCurrency()).isEqualTo(eur);
+    }
+
+    @Test
+    void replayKeepsTheLadderRecordedAtCreation() {
+        IncrementLadders.replaceAll(Map.of("art", ladder));
+        Instant now = Instant.now();
+        AuctionAggregate created = new AuctionAggregate();
+        created.handle(new CreateAuctionCommand(AuctionId.generate(), ItemId.generate(), SellerId.generate(), "art",
+                AuctionType.ENGLISH_OPEN, Money.usd(1_000), Money.usd(1_000_000), now, now.plusSeconds(3_600),
+                AntiSnipePolicy.none(), false));
+        List<DomainEvent> events = List.copyOf(created.getDomainEvents());
+
+        // A reload changes the category's ladder after the auction was created
+        IncrementLadders.replaceAll(Map.of("art", IncrementLadder.of(List.of(new Step(0, 2_500)))));
+        AuctionAggregate replayed = new AuctionAggregate(events);
+
+        assertThat(replayed.getBidIncrement().nextBidCents(10_000)).isEqualTo(10_500);
+        // Auctions recording the same steps share one compiled ladder
+        assertThat(replayed.getBidIncrement()).isSameAs(IncrementLadders.forSteps(ladder.getSteps()));
+    }
+}
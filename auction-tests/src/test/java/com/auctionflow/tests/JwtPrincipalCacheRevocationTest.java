@@ -0,0 +1,147 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.config.JwtAuthenticationFilter;
+import com.auctionflow.api.config.JwtTokenProvider;
+import com.auctionflow.api.config.VerifiedPrincipalCache;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two API instances authenticating the same JWTs against one user store, each with its own verified-principal
+ * cache on a simulated clock. Changes made through one instance apply there at once and on the other within
+ * the cache's max age, and steady-state requests do not reach the user store.
+ */
+public class JwtPrincipalCacheRevocationTest {
+
+    private static final Duration MAX_AGE = Duration.ofSeconds(30);
+    private static final String EMAIL = "bidder@example.com";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger userLookups = new AtomicInteger();
+    private final InMemoryUserDetailsManager users = new InMemoryUserDetailsManager() {
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            userLookups.incrementAndGet();
+            return super.loadUserByUsername(username);
+        }
+    };
+    private JwtTokenProvider tokenProvider;
+    private VerifiedPrincipalCache cacheA;
+    private VerifiedPrincipalCache cacheB;
+    private JwtAuthenticationFilter instanceA;
+    private JwtAuthenticationFilter instanceB;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "test-secret-that-is-long-enough-for-hs256");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 3_600_000);
+        ReflectionTestUtils.setField(tokenProvider, "jwtRefreshExpirationInMs", 86_400_000);
+        cacheA = new VerifiedPrincipalCache(10_000, MAX_AGE, nanos::get);
+        cacheB = new VerifiedPrincipalCache(10_000, MAX_AGE, nanos::get);
+        instanceA = new JwtAuthenticationFilter(tokenProvider, users, cacheA);
+        instanceB = new JwtAuthenticationFilter(tokenProvider, users, cacheB);
+        users.createUser(User.withUsername(EMAIL).password("hash").roles("BUYER").build());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void steadyStateRequestsSkipTheUserStore() throws Exception {
+        String token = issueToken();
+        for (int i = 0; i < 100; i++) {
+            assertThat(authenticate(instanceA, token)).isNotNull();
+        }
+        assertThat(userLookups.get()).isEqualTo(1);
+        assertThat(authenticate(instanceA, token + "x")).isNull();
+    }
+
+    @Test
+    void roleChangeAppliesLocallyAtOnceAndElsewhereWithinMaxAge() throws Exception {
+        String token = issueToken();
+        assertThat(roles(authenticate(instanceA, token))).containsExactly("ROLE_BUYER");
+        assertThat(roles(authenticate(instanceB, token))).containsExactly("ROLE_BUYER");
+
+        // Promoted through instance A, as UserService.changeRole does
+        users.updateUser(User.withUsername(EMAIL).password("hash").roles("ADMIN").build());
+        cacheA.invalidateUser(EMAIL);
+
+        assertThat(roles(authenticate(instanceA, token))).containsExactly("ROLE_ADMIN");
+        assertThat(roles(authenticate(instanceB, token))).containsExactly("ROLE_BUYER");
+        nanos.addAndGet(MAX_AGE.toNanos());
+        assertThat(roles(authenticate(instanceB, token))).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void deletedUserIsRejectedEverywhereWithinMaxAge() throws Exception {
+        String token = issueToken();
+        assertThat(authenticate(instanceA, token)).isNotNull();
+        assertThat(authenticate(instanceB, token)).isNotNull();
+
+        // Deleted through instance A, as UserService.softDeleteUser does
+        users.deleteUser(EMAIL);
+        cacheA.invalidateUser(EMAIL);
+        assertThat(authenticate(instanceA, token)).isNull();
+
+        nanos.addAndGet(MAX_AGE.toNanos() - 1);
+        assertThat(authenticate(instanceB, token)).isNotNull();
+        nanos.addAndGet(1);
+        assertThat(authenticate(instanceB, token)).isNull();
+        assertThat(authenticate(instanceA, token)).isNull();
+    }
+
+    @Test
+    void entriesDoNotOutliveTheirToken() {
+        UserDetails user = users.loadUserByUsername(EMAIL);
+        cacheA.put("short-lived", user, Duration.ofSeconds(5));
+        cacheA.put("expired", user, Duration.ofSeconds(-1));
+
+        assertThat(cacheA.get("short-lived")).isSameAs(user);
+        assertThat(cacheA.get("expired")).isNull();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(cacheA.get("short-lived")).isNull();
+    }
+
+    private String issueToken() {
+        UserDetails user = users.loadUserByUsername(EMAIL);
+        userLookups.set(0);
+        return tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/watchlist");
+        request.addHeader("Authorization", "Bearer " + token);
+        AtomicReference<Authentication> authenticated = new AtomicReference<>();
+        FilterChain chain = (req, res) -> authenticated.set(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+        return authenticated.get();
+    }
+
+    private static String[] roles(Authentication authentication) {
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,122 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.bidding.strategies.StrategyType;
+import com.auctionflow.tests.simulation.EpisodeWriter;
+import com.auctionflow.tests.simulation.MarketSimulator;
+import com.auctionflow.tests.simulation.SimulationConfig;
+import com.auctionflow.tests.simulation.SimulationListener;
+import com.auctionflow.tests.simulation.SimulationReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The offline market simulator: runs are reproducible from their seed, outcomes respect reserves and
+ * valuations, and episodes carry the right terminal rewards. The tagged full-size run is a CPU-only load
+ * source for the engine; run it with {@code gradle :auction-tests:simulation}, overriding the size with
+ * {@code -Psimulation.auctions=...}, {@code -Psimulation.bidders=...} and {@code -Psimulation.seed=...}.
+ */
+public class MarketSimulatorTest {
+
+    private static final SimulationConfig SMALL = SimulationConfig.defaults(42).withSize(200, 500, 20);
+
+    @Test
+    void sameSeedReproducesTheSameMarket() {
+        SimulationReport first = new MarketSimulator(SMALL).run();
+        SimulationReport second = new MarketSimulator(SMALL).run();
+        SimulationReport otherSeed = new MarketSimulator(SimulationConfig.defaults(7).withSize(200, 500, 20)).run();
+
+        assertThat(second.fingerprint()).isEqualTo(first.fingerprint());
+        assertThat(second.decisions()).isEqualTo(first.decisions());
+        assertThat(second.bidsAccepted()).isEqualTo(first.bidsAccepted());
+        assertThat(second.byStrategy()).isEqualTo(first.byStrategy());
+        assertThat(otherSeed.fingerprint()).isNotEqualTo(first.fingerprint());
+    }
+
+    @Test
+    void outcomesRespectReservesAndValuations() {
+        List<SimulationListener.AuctionOutcome> outcomes = new ArrayList<>();
+        SimulationReport report = new MarketSimulator(SMALL, new SimulationListener() {
+            @Override
+            public void onAuctionClosed(AuctionOutcome outcome) {
+                outcomes.add(outcome);
+            }
+        }).run();
+
+        assertThat(outcomes).hasSize(SMALL.auctions());
+        assertThat(report.auctionsSold() + report.auctionsUnsold()).isEqualTo(SMALL.auctions());
+        assertThat(report.auctionsSold()).isPositive();
+        assertThat(report.bidsAccepted()).isPositive();
+        for (SimulationListener.AuctionOutcome outcome : outcomes) {
+            assertThat(outcome.extensions()).isLessThanOrEqualTo(SMALL.antiSnipePolicy().maxExtensions());
+            if (outcome.sold()) {
+                // Bids clear the reserve by the $1 increment, and strategies never bid past their valuation
+                assertThat(outcome.priceCents()).isGreaterThan(outcome.reserveCents());
+                assertThat(outcome.priceCents()).isLessThanOrEqualTo(outcome.winnerValuationCents());
+                assertThat(outcome.winnerValuationCents()).isLessThanOrEqualTo(outcome.highestValuationCents());
+            } else {
+                assertThat(outcome.bids()).isZero();
+            }
+        }
+    }
+
+    @Test
+    void writesEpisodesWithTerminalRewards() throws Exception {
+        StringWriter out = new StringWriter();
+        EpisodeWriter episodes = new EpisodeWriter(out, EnumSet.allOf(StrategyType.class));
+        Map<String, SimulationListener.AuctionOutcome> outcomes = new HashMap<>();
+        new MarketSimulator(SMALL, new SimulationListener() {
+            @Override
+            public void onDecision(Decision decision) {
+                episodes.onDecision(decision);
+            }
+
+            @Override
+            public void onAuctionClosed(AuctionOutcome outcome) {
+                outcomes.put(outcome.auctionId().value(), outcome);
+                episodes.onAuctionClosed(outcome);
+            }
+        }).run();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> lines = out.toString().lines().toList();
+        assertThat(lines).hasSize((int) episodes.getEpisodesWritten()).isNotEmpty();
+        Map<String, Integer> winnersPerAuction = new HashMap<>();
+        for (String line : lines) {
+            EpisodeWriter.Episode episode = objectMapper.readValue(line, EpisodeWriter.Episode.class);
+            SimulationListener.AuctionOutcome outcome = outcomes.get(episode.auctionId());
+            assertThat(episode.steps()).isNotEmpty();
+            if (episode.won()) {
+                winnersPerAuction.merge(episode.auctionId(), 1, Integer::sum);
+                assertThat(episode.bidderId()).isEqualTo(outcome.winnerId().id());
+                assertThat(episode.rewardCents()).isEqualTo(outcome.winnerValuationCents() - outcome.priceCents());
+            } else {
+                assertThat(episode.rewardCents()).isZero();
+            }
+        }
+        assertThat(winnersPerAuction.values()).containsOnly(1);
+        assertThat(winnersPerAuction).hasSize((int) outcomes.values().stream().filter(SimulationListener.AuctionOutcome::sold).count());
+    }
+
+    @Test
+    @Tag("simulation")
+    void fullSizeMarket(TestReporter reporter) {
+        SimulationConfig config = SimulationConfig.defaults(Long.getLong("simulation.seed", 42))
+                .withSize(Integer.getInteger("simulation.auctions", 20_000), Integer.getInteger("simulation.bidders", 50_000),
+                        Integer.getInteger("simulation.biddersPerAuction", 25));
+        SimulationReport report = new MarketSimulator(config).run();
+        reporter.publishEntry("summary", report.summary());
+
+        assertThat(report.auctionsSold() + report.auctionsUnsold()).isEqualTo(config.auctions());
+    }
+}
@@ -0,0 +1,119 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.bidding.strategies.InMemoryBudgetLedger;
+import com.auctionflow.common.service.DeferredBidScheduler;
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.events.BidPlacedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import com.auctionflow.events.AggregateCacheService;
+import com.auctionflow.events.command.AutomatedBiddingService;
+import com.auctionflow.events.command.PlaceBidHandler;
+import com.auctionflow.events.persistence.EventProxyBidRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A deferred strategy bid reaches the bid handler carrying its strategy's budget and is reserved there, as
+ * automated bids placed straight away are: over budget it is refused, and a bid the auction refuses leaves
+ * the hold it would have replaced.
+ */
+public class PlaceBidBudgetReservationTest {
+
+    private final AuctionId auctionId = AuctionId.generate();
+    private final BidderId bidder = BidderId.generate();
+    private final List<DomainEvent> stored = new ArrayList<>();
+    private final InMemoryBudgetLedger budgetLedger = new InMemoryBudgetLedger();
+    private PlaceBidHandler handler;
+
+    @BeforeEach
+    void createAuction() {
+        Instant now = Instant.now();
+        AuctionAggregate created = new AuctionAggregate();
+        created.handle(new CreateAuctionCommand(auctionId, ItemId.generate(), SellerId.generate(), "art",
+                AuctionType.ENGLISH_OPEN, Money.usd(1_000), Money.usd(1_000_000), now.minusSeconds(60),
+                now.plusSeconds(3_600), AntiSnipePolicy.none(), false));
+        stored.addAll(created.getDomainEvents());
+
+        EventStore eventStore = mock(EventStore.class);
+        when(eventStore.getEvents(auctionId)).thenAnswer(invocation -> new ArrayList<>(stored));
+        doAnswer(invocation -> {
+            List<DomainEvent> events = invocation.getArgument(0);
+            stored.addAll(events);
+            return null;
+        }).when(eventStore).save(anyList(), anyLong());
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(mock(RAtomicLong.class));
+        @SuppressWarnings("unchecked")
+        KafkaTemplate<String, DomainEvent> kafkaTemplate = mock(KafkaTemplate.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<DeferredBidScheduler> scheduler = mock(ObjectProvider.class);
+        handler = new PlaceBidHandler(eventStore, kafkaTemplate, redissonClient, mock(EventProxyBidRepository.class),
+                mock(AutomatedBiddingService.class), new AggregateCacheService(), budgetLedger, scheduler);
+    }
+
+    @Test
+    void reservesABudgetedBidWhenItIsPlaced() {
+        handler.handle(bid(bidder, Money.usd(4_000), 10_000));
+
+        assertThat(stored).filteredOn(BidPlacedEvent.class::isInstance).hasSize(1);
+        assertThat(budgetLedger.holdCents(bidder, auctionId)).isEqualTo(4_000);
+    }
+
+    @Test
+    void refusesABidOverTheBudget() {
+        assertThat(budgetLedger.tryReserve(bidder, AuctionId.generate(), 8_000, 10_000)).isTrue();
+
+        assertThatThrownBy(() -> handler.handle(bid(bidder, Money.usd(4_000), 10_000)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(stored).noneMatch(BidPlacedEvent.class::isInstance);
+        assertThat(budgetLedger.holdCents(bidder, auctionId)).isZero();
+    }
+
+    @Test
+    void aBidTheAuctionRefusesKeepsThePreviousHold() {
+        handler.handle(bid(bidder, Money.usd(2_000), 10_000));
+        handler.handle(bid(BidderId.generate(), Money.usd(5_000), PlaceBidCommand.NO_BUDGET));
+
+        // No longer beats the highest bid
+        assertThatThrownBy(() -> handler.handle(bid(bidder, Money.usd(3_000), 10_000)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(budgetLedger.holdCents(bidder, auctionId)).isEqualTo(2_000);
+        assertThat(budgetLedger.committedCents(bidder)).isEqualTo(2_000);
+    }
+
+    private PlaceBidCommand bid(BidderId bidderId, Money amount, long budgetCents) {
+        return new PlaceBidCommand(auctionId, bidderId.id(), amount, UUID.randomUUID().toString(), Instant.now(),
+                1_000_000, null, budgetCents);
+    }
+}
@@ -0,0 +1,140 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.bidding.strategies.BudgetLedger;
+import com.auctionflow.common.exceptions.OptimisticLockException;
+import com.auctionflow.common.service.DeferredBidScheduler;
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.commands.CreateAuctionCommand;
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.events.BidPlacedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.events.ProxyBidOutbidEvent;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import com.auctionflow.events.AggregateCacheService;
+import com.auctionflow.events.command.AutomatedBiddingService;
+import com.auctionflow.events.command.PlaceBidHandler;
+import com.auctionflow.events.persistence.EventProxyBidRepository;
+import com.auctionflow.events.persistence.ProxyBidEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Proxy responses are appended after the bid that triggered them, against an event store that checks the
+ * expected version the way JpaEventStore does, so a stale version loses the response.
+ */
+public class PlaceBidProxyResponseTest {
+
+    private final AuctionId auctionId = AuctionId.generate();
+    private final List<DomainEvent> stored = new ArrayList<>();
+    private final EventProxyBidRepository proxyBidRepository = mock(EventProxyBidRepository.class);
+    private PlaceBidHandler handler;
+
+    @BeforeEach
+    void createAuction() {
+        Instant now = Instant.now();
+        AuctionAggregate created = new AuctionAggregate();
+        created.handle(new CreateAuctionCommand(auctionId, ItemId.generate(), SellerId.generate(), "art",
+                AuctionType.ENGLISH_OPEN, Money.usd(1_000), Money.usd(1_000_000), now.minusSeconds(60),
+                now.plusSeconds(3_600), AntiSnipePolicy.none(), false));
+        stored.addAll(created.getDomainEvents());
+
+        EventStore eventStore = mock(EventStore.class);
+        when(eventStore.getEvents(auctionId)).thenAnswer(invocation -> new ArrayList<>(stored));
+        doAnswer(invocation -> {
+            List<DomainEvent> events = invocation.getArgument(0);
+            long expectedVersion = invocation.getArgument(1);
+            if (expectedVersion != stored.size()) {
+                throw new OptimisticLockException("Version conflict: expected " + expectedVersion + ", but was " + stored.size());
+            }
+            stored.addAll(events);
+            return null;
+        }).when(eventStore).save(anyList(), anyLong());
+
+        AtomicLong seqNo = new AtomicLong();
+        RAtomicLong atomicLong = mock(RAtomicLong.class);
+        when(atomicLong.incrementAndGet()).thenAnswer(invocation -> seqNo.incrementAndGet());
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(atomicLong);
+
+        @SuppressWarnings("unchecked")
+        KafkaTemplate<String, DomainEvent> kafkaTemplate = mock(KafkaTemplate.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<DeferredBidScheduler> scheduler = mock(ObjectProvider.class);
+        handler = new PlaceBidHandler(eventStore, kafkaTemplate, redissonClient, proxyBidRepository,
+                mock(AutomatedBiddingService.class), new AggregateCacheService(), mock(BudgetLedger.class), scheduler);
+    }
+
+    @Test
+    void persistsTheProxyCounterBid() {
+        UUID proxyUser = UUID.randomUUID();
+        when(proxyBidRepository.findActiveProxyBidsHigherThan(anyString(), any()))
+                .thenReturn(List.of(proxyBid(1L, proxyUser, "100.00")));
+
+        handler.handle(bid(Money.usd(5_000)));
+
+        List<BidPlacedEvent> bids = stored.stream()
+                .filter(BidPlacedEvent.class::isInstance)
+                .map(BidPlacedEvent.class::cast)
+                .toList();
+        assertThat(bids).hasSize(2);
+        assertThat(bids.get(1).getBidderId()).isEqualTo(proxyUser.toString());
+        assertThat(bids.get(1).getAmount().getAmountCents()).isGreaterThan(5_000);
+        assertSequenceNumbersAreContiguous();
+    }
+
+    @Test
+    void numbersEveryOutbidEventFromTheAggregate() {
+        when(proxyBidRepository.findActiveProxyBidsHigherThan(anyString(), any()))
+                .thenReturn(List.of(proxyBid(1L, UUID.randomUUID(), "50.01"), proxyBid(2L, UUID.randomUUID(), "50.01")));
+
+        handler.handle(bid(Money.usd(5_000)));
+
+        assertThat(stored).filteredOn(ProxyBidOutbidEvent.class::isInstance).hasSize(2);
+        assertSequenceNumbersAreContiguous();
+    }
+
+    private void assertSequenceNumbersAreContiguous() {
+        for (int i = 0; i < stored.size(); i++) {
+            assertThat(stored.get(i).getSequenceNumber()).isEqualTo(i + 1);
+        }
+    }
+
+    private PlaceBidCommand bid(Money amount) {
+        return new PlaceBidCommand(auctionId, UUID.randomUUID().toString(), amount, UUID.randomUUID().toString(),
+                Instant.now(), 1_000_000);
+    }
+
+    private static ProxyBidEntity proxyBid(long id, UUID userId, String maxBid) {
+        ProxyBidEntity proxyBid = new ProxyBidEntity();
+        proxyBid.setId(id);
+        proxyBid.setUserId(userId);
+        proxyBid.setMaxBid(new BigDecimal(maxBid));
+        return proxyBid;
+    }
+}
@@ -0,0 +1,193 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.entities.Auction;
+import com.auctionflow.api.entities.AuctionTemplate;
+import com.auctionflow.api.entities.ProhibitedCategory;
+import com.auctionflow.api.entities.ProhibitedTerm;
+import com.auctionflow.api.repositories.AuctionTemplateRepository;
+import com.auctionflow.api.repositories.ProhibitedCategoryRepository;
+import com.auctionflow.api.repositories.ProhibitedTermRepository;
+import com.auctionflow.api.repositories.VerifiedBrandRepository;
+import com.auctionflow.api.services.AuctionTemplateService;
+import com.auctionflow.api.services.ItemValidationService;
+import com.auctionflow.api.services.ProhibitedTermMatcher;
+import com.auctionflow.common.service.EventStore;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.events.command.BulkAuctionCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Prohibited content checks: the term automaton against plain substring search, obfuscated spellings, and
+ * ItemValidationService validating from its in-memory rules as they are reloaded.
+ */
+public class ProhibitedContentValidationTest {
+
+    private final List<ProhibitedCategory> categories = new ArrayList<>();
+    private final List<ProhibitedTerm> terms = new ArrayList<>();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final ItemValidationService validation = new ItemValidationService(
+            repository(ProhibitedCategoryRepository.class, categories),
+            repository(ProhibitedTermRepository.class, terms),
+            repository(VerifiedBrandRepository.class, List.of()));
+
+    @Test
+    void automatonFindsWhatSubstringSearchFinds() {
+        // A five-letter alphabet, so that terms overlap and share prefixes and suffixes heavily
+        SplittableRandom random = new SplittableRandom(46);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            dictionary.add(randomWord(random, 3 + random.nextInt(6)));
+        }
+        ProhibitedTermMatcher matcher = new ProhibitedTermMatcher(dictionary);
+
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder text = new StringBuilder(randomWord(random, 1 + random.nextInt(8)));
+            for (int words = random.nextInt(6); words > 0; words--) {
+                text.append(' ').append(randomWord(random, 1 + random.nextInt(8)));
+            }
+            String found = matcher.findFirst(text.toString());
+            boolean contained = dictionary.stream().anyMatch(term -> text.indexOf(term) >= 0);
+            assertThat(found != null).isEqualTo(contained);
+            if (found != null) {
+                assertThat(text.indexOf(found) >= 0).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void obfuscatedSpellingsAreRecognized() {
+        ProhibitedTermMatcher matcher = new ProhibitedTermMatcher(
+                List.of("counterfeit", "replica", "fake", "stun gun"));
+
+        assertThat(matcher.findFirst("Genuine C0UNTERF3IT watch")).isEqualTo("counterfeit");
+        assertThat(matcher.findFirst("Designer bag, re-plica quality")).isEqualTo("replica");
+        assertThat(matcher.findFirst("R.E.P.L.I.C.A handbag")).isEqualTo("replica");
+        assertThat(matcher.findFirst("Not f\u0430ke at all")).isEqualTo("fake"); // Cyrillic a
+        assertThat(matcher.findFirst("Cont\u00e9nt: F\u00c4KE")).isEqualTo("fake");
+        assertThat(matcher.findFirst("Compact STUN\n\tGUN")).isEqualTo("stun gun");
+        assertThat(matcher.findFirst("Compact stun", "gun holster")).isEqualTo("stun gun");
+        assertThat(matcher.findFirst("Vintage camera", null, "with original case")).isNull();
+        assertThat(matcher.findFirst("Stunning gunmetal finish")).isNull();
+    }
+
+    @Test
+    void itemsAreValidatedFromInMemoryRulesAsTheyAreReloaded() {
+        validation.reloadProhibitedContent();
+        queries.set(0);
+
+        assertThat(validation.validateItem("cameras", "Vintage camera", "Works well", null, null).isValid()).isTrue();
+        ItemValidationService.ValidationResult replica =
+                validation.validateItem("watches", "Watch", "A faithful repl1ca", null, null);
+        assertThat(replica.isValid()).isFalse();
+        assertThat(replica.getReason()).isEqualTo("Item appears to be counterfeit or replica");
+        assertThat(queries.get()).isEqualTo(0);
+
+        terms.add(term(1L, "ivory", "Ivory trade is prohibited"));
+        terms.add(term(2L, "tiger skin", null));
+        categories.add(category("weapons", "Firearms and weapons"));
+        validation.reloadProhibitedContent();
+
+        assertThat(validation.validateItem("decor", "Carved IVORY figure", "", null, null).getReason())
+                .isEqualTo("Ivory trade is prohibited");
+        assertThat(validation.validateItem("decor", "Rug", "Genuine Tiger  Skin rug", null, null).getReason())
+                .isEqualTo("Item contains prohibited term 'tiger skin'");
+        assertThat(validation.validateItem("weapons", "Antique rifle", "", null, null).getReason())
+                .isEqualTo("Category 'weapons' is prohibited: Firearms and weapons");
+
+        terms.remove(0);
+        validation.reloadProhibitedContent();
+        assertThat(validation.validateItem("decor", "Carved ivory figure", "", null, null).isValid()).isTrue();
+    }
+
+    @Test
+    void bulkCreationValidatesTheTemplateItemOnce() {
+        terms.add(term(1L, "ivory", "Ivory trade is prohibited"));
+        validation.reloadProhibitedContent();
+        List<DomainEvent> published = new ArrayList<>();
+        AuctionTemplateService templates = new AuctionTemplateService(templates(
+                template("camera", "Vintage camera", "Works well"),
+                template("ivory", "Carved Iv0ry figure", "Antique")), new ObjectMapper(), validation,
+                new BulkAuctionCreator(eventStore(), published::add, null, 1000));
+
+        List<Auction> auctions = templates.bulkCreateAuctions("camera", "42", 500).getAuctions();
+        assertThat(auctions).hasSize(500);
+        assertThat(published).hasSize(500);
+        assertThatThrownBy(() -> templates.bulkCreateAuctions("ivory", "42", 500))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Ivory trade is prohibited");
+    }
+
+    private static String randomWord(SplittableRandom random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(5)));
+        }
+        return word.toString();
+    }
+
+    private static ProhibitedTerm term(Long id, String text, String reason) {
+        ProhibitedTerm term = new ProhibitedTerm();
+        term.setId(id);
+        term.setTerm(text);
+        term.setReason(reason);
+        return term;
+    }
+
+    private static ProhibitedCategory category(String categoryId, String reason) {
+        ProhibitedCategory category = new ProhibitedCategory();
+        category.setCategoryId(categoryId);
+        category.setReason(reason);
+        return category;
+    }
+
+    private static AuctionTemplate template(String id, String title, String description) {
+        AuctionTemplate template = new AuctionTemplate(id, "", "7", "{\"itemTitle\":\"" + title
+                + "\",\"itemDescription\":\"" + description + "\",\"categoryId\":\"collectibles\","
+                + "\"reservePrice\":\"100.00\",\"durationSeconds\":3600,\"hiddenReserve\":false}", false);
+        template.setId(id);
+        return template;
+    }
+
+    private static EventStore eventStore() {
+        EventStore eventStore = mock(EventStore.class);
+        when(eventStore.appendNew(anyList())).thenReturn(Set.of());
+        return eventStore;
+    }
+
+    private static AuctionTemplateRepository templates(AuctionTemplate... templates) {
+        AuctionTemplateRepository repository = mock(AuctionTemplateRepository.class);
+        when(repository.findById(anyString())).thenAnswer(invocation -> List.of(templates).stream()
+                .filter(template -> template.getId().equals(invocation.getArgument(0)))
+                .findFirst());
+        return repository;
+    }
+
+    /**
+     * A repository whose list finders all return the given rows, counting every call made through it.
+     */
+    private <T> T repository(Class<T> type, List<?> rows) {
+        return mock(type, invocation -> {
+            queries.incrementAndGet();
+            Class<?> returnType = invocation.getMethod().getReturnType();
+            if (invocation.getMethod().getName().startsWith("findBy") && returnType == List.class) {
+                return List.copyOf(rows);
+            }
+            return RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.services.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends requests from 10M distinct client IPs through the IP rate limiter, as a scan or a spoofed
+ * X-Forwarded-For flood would. Runs in the boundedHeapTest task with -Xmx256m, where a map holding a rate
+ * limiter per IP would not fit, so completing at all is the memory check. Time is simulated at 10M requests
+ * a second, so all clients stay within the idle expiry and the table is under full eviction pressure throughout.
+ */
+@Tag("bounded-heap")
+public class RateLimiterBoundedHeapTest {
+
+    private static final int CLIENTS = 10_000_000;
+    private static final int MAX_KEYS = 1 << 20;
+    private static final int PERMITS_PER_SECOND = 20;
+    private static final int BURST = 20;
+    private static final long NANOS_PER_REQUEST = 100;
+    // One request in this many comes from the same abusive client
+    private static final int HOT_CLIENT_EVERY = 1_000;
+
+    @Test
+    void holdsTenMillionClientsInFixedMemory() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("ip", MAX_KEYS, PERMITS_PER_SECOND, BURST,
+                Duration.ofMinutes(10), false);
+        StringBuilder ip = new StringBuilder(15);
+        long start = System.nanoTime();
+        long now = start;
+        int hotGranted = 0;
+        int firstRequestsDenied = 0;
+        for (int client = 0; client < CLIENTS; client++) {
+            now += NANOS_PER_REQUEST;
+            ip.setLength(0);
+            ip.append("10.").append(client >>> 16).append('.').append((client >>> 8) & 0xff).append('.')
+                    .append(client & 0xff);
+            if (!limiter.tryAcquire(ip, now)) {
+                firstRequestsDenied++;
+            }
+            if (client % HOT_CLIENT_EVERY == 0) {
+                if (limiter.tryAcquire("192.0.2.1", now)) {
+                    hotGranted++;
+                }
+            }
+        }
+        int held = limiter.size();
+
+        assertThat(firstRequestsDenied).isZero();
+        assertThat(held).isLessThanOrEqualTo(MAX_KEYS).isGreaterThan(MAX_KEYS / 2);
+        assertThat(limiter.footprintBytes()).isLessThanOrEqualTo(24L * MAX_KEYS);
+        // One simulated second at the hot client's rate, on top of its burst
+        long simulatedSeconds = Math.max(1, (now - start) / 1_000_000_000L);
+        assertThat(hotGranted).isLessThanOrEqualTo(BURST + PERMITS_PER_SECOND * (int) simulatedSeconds + 1);
+    }
+}
@@ -0,0 +1,129 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.events.RedisBudgetLedger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two nodes, each with its own Redis connection, share one ledger: a bidder cannot reserve their budget once
+ * per node, a hold taken on one node is settled by a close seen on the other, and a redelivered close
+ * changes nothing.
+ */
+@Testcontainers
+public class RedisBudgetLedgerTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private final List<RedissonClient> clients = new ArrayList<>();
+
+    private RedisBudgetLedger nodeA;
+    private RedisBudgetLedger nodeB;
+
+    @BeforeEach
+    void connect() {
+        nodeA = new RedisBudgetLedger(connectNode());
+        nodeB = new RedisBudgetLedger(connectNode());
+    }
+
+    @AfterEach
+    void disconnect() {
+        clients.forEach(RedissonClient::shutdown);
+    }
+
+    @Test
+    void concurrentReservationsOnTwoNodesStayWithinBudget() throws Exception {
+        BidderId bidder = BidderId.generate();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> reservations = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                RedisBudgetLedger ledger = i % 2 == 0 ? nodeA : nodeB;
+                AuctionId auction = AuctionId.generate();
+                reservations.add(() -> ledger.tryReserve(bidder, auction, 1_000, 10_000));
+            }
+            int reserved = 0;
+            for (Future<Boolean> result : executor.invokeAll(reservations)) {
+                if (result.get()) {
+                    reserved++;
+                }
+            }
+
+            assertThat(reserved).isEqualTo(10);
+            assertThat(nodeA.committedCents(bidder)).isEqualTo(10_000);
+            assertThat(nodeB.committedCents(bidder)).isEqualTo(10_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void aCloseSeenOnOneNodeSettlesHoldsTakenOnTheOther() {
+        AuctionId auction = AuctionId.generate();
+        BidderId winner = BidderId.generate();
+        BidderId loser = BidderId.generate();
+
+        assertThat(nodeA.tryReserve(loser, auction, 2_000, 10_000)).isTrue();
+        nodeA.onLeadingBid(auction, loser, 2_000);
+        nodeB.onLeadingBid(auction, winner, 3_000);
+        // An older bid arriving late does not take the lead back
+        nodeA.onLeadingBid(auction, loser, 2_500);
+
+        assertThat(nodeA.holdCents(loser, auction)).isZero();
+        assertThat(nodeA.committedCents(loser)).isZero();
+        assertThat(nodeA.holdCents(winner, auction)).isEqualTo(3_000);
+
+        nodeB.onAuctionClosed(auction, winner);
+        nodeA.onAuctionClosed(auction, winner);
+
+        assertThat(nodeA.holdCents(winner, auction)).isZero();
+        assertThat(nodeA.spentCents(winner)).isEqualTo(3_000);
+        assertThat(nodeA.committedCents(winner)).isEqualTo(3_000);
+        assertThat(nodeB.committedElsewhereCents(winner, AuctionId.generate())).isEqualTo(3_000);
+    }
+
+    @Test
+    void restorePutsBackTheReplacedHold() {
+        AuctionId auction = AuctionId.generate();
+        BidderId bidder = BidderId.generate();
+        assertThat(nodeA.tryReserve(bidder, auction, 1_500, 10_000)).isTrue();
+
+        long previous = nodeB.holdCents(bidder, auction);
+        assertThat(nodeB.tryReserve(bidder, auction, 4_000, 10_000)).isTrue();
+        nodeB.restore(bidder, auction, previous);
+
+        assertThat(nodeA.holdCents(bidder, auction)).isEqualTo(1_500);
+        assertThat(nodeA.committedCents(bidder)).isEqualTo(1_500);
+
+        nodeA.restore(bidder, auction, 0);
+        assertThat(nodeB.committedCents(bidder)).isZero();
+    }
+
+    private RedissonClient connectNode() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        RedissonClient client = Redisson.create(config);
+        clients.add(client);
+        return client;
+    }
+}
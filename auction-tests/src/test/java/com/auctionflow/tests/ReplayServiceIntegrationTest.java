@@ -44,7 +44,7 @@ public class ReplayServiceIntegrationTest extends AbstractIntegrationTest {
         long sequenceNumber = 1L;
 
         AuctionCreatedEvent createdEvent = new AuctionCreatedEvent(
-                auctionId, itemId, sellerId, "test-category", AuctionType.ENGLISH_OPEN, reservePrice, buyNowPrice, startTime, endTime, antiSnipePolicy, hiddenReserve, eventId, timestamp, sequenceNumber
+                auctionId, itemId, sellerId, "test-category", AuctionType.ENGLISH_OPEN, reservePrice, buyNowPrice, startTime, endTime, antiSnipePolicy, hiddenReserve, null, eventId, timestamp, sequenceNumber
         );
 
         eventStore.save(List.of(createdEvent), 0);
@@ -67,11 +67,11 @@ public class ReplayServiceIntegrationTest extends AbstractIntegrationTest {
         AuctionCreatedEvent createdEvent = new AuctionCreatedEvent(
                 auctionId, ItemId.generate(), SellerId.of(UUID.randomUUID().toString()), "test-category", AuctionType.ENGLISH_OPEN,
                 Money.usd(BigDecimal.valueOf(100)), null, baseTime, baseTime.plusSeconds(3600), AntiSnipePolicy.none(), false,
-                UUID.randomUUID(), baseTime.minusSeconds(10), 1L
+                null, UUID.randomUUID(), baseTime.minusSeconds(10), 1L
         );
 
         BidPlacedEvent bidEvent = new BidPlacedEvent(
-                auctionId, UUID.randomUUID().toString(), Money.usd(BigDecimal.valueOf(150)), baseTime.plusSeconds(5), UUID.randomUUID(), 2L, 1L
+                auctionId, UUID.randomUUID().toString(), Money.usd(BigDecimal.valueOf(150)), baseTime.plusSeconds(5), UUID.randomUUID(), 2L, 1L, null
         );
 
         eventStore.save(List.of(createdEvent, bidEvent), 0);
@@ -96,7 +96,7 @@ public class ReplayServiceIntegrationTest extends AbstractIntegrationTest {
         AuctionCreatedEvent event = new AuctionCreatedEvent(
                 auctionId, ItemId.generate(), SellerId.of(UUID.randomUUID().toString()), "test-category", AuctionType.ENGLISH_OPEN,
                 Money.usd(BigDecimal.valueOf(100)), null, fromTime, fromTime.plusSeconds(3600), AntiSnipePolicy.none(), false,
-                UUID.randomUUID(), fromTime.plusSeconds(1), 1L
+                null, UUID.randomUUID(), fromTime.plusSeconds(1), 1L
         );
         eventStore.save(List.of(event), 0);
 
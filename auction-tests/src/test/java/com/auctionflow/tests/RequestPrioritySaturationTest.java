@@ -0,0 +1,160 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.config.RequestPriorityFilter;
+import com.auctionflow.api.projections.AuctionEndTimeProjection;
+import com.auctionflow.api.services.PriorityLoadShedder;
+import com.auctionflow.core.domain.events.AuctionCreatedEvent;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
+import com.auctionflow.core.domain.valueobjects.*;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saturates a model of the API server: a bounded pool of request threads in front of four database
+ * connections, each request holding one for 5 ms, so about 800 requests a second get through. The offered
+ * load is about 2.2 times that: mostly browsing, with some bids and some bids on auctions closing within
+ * minutes. Requests go through {@link RequestPriorityFilter} exactly as they would in the servlet chain.
+ *
+ * Without prioritization every request queues for the database and critical bids wait with the rest. With
+ * it, at the capacity the filter derives from these pools, browsing is shed and bids on closing auctions stay
+ * fast. Latencies are only compared between the two runs, never against fixed times, so a slow machine
+ * slows both alike.
+ */
+public class RequestPrioritySaturationTest {
+
+    private static final int DB_CONNECTIONS = 4;
+    private static final int SERVER_THREADS = 64;
+    private static final long QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final double OFFERED_PER_SECOND = 1_800;
+    private static final Duration WARMUP = Duration.ofSeconds(1);
+    private static final Duration MEASURED = Duration.ofSeconds(3);
+
+    private final AuctionId closingAuction = AuctionId.generate();
+    private final AuctionId openAuction = AuctionId.generate();
+
+    @Test
+    void keepsCriticalBidsFastWhileSheddingBrowseTraffic() throws Exception {
+        Run unprioritized = run(new PriorityLoadShedder(1_000_000, 1.0, 1.0));
+        PriorityLoadShedder shedder = new PriorityLoadShedder(
+                RequestPriorityFilter.derivedCapacity(DB_CONNECTIONS, SERVER_THREADS), 0.8, 0.5);
+        Run prioritized = run(shedder);
+
+        assertThat(prioritized.criticalShed()).isZero();
+        assertThat(prioritized.browseShed()).isGreaterThan(prioritized.browseOffered() / 3);
+        assertThat(shedder.getShedCount(PriorityLoadShedder.Priority.SHEDDABLE)).isEqualTo(prioritized.browseShed());
+        assertThat(unprioritized.criticalP99Millis()).isGreaterThan(prioritized.criticalP99Millis() * 4);
+        // Shed requests leave at once, so the server's own queue overflows no more often than without shedding
+        assertThat(prioritized.refused()).isLessThanOrEqualTo(unprioritized.refused());
+    }
+
+    private Run run(PriorityLoadShedder shedder) throws Exception {
+        Instant now = Instant.now();
+        AuctionEndTimeProjection endTimes = new AuctionEndTimeProjection(null, Duration.ofMinutes(10), Clock.systemUTC());
+        endTimes.on(created(closingAuction, now.plus(Duration.ofMinutes(2))));
+        endTimes.on(created(openAuction, now.plus(Duration.ofDays(3))));
+        RequestPriorityFilter filter = new RequestPriorityFilter(shedder, endTimes, Duration.ofMinutes(5));
+
+        Semaphore database = new Semaphore(DB_CONNECTIONS);
+        FilterChain application = (request, response) -> {
+            database.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(QUERY_NANOS);
+            } finally {
+                database.release();
+            }
+        };
+        ThreadPoolExecutor server = new ThreadPoolExecutor(SERVER_THREADS, SERVER_THREADS, 1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(256));
+
+        long[] criticalLatencies = new long[(int) (OFFERED_PER_SECOND * MEASURED.toSeconds())];
+        AtomicInteger measured = new AtomicInteger();
+        AtomicLong browseShed = new AtomicLong();
+        AtomicLong criticalShed = new AtomicLong();
+        long browseOffered = 0;
+        long refused = 0;
+
+        long begin = System.nanoTime();
+        long measureFrom = begin + WARMUP.toNanos();
+        long end = measureFrom + MEASURED.toNanos();
+        long offered = 0;
+        long tick;
+        while ((tick = System.nanoTime()) < end) {
+            long due = (long) ((tick - begin) * OFFERED_PER_SECOND / 1e9);
+            for (; offered < due; offered++) {
+                // One in 18 requests bids on the closing auction, one bids elsewhere, the rest browse
+                int kind = (int) (offered % 18);
+                boolean critical = kind == 0;
+                MockHttpServletRequest request = critical ? bid(closingAuction)
+                        : kind == 1 ? bid(openAuction)
+                        : new MockHttpServletRequest("GET", "/api/v1/auctions");
+                if (kind > 1) {
+                    browseOffered++;
+                }
+                long submitted = System.nanoTime();
+                try {
+                    server.execute(() -> {
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        try {
+                            filter.doFilter(request, response, application);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                        if (response.getStatus() == 503) {
+                            if (critical) {
+                                criticalShed.incrementAndGet();
+                            } else if (kind > 1) {
+                                browseShed.incrementAndGet();
+                            }
+                            return;
+                        }
+                        long completed = System.nanoTime();
+                        if (critical && submitted >= measureFrom && completed <= end) {
+                            criticalLatencies[measured.getAndIncrement()] = completed - submitted;
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    refused++;
+                }
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        server.shutdown();
+        assertThat(server.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        long[] sorted = Arrays.copyOf(criticalLatencies, measured.get());
+        Arrays.sort(sorted);
+        assertThat(sorted).isNotEmpty();
+        return new Run(sorted[(int) (sorted.length * 0.99)] / 1e6, criticalShed.get(), browseShed.get(), browseOffered,
+                refused);
+    }
+
+    private static MockHttpServletRequest bid(AuctionId auctionId) {
+        return new MockHttpServletRequest("POST", "/api/v1/auctions/" + auctionId.value() + "/bids");
+    }
+
+    private static AuctionCreatedEvent created(AuctionId auctionId, Instant endTime) {
+        Instant now = Instant.now();
+        return new AuctionCreatedEvent(auctionId, new ItemId("item"), new SellerId("seller"), "category",
+                AuctionType.ENGLISH_OPEN, Money.usd(1_000), Money.usd(100_000), now, endTime, AntiSnipePolicy.none(),
+                false, null, TimeOrderedUuid.next(), now, 1);
+    }
+
+    private record Run(double criticalP99Millis, long criticalShed, long browseShed, long browseOffered, long refused) {
+    }
+}
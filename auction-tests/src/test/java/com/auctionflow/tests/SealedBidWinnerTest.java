@@ -0,0 +1,77 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.IncrementLadders;
+import com.auctionflow.core.domain.aggregates.AuctionAggregate;
+import com.auctionflow.core.domain.commands.CloseAuctionCommand;
+import com.auctionflow.core.domain.events.AuctionClosedEvent;
+import com.auctionflow.core.domain.events.AuctionCreatedEvent;
+import com.auctionflow.core.domain.events.AuctionRevealPhaseStartedEvent;
+import com.auctionflow.core.domain.events.BidCommittedEvent;
+import com.auctionflow.core.domain.events.BidRevealedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
+import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.AuctionType;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.core.domain.valueobjects.ItemId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.core.domain.valueobjects.SellerId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closing a sealed-bid auction: the highest revealed bid wins, and of equal bids the one committed first.
+ */
+public class SealedBidWinnerTest {
+
+    private final AuctionId auctionId = AuctionId.generate();
+    private final Instant start = Instant.now().minusSeconds(7_200);
+    private final List<DomainEvent> history = new ArrayList<>();
+
+    @Test
+    void highestRevealedBidWinsAndTheEarlierCommitBreaksATie() {
+        BidderId low = BidderId.generate();
+        BidderId middle = BidderId.generate();
+        BidderId firstHigh = BidderId.generate();
+        BidderId secondHigh = BidderId.generate();
+        history.add(new AuctionCreatedEvent(auctionId, ItemId.generate(), SellerId.generate(), "art",
+                AuctionType.SEALED_BID, Money.usd(1_000), Money.usd(1_000_000), start, start.plusSeconds(60),
+                AntiSnipePolicy.none(), false, IncrementLadders.stepsForCategory("art"), TimeOrderedUuid.next(),
+                start, 1));
+        commit(firstHigh, 1);
+        commit(low, 2);
+        commit(secondHigh, 3);
+        commit(middle, 4);
+        // The reveal phase is over as well
+        history.add(new AuctionRevealPhaseStartedEvent(auctionId, start.plusSeconds(120), TimeOrderedUuid.next(),
+                start.plusSeconds(60), history.size() + 1));
+        // Revealed in an order that matches neither the amounts nor the commits
+        reveal(secondHigh, Money.usd(5_000));
+        reveal(low, Money.usd(2_000));
+        reveal(firstHigh, Money.usd(5_000));
+        reveal(middle, Money.usd(3_000));
+
+        AuctionAggregate auction = new AuctionAggregate(history);
+        auction.handle(new CloseAuctionCommand(auctionId));
+
+        assertThat(auction.getDomainEvents()).singleElement()
+                .isInstanceOfSatisfying(AuctionClosedEvent.class,
+                        closed -> assertThat(closed.getWinnerId().value()).isEqualTo(firstHigh.id()));
+    }
+
+    private void commit(BidderId bidder, long commitSeqNo) {
+        history.add(new BidCommittedEvent(auctionId, bidder, "hash-" + bidder.id(), "salt", commitSeqNo,
+                TimeOrderedUuid.next(), start.plusSeconds(commitSeqNo), history.size() + 1));
+    }
+
+    private void reveal(BidderId bidder, Money amount) {
+        history.add(new BidRevealedEvent(auctionId, bidder, amount, "salt", true, TimeOrderedUuid.next(),
+                start.plusSeconds(90), history.size() + 1));
+    }
+}
@@ -0,0 +1,60 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.config.SingleOwnerAssignor;
+import org.apache.kafka.clients.consumer.ConsumerPartitionAssignor.Assignment;
+import org.apache.kafka.clients.consumer.ConsumerPartitionAssignor.GroupSubscription;
+import org.apache.kafka.clients.consumer.ConsumerPartitionAssignor.Subscription;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The assignment BidVelocityMonitor's group relies on: every partition to one member, which keeps them
+ * across rebalances while it stays in the group.
+ */
+public class SingleOwnerAssignorTest {
+
+    private static final List<String> TOPICS = List.of("bid-events");
+
+    @Test
+    void oneMemberGetsEveryPartition() {
+        Map<String, Assignment> assignment = new SingleOwnerAssignor().assign(cluster(6), new GroupSubscription(
+                Map.of("member-b", subscription(new SingleOwnerAssignor()),
+                        "member-a", subscription(new SingleOwnerAssignor())))).groupAssignment();
+
+        assertThat(assignment.get("member-a").partitions()).hasSize(6);
+        assertThat(assignment.get("member-b").partitions()).isEmpty();
+    }
+
+    @Test
+    void theOwnerKeepsItsPartitionsWhenAMemberJoins() {
+        SingleOwnerAssignor owner = new SingleOwnerAssignor();
+        owner.onAssignment(new Assignment(List.of(new TopicPartition("bid-events", 0))), null);
+
+        Map<String, Assignment> assignment = new SingleOwnerAssignor().assign(cluster(3), new GroupSubscription(
+                Map.of("member-a", subscription(new SingleOwnerAssignor()), "member-z", subscription(owner))))
+                .groupAssignment();
+
+        assertThat(assignment.get("member-z").partitions()).hasSize(3);
+        assertThat(assignment.get("member-a").partitions()).isEmpty();
+    }
+
+    private static Cluster cluster(int partitions) {
+        List<PartitionInfo> partitionInfos = IntStream.range(0, partitions)
+                .mapToObj(partition -> new PartitionInfo("bid-events", partition, null, null, null))
+                .toList();
+        return new Cluster("cluster", List.of(), partitionInfos, Set.of(), Set.of());
+    }
+
+    private static Subscription subscription(SingleOwnerAssignor member) {
+        return new Subscription(TOPICS, member.subscriptionUserData(Set.copyOf(TOPICS)));
+    }
+}
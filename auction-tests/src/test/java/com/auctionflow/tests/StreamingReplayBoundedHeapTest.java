@@ -0,0 +1,121 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.core.domain.events.BidPlacedEvent;
+import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.ReplayService;
+import com.auctionflow.events.persistence.JdbcEventCursor;
+import com.auctionflow.events.persistence.JpaEventStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays 10M events through ReplayService over the cursor-backed JpaEventStore stream. Runs in the
+ * boundedHeapTest task with -Xmx256m, where a materialized List of the same history would not fit.
+ */
+@Tag("bounded-heap")
+@Testcontainers
+public class StreamingReplayBoundedHeapTest {
+
+    private static final long EVENTS = 10_000_000L;
+    private static final long AGGREGATES = 100_000L;
+    private static final int AGGREGATES_PER_APPEND = 100;
+    private static final Instant BASE_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+            .withDatabaseName("auctionflow_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static JpaEventStore eventStore;
+
+    @BeforeAll
+    static void seedEventStore() throws Exception {
+        String migration;
+        try (InputStream in = StreamingReplayBoundedHeapTest.class.getResourceAsStream("/db/migration/V6__compact_event_store.sql")) {
+            migration = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection connection = postgres.createConnection(""); Statement statement = connection.createStatement()) {
+            statement.execute(migration);
+        }
+
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        // Same serialization settings as the application's auto-configured mapper
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        // The streaming and bulk append paths go through the cursor and JdbcTemplate only
+        eventStore = new JpaEventStore(null, objectMapper, new JdbcEventCursor(dataSource, 1000), new JdbcTemplate(dataSource));
+
+        // appendNew skips aggregates that already have events, so each call carries whole aggregates.
+        // Timestamps interleave the aggregates so the global replay order differs from insertion order.
+        long perAggregate = EVENTS / AGGREGATES;
+        List<DomainEvent> batch = new ArrayList<>((int) (AGGREGATES_PER_APPEND * perAggregate));
+        for (long first = 0; first < AGGREGATES; first += AGGREGATES_PER_APPEND) {
+            for (long a = first; a < first + AGGREGATES_PER_APPEND; a++) {
+                AuctionId auctionId = new AuctionId(new UUID(0, a).toString());
+                for (long s = 1; s <= perAggregate; s++) {
+                    batch.add(new BidPlacedEvent(auctionId, "bidder-" + a, Money.usd(100 + s),
+                            BASE_TIME.plusMillis(s * AGGREGATES + a), UUID.randomUUID(), s, s, null));
+                }
+            }
+            eventStore.appendNew(batch);
+            batch.clear();
+        }
+    }
+
+    @Test
+    void replaysTenMillionEventsWithBoundedHeap() {
+        ReplayService replayService = new ReplayService(eventStore);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong seen = new AtomicLong();
+        AtomicLong maxUsedHeap = new AtomicLong();
+        AtomicLong outOfOrder = new AtomicLong();
+        Instant[] previous = {Instant.MIN};
+
+        long replayed = replayService.replayEventsFromTimestamp(BASE_TIME, event -> {
+            if (event.getTimestamp().isBefore(previous[0])) {
+                outOfOrder.incrementAndGet();
+            }
+            previous[0] = event.getTimestamp();
+            if (seen.incrementAndGet() % 500_000 == 0) {
+                maxUsedHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            }
+        });
+
+        assertThat(replayed).isEqualTo(EVENTS);
+        assertThat(outOfOrder.get()).isZero();
+        assertThat(maxUsedHeap.get()).isLessThan(256L << 20);
+    }
+}
@@ -0,0 +1,184 @@
+package com.auctionflow.tests;
+
+import com.auctionflow.api.services.SuspiciousActivityService;
+import com.auctionflow.core.domain.events.SecurityEvent;
+import com.auctionflow.core.domain.events.SuspiciousActivityEvent;
+import com.auctionflow.events.publisher.KafkaEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Detection by SuspiciousActivityService's in-process sliding windows, on a simulated clock, compared with a
+ * model of the previous Redis fixed-window check: a per IP and user counter whose minute starts at its first
+ * bid, alerting on every bid past 10.
+ */
+public class SuspiciousActivityDetectionTest {
+
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Queue<SuspiciousActivityEvent> published = new ConcurrentLinkedQueue<>();
+    private final KafkaEventPublisher publisher = new KafkaEventPublisher(null, null) {
+        @Override
+        public void publishSecurityEvent(SecurityEvent event) {
+            published.add((SuspiciousActivityEvent) event);
+        }
+    };
+    private final SuspiciousActivityService service = new SuspiciousActivityService(publisher, null,
+            Duration.ofMinutes(1), 10, 30, 3, 100_000);
+    private final FixedWindowModel previous = new FixedWindowModel();
+    // Index, within each user's bids, of those refused
+    private final List<Integer> blocked = new ArrayList<>();
+    private final Map<String, Integer> bidsByUser = new HashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void burstStraddlingTheFixedMinuteIsCaught() {
+        // One bid opens the fixed window, then 18 more land either side of its reset
+        bid("bot-1", "10.0.0.1", START);
+        for (int i = 0; i < 9; i++) {
+            bid("bot-1", "10.0.0.1", START + (51 + i) * SECOND);
+        }
+        for (int i = 0; i < 9; i++) {
+            bid("bot-1", "10.0.0.1", START + (61 + i) * SECOND);
+        }
+
+        assertThat(previous.flaggedUsers).isEmpty();
+        awaitAlerts(1);
+        assertThat(flaggedUsers()).containsExactly("bot-1");
+    }
+
+    @Test
+    void recallMatchesThePreviousCheckWithoutFlaggingNormalBidders() {
+        Set<String> bots = new HashSet<>();
+        for (int b = 0; b < 12; b++) {
+            String bot = "bot-" + b;
+            bots.add(bot);
+            // Steady bots at 15 to 26 bids a minute for five minutes, under the refusal level
+            long interval = 60 * SECOND / (15 + b);
+            for (long t = START + b * SECOND; t < START + 300 * SECOND; t += interval) {
+                bid(bot, "10.1.0." + b, t);
+            }
+        }
+        for (int u = 0; u < 500; u++) {
+            // Normal bidders at up to 8 bids a minute, some around the clock, some in short bursts of 8
+            long interval = (u % 2 == 0) ? 60 * SECOND / (1 + u % 8) : SECOND;
+            int bids = (u % 2 == 0) ? (int) (300 * SECOND / interval) : 8;
+            for (int i = 0; i < bids; i++) {
+                bid("user-" + u, "192.168." + (u / 250) + "." + (u % 250), START + (u % 60) * SECOND + i * interval);
+            }
+        }
+
+        assertThat(previous.flaggedUsers).isEqualTo(bots);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(flaggedUsers()).isEqualTo(bots));
+        assertThat(blocked).isEmpty();
+        // One alert per bot per window rather than one per bid beyond the threshold
+        assertThat(published.size()).isLessThan(previous.alerts / 5);
+    }
+
+    @Test
+    void bidsSpreadAcrossAccountsOnOneAddressAreCaught() {
+        // 20 accounts from one address, each well under the per-user threshold
+        for (int minute = 0; minute < 3; minute++) {
+            for (int u = 0; u < 20; u++) {
+                for (int i = 0; i < 3; i++) {
+                    bid("farm-" + u, "10.9.9.9", START + minute * 60 * SECOND + (u * 3 + i) * SECOND / 2);
+                }
+            }
+        }
+
+        assertThat(previous.alerts).isZero();
+        awaitAlerts(1);
+        assertThat(published).extracting(SuspiciousActivityEvent::getActivityType).containsOnly("RAPID_BIDDING_FROM_IP");
+        assertThat(published).extracting(SuspiciousActivityEvent::getIpAddress).containsOnly("10.9.9.9");
+        assertThat(flaggedUsers()).isEmpty();
+        assertThat(blocked).isEmpty();
+    }
+
+    @Test
+    void busyAddressAloneIsNotRefused() {
+        // 50 accounts behind one address, 5 bids each within a minute: far past the IP threshold of 30
+        for (int u = 0; u < 50; u++) {
+            for (int i = 0; i < 5; i++) {
+                bid("office-" + u, "10.8.8.8", START + (u * 5 + i) * SECOND / 5);
+            }
+        }
+
+        awaitAlerts(1);
+        assertThat(published).extracting(SuspiciousActivityEvent::getActivityType).containsOnly("RAPID_BIDDING_FROM_IP");
+        assertThat(blocked).isEmpty();
+    }
+
+    @Test
+    void biddingFarBeyondTheThresholdIsRefused() {
+        for (int i = 0; i < 100; i++) {
+            bid("flooder", "10.2.0.1", START + i * SECOND / 10);
+        }
+
+        // Refused once past three times the threshold of 10 within the window
+        assertThat(blocked).hasSize(70);
+        assertThat(blocked.get(0)).isEqualTo(30);
+        assertThat(service.checkForSuspiciousActivity("flooder", "10.2.0.1", null, "BID_PLACEMENT",
+                START + 75 * SECOND)).isFalse();
+        awaitAlerts(1);
+    }
+
+    private void bid(String userId, String ip, long nowNanos) {
+        previous.check(userId, ip, nowNanos);
+        int sequence = bidsByUser.merge(userId, 1, Integer::sum) - 1;
+        if (service.checkForSuspiciousActivity(userId, ip, "test-agent", "BID_PLACEMENT", nowNanos)) {
+            blocked.add(sequence);
+        }
+    }
+
+    private void awaitAlerts(int expected) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> published.size() >= expected);
+    }
+
+    private Set<String> flaggedUsers() {
+        return published.stream()
+                .filter(event -> event.getActivityType().equals("RAPID_BIDDING"))
+                .map(event -> (String) event.getDetails().get("userId"))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * The previous check: INCR of bids:ip:user, which expires a minute after its first bid.
+     */
+    private static final class FixedWindowModel {
+        final Map<String, long[]> windows = new HashMap<>();
+        final Set<String> flaggedUsers = new HashSet<>();
+        int alerts;
+
+        void check(String userId, String ip, long nowNanos) {
+            long[] window = windows.get(ip + ":" + userId);
+            if (window == null || nowNanos - window[0] >= 60 * SECOND) {
+                window = new long[]{nowNanos, 0};
+                windows.put(ip + ":" + userId, window);
+            }
+            if (++window[1] > 10) {
+                alerts++;
+                flaggedUsers.add(userId);
+            }
+        }
+    }
+}
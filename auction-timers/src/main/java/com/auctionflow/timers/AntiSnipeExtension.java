@@ -3,6 +3,7 @@ package com.auctionflow.timers;
 import com.auctionflow.common.service.AuctionTimerService;
 import com.auctionflow.core.domain.events.AuctionExtendedEvent;
 import com.auctionflow.core.domain.events.DomainEvent;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 import com.auctionflow.core.domain.valueobjects.AntiSnipePolicy;
 import com.auctionflow.core.domain.valueobjects.AuctionId;
 
@@ -12,7 +13,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.UUID;
 
 @Component
 
@@ -75,7 +75,7 @@ public class AntiSnipeExtension implements com.auctionflow.common.service.AntiSn
         AuctionExtendedEvent event = new AuctionExtendedEvent(
             auctionId,
             newEndTime,
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             Instant.now(),
             0 // sequence number, might need to be managed properly
         );
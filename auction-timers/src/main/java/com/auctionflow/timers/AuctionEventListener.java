@@ -2,6 +2,9 @@ package com.auctionflow.timers;
 
 import com.auctionflow.common.service.AntiSnipeExtension;
 import com.auctionflow.common.service.AuctionTimerService;
+import com.auctionflow.common.service.AuctionTimerService.AuctionSchedule;
+import com.auctionflow.common.service.DeferredBidScheduler;
+import com.auctionflow.core.domain.events.AuctionClosedEvent;
 import com.auctionflow.core.domain.events.AuctionCreatedEvent;
 import com.auctionflow.core.domain.events.BidPlacedEvent;
 import com.auctionflow.core.domain.events.AuctionExtendedEvent;
@@ -12,6 +15,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class AuctionEventListener {
 
@@ -19,24 +25,64 @@ public class AuctionEventListener {
 
     private final com.auctionflow.common.service.AuctionTimerService timerService;
     private final AntiSnipeExtension antiSnipeExtension;
+    private final DeferredBidScheduler deferredBidScheduler;
 
-    public AuctionEventListener(com.auctionflow.common.service.AuctionTimerService timerService, AntiSnipeExtension antiSnipeExtension) {
+    public AuctionEventListener(com.auctionflow.common.service.AuctionTimerService timerService, AntiSnipeExtension antiSnipeExtension,
+                                DeferredBidScheduler deferredBidScheduler) {
         this.timerService = timerService;
         this.antiSnipeExtension = antiSnipeExtension;
+        this.deferredBidScheduler = deferredBidScheduler;
+    }
+
+    /**
+     * Consumes events a poll at a time, so that the close timers of auctions created together, as in bulk
+     * creation, are scheduled with one batch of durable jobs rather than a round of statements each.
+     */
+    @KafkaListener(topics = "auction-events", groupId = "timer-service", batch = "true")
+    public void handleAuctionEvents(List<Object> events) {
+        List<AuctionSchedule> closes = new ArrayList<>();
+        for (Object event : events) {
+            if (event instanceof AuctionCreatedEvent auctionCreated) {
+                closes.add(new AuctionSchedule((AuctionId) auctionCreated.getAggregateId(), auctionCreated.getEndTime()));
+            }
+        }
+        timerService.scheduleBatch(closes);
+        for (Object event : events) {
+            handleAuctionEvent(event);
+        }
     }
 
-    @KafkaListener(topics = "auction-events", groupId = "timer-service")
-    public void handleAuctionEvent(Object event) {
+    private void handleAuctionEvent(Object event) {
         if (event instanceof AuctionCreatedEvent auctionCreated) {
             handleAuctionCreated(auctionCreated);
         } else if (event instanceof BidPlacedEvent bidPlaced) {
             handleBidPlaced(bidPlaced);
+        } else if (event instanceof AuctionExtendedEvent auctionExtended) {
+            // Extensions from the command path have not moved the close timer yet; rescheduling is idempotent
+            timerService.rescheduleAuctionClose((AuctionId) auctionExtended.getAggregateId(), auctionExtended.getNewEndTime());
+        }
+    }
+
+    /**
+     * Deferred strategy bids are held in memory by whichever node's bid handling deferred them, so closes and
+     * extensions are consumed by every node, each in a group of its own, rather than by one member of
+     * "timer-service". A node starting up has no pending bids, so it only needs events from then on.
+     */
+    @KafkaListener(topics = "auction-events", groupId = "#{'timer-deferred-bids-' + @durableScheduler.nodeId}",
+            batch = "true", properties = "auto.offset.reset=latest")
+    public void handleDeferredBidEvents(List<Object> events) {
+        for (Object event : events) {
+            if (event instanceof AuctionClosedEvent auctionClosed) {
+                // Strategy bids still waiting to fire can no longer be placed
+                deferredBidScheduler.cancelAll((AuctionId) auctionClosed.getAggregateId());
+            } else if (event instanceof AuctionExtendedEvent auctionExtended) {
+                deferredBidScheduler.extend((AuctionId) auctionExtended.getAggregateId(), auctionExtended.getNewEndTime());
+            }
         }
     }
 
     private void handleAuctionCreated(AuctionCreatedEvent event) {
-        logger.info("Handling AuctionCreatedEvent for auction {}", event.getAggregateId());
-        timerService.scheduleAuctionClose((AuctionId) event.getAggregateId(), event.getEndTime());
+        // The close timer was scheduled with the rest of the batch
         if (event.getAuctionType() == AuctionType.DUTCH) {
             // For Dutch auctions, schedule price reductions
             // Assume interval is in the event or default
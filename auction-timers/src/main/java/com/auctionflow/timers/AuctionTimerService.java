@@ -84,16 +84,23 @@ public class AuctionTimerService implements com.auctionflow.common.service.Aucti
      * @param schedules list of auction schedules
      */
     public void scheduleBatch(List<AuctionSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return;
+        }
         List<UUID> jobIds = durableScheduler.scheduleAuctionCloses(schedules);
+        long now = Instant.now().toEpochMilli();
         for (int i = 0; i < schedules.size(); i++) {
             AuctionSchedule schedule = schedules.get(i);
             UUID jobId = jobIds.get(i);
-            long delay = Math.max(0, schedule.getEndTime().toEpochMilli() - Instant.now().toEpochMilli());
+            long delay = Math.max(0, schedule.getEndTime().toEpochMilli() - now);
             AuctionCloseTask task = new AuctionCloseTask(schedule.getAuctionId(), eventStore, eventPublisher, redissonClient, jobId, durableScheduler, timerMetrics);
-            Timeout timeout = timingWheel.schedule(task, delay);
-            activeTimers.put(schedule.getAuctionId(), timeout);
-            logger.info("Scheduled close timer for auction {} at {}", schedule.getAuctionId(), schedule.getEndTime());
+            Timeout previous = activeTimers.put(schedule.getAuctionId(), timingWheel.schedule(task, delay));
+            if (previous != null) {
+                // Rescheduled: the job now belongs to the new timer
+                previous.cancel();
+            }
         }
+        logger.info("Scheduled close timers for {} auctions", schedules.size());
     }
 
     /**
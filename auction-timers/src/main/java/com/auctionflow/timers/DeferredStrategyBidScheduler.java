@@ -0,0 +1,279 @@
+package com.auctionflow.timers;
+
+import com.auctionflow.common.exceptions.CommandRejectedException;
+import com.auctionflow.common.service.DeferredBidScheduler;
+import com.auctionflow.common.service.SequenceService;
+import com.auctionflow.core.domain.commands.PlaceBidCommand;
+import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.valueobjects.BidderId;
+import com.auctionflow.core.domain.valueobjects.Money;
+import com.auctionflow.events.command.CommandBus;
+import io.netty.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Deferred strategy bids on the timing wheel, coalesced per auction: each auction with pending bids holds a
+ * single wheel timeout for its earliest due bid, and when it fires every bid due by then is queued on the
+ * command bus without waiting and the timeout is re-armed for the next one. A bid whose lane is full, or
+ * whose timeout the saturated wheel could not run, is tried again on the next tick; a budgeted bid reserves
+ * its budget when the bid handler places it. A strategy has at most one pending bid per
+ * auction, and bids are dropped as soon as the auction is outbid past them or closes, or moved later when it
+ * is extended. Each node holds only the bids its own bid handling deferred, so closes and extensions must
+ * reach every node (see AuctionEventListener).
+ */
+@Component
+@ManagedResource
+public class DeferredStrategyBidScheduler implements DeferredBidScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeferredStrategyBidScheduler.class);
+
+    private final HierarchicalTimingWheel timingWheel;
+    private final CommandBus commandBus;
+    private final SequenceService sequenceService;
+    private final Map<AuctionId, AuctionBids> auctions = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public DeferredStrategyBidScheduler(HierarchicalTimingWheel timingWheel, CommandBus commandBus, SequenceService sequenceService) {
+        this.timingWheel = timingWheel;
+        this.commandBus = commandBus;
+        this.sequenceService = sequenceService;
+    }
+
+    private record PendingBid(String strategyId, BidderId bidderId, Money amount, long budgetCents, long dueMillis) {
+        PendingBid delayedBy(long millis) {
+            return new PendingBid(strategyId, bidderId, amount, budgetCents, dueMillis + millis);
+        }
+    }
+
+    /**
+     * Pending bids for one auction. Only mutated inside ConcurrentHashMap compute calls for its key.
+     */
+    private final class AuctionBids implements TimerTask {
+        private final AuctionId auctionId;
+        private final Map<String, PendingBid> byStrategy = new HashMap<>();
+        private Timeout timeout;
+        private long timeoutDueMillis = Long.MAX_VALUE;
+        private long endMillis = Long.MIN_VALUE;
+
+        AuctionBids(AuctionId auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        void put(PendingBid bid) {
+            if (byStrategy.put(bid.strategyId(), bid) == null) {
+                pending.incrementAndGet();
+            }
+            if (bid.dueMillis() < timeoutDueMillis) {
+                arm(bid.dueMillis());
+            }
+        }
+
+        void putIfAbsent(PendingBid bid) {
+            // A newer decision the strategy made meanwhile replaces this one
+            if (!byStrategy.containsKey(bid.strategyId())) {
+                put(bid);
+            }
+        }
+
+        void endsAt(long auctionEndMillis) {
+            endMillis = Math.max(endMillis, auctionEndMillis);
+        }
+
+        void extendTo(long newEndMillis) {
+            if (endMillis == Long.MIN_VALUE || newEndMillis <= endMillis) {
+                return;
+            }
+            long extension = newEndMillis - endMillis;
+            endMillis = newEndMillis;
+            long nextDue = Long.MAX_VALUE;
+            for (Map.Entry<String, PendingBid> entry : byStrategy.entrySet()) {
+                PendingBid moved = entry.getValue().delayedBy(extension);
+                entry.setValue(moved);
+                nextDue = Math.min(nextDue, moved.dueMillis());
+            }
+            if (nextDue != Long.MAX_VALUE) {
+                arm(nextDue);
+            }
+        }
+
+        void removeIf(Predicate<PendingBid> condition) {
+            Iterator<PendingBid> iterator = byStrategy.values().iterator();
+            while (iterator.hasNext()) {
+                if (condition.test(iterator.next())) {
+                    iterator.remove();
+                    pending.decrementAndGet();
+                }
+            }
+        }
+
+        void arm(long dueMillis) {
+            disarm();
+            timeoutDueMillis = dueMillis;
+            timeout = timingWheel.schedule(this, Math.max(0, dueMillis - System.currentTimeMillis()));
+        }
+
+        void disarm() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+            timeoutDueMillis = Long.MAX_VALUE;
+        }
+
+        List<PendingBid> takeDue(long nowMillis) {
+            disarm();
+            List<PendingBid> due = new ArrayList<>();
+            long nextDue = Long.MAX_VALUE;
+            Iterator<PendingBid> iterator = byStrategy.values().iterator();
+            while (iterator.hasNext()) {
+                PendingBid bid = iterator.next();
+                if (bid.dueMillis() <= nowMillis) {
+                    due.add(bid);
+                    iterator.remove();
+                    pending.decrementAndGet();
+                } else {
+                    nextDue = Math.min(nextDue, bid.dueMillis());
+                }
+            }
+            if (nextDue != Long.MAX_VALUE) {
+                arm(nextDue);
+            }
+            return due;
+        }
+
+        @Override
+        public void execute() {
+            fire(auctionId);
+        }
+
+        @Override
+        public void rejected() {
+            auctions.computeIfPresent(auctionId, (id, bids) -> {
+                // Unless it has been re-armed since, the expired timeout still stands for the earliest bid and
+                // would keep every later bid from arming; arm again, which for a bid already due is the next tick
+                if (bids == this && timeout != null && timeout.isExpired()) {
+                    timeout = null;
+                    timeoutDueMillis = Long.MAX_VALUE;
+                    byStrategy.values().stream()
+                            .mapToLong(PendingBid::dueMillis)
+                            .min()
+                            .ifPresent(this::arm);
+                }
+                return bids;
+            });
+        }
+    }
+
+    @Override
+    public void schedule(AuctionId auctionId, String strategyId, BidderId bidderId, Money amount, long budgetCents,
+                         Instant bidTime, Instant auctionEndTime) {
+        PendingBid bid = new PendingBid(strategyId, bidderId, amount, budgetCents, bidTime.toEpochMilli());
+        auctions.compute(auctionId, (id, bids) -> {
+            AuctionBids target = bids != null ? bids : new AuctionBids(id);
+            target.endsAt(auctionEndTime.toEpochMilli());
+            target.put(bid);
+            return target;
+        });
+    }
+
+    @Override
+    public void invalidateAtOrBelow(AuctionId auctionId, Money currentHighestBid) {
+        auctions.computeIfPresent(auctionId, (id, bids) -> {
+            bids.removeIf(bid -> !bid.amount().isGreaterThan(currentHighestBid));
+            return release(bids);
+        });
+    }
+
+    @Override
+    public void extend(AuctionId auctionId, Instant newEndTime) {
+        auctions.computeIfPresent(auctionId, (id, bids) -> {
+            bids.extendTo(newEndTime.toEpochMilli());
+            return bids;
+        });
+    }
+
+    @Override
+    public void cancelAll(AuctionId auctionId) {
+        auctions.computeIfPresent(auctionId, (id, bids) -> {
+            bids.removeIf(bid -> true);
+            return release(bids);
+        });
+    }
+
+    @Override
+    @ManagedAttribute
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @ManagedAttribute
+    public int getAuctionsWithPendingBids() {
+        return auctions.size();
+    }
+
+    private static AuctionBids release(AuctionBids bids) {
+        if (bids.byStrategy.isEmpty()) {
+            bids.disarm();
+            return null;
+        }
+        return bids;
+    }
+
+    private void fire(AuctionId auctionId) {
+        List<List<PendingBid>> due = new ArrayList<>(1);
+        long[] endMillis = new long[1];
+        long now = System.currentTimeMillis();
+        auctions.computeIfPresent(auctionId, (id, bids) -> {
+            due.add(bids.takeDue(now));
+            endMillis[0] = bids.endMillis;
+            return bids.byStrategy.isEmpty() ? null : bids;
+        });
+        if (due.isEmpty()) {
+            return;
+        }
+        for (PendingBid bid : due.get(0)) {
+            try {
+                // Never blocks the pool the wheel runs its tasks on
+                commandBus.sendAsync(new PlaceBidCommand(auctionId, bid.bidderId().id(), bid.amount(),
+                        "automated-" + bid.strategyId() + "-" + bid.dueMillis(), Instant.now(),
+                        sequenceService.nextSequence(auctionId), null, bid.budgetCents()));
+            } catch (CommandRejectedException e) {
+                retryLater(auctionId, bid, endMillis[0]);
+            } catch (Exception e) {
+                logger.error("Failed to place deferred bid for strategy {} on auction {}", bid.strategyId(), auctionId, e);
+            }
+        }
+    }
+
+    /**
+     * Puts back a bid whose lane was full, already due so it goes out on the next tick, unless the auction has
+     * ended by now.
+     */
+    private void retryLater(AuctionId auctionId, PendingBid bid, long endMillis) {
+        if (System.currentTimeMillis() >= endMillis) {
+            logger.warn("Dropped deferred bid for strategy {} on auction {}: command queue full until the close",
+                    bid.strategyId(), auctionId);
+            return;
+        }
+        auctions.compute(auctionId, (id, bids) -> {
+            AuctionBids target = bids != null ? bids : new AuctionBids(id);
+            target.endsAt(endMillis);
+            target.putIfAbsent(bid);
+            return release(target);
+        });
+    }
+}
@@ -1,15 +1,22 @@
 package com.auctionflow.timers;
 
 import com.auctionflow.core.domain.valueobjects.AuctionId;
+import com.auctionflow.core.domain.utils.TimeOrderedUuid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -17,14 +24,28 @@ public class DurableScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(DurableScheduler.class);
 
+    private static final String SELECT_PENDING_JOBS =
+            "SELECT job_id, auction_id FROM scheduled_jobs WHERE status = 'pending' AND auction_id = ANY (?)";
+    private static final String RESCHEDULE_JOBS = "UPDATE scheduled_jobs SET execute_at = j.execute_at, "
+            + "attempts = 0, lease_until = NULL, leased_by = NULL, updated_at = now() "
+            + "FROM unnest(?::uuid[], ?::timestamptz[]) AS j(job_id, execute_at) "
+            + "WHERE scheduled_jobs.job_id = j.job_id";
+    private static final String INSERT_PENDING_JOBS = "INSERT INTO scheduled_jobs "
+            + "(job_id, auction_id, execute_at, status, attempts, created_at, updated_at) "
+            + "SELECT j.job_id, j.auction_id, j.execute_at, 'pending', 0, now(), now() "
+            + "FROM unnest(?::uuid[], ?::text[], ?::timestamptz[]) AS j(job_id, auction_id, execute_at)";
+
     private final ScheduledJobRepository jobRepository;
     private final com.auctionflow.common.service.AuctionTimerService timerService;
+    private final JdbcTemplate jdbcTemplate;
     private final String nodeId;
     private final long leaseDurationSeconds = 300; // 5 minutes
 
-    public DurableScheduler(ScheduledJobRepository jobRepository, com.auctionflow.common.service.AuctionTimerService timerService) {
+    public DurableScheduler(ScheduledJobRepository jobRepository, com.auctionflow.common.service.AuctionTimerService timerService,
+                            JdbcTemplate jdbcTemplate) {
         this.jobRepository = jobRepository;
         this.timerService = timerService;
+        this.jdbcTemplate = jdbcTemplate;
         this.nodeId = UUID.randomUUID().toString();
     }
 
@@ -53,7 +74,7 @@ public class DurableScheduler {
             jobId = job.getJobId();
         } else {
             // Create new
-            jobId = UUID.randomUUID();
+            jobId = TimeOrderedUuid.next();
             ScheduledJob job = new ScheduledJob(jobId, auctionId.value(), executeAt);
             jobRepository.save(job);
         }
@@ -62,35 +83,68 @@ public class DurableScheduler {
     }
 
     /**
-     * Schedules durable jobs for multiple auction closes in batch.
+     * Schedules durable jobs for multiple auction closes in batch. Whatever the batch size this costs at most
+     * three statements: one to find the auctions that already have a pending job, one to move those jobs to
+     * their new time, and one inserting the jobs of all the other auctions. Returns the job ids in the order
+     * of the schedules.
      */
     @Transactional
     public List<UUID> scheduleAuctionCloses(List<com.auctionflow.common.service.AuctionTimerService.AuctionSchedule> schedules) {
-        List<UUID> jobIds = new ArrayList<>();
+        // Latest schedule per auction, should an auction appear twice
+        Map<String, Instant> executeAts = new LinkedHashMap<>(schedules.size() * 2);
         for (com.auctionflow.common.service.AuctionTimerService.AuctionSchedule schedule : schedules) {
-            // Check if job already exists
-            List<ScheduledJob> existing = jobRepository.findByAuctionIdAndStatus(schedule.getAuctionId().value(), "pending");
-            UUID jobId;
-            if (!existing.isEmpty()) {
-                // Update existing
-                ScheduledJob job = existing.get(0);
-                job.setExecuteAt(schedule.getEndTime());
-                job.setStatus("pending");
-                job.setAttempts(0);
-                job.setLeaseUntil(null);
-                job.setLeasedBy(null);
-                jobRepository.save(job);
-                jobId = job.getJobId();
+            executeAts.put(schedule.getAuctionId().value(), schedule.getEndTime());
+        }
+        String[] auctionIds = executeAts.keySet().toArray(new String[0]);
+
+        Map<String, UUID> jobIds = new HashMap<>(schedules.size() * 2);
+        jdbcTemplate.query(SELECT_PENDING_JOBS, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("text", auctionIds));
+        }, resultSet -> {
+            jobIds.putIfAbsent(resultSet.getString(2), resultSet.getObject(1, UUID.class));
+        });
+
+        List<UUID> rescheduledJobs = new ArrayList<>();
+        List<Timestamp> rescheduledTimes = new ArrayList<>();
+        List<UUID> newJobs = new ArrayList<>();
+        List<String> newAuctions = new ArrayList<>();
+        List<Timestamp> newTimes = new ArrayList<>();
+        for (String auctionId : auctionIds) {
+            Timestamp executeAt = Timestamp.from(executeAts.get(auctionId));
+            UUID jobId = jobIds.get(auctionId);
+            if (jobId != null) {
+                rescheduledJobs.add(jobId);
+                rescheduledTimes.add(executeAt);
             } else {
-                // Create new
-                jobId = UUID.randomUUID();
-                ScheduledJob job = new ScheduledJob(jobId, schedule.getAuctionId().value(), schedule.getEndTime());
-                jobRepository.save(job);
+                jobId = TimeOrderedUuid.next();
+                jobIds.put(auctionId, jobId);
+                newJobs.add(jobId);
+                newAuctions.add(auctionId);
+                newTimes.add(executeAt);
             }
-            jobIds.add(jobId);
-            logger.info("Scheduled durable job {} for auction {} at {}", jobId, schedule.getAuctionId(), schedule.getEndTime());
         }
-        return jobIds;
+        if (!rescheduledJobs.isEmpty()) {
+            jdbcTemplate.update(RESCHEDULE_JOBS, statement -> {
+                Connection connection = statement.getConnection();
+                statement.setArray(1, connection.createArrayOf("uuid", rescheduledJobs.toArray()));
+                statement.setArray(2, connection.createArrayOf("timestamptz", rescheduledTimes.toArray()));
+            });
+        }
+        if (!newJobs.isEmpty()) {
+            jdbcTemplate.update(INSERT_PENDING_JOBS, statement -> {
+                Connection connection = statement.getConnection();
+                statement.setArray(1, connection.createArrayOf("uuid", newJobs.toArray()));
+                statement.setArray(2, connection.createArrayOf("text", newAuctions.toArray()));
+                statement.setArray(3, connection.createArrayOf("timestamptz", newTimes.toArray()));
+            });
+        }
+        logger.info("Scheduled {} durable close jobs, {} of them rescheduled", auctionIds.length, rescheduledJobs.size());
+
+        List<UUID> scheduled = new ArrayList<>(schedules.size());
+        for (com.auctionflow.common.service.AuctionTimerService.AuctionSchedule schedule : schedules) {
+            scheduled.add(jobIds.get(schedule.getAuctionId().value()));
+        }
+        return scheduled;
     }
 
     /**
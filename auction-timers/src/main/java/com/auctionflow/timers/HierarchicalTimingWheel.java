@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -77,14 +78,20 @@ public class HierarchicalTimingWheel {
         @Override
         public void run(Timeout timeout) throws Exception {
             if (!timeout.isCancelled()) {
-                executionExecutor.submit(() -> {
-                    try {
-                        task.execute();
-                        metrics.incrementExecuted();
-                    } catch (Exception e) {
-                        logger.error("Error executing timer task", e);
-                    }
-                });
+                try {
+                    executionExecutor.submit(() -> {
+                        try {
+                            task.execute();
+                            metrics.incrementExecuted();
+                        } catch (Exception e) {
+                            logger.error("Error executing timer task", e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    metrics.incrementRejected();
+                    logger.warn("Timer execution pool is saturated, rejected a due task");
+                    task.rejected();
+                }
             } else {
                 metrics.incrementCancelled();
             }
@@ -15,6 +15,7 @@ public class TimerMetrics {
     private final Counter scheduled;
     private final Counter executed;
     private final Counter cancelled;
+    private final Counter rejected;
     private final Timer auctionCloseLatency;
     private final DistributionSummary timerAccuracy;
 
@@ -28,6 +29,9 @@ public class TimerMetrics {
         this.cancelled = Counter.builder("timer_tasks_cancelled_total")
                 .description("Total number of timer tasks cancelled")
                 .register(meterRegistry);
+        this.rejected = Counter.builder("timer_tasks_rejected_total")
+                .description("Total number of due timer tasks the saturated executor turned away")
+                .register(meterRegistry);
         this.auctionCloseLatency = Timer.builder("auction_close_duration")
                 .description("Time taken to close an auction")
                 .register(meterRegistry);
@@ -48,6 +52,10 @@ public class TimerMetrics {
         cancelled.increment();
     }
 
+    public void incrementRejected() {
+        rejected.increment();
+    }
+
     public Timer.Sample startAuctionCloseTimer() {
         return Timer.start();
     }
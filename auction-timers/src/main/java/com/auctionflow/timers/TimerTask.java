@@ -9,4 +9,11 @@ public interface TimerTask {
      * Executes the task.
      */
     void execute();
+
+    /**
+     * Called on the wheel's thread instead of execute when the task came due but the execution pool was
+     * saturated and turned it away. The task does not run; one that must run reschedules itself.
+     */
+    default void rejected() {
+    }
 }
\ No newline at end of file
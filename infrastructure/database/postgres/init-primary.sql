@@ -5,46 +5,30 @@
 
 SELECT pg_create_physical_replication_slot('replica_slot');
 
--- Partitioned event_store table by month
+-- Event store, hash-partitioned by aggregate (same shape as Flyway V6__compact_event_store.sql)
 CREATE TABLE IF NOT EXISTS event_store (
-    id BIGSERIAL NOT NULL,
-    aggregate_id VARCHAR(255) NOT NULL,
-    aggregate_type VARCHAR(255) NOT NULL,
-    event_type VARCHAR(255) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    sequence_number BIGINT NOT NULL,
+    event_id UUID NOT NULL,
+    event_type SMALLINT NOT NULL,
+    timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
     event_data JSONB NOT NULL,
     event_metadata JSONB,
-    sequence_number BIGINT NOT NULL,
-    timestamp TIMESTAMP WITH TIME ZONE NOT NULL
-) PARTITION BY RANGE (timestamp);
+    PRIMARY KEY (aggregate_id, sequence_number)
+) PARTITION BY HASH (aggregate_id);
 
--- Create initial partitions (current month and next few)
--- Function to create partition for a given month
-CREATE OR REPLACE FUNCTION create_event_store_partition(year_month TEXT) RETURNS VOID AS $$
-DECLARE
-    start_date DATE := TO_DATE(year_month || '-01', 'YYYY-MM-DD');
-    end_date DATE := start_date + INTERVAL '1 month';
-BEGIN
-    EXECUTE 'CREATE TABLE IF NOT EXISTS event_store_' || year_month || ' PARTITION OF event_store FOR VALUES FROM (''' || start_date || ''') TO (''' || end_date || ''');';
-END;
-$$ LANGUAGE plpgsql;
-
--- Create partitions for current and next 12 months
 DO $$
 DECLARE
-    current_month DATE := DATE_TRUNC('month', CURRENT_DATE);
-    i INT := 0;
+    i INT;
 BEGIN
-    FOR i IN 0..12 LOOP
-        PERFORM create_event_store_partition(TO_CHAR(current_month + INTERVAL '1 month' * i, 'YYYY_MM'));
+    FOR i IN 0..15 LOOP
+        EXECUTE 'CREATE TABLE IF NOT EXISTS event_store_p' || LPAD(i::TEXT, 2, '0')
+            || ' PARTITION OF event_store FOR VALUES WITH (MODULUS 16, REMAINDER ' || i || ');';
     END LOOP;
 END $$;
 
--- Drop the function after use
-DROP FUNCTION create_event_store_partition(TEXT);
-
--- For partitioned tables, unique index must include partition key
-CREATE UNIQUE INDEX IF NOT EXISTS idx_event_store_aggregate_id_sequence
-ON event_store (aggregate_id, sequence_number, timestamp);
+-- Time-ordered appends keep a BRIN index on timestamp small and effective for replay range scans
+CREATE INDEX IF NOT EXISTS idx_event_store_timestamp_brin ON event_store USING BRIN (timestamp);
 
 -- Read models for auction-api
 
@@ -132,7 +116,7 @@ CREATE INDEX idx_refresh_status_last_event_id ON refresh_status (last_event_id);
 -- Scheduled jobs table for durable timer scheduling
 CREATE TABLE scheduled_jobs (
     job_id UUID PRIMARY KEY,
-    auction_id BIGINT NOT NULL,
+    auction_id VARCHAR(255) NOT NULL,
     execute_at TIMESTAMP WITH TIME ZONE NOT NULL,
     status VARCHAR(50) NOT NULL DEFAULT 'pending',
     attempts INT NOT NULL DEFAULT 0,
@@ -271,6 +255,15 @@ INSERT INTO prohibited_categories (category_id, reason) VALUES
 ('stolen_goods', 'Stolen property'),
 ('counterfeit', 'Counterfeit items');
 
+-- Terms prohibited in item titles and descriptions
+CREATE TABLE prohibited_terms (
+    id BIGSERIAL PRIMARY KEY,
+    term VARCHAR(255) NOT NULL UNIQUE,
+    reason VARCHAR(255),
+    active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
 -- Brands for verification
 CREATE TABLE verified_brands (
     id BIGSERIAL PRIMARY KEY,